@@ -14,9 +14,12 @@ import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -32,11 +35,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
  * workload.
+ * <p>
+ * The {@code mixed} benchmark is closer to the workload of a search node: most reads go to a skewed set of hot files that is larger
+ * than the cache, and the other reads scan files that are never read again. It reports the hits and the misses of the cache as
+ * secondary results, the hit rate of each {@link EvictionPolicy} is {@code hits / (hits + misses)}.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -69,6 +77,20 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    @Benchmark
+    public void mixed(CacheParameters parameters, MixedWorkload workload, Blackhole blackhole) {
+        final Path key = workload.nextKey(parameters);
+        final CachedIndexInput indexInput = parameters.fileCache.get(key);
+        if (indexInput == null) {
+            workload.misses++;
+            blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+        } else {
+            workload.hits++;
+            blackhole.consume(indexInput);
+        }
+        parameters.fileCache.decRef(key);
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -87,13 +109,17 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "LRU", "W_TINY_LFU" })
+        EvictionPolicy evictionPolicy;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
+            fileCache = FileCacheFactory.createConcurrentFileCache(
                 (long) maximumNumberOfEntries * INDEX_INPUT.length(),
                 concurrencyLevel,
+                evictionPolicy,
                 new NoopCircuitBreaker(CircuitBreaker.REQUEST)
             );
             for (long i = 0; i < maximumNumberOfEntries; i++) {
@@ -104,6 +130,39 @@ public class FileCacheBenchmark {
         }
     }
 
+    /**
+     * Generates the keys of the mixed workload and counts its hits and misses: 80% of the reads go to twice as many hot files as the
+     * cache holds, skewed towards the lowest keys, and 20% of the reads scan files that are read only once.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MixedWorkload {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private final int thread = THREADS.incrementAndGet();
+
+        private long scanned;
+
+        public long hits;
+
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+
+        Path nextKey(CacheParameters parameters) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextInt(5) == 0) {
+                return Paths.get("scan-" + thread + "-" + scanned++);
+            }
+            final double skewed = Math.pow(random.nextDouble(), 3);
+            return Paths.get(Long.toString((long) (skewed * 2 * parameters.maximumNumberOfEntries)));
+        }
+    }
+
     /**
      * Stubbed out IndexInput that does nothing but report a fixed size
      */
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.xcontent;
+
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways of merging a partial document that changes a couple of fields into a larger source: parsing the source into
+ * a map and serializing it again, and streaming it through
+ * {@link XContentHelper#update(XContentParser, XContentBuilder, Map, boolean)}.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class SourceUpdateBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int numFields;
+
+    @Param({ "JSON", "SMILE" })
+    private XContentType contentType;
+
+    @Param({ "true", "false" })
+    private boolean detectNoop;
+
+    private BytesReference source;
+    private Map<String, Object> changes;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(42);
+        try (XContentBuilder builder = MediaTypeRegistry.contentBuilder(contentType)) {
+            builder.startObject();
+            builder.field("status", "open");
+            builder.field("timestamp", 1_700_000_000_000L);
+            for (int i = 0; i < numFields; i++) {
+                switch (i % 3) {
+                    case 0:
+                        builder.field("field_" + i, "value of field " + i + " " + random.nextLong());
+                        break;
+                    case 1:
+                        builder.field("field_" + i, random.nextDouble());
+                        break;
+                    default:
+                        builder.startObject("field_" + i)
+                            .field("name", "object " + i)
+                            .array("tags", "a", "b", "c")
+                            .field("count", random.nextInt())
+                            .endObject();
+                        break;
+                }
+            }
+            builder.endObject();
+            source = BytesReference.bytes(builder);
+        }
+        changes = new HashMap<>();
+        changes.put("status", "closed");
+        changes.put("timestamp", 1_700_000_060_000L);
+    }
+
+    @Benchmark
+    public BytesReference mapUpdate() throws IOException {
+        final Map<String, Object> map = XContentHelper.convertToMap(source, true, contentType).v2();
+        XContentHelper.update(map, changes, detectNoop);
+        try (XContentBuilder builder = MediaTypeRegistry.contentBuilder(contentType)) {
+            builder.map(map);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    @Benchmark
+    public BytesReference streamingUpdate() throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source,
+                contentType
+            );
+            XContentBuilder builder = MediaTypeRegistry.contentBuilder(contentType)
+        ) {
+            XContentHelper.update(parser, builder, changes, detectNoop);
+            return BytesReference.bytes(builder);
+        }
+    }
+}
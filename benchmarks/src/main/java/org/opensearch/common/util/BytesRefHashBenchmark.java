@@ -30,7 +30,7 @@ import java.util.HashSet;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Supplier;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 @Fork(value = 3)
@@ -44,7 +44,7 @@ public class BytesRefHashBenchmark {
 
     @Benchmark
     public void add(Blackhole bh, Options opts) {
-        HashTable[] tables = Stream.generate(opts.type::create).limit(NUM_TABLES).toArray(HashTable[]::new);
+        HashTable[] tables = Stream.generate(() -> opts.type.create(opts.bigArrays)).limit(NUM_TABLES).toArray(HashTable[]::new);
 
         for (int hit = 0; hit < NUM_HITS; hit++) {
             BytesRef key = opts.keys[hit % opts.keys.length];
@@ -56,6 +56,29 @@ public class BytesRefHashBenchmark {
         Releasables.close(tables);
     }
 
+    /**
+     * Looks up keys that are all present, so that every lookup compares the key with the stored bytes. Run with {@code -prof gc} to
+     * see the allocations of the comparisons.
+     */
+    @Benchmark
+    public void find(Blackhole bh, Options opts) {
+        HashTable[] tables = Stream.generate(() -> opts.type.create(opts.bigArrays)).limit(NUM_TABLES).toArray(HashTable[]::new);
+        for (HashTable table : tables) {
+            for (BytesRef key : opts.keys) {
+                table.add(key);
+            }
+        }
+
+        for (int hit = 0; hit < NUM_HITS; hit++) {
+            BytesRef key = opts.keys[hit % opts.keys.length];
+            for (HashTable table : tables) {
+                bh.consume(table.find(key));
+            }
+        }
+
+        Releasables.close(tables);
+    }
+
     @State(Scope.Benchmark)
     public static class Options {
         @Param({ "MURMUR3", "T1HA1" })
@@ -167,10 +190,16 @@ public class BytesRefHashBenchmark {
         @Param({ "5", "28", "59", "105" })
         public Integer length;
 
+        @Param({ "heap", "off_heap" })
+        public String pages;
+
         private BytesRef[] keys;
 
+        private BigArrays bigArrays;
+
         @Setup
         public void setup() {
+            bigArrays = LongHashBenchmark.newBigArrays(pages);
             assert size <= Math.pow(26, length) : "key length too small to generate the required number of keys";
             // Seeding with size will help produce deterministic results for the same size, and avoid similar
             // looking clusters for different sizes, in case one hash function got unlucky.
@@ -194,31 +223,36 @@ public class BytesRefHashBenchmark {
     }
 
     public enum Type {
-        MURMUR3(() -> new HashTable() {
+        MURMUR3(bigArrays -> new HashTable() {
             private final BytesRefHash table = new BytesRefHash(1, 0.6f, key -> {
                 // Repeating the lower bits into upper bits to make the fingerprint work.
                 // Alternatively, use a 64-bit murmur3 hash, but that won't represent the baseline.
                 long h = StringHelper.murmurhash3_x86_32(key.bytes, key.offset, key.length, 0) & 0xFFFFFFFFL;
                 return h | (h << 32);
-            }, BigArrays.NON_RECYCLING_INSTANCE);
+            }, bigArrays);
 
             @Override
             public long add(BytesRef key) {
                 return table.add(key);
             }
 
+            @Override
+            public long find(BytesRef key) {
+                return table.find(key);
+            }
+
             @Override
             public void close() {
                 table.close();
             }
         }),
 
-        T1HA1(() -> new HashTable() {
+        T1HA1(bigArrays -> new HashTable() {
             private final BytesRefHash table = new BytesRefHash(
                 1,
                 0.6f,
                 key -> T1ha1.hash(key.bytes, key.offset, key.length, 0),
-                BigArrays.NON_RECYCLING_INSTANCE
+                bigArrays
             );
 
             @Override
@@ -226,24 +260,31 @@ public class BytesRefHashBenchmark {
                 return table.add(key);
             }
 
+            @Override
+            public long find(BytesRef key) {
+                return table.find(key);
+            }
+
             @Override
             public void close() {
                 table.close();
             }
         });
 
-        private final Supplier<HashTable> supplier;
+        private final Function<BigArrays, HashTable> factory;
 
-        Type(Supplier<HashTable> supplier) {
-            this.supplier = supplier;
+        Type(Function<BigArrays, HashTable> factory) {
+            this.factory = factory;
         }
 
-        public HashTable create() {
-            return supplier.get();
+        public HashTable create(BigArrays bigArrays) {
+            return factory.apply(bigArrays);
         }
     }
 
     interface HashTable extends Releasable {
         long add(BytesRef key);
+
+        long find(BytesRef key);
     }
 }
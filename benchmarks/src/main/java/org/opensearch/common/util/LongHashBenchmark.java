@@ -9,6 +9,8 @@
 package org.opensearch.common.util;
 
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -57,10 +59,16 @@ public class LongHashBenchmark {
         @Param({ "0.6" })
         public float loadFactor;
 
+        @Param({ "heap", "off_heap" })
+        public String pages;
+
+        private BigArrays bigArrays;
+
         private Supplier<HashTable> supplier;
 
         @Setup
         public void setup() {
+            bigArrays = newBigArrays(pages);
             switch (type) {
                 case "LongHash":
                     supplier = this::newLongHash;
@@ -79,7 +87,7 @@ public class LongHashBenchmark {
 
         private HashTable newLongHash() {
             return new HashTable() {
-                private final LongHash table = new LongHash(initialCapacity, loadFactor, BigArrays.NON_RECYCLING_INSTANCE);
+                private final LongHash table = new LongHash(initialCapacity, loadFactor, bigArrays);
 
                 @Override
                 public long add(long key) {
@@ -95,11 +103,7 @@ public class LongHashBenchmark {
 
         private HashTable newReorganizingLongHash() {
             return new HashTable() {
-                private final ReorganizingLongHash table = new ReorganizingLongHash(
-                    initialCapacity,
-                    loadFactor,
-                    BigArrays.NON_RECYCLING_INSTANCE
-                );
+                private final ReorganizingLongHash table = new ReorganizingLongHash(initialCapacity, loadFactor, bigArrays);
 
                 @Override
                 public long add(long key) {
@@ -114,6 +118,26 @@ public class LongHashBenchmark {
         }
     }
 
+    /**
+     * Creates big arrays that recycle their pages, on the heap or off-heap. Arrays are only allocated off-heap when they
+     * are checked against the circuit breaker, as they are in aggregations.
+     */
+    static BigArrays newBigArrays(String pages) {
+        final boolean offHeap;
+        switch (pages) {
+            case "heap":
+                offHeap = false;
+                break;
+            case "off_heap":
+                offHeap = true;
+                break;
+            default:
+                throw new IllegalArgumentException("invalid pages: " + pages);
+        }
+        Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), offHeap).build();
+        return new BigArrays(new PageCacheRecycler(settings), null, CircuitBreaker.REQUEST).withCircuitBreaking();
+    }
+
     /**
      * Creates a workload with varying parameters.
      */
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures grok matching with patterns of the built-in pattern bank, comparing the map based
+ * {@link Grok#captures(String)} with the streaming {@link Grok#captures(String, java.util.function.BiConsumer)}
+ * and the cost of rejecting text that doesn't match.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokBenchmark {
+
+    @Param({ "SYSLOGLINE", "COMBINEDAPACHELOG", "CISCOFW106023", "JAVASTACKTRACEPART", "SYSLOG5424LINE" })
+    public String pattern;
+
+    private Grok grok;
+    private String matching;
+    private String notMatching;
+
+    @Setup
+    public void setup() {
+        grok = new Grok(Grok.BUILTIN_PATTERNS, "%{" + pattern + "}", message -> {});
+        switch (pattern) {
+            case "SYSLOGLINE":
+                matching = "Mar 16 00:01:25 evita postfix/smtpd[1713]: connect from camomile.example.com[64.156.3.143]";
+                break;
+            case "COMBINEDAPACHELOG":
+                matching = "83.149.9.216 - - [19/Jul/2015:08:13:42 +0000] \"GET /presentations/logstash-monitorama-2013/images/"
+                    + "kibana-dashboard3.png HTTP/1.1\" 200 171717 \"http://semicomplete.com/presentations/logstash-monitorama-2013/\" "
+                    + "\"Mozilla/5.0 (Macintosh; Intel Mac OS X 10_9_1) AppleWebKit/537.36 (KHTML, like Gecko) "
+                    + "Chrome/32.0.1700.77 Safari/537.36\"";
+                break;
+            case "CISCOFW106023":
+                matching = "Deny protocol 17 src outside:192.168.1.1/137 dst inside:10.10.10.10/137 by access-group \"outside\" "
+                    + "[0x0, 0x0]";
+                break;
+            case "JAVASTACKTRACEPART":
+                matching = "    at org.opensearch.grok.Grok.match(Grok.java:254)";
+                break;
+            case "SYSLOG5424LINE":
+                matching = "<191>1 2009-06-30T18:30:00+02:00 paxton.local grokdebug 4123 - [id1 foo=\\\"bar\\\"][id2 baz=\\\"something\\\"] "
+                    + "Hello, syslog.";
+                break;
+            default:
+                throw new IllegalArgumentException("unknown pattern [" + pattern + "]");
+        }
+        notMatching = "2024/06/01 12:00:00 ossec-analysisd: INFO: Total rules enabled: '6437'";
+        if (grok.match(matching) == false) {
+            throw new IllegalStateException("sample text doesn't match [" + pattern + "]");
+        }
+    }
+
+    @Benchmark
+    public void capturesToMap(Blackhole bh) {
+        bh.consume(grok.captures(matching));
+    }
+
+    @Benchmark
+    public void capturesToConsumer(Blackhole bh) {
+        bh.consume(grok.captures(matching, (name, value) -> bh.consume(value)));
+    }
+
+    @Benchmark
+    public boolean noMatch() {
+        return grok.match(notMatching);
+    }
+}
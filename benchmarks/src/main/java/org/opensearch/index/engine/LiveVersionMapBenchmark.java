@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Indexes documents through the version map from many threads, the way the engine does: lock the uid, look up its version and record
+ * the new one, with a refresh every {@code refreshInterval} operations. Append-only workloads index unique uids, while upserts keep
+ * updating a small set of hot uids.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    @Param({ "APPEND", "UPSERT" })
+    private Workload workload;
+
+    @Param({ "10000", "100000" })
+    private long refreshInterval;
+
+    private LiveVersionMap map;
+    private final AtomicLong operations = new AtomicLong();
+
+    /**
+     * How documents are indexed.
+     */
+    public enum Workload {
+        APPEND,
+        UPSERT
+    }
+
+    @Setup
+    public void setup() {
+        map = new LiveVersionMap();
+    }
+
+    /**
+     * The uids indexed by a thread.
+     */
+    @State(Scope.Thread)
+    public static class Uids {
+        private static final int NUM_HOT_UIDS = 1024;
+
+        private final Random random = new Random();
+        private final BytesRef[] hotUids = new BytesRef[NUM_HOT_UIDS];
+
+        @Setup
+        public void setup() {
+            for (int i = 0; i < hotUids.length; i++) {
+                hotUids[i] = new BytesRef("hot-" + i);
+            }
+        }
+
+        BytesRef next(Workload workload) {
+            if (workload == Workload.APPEND) {
+                return new BytesRef(Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()));
+            }
+            return hotUids[random.nextInt(hotUids.length)];
+        }
+    }
+
+    @Benchmark
+    public VersionValue index(Uids uids) throws IOException {
+        final BytesRef uid = uids.next(workload);
+        final VersionValue previous;
+        try (Releasable ignored = map.acquireLock(uid)) {
+            previous = map.getUnderLock(uid);
+            final long version = previous == null ? 1 : previous.version + 1;
+            map.putIndexUnderLock(uid, new IndexVersionValue(null, version, version, 1));
+        }
+        if (operations.incrementAndGet() % refreshInterval == 0) {
+            // refreshes are serialized by the engine
+            synchronized (this) {
+                map.beforeRefresh();
+                map.afterRefresh(true);
+            }
+        }
+        return previous;
+    }
+}
@@ -34,6 +34,8 @@ package org.opensearch.core.common.io.stream;
 
 import org.opensearch.core.common.bytes.BytesReference;
 
+import java.io.IOException;
+
 /**
  * Base Bytes Stream.
  *
@@ -42,4 +44,13 @@ import org.opensearch.core.common.bytes.BytesReference;
 public abstract class BytesStream extends StreamOutput {
 
     public abstract BytesReference bytes();
+
+    /**
+     * Appends the given bytes to the stream. Unlike {@link #writeBytesReference(BytesReference)}, the length of the bytes is not
+     * written. Streams that can reference the bytes instead of copying them override this method, in which case the bytes must not be
+     * modified or released until the bytes of this stream have been consumed.
+     */
+    public void spliceBytes(BytesReference bytes) throws IOException {
+        bytes.writeTo(this);
+    }
 }
@@ -1018,6 +1018,16 @@ public final class XContentBuilder implements Closeable, Flushable {
         return this;
     }
 
+    /**
+     * Writes a raw field with the value taken from the bytes, which may be spliced into the output rather than copied
+     *
+     * @see XContentGenerator#writeRawField(String, BytesReference, MediaType)
+     */
+    public XContentBuilder rawField(String name, BytesReference value, MediaType mediaType) throws IOException {
+        generator.writeRawField(name, value, mediaType);
+        return this;
+    }
+
     /**
      * Writes a value with the source coming directly from the bytes in the stream
      */
@@ -32,6 +32,9 @@
 
 package org.opensearch.core.xcontent;
 
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStream;
+
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
@@ -124,6 +127,16 @@ public interface XContentGenerator extends Closeable, Flushable {
      */
     void writeRawField(String name, InputStream value, MediaType mediaType) throws IOException;
 
+    /**
+     * Writes a raw field with the value taken from the bytes. Generators that write to a {@link BytesStream} may splice the bytes
+     * into the stream rather than copying them, so the bytes must not be modified until the output has been consumed.
+     */
+    default void writeRawField(String name, BytesReference value, MediaType mediaType) throws IOException {
+        try (InputStream stream = value.streamInput()) {
+            writeRawField(name, stream, mediaType);
+        }
+    }
+
     /**
      * Writes a raw value taken from the bytes in the stream
      */
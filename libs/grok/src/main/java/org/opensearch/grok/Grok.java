@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Stack;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.jcodings.specific.UTF8Encoding;
@@ -94,6 +95,7 @@ public final class Grok {
     private final Regex compiledExpression;
     private final MatcherWatchdog matcherWatchdog;
     private final List<GrokCaptureConfig> captureConfig;
+    private final GrokPrefilter prefilter;
 
     public Grok(Map<String, String> patternBank, String grokPattern, Consumer<String> logCallBack) {
         this(patternBank, grokPattern, true, MatcherWatchdog.noop(), logCallBack);
@@ -121,6 +123,7 @@ public final class Grok {
         validatePatternBank();
 
         String expression = toRegex(grokPattern);
+        this.prefilter = GrokPrefilter.compile(expression);
         byte[] expressionBytes = expression.getBytes(StandardCharsets.UTF_8);
         this.compiledExpression = new Regex(
             expressionBytes,
@@ -289,7 +292,11 @@ public final class Grok {
      * @return true if grok expression matches text or there is a timeout, false otherwise.
      */
     public boolean match(String text) {
-        Matcher matcher = compiledExpression.matcher(text.getBytes(StandardCharsets.UTF_8));
+        byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (prefilter.mayMatch(utf8Bytes, 0, utf8Bytes.length) == false) {
+            return false;
+        }
+        Matcher matcher = compiledExpression.matcher(utf8Bytes);
         int result;
         try {
             matcherWatchdog.register(matcher);
@@ -325,6 +332,51 @@ public final class Grok {
      * @throws RuntimeException if there was a timeout
      */
     public boolean match(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
+        Region region = search(utf8Bytes, offset, length);
+        if (region == null) {
+            return false;
+        }
+        extracter.extract(utf8Bytes, offset, region);
+        return true;
+    }
+
+    /**
+     * Matches and passes any named captures to {@code fieldConsumer}, without collecting them in an intermediate map.
+     * Captures that didn't participate in the match are skipped. Nothing is passed on if the text doesn't match, or if
+     * converting any capture to its type fails: all the captures are converted before the first one is passed on.
+     *
+     * @param text the text to match and extract values from.
+     * @param fieldConsumer receives the field names and their respective coerced values
+     * @return true if there was a match, false otherwise
+     * @throws RuntimeException if there was a timeout
+     */
+    public boolean captures(String text, BiConsumer<String, Object> fieldConsumer) {
+        byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        Region region = search(utf8Bytes, 0, utf8Bytes.length);
+        if (region == null) {
+            return false;
+        }
+        final Object[] values = new Object[captureConfig.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = captureConfig.get(i).extract(utf8Bytes, 0, region);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                fieldConsumer.accept(captureConfig.get(i).name(), values[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the compiled expression over the text, after the cheaper {@link GrokPrefilter} checks.
+     *
+     * @return the region of the match or {@code null} if the text doesn't match
+     */
+    private Region search(byte[] utf8Bytes, int offset, int length) {
+        if (prefilter.mayMatch(utf8Bytes, offset, length) == false) {
+            return null;
+        }
         Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
         int result;
         try {
@@ -339,10 +391,9 @@ public final class Grok {
             );
         }
         if (result == Matcher.FAILED) {
-            return false;
+            return null;
         }
-        extracter.extract(utf8Bytes, offset, matcher.getEagerRegion());
-        return true;
+        return matcher.getEagerRegion();
     }
 
     /**
@@ -40,6 +40,7 @@ import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 
 import org.joni.NameEntry;
+import org.joni.Region;
 
 /**
  * Configuration for a value that {@link Grok} can capture.
@@ -71,6 +72,23 @@ public final class GrokCaptureConfig {
         return type;
     }
 
+    /**
+     * Extract the value of this capture from a match, boxed if the "native"
+     * representation is primitive type.
+     *
+     * @return the value or {@code null} if this capture didn't participate in the match
+     */
+    Object extract(byte[] utf8Bytes, int offset, Region region) {
+        for (int number : backRefs) {
+            if (region.getBeg(number) >= 0) {
+                int matchOffset = offset + region.getBeg(number);
+                int matchLength = region.getEnd(number) - region.getBeg(number);
+                return type.parse(new String(utf8Bytes, matchOffset, matchLength, StandardCharsets.UTF_8));
+            }
+        }
+        return null;
+    }
+
     /**
      * Build a {@linkplain GrokCaptureExtracter} that will call {@code emit} when
      * it extracts text, boxed if the "native" representation is primitive type.
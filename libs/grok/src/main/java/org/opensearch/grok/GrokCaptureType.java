@@ -48,40 +48,75 @@ enum GrokCaptureType {
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
             return map.forString(emit -> rawExtracter(backRefs, emit));
         }
+
+        @Override
+        Object parse(String str) {
+            return str;
+        }
     },
     INTEGER {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
             return map.forInt(emit -> rawExtracter(backRefs, str -> emit.accept(Integer.parseInt(str))));
         }
+
+        @Override
+        Object parse(String str) {
+            return Integer.valueOf(str);
+        }
     },
     LONG {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
             return map.forLong(emit -> rawExtracter(backRefs, str -> emit.accept(Long.parseLong(str))));
         }
+
+        @Override
+        Object parse(String str) {
+            return Long.valueOf(str);
+        }
     },
     FLOAT {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
             return map.forFloat(emit -> rawExtracter(backRefs, str -> emit.accept(Float.parseFloat(str))));
         }
+
+        @Override
+        Object parse(String str) {
+            return Float.valueOf(str);
+        }
     },
     DOUBLE {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
             return map.forDouble(emit -> rawExtracter(backRefs, str -> emit.accept(Double.parseDouble(str))));
         }
+
+        @Override
+        Object parse(String str) {
+            return Double.valueOf(str);
+        }
     },
     BOOLEAN {
         @Override
         <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map) {
             return map.forBoolean(emit -> rawExtracter(backRefs, str -> emit.accept(Boolean.parseBoolean(str))));
         }
+
+        @Override
+        Object parse(String str) {
+            return Boolean.valueOf(str);
+        }
     };
 
     abstract <T> T nativeExtracter(int[] backRefs, NativeExtracterMap<T> map);
 
+    /**
+     * Converts the captured text to this type, boxing primitive values.
+     */
+    abstract Object parse(String str);
+
     static GrokCaptureType fromString(String str) {
         switch (str) {
             case "string":
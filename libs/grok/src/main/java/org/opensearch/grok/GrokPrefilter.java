@@ -0,0 +1,389 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cheap checks that run before the regular expression compiled from a grok pattern and reject text that can't match.
+ * <p>
+ * The regular expression is split into its top level atoms and the literal runs that any match must contain are
+ * extracted. Text that doesn't contain the longest of them, or that doesn't start with the literal prefix of an
+ * anchored expression, is rejected without running the regex engine. The analysis is conservative: whenever the
+ * expression uses a construct that could make a literal optional or change how it matches (alternation at top level,
+ * case insensitive or extended options, quoting, escapes followed by an operand such as {@code \x41} or
+ * {@code \p{Alpha}}) no literal is extracted and every text goes to the regex engine.
+ */
+final class GrokPrefilter {
+
+    static final GrokPrefilter NONE = new GrokPrefilter(null, null);
+
+    private final byte[] requiredLiteral;
+    private final byte[] anchoredPrefix;
+
+    private GrokPrefilter(byte[] requiredLiteral, byte[] anchoredPrefix) {
+        this.requiredLiteral = requiredLiteral;
+        this.anchoredPrefix = anchoredPrefix;
+    }
+
+    /**
+     * Analyses the given regular expression and builds the matching prefilter.
+     */
+    static GrokPrefilter compile(String regex) {
+        if (hasUnsupportedOptions(regex)) {
+            return NONE;
+        }
+        String longest = null;
+        String prefix = null;
+        boolean anchored = regex.startsWith("^");
+        boolean atStart = true;
+        StringBuilder run = new StringBuilder();
+        int i = anchored ? 1 : 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '|':
+                    // top level alternation, no literal is guaranteed to be part of a match
+                    return NONE;
+                case '\\': {
+                    if (i + 1 >= regex.length()) {
+                        return NONE;
+                    }
+                    char escaped = regex.charAt(i + 1);
+                    if (escaped == 'Q' || hasOperand(escaped)) {
+                        return NONE;
+                    }
+                    if (Character.isLetterOrDigit(escaped) || escaped == '<' || escaped == '>') {
+                        // character type, anchor or back reference
+                        if (atStart && run.length() > 0) {
+                            prefix = run.toString();
+                        }
+                        longest = longest(longest, run);
+                        atStart = false;
+                    } else {
+                        run.append(escaped);
+                    }
+                    i += 2;
+                    break;
+                }
+                case '(':
+                case '[': {
+                    int end = c == '(' ? skipGroup(regex, i) : skipCharClass(regex, i);
+                    if (end < 0) {
+                        return NONE;
+                    }
+                    if (atStart && run.length() > 0) {
+                        prefix = run.toString();
+                    }
+                    longest = longest(longest, run);
+                    atStart = false;
+                    i = skipQuantifier(regex, end);
+                    break;
+                }
+                case '*':
+                case '?':
+                case '+':
+                case '{': {
+                    int end = skipQuantifier(regex, i);
+                    if (end == i) {
+                        // a curly brace that doesn't start a repetition is a plain literal
+                        run.append(c);
+                        i++;
+                        break;
+                    }
+                    boolean optional = c == '*' || c == '?' || (c == '{' && isOptionalInterval(regex, i));
+                    if (run.length() > 0) {
+                        // the quantifier applies to the last literal character of the run
+                        int last = run.length() - 1;
+                        if (last > 0 && Character.isLowSurrogate(run.charAt(last)) && Character.isHighSurrogate(run.charAt(last - 1))) {
+                            last--;
+                        }
+                        String repeated = run.substring(last);
+                        run.setLength(last);
+                        if (atStart && run.length() > 0) {
+                            prefix = run.toString();
+                        }
+                        longest = longest(longest, run);
+                        if (optional == false) {
+                            // at least one occurrence directly precedes whatever literal follows
+                            run.append(repeated);
+                        }
+                    }
+                    atStart = false;
+                    i = end;
+                    break;
+                }
+                case '.':
+                case '^':
+                case '$':
+                    if (atStart && run.length() > 0) {
+                        prefix = run.toString();
+                    }
+                    longest = longest(longest, run);
+                    atStart = false;
+                    i++;
+                    break;
+                default:
+                    run.append(c);
+                    i++;
+                    break;
+            }
+        }
+        if (atStart && run.length() > 0) {
+            prefix = run.toString();
+        }
+        longest = longest(longest, run);
+        if (longest == null && (anchored == false || prefix == null)) {
+            return NONE;
+        }
+        return new GrokPrefilter(
+            longest == null ? null : longest.getBytes(StandardCharsets.UTF_8),
+            anchored && prefix != null ? prefix.getBytes(StandardCharsets.UTF_8) : null
+        );
+    }
+
+    /**
+     * Whether the given text may match the expression, {@code false} means the regex engine is guaranteed not to match.
+     */
+    boolean mayMatch(byte[] utf8Bytes, int offset, int length) {
+        if (anchoredPrefix != null && startsWith(utf8Bytes, offset, length, anchoredPrefix) == false) {
+            // ^ also matches after a line break, the prefix only needs to be at the very start for single line text
+            if (indexOf(utf8Bytes, offset, length, (byte) '\n') < 0) {
+                return false;
+            }
+        }
+        return requiredLiteral == null || indexOf(utf8Bytes, offset, length, requiredLiteral) >= 0;
+    }
+
+    /**
+     * The literal any matching text contains, {@code null} if there is none.
+     */
+    String requiredLiteral() {
+        return requiredLiteral == null ? null : new String(requiredLiteral, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The literal any single line matching text starts with, {@code null} if there is none.
+     */
+    String anchoredPrefix() {
+        return anchoredPrefix == null ? null : new String(anchoredPrefix, StandardCharsets.UTF_8);
+    }
+
+    private static String longest(String current, StringBuilder run) {
+        String candidate = null;
+        if (run.length() > 0 && (current == null || run.length() > current.length())) {
+            candidate = run.toString();
+        }
+        run.setLength(0);
+        return candidate == null ? current : candidate;
+    }
+
+    /**
+     * Whether the escape sequence starting with the given character reads the characters that follow it, like hexadecimal,
+     * unicode and octal escapes, control and meta characters, properties, back references and subexpression calls.
+     */
+    private static boolean hasOperand(char escaped) {
+        switch (escaped) {
+            case 'x':
+            case 'u':
+            case 'o':
+            case 'p':
+            case 'P':
+            case 'k':
+            case 'g':
+            case 'c':
+            case 'C':
+            case 'M':
+                return true;
+            default:
+                // octal escapes and back references, which may span several digits
+                return escaped >= '0' && escaped <= '9';
+        }
+    }
+
+    /**
+     * Detects inline options that change how literals match, like {@code (?i)} or {@code (?x)}.
+     */
+    private static boolean hasUnsupportedOptions(String regex) {
+        for (int i = regex.indexOf("(?"); i >= 0; i = regex.indexOf("(?", i + 2)) {
+            int j = i + 2;
+            boolean caseOrExtended = false;
+            while (j < regex.length() && (Character.isLetter(regex.charAt(j)) || regex.charAt(j) == '-')) {
+                char option = regex.charAt(j);
+                caseOrExtended |= option == 'i' || option == 'x';
+                j++;
+            }
+            if (caseOrExtended && j < regex.length() && (regex.charAt(j) == ')' || regex.charAt(j) == ':')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index right after the group starting at {@code start}, or {@code -1} if it isn't closed.
+     */
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipCharClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index right after the (possibly nested) character class starting at {@code start}, or {@code -1}.
+     */
+    private static int skipCharClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                // a closing bracket right after the opening one (or its negation) is a literal
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                    i++;
+                }
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                    i++;
+                }
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index right after the quantifier starting at {@code start}, including lazy and possessive suffixes,
+     * or {@code start} if there is no quantifier there.
+     */
+    private static int skipQuantifier(String regex, int start) {
+        if (start >= regex.length()) {
+            return start;
+        }
+        char c = regex.charAt(start);
+        int end;
+        if (c == '*' || c == '?' || c == '+') {
+            end = start + 1;
+        } else if (c == '{') {
+            int close = regex.indexOf('}', start);
+            if (close < 0 || isInterval(regex, start + 1, close) == false) {
+                return start;
+            }
+            end = close + 1;
+        } else {
+            return start;
+        }
+        if (end < regex.length() && (regex.charAt(end) == '?' || regex.charAt(end) == '+')) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isInterval(String regex, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+        boolean digits = false;
+        int commas = 0;
+        for (int i = from; i < to; i++) {
+            char c = regex.charAt(i);
+            if (c == ',') {
+                commas++;
+            } else if (c >= '0' && c <= '9') {
+                digits = true;
+            } else {
+                return false;
+            }
+        }
+        return digits && commas <= 1;
+    }
+
+    private static boolean isOptionalInterval(String regex, int start) {
+        int i = start + 1;
+        int min = 0;
+        while (i < regex.length() && regex.charAt(i) >= '0' && regex.charAt(i) <= '9') {
+            min = min * 10 + (regex.charAt(i) - '0');
+            if (min > 0) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] bytes, int offset, int length, byte[] prefix) {
+        if (prefix.length > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] bytes, int offset, int length, byte b) {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] bytes, int offset, int length, byte[] literal) {
+        final byte first = literal[0];
+        final int last = offset + length - literal.length;
+        outer: for (int i = offset; i <= last; i++) {
+            if (bytes[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < literal.length; j++) {
+                if (bytes[i + j] != literal[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
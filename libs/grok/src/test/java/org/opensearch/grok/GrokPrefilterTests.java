@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class GrokPrefilterTests extends OpenSearchTestCase {
+
+    public void testLongestLiteral() {
+        GrokPrefilter prefilter = GrokPrefilter.compile("(?<a>\\d+) from (?<b>\\w+) port (?<c>\\d+)");
+        assertThat(prefilter.requiredLiteral(), equalTo(" from "));
+        assertThat(prefilter.anchoredPrefix(), nullValue());
+        assertThat(mayMatch(prefilter, "42 from host port 22"), is(true));
+        assertThat(mayMatch(prefilter, "42 to host port 22"), is(false));
+    }
+
+    public void testEscapedLiterals() {
+        GrokPrefilter prefilter = GrokPrefilter.compile("\\[(?<ts>[^\\]]+)\\] \\(id\\): .*");
+        assertThat(prefilter.requiredLiteral(), equalTo("] (id): "));
+    }
+
+    public void testQuantifiers() {
+        assertThat(GrokPrefilter.compile("abc?d").requiredLiteral(), equalTo("ab"));
+        assertThat(GrokPrefilter.compile("ab*cd").requiredLiteral(), equalTo("cd"));
+        assertThat(GrokPrefilter.compile("ab+cd").requiredLiteral(), equalTo("bcd"));
+        assertThat(GrokPrefilter.compile("abc{0,2}de").requiredLiteral(), equalTo("ab"));
+        assertThat(GrokPrefilter.compile("abc{2}de").requiredLiteral(), equalTo("cde"));
+        assertThat(GrokPrefilter.compile("abcd+?").requiredLiteral(), equalTo("abc"));
+        assertThat(GrokPrefilter.compile("a{b}c").requiredLiteral(), equalTo("a{b}c"));
+        assertThat(GrokPrefilter.compile("(?:foo)?bar").requiredLiteral(), equalTo("bar"));
+    }
+
+    public void testUnsupportedConstructs() {
+        assertThat(GrokPrefilter.compile("foo|bar"), sameInstance(GrokPrefilter.NONE));
+        assertThat(GrokPrefilter.compile("(?i)foo"), sameInstance(GrokPrefilter.NONE));
+        assertThat(GrokPrefilter.compile("(?<a>x)(?x: foo )"), sameInstance(GrokPrefilter.NONE));
+        assertThat(GrokPrefilter.compile("\\Qfoo\\E"), sameInstance(GrokPrefilter.NONE));
+        assertThat(GrokPrefilter.compile("(foo"), sameInstance(GrokPrefilter.NONE));
+        assertThat(GrokPrefilter.compile("(?<a>\\d+)"), sameInstance(GrokPrefilter.NONE));
+        assertThat(mayMatch(GrokPrefilter.NONE, "anything"), is(true));
+    }
+
+    public void testEscapesWithOperands() {
+        for (String regex : new String[] {
+            "\\x41BC",
+            "\\x{41}BC",
+            "caf\\u00e9",
+            "\\o{101}BC",
+            "\\p{Alpha}+ foo",
+            "\\P{Alpha}+ foo",
+            "\\p{^Alpha}+ foo",
+            "(?<a>x) \\k<a> foo",
+            "(?<a>x) \\g<a> foo",
+            "(x) \\1 foo",
+            "\\0101 foo",
+            "\\cA foo",
+            "\\C-a foo",
+            "\\M-a foo" }) {
+            assertThat(regex, GrokPrefilter.compile(regex), sameInstance(GrokPrefilter.NONE));
+        }
+    }
+
+    public void testEscapesWithOperandsMatch() {
+        assertThat(new Grok(Grok.BUILTIN_PATTERNS, "\\x41BC", logger::warn).match("ABC"), is(true));
+        assertThat(new Grok(Grok.BUILTIN_PATTERNS, "caf\\u00e9", logger::warn).match("caf\u00e9"), is(true));
+        assertThat(new Grok(Grok.BUILTIN_PATTERNS, "^\\p{Alpha}+$", logger::warn).match("abc"), is(true));
+        assertThat(new Grok(Grok.BUILTIN_PATTERNS, "(?<a>x)-\\k<a>", logger::warn).match("x-x"), is(true));
+    }
+
+    public void testAlternationInsideGroups() {
+        GrokPrefilter prefilter = GrokPrefilter.compile("(?:GET|POST) /index(?:\\.html|\\.htm)?");
+        assertThat(prefilter.requiredLiteral(), equalTo(" /index"));
+        assertThat(mayMatch(prefilter, "POST /index.htm"), is(true));
+        assertThat(mayMatch(prefilter, "POST /other"), is(false));
+    }
+
+    public void testAnchoredPrefix() {
+        GrokPrefilter prefilter = GrokPrefilter.compile("^ossec: (?<msg>.*)");
+        assertThat(prefilter.anchoredPrefix(), equalTo("ossec: "));
+        assertThat(mayMatch(prefilter, "ossec: Alert"), is(true));
+        assertThat(mayMatch(prefilter, "syslog ossec: Alert"), is(false));
+        // ^ matches at the start of every line
+        assertThat(mayMatch(prefilter, "syslog\nossec: Alert"), is(true));
+    }
+
+    public void testByteRange() {
+        GrokPrefilter prefilter = GrokPrefilter.compile("(?<a>\\w+)=(?<b>\\w+)");
+        byte[] bytes = "xx key=value yy".getBytes(StandardCharsets.UTF_8);
+        assertThat(prefilter.mayMatch(bytes, 3, 9), is(true));
+        assertThat(prefilter.mayMatch(bytes, 7, 5), is(false));
+    }
+
+    public void testMultiByteLiterals() {
+        GrokPrefilter prefilter = GrokPrefilter.compile("(?<a>\\w+) \u2192 (?<b>\\w+)");
+        assertThat(prefilter.requiredLiteral(), equalTo(" \u2192 "));
+        assertThat(mayMatch(prefilter, "a \u2192 b"), is(true));
+        assertThat(mayMatch(prefilter, "a -> b"), is(false));
+    }
+
+    public void testBuiltinPatternsAreNotAffected() {
+        String line = "Mar 16 00:01:25 evita postfix/smtpd[1713]: connect from camomile.cloud9.net[168.100.1.3]";
+        for (String pattern : new String[] { "%{SYSLOGLINE}", "%{SYSLOGBASE} %{GREEDYDATA:message}", "%{SYSLOGTIMESTAMP}" }) {
+            Grok grok = new Grok(Grok.BUILTIN_PATTERNS, pattern, logger::warn);
+            assertThat(pattern, grok.match(line), is(true));
+        }
+    }
+
+    private static boolean mayMatch(GrokPrefilter prefilter, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return prefilter.mayMatch(bytes, 0, bytes.length);
+    }
+}
@@ -81,6 +81,42 @@ public class GrokTests extends OpenSearchTestCase {
         assertThat(captureBytes(grok, utf8, 6, 2), equalTo(Map.of("n", 12)));
     }
 
+    public void testCapturesToConsumer() {
+        String pattern = "%{IP:client} %{WORD:method} %{NUMBER:bytes:int} %{NUMBER:duration:float}";
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, pattern, logger::warn);
+        String line = "55.3.244.1 GET 15824 0.043";
+        Map<String, Object> fields = new HashMap<>();
+        assertThat(grok.captures(line, fields::put), is(true));
+        assertThat(fields, equalTo(grok.captures(line)));
+        assertThat(fields.get("bytes"), equalTo(15824));
+        assertThat(fields.get("duration"), equalTo(0.043f));
+
+        fields.clear();
+        assertThat(grok.captures("55.3.244.1 GET", fields::put), is(false));
+        assertThat(fields.isEmpty(), is(true));
+    }
+
+    public void testCapturesToConsumerWithFailedConversion() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{WORD:first} %{NUMBER:number:int}", logger::warn);
+        Map<String, Object> fields = new HashMap<>();
+        expectThrows(NumberFormatException.class, () -> grok.captures("hello 1.5", fields::put));
+        assertThat(fields.isEmpty(), is(true));
+    }
+
+    public void testCapturesToConsumerWithPrefilter() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "^user=%{WORD:user} status=%{NUMBER:status:int}", logger::warn);
+        Map<String, Object> fields = new HashMap<>();
+        assertThat(grok.captures("user=bob status=200", fields::put), is(true));
+        assertThat(fields, equalTo(Map.of("user", "bob", "status", 200)));
+        fields.clear();
+        assertThat(grok.captures("owner=bob status=200", fields::put), is(false));
+        assertThat(grok.captures("user=bob code=200", fields::put), is(false));
+        assertThat(grok.match("user=bob code=200"), is(false));
+        assertThat(fields.isEmpty(), is(true));
+        // ^ matches at the start of any line
+        assertThat(grok.match("header\nuser=bob status=200"), is(true));
+    }
+
     private Map<String, Object> captureBytes(Grok grok, byte[] utf8, int offset, int length) {
         GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(grok.captureConfig());
         if (grok.match(utf8, offset, length, extracter)) {
@@ -44,6 +44,8 @@ import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
 
 import org.opensearch.common.util.io.Streams;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -373,6 +375,23 @@ public class JsonXContentGenerator implements XContentGenerator {
         }
     }
 
+    /**
+     * Writes a raw field with the value taken from the bytes, splicing them into the output stream if it is a {@link BytesStream}
+     */
+    @Override
+    public void writeRawField(String name, BytesReference content, MediaType mediaType) throws IOException {
+        if (mayWriteRawData(mediaType) && os instanceof BytesStream) {
+            writeStartRaw(name);
+            flush();
+            ((BytesStream) os).spliceBytes(content);
+            writeEndRaw();
+        } else {
+            try (InputStream stream = content.streamInput()) {
+                writeRawField(name, stream, mediaType);
+            }
+        }
+    }
+
     /**
      * Writes the raw value to the stream
      */
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store.disk;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.core.common.bytes.BytesReference;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only file of cache records, accessed with positional reads and writes. Each record is made of the length
+ * of the key, the length of the value, the key and the value. Removing a record only updates the count of live bytes,
+ * the space is reclaimed when the whole segment is evicted or compacted.
+ * <p>
+ * The file is not memory-mapped on purpose: a mapping is only released when its buffer is garbage collected, so the
+ * disk space of evicted segments would stay allocated for an unbounded time and the cache could use more than its
+ * maximum size. Closing the channel of a segment frees its space as soon as the file is deleted.
+ * <p>
+ * This class is not thread-safe: appends must be serialized, but reads can run concurrently with each other. Reads
+ * wrap I/O errors in {@link UncheckedIOException} so that they can be used from lookups of the hash index.
+ */
+final class DiskCacheSegment implements Closeable {
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private final int sizeInBytes;
+    private int writePosition;
+    private long liveBytes;
+
+    private DiskCacheSegment(int id, Path path, FileChannel channel, int sizeInBytes) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    static DiskCacheSegment create(Path directory, int id, int sizeInBytes) throws IOException {
+        Path path = directory.resolve("segment_" + id + ".cache");
+        FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        // the file grows as records are appended, so it only takes the space of the records written so far
+        return new DiskCacheSegment(id, path, channel, sizeInBytes);
+    }
+
+    int id() {
+        return id;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    int remaining() {
+        return sizeInBytes - writePosition;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return the offset of the record
+     */
+    int append(byte[] key, BytesReference value) throws IOException {
+        final int offset = writePosition;
+        final int recordSize = recordSize(key.length, value.length());
+        assert recordSize <= remaining();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + key.length);
+        header.putInt(key.length);
+        header.putInt(value.length());
+        header.put(key);
+        header.flip();
+        long position = write(header, offset);
+        // write the value straight from its pages, without materializing it as a single array first
+        BytesRefIterator iterator = value.iterator();
+        for (BytesRef ref = iterator.next(); ref != null; ref = iterator.next()) {
+            position = write(ByteBuffer.wrap(ref.bytes, ref.offset, ref.length), position);
+        }
+        writePosition += recordSize;
+        liveBytes += recordSize;
+        return offset;
+    }
+
+    void markRemoved(int offset) {
+        liveBytes -= recordSize(offset);
+        assert liveBytes >= 0 : liveBytes;
+    }
+
+    int recordSize(int offset) {
+        ByteBuffer header = read(offset, HEADER_BYTES);
+        return recordSize(header.getInt(), header.getInt());
+    }
+
+    static int recordSize(int keyLength, int valueLength) {
+        return HEADER_BYTES + keyLength + valueLength;
+    }
+
+    byte[] readKey(int offset) {
+        int keyLength = read(offset, Integer.BYTES).getInt();
+        return read(offset + HEADER_BYTES, keyLength).array();
+    }
+
+    byte[] readValue(int offset) {
+        ByteBuffer header = read(offset, HEADER_BYTES);
+        int keyLength = header.getInt();
+        int valueLength = header.getInt();
+        return read(offset + HEADER_BYTES + keyLength, valueLength).array();
+    }
+
+    /**
+     * Compares the key of the record at the given offset with the given key, only reading the stored key if the lengths match.
+     */
+    boolean keyEquals(int offset, byte[] key) {
+        if (read(offset, Integer.BYTES).getInt() != key.length) {
+            return false;
+        }
+        return read(offset + HEADER_BYTES, key.length).equals(ByteBuffer.wrap(key));
+    }
+
+    private long write(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        return position;
+    }
+
+    private ByteBuffer read(long position, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read == -1) {
+                    throw new EOFException("read past the end of disk cache segment [" + path + "]");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Closes the file and deletes it, which frees its disk space right away.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store.disk;
+
+import org.opensearch.common.SuppressForbidden;
+
+import java.io.Closeable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.function.LongPredicate;
+
+/**
+ * An open-addressing hash index from the hash of a key to the location of its record on disk. Slots are pairs of longs
+ * in a direct buffer, so the index doesn't create any object per entry. Keys are not stored: since different keys can
+ * have the same hash, lookups confirm candidate locations with a predicate that compares the key stored on disk.
+ * <p>
+ * Locations must be strictly positive. The index holds at most a fixed number of entries, callers must make room by
+ * removing entries once it {@link #isFull() is full}. This class is not thread-safe.
+ * <p>
+ * The direct buffer can be as large as 1GiB, so the buffers that are replaced on resize or {@link #clear()}, and the
+ * buffer of a {@link #close() closed} index, are freed right away rather than when they get garbage collected.
+ */
+final class OffHeapHashIndex implements Closeable {
+
+    /** Returned by lookups when no location matches. */
+    static final long NOT_FOUND = -1;
+
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+    private static final int MIN_CAPACITY = 1 << 10;
+    private static final int MAX_CAPACITY = 1 << 26;
+    // at most a quarter of the slots are used at the maximum capacity, so that rehashing alone frees enough slots
+    static final int MAX_SIZE = MAX_CAPACITY / 4;
+
+    // frees a direct buffer, null if the JVM doesn't allow it in which case buffers are freed by the garbage collector
+    private static final MethodHandle BUFFER_CLEANER = AccessController.doPrivileged((PrivilegedAction<MethodHandle>) () -> {
+        try {
+            return lookupBufferCleaner();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    });
+
+    private final int maxSize;
+
+    private ByteBuffer buffer;
+    // slot i is made of the hash at index 2 * i and the location at index 2 * i + 1, it's a view of the buffer
+    private LongBuffer slots;
+    private int capacity;
+    private int mask;
+    private int size;
+    private int tombstones;
+
+    OffHeapHashIndex() {
+        this(MAX_SIZE);
+    }
+
+    OffHeapHashIndex(int maxSize) {
+        if (maxSize <= 0 || maxSize > MAX_SIZE) {
+            throw new IllegalArgumentException("max size must be in (0, " + MAX_SIZE + "], got [" + maxSize + "]");
+        }
+        this.maxSize = maxSize;
+        allocate(MIN_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        this.buffer = ByteBuffer.allocateDirect(capacity * 2 * Long.BYTES);
+        this.slots = buffer.asLongBuffer();
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.size = 0;
+        this.tombstones = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Whether the index holds as many entries as it can, in which case no new entry can be added. */
+    boolean isFull() {
+        return size >= maxSize;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /** The off-heap memory used by the index. */
+    long offHeapBytesUsed() {
+        return (long) capacity * 2 * Long.BYTES;
+    }
+
+    /**
+     * The location stored in the given slot, or {@link #NOT_FOUND} if the slot is free. Used to iterate over entries.
+     */
+    long locationAt(int slot) {
+        long location = slots.get(2 * slot + 1);
+        return location == EMPTY || location == TOMBSTONE ? NOT_FOUND : location;
+    }
+
+    /** The hash stored in the given slot. */
+    long hashAt(int slot) {
+        return slots.get(2 * slot);
+    }
+
+    /**
+     * Returns the location of the entry with the given hash that matches, or {@link #NOT_FOUND}.
+     */
+    long get(long hash, LongPredicate matches) {
+        for (int slot = slot(hash);; slot = (slot + 1) & mask) {
+            long location = slots.get(2 * slot + 1);
+            if (location == EMPTY) {
+                return NOT_FOUND;
+            }
+            if (location != TOMBSTONE && slots.get(2 * slot) == hash && matches.test(location)) {
+                return location;
+            }
+        }
+    }
+
+    /**
+     * Maps the given hash to the given location, replacing the location of the entry with the same hash that matches.
+     * Adding a new entry requires the index not to be {@link #isFull() full}.
+     *
+     * @return the replaced location, or {@link #NOT_FOUND} if the entry is new
+     */
+    long put(long hash, long location, LongPredicate matches) {
+        assert location > 0 : location;
+        int freeSlot = -1;
+        for (int slot = slot(hash);; slot = (slot + 1) & mask) {
+            long existing = slots.get(2 * slot + 1);
+            if (existing == EMPTY) {
+                if (freeSlot == -1) {
+                    freeSlot = slot;
+                }
+                break;
+            }
+            if (existing == TOMBSTONE) {
+                if (freeSlot == -1) {
+                    freeSlot = slot;
+                }
+            } else if (slots.get(2 * slot) == hash && matches.test(existing)) {
+                slots.put(2 * slot + 1, location);
+                return existing;
+            }
+        }
+        assert isFull() == false : "index is full, can't add an entry";
+        if (slots.get(2 * freeSlot + 1) == TOMBSTONE) {
+            tombstones--;
+        }
+        slots.put(2 * freeSlot, hash);
+        slots.put(2 * freeSlot + 1, location);
+        size++;
+        maybeResize();
+        return NOT_FOUND;
+    }
+
+    /**
+     * Removes the entry with the given hash and location.
+     *
+     * @return whether the entry existed
+     */
+    boolean remove(long hash, long location) {
+        for (int slot = slot(hash);; slot = (slot + 1) & mask) {
+            long existing = slots.get(2 * slot + 1);
+            if (existing == EMPTY) {
+                return false;
+            }
+            if (existing == location && slots.get(2 * slot) == hash) {
+                slots.put(2 * slot + 1, TOMBSTONE);
+                size--;
+                tombstones++;
+                return true;
+            }
+        }
+    }
+
+    void clear() {
+        ByteBuffer oldBuffer = buffer;
+        allocate(MIN_CAPACITY);
+        free(oldBuffer);
+    }
+
+    /**
+     * Frees the off-heap memory of the index. A closed index is empty and has no slot, it must not be used anymore.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            ByteBuffer oldBuffer = buffer;
+            buffer = null;
+            slots = null;
+            capacity = 0;
+            mask = 0;
+            size = 0;
+            tombstones = 0;
+            free(oldBuffer);
+        }
+    }
+
+    private int slot(long hash) {
+        // the hash is already well distributed, fold its high bits in case the capacity is large
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void maybeResize() {
+        // keep at least half of the slots empty so that probe sequences stay short
+        if (2 * (size + tombstones) <= capacity) {
+            return;
+        }
+        // at the maximum capacity the size is bounded by MAX_SIZE, so dropping the tombstones is enough
+        int newCapacity = 4 * size > capacity && capacity < MAX_CAPACITY ? capacity << 1 : capacity;
+        ByteBuffer oldBuffer = buffer;
+        LongBuffer oldSlots = slots;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            long location = oldSlots.get(2 * i + 1);
+            if (location != EMPTY && location != TOMBSTONE) {
+                long hash = oldSlots.get(2 * i);
+                int slot = slot(hash);
+                while (slots.get(2 * slot + 1) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                slots.put(2 * slot, hash);
+                slots.put(2 * slot + 1, location);
+                size++;
+            }
+        }
+        free(oldBuffer);
+    }
+
+    private static void free(ByteBuffer buffer) {
+        if (BUFFER_CLEANER != null) {
+            try {
+                BUFFER_CLEANER.invokeExact(buffer);
+            } catch (Throwable t) {
+                throw new IllegalStateException("failed to free the direct buffer of the index", t);
+            }
+        }
+    }
+
+    @SuppressForbidden(reason = "the cleaner of a direct buffer is only reachable through sun.misc.Unsafe")
+    private static MethodHandle lookupBufferCleaner() throws ReflectiveOperationException {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Field field = unsafeClass.getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        MethodHandle invokeCleaner = MethodHandles.lookup()
+            .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class));
+        return invokeCleaner.bindTo(field.get(null));
+    }
+}
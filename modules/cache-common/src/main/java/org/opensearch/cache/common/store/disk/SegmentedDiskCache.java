@@ -0,0 +1,615 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store.disk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ReleasableLock;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import static org.opensearch.cache.common.store.disk.SegmentedDiskCacheSettings.DISK_COMPACTION_THRESHOLD_SETTING;
+import static org.opensearch.cache.common.store.disk.SegmentedDiskCacheSettings.DISK_MAX_SIZE_SETTING;
+import static org.opensearch.cache.common.store.disk.SegmentedDiskCacheSettings.DISK_SEGMENT_SIZE_SETTING;
+import static org.opensearch.cache.common.store.disk.SegmentedDiskCacheSettings.DISK_STORAGE_PATH_SETTING;
+import static org.opensearch.cache.common.store.disk.SegmentedDiskCacheSettings.getSetting;
+
+/**
+ * A disk cache that doesn't depend on any third-party library. Entries are appended to segment files and
+ * located through a hash index that is kept off-heap, so the cache doesn't create any long-lived object per entry.
+ * <p>
+ * Segments are evicted as a whole, oldest first, when a new segment would exceed the maximum size of the cache.
+ * Invalidated entries leave garbage in their segments, which is reclaimed by {@link #refresh()}: it compacts the
+ * segments whose ratio of live bytes fell below a threshold by moving their live entries to the current segment. The
+ * indices request cache refreshes its cache right after removing stale keys, so compaction follows its cleanup.
+ * <p>
+ * Reads run concurrently with each other, writes are serialized.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class SegmentedDiskCache<K, V> implements ICache<K, V> {
+
+    private static final Logger logger = LogManager.getLogger(SegmentedDiskCache.class);
+
+    private final Path directory;
+    private final int segmentSizeInBytes;
+    private final int maxSegments;
+    private final double compactionThreshold;
+    private final Serializer<K, byte[]> keySerializer;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final Function<V, BytesReference> valueToBytes;
+    private final RemovalListener<K, V> removalListener;
+
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final ReleasableLock readLock = new ReleasableLock(readWriteLock.readLock());
+    private final ReleasableLock writeLock = new ReleasableLock(readWriteLock.writeLock());
+
+    // all the fields below are guarded by the lock
+    private final OffHeapHashIndex index;
+    private final Map<Integer, DiskCacheSegment> segments = new HashMap<>();
+    // segments in creation order, the last one is the one that entries are appended to
+    private final ArrayDeque<DiskCacheSegment> segmentQueue = new ArrayDeque<>();
+    private int nextSegmentId = 1;
+    private boolean closed;
+
+    /**
+     * Used in computeIfAbsent to make sure that concurrent callers load the value of a key only once.
+     */
+    private final Map<K, CompletableFuture<V>> loadingMap = new ConcurrentHashMap<>();
+
+    private SegmentedDiskCache(Builder<K, V> builder) {
+        if (builder.storagePath == null || builder.storagePath.isBlank()) {
+            throw new IllegalArgumentException("Storage path shouldn't be null or empty");
+        }
+        this.directory = PathUtils.get(builder.storagePath);
+        this.segmentSizeInBytes = builder.segmentSizeInBytes;
+        if (segmentSizeInBytes <= DiskCacheSegment.HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size should be greater than " + DiskCacheSegment.HEADER_BYTES);
+        }
+        long maxSegments = builder.getMaxWeightInBytes() / segmentSizeInBytes;
+        if (maxSegments < 2) {
+            throw new IllegalArgumentException(
+                "Disk cache size ["
+                    + builder.getMaxWeightInBytes()
+                    + "] should be at least twice the segment size ["
+                    + segmentSizeInBytes
+                    + "]"
+            );
+        }
+        this.maxSegments = (int) Math.min(Integer.MAX_VALUE, maxSegments);
+        this.compactionThreshold = builder.compactionThreshold;
+        this.index = new OffHeapHashIndex(builder.maxEntries);
+        this.keySerializer = Objects.requireNonNull(builder.keySerializer, "Key serializer shouldn't be null");
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        if (valueSerializer instanceof BytesReferenceSerializer) {
+            // write the pages of the value to the segment directly rather than serializing them to an array first
+            this.valueToBytes = value -> (BytesReference) value;
+        } else {
+            this.valueToBytes = value -> new BytesArray(valueSerializer.serialize(value));
+        }
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        try {
+            // the cache isn't persistent, discard the files of a previous instance
+            if (Files.exists(directory)) {
+                IOUtils.rm(directory);
+            }
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create disk cache directory [" + directory + "]", e);
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to disk cache was null.");
+        }
+        final byte[] keyBytes = keySerializer.serialize(key);
+        final long hash = hash(keyBytes);
+        final byte[] valueBytes;
+        try (ReleasableLock ignore = readLock.acquire()) {
+            long location = index.get(hash, l -> segment(l).keyEquals(offset(l), keyBytes));
+            if (location == OffHeapHashIndex.NOT_FOUND) {
+                return null;
+            }
+            valueBytes = segment(location).readValue(offset(location));
+        }
+        return valueSerializer.deserialize(valueBytes);
+    }
+
+    /**
+     * Puts the item into cache. Items that are larger than a segment are not cached.
+     * @param key Type of key.
+     * @param value Type of value.
+     */
+    @Override
+    public void put(K key, V value) {
+        final byte[] keyBytes = keySerializer.serialize(key);
+        final BytesReference valueBytes = valueToBytes.apply(value);
+        final long recordSize = (long) DiskCacheSegment.HEADER_BYTES + keyBytes.length + valueBytes.length();
+        if (recordSize > segmentSizeInBytes) {
+            logger.trace("not caching entry of [{}] bytes, which is larger than the segment size [{}]", recordSize, segmentSizeInBytes);
+            return;
+        }
+        final long hash = hash(keyBytes);
+        final List<RemovalNotification<K, V>> evicted = new ArrayList<>();
+        try (ReleasableLock ignore = writeLock.acquire()) {
+            ensureOpen();
+            // the index can't grow anymore, make room the same way as when the disk is full
+            while (index.isFull() && segmentQueue.isEmpty() == false) {
+                evict(segmentQueue.pollFirst(), evicted);
+            }
+            long location = append(keyBytes, valueBytes, (int) recordSize, evicted);
+            long previous = index.put(hash, location, l -> segment(l).keyEquals(offset(l), keyBytes));
+            if (previous != OffHeapHashIndex.NOT_FOUND) {
+                segment(previous).markRemoved(offset(previous));
+            }
+        } catch (IOException e) {
+            throw new OpenSearchException("Exception occurred while put item to disk cache", e);
+        } finally {
+            notifyRemovals(evicted);
+        }
+    }
+
+    /**
+     * Computes the value using loader in case key is not present, otherwise fetches it.
+     * @param key Type of key
+     * @param loader loader to load the value in case key is missing
+     * @return value
+     * @throws Exception when either internal get or put calls fail.
+     */
+    @Override
+    public V computeIfAbsent(K key, LoadAwareCacheLoader<K, V> loader) throws Exception {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = loadingMap.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.get();
+        }
+        try {
+            value = get(key);
+            if (value == null) {
+                value = loader.load(key);
+                if (value == null) {
+                    throw new NullPointerException("loader returned a null value");
+                }
+                put(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingMap.remove(key, future);
+        }
+    }
+
+    /**
+     * Invalidate the item.
+     * @param key key to be invalidated.
+     */
+    @Override
+    public void invalidate(K key) {
+        final byte[] keyBytes = keySerializer.serialize(key);
+        final long hash = hash(keyBytes);
+        final List<RemovalNotification<K, V>> removed = new ArrayList<>(1);
+        try (ReleasableLock ignore = writeLock.acquire()) {
+            long location = index.get(hash, l -> segment(l).keyEquals(offset(l), keyBytes));
+            if (location != OffHeapHashIndex.NOT_FOUND) {
+                removed.add(remove(hash, location, RemovalReason.EXPLICIT));
+            }
+        } finally {
+            notifyRemovals(removed);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        try (ReleasableLock ignore = writeLock.acquire()) {
+            if (closed) {
+                return;
+            }
+            index.clear();
+            closeSegments();
+        } catch (IOException e) {
+            logger.error(() -> new ParameterizedMessage("Failed to delete disk cache segments under path: {}", directory), e);
+        }
+    }
+
+    /**
+     * Provides a way to iterate over disk cache keys. Removing a key through the iterator invalidates it. The iteration
+     * is not protected from concurrent mutations of the cache, which may cause keys to be skipped or returned twice.
+     * @return Iterable
+     */
+    @Override
+    public Iterable<K> keys() {
+        return KeyIterator::new;
+    }
+
+    /**
+     * Gives the current count of keys in disk cache.
+     * @return current count of keys
+     */
+    @Override
+    public long count() {
+        try (ReleasableLock ignore = readLock.acquire()) {
+            return index.size();
+        }
+    }
+
+    /**
+     * Compacts the segments whose ratio of live bytes is below the compaction threshold.
+     */
+    @Override
+    public void refresh() {
+        final List<RemovalNotification<K, V>> evicted = new ArrayList<>();
+        try (ReleasableLock ignore = writeLock.acquire()) {
+            if (closed) {
+                return;
+            }
+            for (DiskCacheSegment segment : new ArrayList<>(segmentQueue)) {
+                if (segment == segmentQueue.peekLast()) {
+                    break;
+                }
+                if (segment.liveBytes() >= compactionThreshold * segment.writePosition()) {
+                    continue;
+                }
+                // skip segments whose live entries would not fit without evicting other segments
+                long room = segmentQueue.getLast().remaining() + (long) (maxSegments - segments.size()) * segmentSizeInBytes;
+                if (segment.liveBytes() > room) {
+                    continue;
+                }
+                compact(segment, evicted);
+            }
+        } catch (IOException e) {
+            throw new OpenSearchException("Exception occurred while compacting disk cache", e);
+        } finally {
+            notifyRemovals(evicted);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (ReleasableLock ignore = writeLock.acquire()) {
+            closed = true;
+            index.close();
+            closeSegments();
+            IOUtils.rm(directory);
+        } catch (IOException e) {
+            logger.error(() -> new ParameterizedMessage("Failed to delete disk cache data under path: {}", directory), e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("disk cache is closed");
+        }
+    }
+
+    private long append(byte[] keyBytes, BytesReference valueBytes, int recordSize, List<RemovalNotification<K, V>> evicted)
+        throws IOException {
+        DiskCacheSegment segment = segmentQueue.peekLast();
+        if (segment == null || segment.remaining() < recordSize) {
+            while (segments.size() >= maxSegments) {
+                evict(segmentQueue.pollFirst(), evicted);
+            }
+            segment = DiskCacheSegment.create(directory, nextSegmentId++, segmentSizeInBytes);
+            segments.put(segment.id(), segment);
+            segmentQueue.addLast(segment);
+        }
+        return location(segment, segment.append(keyBytes, valueBytes));
+    }
+
+    private void evict(DiskCacheSegment segment, List<RemovalNotification<K, V>> evicted) throws IOException {
+        for (int offset = 0; offset < segment.writePosition(); offset += segment.recordSize(offset)) {
+            long location = location(segment, offset);
+            long hash = hash(segment.readKey(offset));
+            if (isLive(hash, location)) {
+                evicted.add(remove(hash, location, RemovalReason.EVICTED));
+            }
+        }
+        segments.remove(segment.id());
+        segment.close();
+    }
+
+    private void compact(DiskCacheSegment segment, List<RemovalNotification<K, V>> evicted) throws IOException {
+        segmentQueue.remove(segment);
+        segments.remove(segment.id());
+        int moved = 0;
+        for (int offset = 0; offset < segment.writePosition(); offset += segment.recordSize(offset)) {
+            long location = location(segment, offset);
+            byte[] keyBytes = segment.readKey(offset);
+            long hash = hash(keyBytes);
+            if (isLive(hash, location)) {
+                BytesReference valueBytes = new BytesArray(segment.readValue(offset));
+                long newLocation = append(keyBytes, valueBytes, segment.recordSize(offset), evicted);
+                index.remove(hash, location);
+                index.put(hash, newLocation, l -> l == newLocation);
+                moved++;
+            }
+        }
+        logger.debug("compacted disk cache segment [{}], moved [{}] entries", segment.id(), moved);
+        segment.close();
+    }
+
+    private boolean isLive(long hash, long location) {
+        return index.get(hash, l -> l == location) != OffHeapHashIndex.NOT_FOUND;
+    }
+
+    private RemovalNotification<K, V> remove(long hash, long location, RemovalReason reason) {
+        DiskCacheSegment segment = segment(location);
+        int offset = offset(location);
+        index.remove(hash, location);
+        segment.markRemoved(offset);
+        K key = keySerializer.deserialize(segment.readKey(offset));
+        V value = valueSerializer.deserialize(segment.readValue(offset));
+        return new RemovalNotification<>(key, value, reason);
+    }
+
+    private void notifyRemovals(List<RemovalNotification<K, V>> notifications) {
+        // called without holding the lock, so that listeners can't block the cache
+        for (RemovalNotification<K, V> notification : notifications) {
+            removalListener.onRemoval(notification);
+        }
+    }
+
+    private void closeSegments() throws IOException {
+        List<DiskCacheSegment> toClose = new ArrayList<>(segmentQueue);
+        segmentQueue.clear();
+        segments.clear();
+        IOUtils.close(toClose);
+    }
+
+    private DiskCacheSegment segment(long location) {
+        DiskCacheSegment segment = segments.get((int) (location >>> 32));
+        assert segment != null : "no segment for location " + location;
+        return segment;
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    private static long location(DiskCacheSegment segment, int offset) {
+        // segment ids start at 1, so locations are always positive
+        return ((long) segment.id() << 32) | offset;
+    }
+
+    private static long hash(byte[] bytes) {
+        return MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128()).h1;
+    }
+
+    /**
+     * Iterates over the slots of the index, reading each key from disk when it is returned.
+     */
+    private class KeyIterator implements Iterator<K> {
+        private int slot = -1;
+        private long currentHash;
+        private long currentLocation = OffHeapHashIndex.NOT_FOUND;
+
+        @Override
+        public boolean hasNext() {
+            try (ReleasableLock ignore = readLock.acquire()) {
+                return findNext(slot + 1) != -1;
+            }
+        }
+
+        @Override
+        public K next() {
+            final byte[] keyBytes;
+            try (ReleasableLock ignore = readLock.acquire()) {
+                int next = findNext(slot + 1);
+                if (next == -1) {
+                    throw new NoSuchElementException();
+                }
+                slot = next;
+                currentHash = index.hashAt(slot);
+                currentLocation = index.locationAt(slot);
+                keyBytes = segment(currentLocation).readKey(offset(currentLocation));
+            }
+            return keySerializer.deserialize(keyBytes);
+        }
+
+        @Override
+        public void remove() {
+            if (currentLocation == OffHeapHashIndex.NOT_FOUND) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            final List<RemovalNotification<K, V>> removed = new ArrayList<>(1);
+            try (ReleasableLock ignore = writeLock.acquire()) {
+                if (isLive(currentHash, currentLocation)) {
+                    removed.add(SegmentedDiskCache.this.remove(currentHash, currentLocation, RemovalReason.EXPLICIT));
+                }
+            } finally {
+                currentLocation = OffHeapHashIndex.NOT_FOUND;
+                notifyRemovals(removed);
+            }
+        }
+
+        private int findNext(int from) {
+            for (int slot = from; slot < index.capacity(); slot++) {
+                if (index.locationAt(slot) != OffHeapHashIndex.NOT_FOUND) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Factory to create a segmented disk cache.
+     */
+    public static class SegmentedDiskCacheFactory implements ICache.Factory {
+
+        /**
+         * Segmented disk cache name.
+         */
+        public static final String SEGMENTED_DISK_CACHE_NAME = "segmented_disk";
+
+        /**
+         * Default constructor.
+         */
+        public SegmentedDiskCacheFactory() {}
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializers output byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Settings settings = config.getSettings();
+            Serializer<K, byte[]> keySerializer;
+            try {
+                keySerializer = (Serializer<K, byte[]>) config.getKeySerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("SegmentedDiskCache requires a key serializer of type Serializer<K, byte[]>");
+            }
+            Serializer<V, byte[]> valueSerializer;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("SegmentedDiskCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+            return new Builder<K, V>().setStoragePath(getSetting(DISK_STORAGE_PATH_SETTING, cacheType).get(settings))
+                .setSegmentSizeInBytes(Math.toIntExact(getSetting(DISK_SEGMENT_SIZE_SETTING, cacheType).get(settings).getBytes()))
+                .setCompactionThreshold(getSetting(DISK_COMPACTION_THRESHOLD_SETTING, cacheType).get(settings))
+                .setKeySerializer(keySerializer)
+                .setValueSerializer(valueSerializer)
+                .setRemovalListener(config.getRemovalListener())
+                .setMaximumWeightInBytes(getSetting(DISK_MAX_SIZE_SETTING, cacheType).get(settings).getBytes())
+                .setSettings(settings)
+                .build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return SEGMENTED_DISK_CACHE_NAME;
+        }
+    }
+
+    /**
+     * Builder object to build a segmented disk cache.
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+
+        private String storagePath;
+        private int segmentSizeInBytes = 64 * 1024 * 1024;
+        private double compactionThreshold = 0.5;
+        private Serializer<K, byte[]> keySerializer;
+        private Serializer<V, byte[]> valueSerializer;
+        private int maxEntries = OffHeapHashIndex.MAX_SIZE;
+
+        /**
+         * Default constructor. Added to fix javadocs.
+         */
+        public Builder() {}
+
+        /**
+         * Desired storage path for disk cache.
+         * @param storagePath path for disk cache
+         * @return builder
+         */
+        public Builder<K, V> setStoragePath(String storagePath) {
+            this.storagePath = storagePath;
+            return this;
+        }
+
+        /**
+         * Sets the size of each segment file.
+         * @param segmentSizeInBytes segment size
+         * @return builder
+         */
+        public Builder<K, V> setSegmentSizeInBytes(int segmentSizeInBytes) {
+            this.segmentSizeInBytes = segmentSizeInBytes;
+            return this;
+        }
+
+        /**
+         * Sets the ratio of live bytes below which a segment is compacted on refresh.
+         * @param compactionThreshold live ratio threshold
+         * @return builder
+         */
+        public Builder<K, V> setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the key serializer for this cache.
+         * @param keySerializer the key serializer
+         * @return builder
+         */
+        public Builder<K, V> setKeySerializer(Serializer<K, byte[]> keySerializer) {
+            this.keySerializer = keySerializer;
+            return this;
+        }
+
+        /**
+         * Sets the value serializer for this cache.
+         * @param valueSerializer the value serializer
+         * @return builder
+         */
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        // Visible for testing
+        Builder<K, V> setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        @Override
+        public SegmentedDiskCache<K, V> build() {
+            return new SegmentedDiskCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store.disk;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.List;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings related to SegmentedDiskCache.
+ */
+public class SegmentedDiskCacheSettings {
+
+    /**
+     * Directory in which the segment files of the cache are created, which must be under one of the data paths of the
+     * node. Its content is deleted when the cache is created.
+     *
+     * Pattern: {cache_type}.segmented_disk.storage.path
+     */
+    public static final Setting.AffixSetting<String> DISK_STORAGE_PATH_SETTING = Setting.suffixKeySetting(
+        SegmentedDiskCache.SegmentedDiskCacheFactory.SEGMENTED_DISK_CACHE_NAME + ".storage.path",
+        (key) -> Setting.simpleString(key, "", NodeScope)
+    );
+
+    /**
+     * Maximum size of the segment files of the cache. The oldest segment is evicted when a new one would exceed it.
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> DISK_MAX_SIZE_SETTING = Setting.suffixKeySetting(
+        SegmentedDiskCache.SegmentedDiskCacheFactory.SEGMENTED_DISK_CACHE_NAME + ".max_size",
+        (key) -> Setting.byteSizeSetting(key, new ByteSizeValue(1, ByteSizeUnit.GB), NodeScope)
+    );
+
+    /**
+     * Size of each segment file, which is the unit of eviction. Entries larger than a segment are not cached.
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> DISK_SEGMENT_SIZE_SETTING = Setting.suffixKeySetting(
+        SegmentedDiskCache.SegmentedDiskCacheFactory.SEGMENTED_DISK_CACHE_NAME + ".segment_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            new ByteSizeValue(64, ByteSizeUnit.MB),
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            new ByteSizeValue(1, ByteSizeUnit.GB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Segments whose ratio of live bytes falls below this threshold are compacted when the cache is refreshed, which
+     * happens after stale keys have been cleaned up.
+     */
+    public static final Setting.AffixSetting<Double> DISK_COMPACTION_THRESHOLD_SETTING = Setting.suffixKeySetting(
+        SegmentedDiskCache.SegmentedDiskCacheFactory.SEGMENTED_DISK_CACHE_NAME + ".compaction.live_ratio_threshold",
+        (key) -> Setting.doubleSetting(key, 0.5, 0.0, 1.0, NodeScope)
+    );
+
+    /**
+     * All the settings of the cache.
+     */
+    public static final List<Setting.AffixSetting<?>> SETTINGS = List.of(
+        DISK_STORAGE_PATH_SETTING,
+        DISK_MAX_SIZE_SETTING,
+        DISK_SEGMENT_SIZE_SETTING,
+        DISK_COMPACTION_THRESHOLD_SETTING
+    );
+
+    /**
+     * Returns the concrete setting of the given affix setting for a cache type.
+     * @param setting affix setting
+     * @param cacheType cache type
+     * @param <T> type of the setting
+     * @return concrete setting
+     */
+    public static <T> Setting<T> getSetting(Setting.AffixSetting<T> setting, CacheType cacheType) {
+        return setting.getConcreteSettingForNamespace(cacheType.getSettingPrefix());
+    }
+
+    /**
+     * Default constructor
+     */
+    SegmentedDiskCacheSettings() {}
+}
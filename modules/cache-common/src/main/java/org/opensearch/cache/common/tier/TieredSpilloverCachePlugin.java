@@ -8,6 +8,8 @@
 
 package org.opensearch.cache.common.tier;
 
+import org.opensearch.cache.common.store.disk.SegmentedDiskCache;
+import org.opensearch.cache.common.store.disk.SegmentedDiskCacheSettings;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.settings.Setting;
@@ -37,7 +39,9 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
     public Map<String, ICache.Factory> getCacheFactoryMap() {
         return Map.of(
             TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME,
-            new TieredSpilloverCache.TieredSpilloverCacheFactory()
+            new TieredSpilloverCache.TieredSpilloverCacheFactory(),
+            SegmentedDiskCache.SegmentedDiskCacheFactory.SEGMENTED_DISK_CACHE_NAME,
+            new SegmentedDiskCache.SegmentedDiskCacheFactory()
         );
     }
 
@@ -56,6 +60,9 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
                     cacheType.getSettingPrefix()
                 )
             );
+            for (Setting.AffixSetting<?> setting : SegmentedDiskCacheSettings.SETTINGS) {
+                settingList.add(SegmentedDiskCacheSettings.getSetting(setting, cacheType));
+            }
         }
         return settingList;
     }
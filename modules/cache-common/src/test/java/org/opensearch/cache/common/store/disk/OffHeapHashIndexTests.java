@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store.disk;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+
+public class OffHeapHashIndexTests extends OpenSearchTestCase {
+
+    public void testPutGetAndRemove() {
+        try (OffHeapHashIndex index = new OffHeapHashIndex()) {
+            int numEntries = randomIntBetween(1, 10_000);
+            for (int i = 1; i <= numEntries; i++) {
+                long location = i;
+                assertEquals(OffHeapHashIndex.NOT_FOUND, index.put(i, location, l -> l == location));
+            }
+            assertEquals(numEntries, index.size());
+            for (int i = 1; i <= numEntries; i++) {
+                long location = i;
+                assertEquals(location, index.get(i, l -> l == location));
+            }
+            assertTrue(index.remove(1, 1));
+            assertFalse(index.remove(1, 1));
+            assertEquals(OffHeapHashIndex.NOT_FOUND, index.get(1, l -> true));
+            assertEquals(numEntries - 1, index.size());
+        }
+    }
+
+    public void testReplacedAndClosedBuffersAreFreed() {
+        BufferPoolMXBean directPool = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+            .stream()
+            .filter(pool -> "direct".equals(pool.getName()))
+            .findFirst()
+            .orElseThrow();
+        long before = directPool.getMemoryUsed();
+        OffHeapHashIndex index = new OffHeapHashIndex();
+        // grow the index through several resizes, only the current buffer should remain allocated
+        for (int i = 1; i <= 1 << 18; i++) {
+            index.put(i, i, l -> false);
+        }
+        assertEquals(index.offHeapBytesUsed(), directPool.getMemoryUsed() - before);
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(index.offHeapBytesUsed(), directPool.getMemoryUsed() - before);
+
+        index.close();
+        assertEquals(0, index.capacity());
+        assertEquals(0, index.offHeapBytesUsed());
+        assertEquals(before, directPool.getMemoryUsed());
+    }
+}
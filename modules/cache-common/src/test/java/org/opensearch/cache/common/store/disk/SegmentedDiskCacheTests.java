@@ -0,0 +1,360 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store.disk;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class SegmentedDiskCacheTests extends OpenSearchTestCase {
+
+    public void testBasicGetAndPut() throws IOException {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (ICache<String, String> cache = buildCache(createTempDir(), 1 << 20, 1 << 16, removalListener)) {
+            int numKeys = randomIntBetween(10, 1000);
+            Map<String, String> keyValueMap = new HashMap<>();
+            for (int i = 0; i < numKeys; i++) {
+                keyValueMap.put("key-" + i, randomAlphaOfLengthBetween(1, 100));
+            }
+            for (Map.Entry<String, String> entry : keyValueMap.entrySet()) {
+                cache.put(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, String> entry : keyValueMap.entrySet()) {
+                assertEquals(entry.getValue(), cache.get(entry.getKey()));
+            }
+            assertEquals(numKeys, cache.count());
+            for (int i = 0; i < 10; i++) {
+                assertNull(cache.get("missing-" + i));
+            }
+
+            // replacing a value doesn't change the count
+            cache.put("key-0", "new-value");
+            assertEquals("new-value", cache.get("key-0"));
+            assertEquals(numKeys, cache.count());
+            assertTrue(removalListener.notifications.isEmpty());
+        }
+    }
+
+    public void testInvalidate() throws IOException {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (ICache<String, String> cache = buildCache(createTempDir(), 1 << 20, 1 << 16, removalListener)) {
+            cache.put("key-1", "value-1");
+            cache.put("key-2", "value-2");
+            cache.invalidate("key-1");
+            cache.invalidate("missing");
+            assertNull(cache.get("key-1"));
+            assertEquals("value-2", cache.get("key-2"));
+            assertEquals(1, cache.count());
+            assertEquals(1, removalListener.notifications.size());
+            RemovalNotification<String, String> notification = removalListener.notifications.get(0);
+            assertEquals("key-1", notification.getKey());
+            assertEquals("value-1", notification.getValue());
+            assertEquals(RemovalReason.EXPLICIT, notification.getRemovalReason());
+
+            cache.invalidateAll();
+            assertEquals(0, cache.count());
+            assertNull(cache.get("key-2"));
+            cache.put("key-3", "value-3");
+            assertEquals("value-3", cache.get("key-3"));
+        }
+    }
+
+    public void testEvictsOldestSegment() throws IOException {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        Path path = createTempDir();
+        int segmentSize = 1024;
+        int maxSegments = 4;
+        try (ICache<String, String> cache = buildCache(path, segmentSize * maxSegments, segmentSize, removalListener)) {
+            int numKeys = 1000;
+            for (int i = 0; i < numKeys; i++) {
+                cache.put(String.format(Locale.ROOT, "key-%04d", i), "value");
+            }
+            assertEquals(maxSegments, countSegmentFiles(path));
+            // evicted segments free their disk space right away
+            assertTrue(segmentFilesSize(path) <= (long) segmentSize * maxSegments);
+            assertEquals(numKeys, cache.count() + removalListener.notifications.size());
+            for (RemovalNotification<String, String> notification : removalListener.notifications) {
+                assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+                assertNull(cache.get(notification.getKey()));
+            }
+            // the oldest entries are evicted first
+            assertNull(cache.get("key-0000"));
+            assertEquals("value", cache.get(String.format(Locale.ROOT, "key-%04d", numKeys - 1)));
+        }
+    }
+
+    public void testEvictsOldestSegmentWhenIndexIsFull() throws IOException {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        int maxEntries = 16;
+        try (
+            ICache<String, String> cache = new SegmentedDiskCache.Builder<String, String>().setStoragePath(createTempDir().toString())
+                .setSegmentSizeInBytes(1024)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setRemovalListener(removalListener)
+                .setMaximumWeightInBytes(1 << 20)
+                .setMaxEntries(maxEntries)
+                .build()
+        ) {
+            int numKeys = randomIntBetween(100, 500);
+            for (int i = 0; i < numKeys; i++) {
+                cache.put(String.format(Locale.ROOT, "key-%04d", i), "value");
+                assertTrue(cache.count() <= maxEntries);
+            }
+            assertEquals(numKeys, cache.count() + removalListener.notifications.size());
+            for (RemovalNotification<String, String> notification : removalListener.notifications) {
+                assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+            }
+            assertNull(cache.get("key-0000"));
+            assertEquals("value", cache.get(String.format(Locale.ROOT, "key-%04d", numKeys - 1)));
+        }
+    }
+
+    public void testEntriesLargerThanSegmentAreNotCached() throws IOException {
+        try (ICache<String, String> cache = buildCache(createTempDir(), 4096, 1024, new MockRemovalListener<>())) {
+            cache.put("key", randomAlphaOfLength(2048));
+            assertNull(cache.get("key"));
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testKeyIteratorRemoveAndCompaction() throws IOException {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        Path path = createTempDir();
+        int segmentSize = 1024;
+        try (ICache<String, String> cache = buildCache(path, segmentSize * 100, segmentSize, removalListener)) {
+            int numKeys = 500;
+            for (int i = 0; i < numKeys; i++) {
+                cache.put("key-" + i, "value-" + i);
+            }
+            long segmentsBefore = countSegmentFiles(path);
+            int removed = 0;
+            int seen = 0;
+            for (Iterator<String> iterator = cache.keys().iterator(); iterator.hasNext();) {
+                String key = iterator.next();
+                seen++;
+                if (Integer.parseInt(key.substring("key-".length())) % 4 != 0) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            assertEquals(numKeys, seen);
+            assertEquals(numKeys - removed, cache.count());
+            assertEquals(removed, removalListener.notifications.size());
+
+            cache.refresh();
+            assertTrue(countSegmentFiles(path) < segmentsBefore);
+            assertEquals(numKeys - removed, cache.count());
+            for (int i = 0; i < numKeys; i++) {
+                if (i % 4 == 0) {
+                    assertEquals("value-" + i, cache.get("key-" + i));
+                } else {
+                    assertNull(cache.get("key-" + i));
+                }
+            }
+            // compaction doesn't notify the listener
+            assertEquals(removed, removalListener.notifications.size());
+        }
+    }
+
+    public void testBytesReferenceValues() throws IOException {
+        try (
+            ICache<String, BytesReference> cache = new SegmentedDiskCache.Builder<String, BytesReference>().setStoragePath(
+                createTempDir().toString()
+            )
+                .setSegmentSizeInBytes(1 << 16)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new BytesReferenceSerializer())
+                .setRemovalListener(new MockRemovalListener<>())
+                .setMaximumWeightInBytes(1 << 20)
+                .build()
+        ) {
+            BytesReference value = CompositeBytesReference.of(
+                new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 100))),
+                new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 100)))
+            );
+            cache.put("key", value);
+            assertEquals(value, cache.get("key"));
+        }
+    }
+
+    public void testComputeIfAbsentConcurrently() throws Exception {
+        try (ICache<String, String> cache = buildCache(createTempDir(), 1 << 20, 1 << 16, new MockRemovalListener<>())) {
+            int numThreads = randomIntBetween(2, 8);
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<String> results = new CopyOnWriteArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        results.add(cache.computeIfAbsent("key", new LoadAwareCacheLoader<>() {
+                            private boolean loaded;
+
+                            @Override
+                            public boolean isLoaded() {
+                                return loaded;
+                            }
+
+                            @Override
+                            public String load(String key) {
+                                loaded = true;
+                                loads.incrementAndGet();
+                                return "value";
+                            }
+                        }));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(numThreads, results.size());
+            assertTrue(results.stream().allMatch("value"::equals));
+            assertEquals(1, loads.get());
+        }
+    }
+
+    public void testCreateUsingFactory() throws IOException {
+        Path path = createTempDir();
+        Settings settings = Settings.builder()
+            .put(
+                SegmentedDiskCacheSettings.getSetting(SegmentedDiskCacheSettings.DISK_STORAGE_PATH_SETTING, CacheType.INDICES_REQUEST_CACHE)
+                    .getKey(),
+                path.toString()
+            )
+            .put(
+                SegmentedDiskCacheSettings.getSetting(SegmentedDiskCacheSettings.DISK_SEGMENT_SIZE_SETTING, CacheType.INDICES_REQUEST_CACHE)
+                    .getKey(),
+                "1mb"
+            )
+            .put(
+                SegmentedDiskCacheSettings.getSetting(SegmentedDiskCacheSettings.DISK_MAX_SIZE_SETTING, CacheType.INDICES_REQUEST_CACHE)
+                    .getKey(),
+                "4mb"
+            )
+            .build();
+        ICache<String, String> cache = new SegmentedDiskCache.SegmentedDiskCacheFactory().create(
+            new CacheConfig.Builder<String, String>().setSettings(settings)
+                .setKeyType(String.class)
+                .setValueType(String.class)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setRemovalListener(new MockRemovalListener<>())
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of()
+        );
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key"));
+        assertEquals(1, countSegmentFiles(path));
+        cache.close();
+        assertFalse(Files.exists(path));
+    }
+
+    public void testRejectsTooSmallCache() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> buildCache(createTempDir(), 1024, 1024, new MockRemovalListener<>())
+        );
+        assertEquals("Disk cache size [1024] should be at least twice the segment size [1024]", e.getMessage());
+    }
+
+    private static ICache<String, String> buildCache(
+        Path path,
+        long maxSizeInBytes,
+        int segmentSizeInBytes,
+        RemovalListener<String, String> removalListener
+    ) {
+        return new SegmentedDiskCache.Builder<String, String>().setStoragePath(path.toString())
+            .setSegmentSizeInBytes(segmentSizeInBytes)
+            .setKeySerializer(new StringSerializer())
+            .setValueSerializer(new StringSerializer())
+            .setRemovalListener(removalListener)
+            .setMaximumWeightInBytes(maxSizeInBytes)
+            .build();
+    }
+
+    private static long countSegmentFiles(Path path) throws IOException {
+        try (Stream<Path> files = Files.list(path)) {
+            return files.count();
+        }
+    }
+
+    private static long segmentFilesSize(Path path) throws IOException {
+        long size = 0;
+        try (Stream<Path> files = Files.list(path)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+
+    static class MockRemovalListener<K, V> implements RemovalListener<K, V> {
+        final List<RemovalNotification<K, V>> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRemoval(RemovalNotification<K, V> notification) {
+            notifications.add(notification);
+        }
+    }
+
+    static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            if (bytes == null) {
+                return null;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
@@ -90,13 +90,11 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
-        if (matches == null) {
+        // captures are only written to the document once the whole text matched and all of them were converted to their types
+        if (grok.captures(fieldValue, ingestDocument::setFieldValue) == false) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
 
-        matches.forEach(ingestDocument::setFieldValue);
-
         if (traceMatch) {
             if (matchPatterns.size() > 1) {
                 @SuppressWarnings("unchecked")
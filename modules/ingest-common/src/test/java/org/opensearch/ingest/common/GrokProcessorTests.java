@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.RandomDocumentPicks;
@@ -65,6 +66,25 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.getFieldValue("one", String.class), equalTo("1"));
     }
 
+    public void testFailedConversionLeavesDocumentUnchanged() {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "hello 1.5");
+        IngestDocument original = new IngestDocument(doc);
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            Grok.BUILTIN_PATTERNS,
+            Collections.singletonList("%{WORD:first} %{NUMBER:number:int}"),
+            fieldName,
+            false,
+            false,
+            MatcherWatchdog.noop()
+        );
+        expectThrows(NumberFormatException.class, () -> processor.execute(doc));
+        assertIngestDocument(original, doc);
+    }
+
     public void testIgnoreCase() throws Exception {
         String fieldName = RandomDocumentPicks.randomFieldName(random());
         IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
@@ -40,6 +40,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.io.IOUtils;
@@ -155,6 +156,41 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
         Property.NodeScope
     );
 
+    public static final Setting<Boolean> SETTING_HTTP_BULK_STREAM_ENABLED = Setting.boolSetting(
+        "http.bulk_stream.enabled",
+        true,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> SETTING_HTTP_BULK_STREAM_BATCH_SIZE = Setting.byteSizeSetting(
+        "http.bulk_stream.batch_size",
+        new ByteSizeValue(5, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(Integer.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.NodeScope
+    );
+
+    public static final Setting<Integer> SETTING_HTTP_BULK_STREAM_BATCH_OPERATIONS = Setting.intSetting(
+        "http.bulk_stream.batch_operations",
+        1000,
+        1,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> SETTING_HTTP_BULK_STREAM_FLUSH_INTERVAL = Setting.timeSetting(
+        "http.bulk_stream.flush_interval",
+        TimeValue.timeValueMillis(200),
+        TimeValue.timeValueMillis(1),
+        Property.NodeScope
+    );
+
+    public static final Setting<Integer> SETTING_HTTP_BULK_STREAM_MAX_IN_FLIGHT_BATCHES = Setting.intSetting(
+        "http.bulk_stream.max_in_flight_batches",
+        2,
+        1,
+        Property.NodeScope
+    );
+
     private final ByteSizeValue maxInitialLineLength;
     private final ByteSizeValue maxHeaderSize;
     private final ByteSizeValue maxChunkSize;
@@ -167,6 +203,12 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
     private final int maxCompositeBufferComponents;
 
+    private final boolean bulkStreamEnabled;
+    private final int bulkStreamBatchSize;
+    private final int bulkStreamBatchOperations;
+    private final TimeValue bulkStreamFlushInterval;
+    private final int bulkStreamMaxInFlightBatches;
+
     private volatile ServerBootstrap serverBootstrap;
     private volatile SharedGroupFactory.SharedGroup sharedGroup;
 
@@ -206,6 +248,12 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
         this.readTimeoutMillis = Math.toIntExact(SETTING_HTTP_READ_TIMEOUT.get(settings).getMillis());
 
+        this.bulkStreamEnabled = SETTING_HTTP_BULK_STREAM_ENABLED.get(settings);
+        this.bulkStreamBatchSize = SETTING_HTTP_BULK_STREAM_BATCH_SIZE.get(settings).bytesAsInt();
+        this.bulkStreamBatchOperations = SETTING_HTTP_BULK_STREAM_BATCH_OPERATIONS.get(settings);
+        this.bulkStreamFlushInterval = SETTING_HTTP_BULK_STREAM_FLUSH_INTERVAL.get(settings);
+        this.bulkStreamMaxInFlightBatches = SETTING_HTTP_BULK_STREAM_MAX_IN_FLIGHT_BATCHES.get(settings);
+
         ByteSizeValue receivePredictor = SETTING_HTTP_NETTY_RECEIVE_PREDICTOR_SIZE.get(settings);
         recvByteBufAllocator = new FixedRecvByteBufAllocator(receivePredictor.bytesAsInt());
 
@@ -370,6 +418,20 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
             ch.pipeline().addLast("header_verifier", transport.createHeaderVerifier());
             ch.pipeline().addLast("decoder_compress", transport.createDecompressor());
             ch.pipeline().addLast("encoder", new HttpResponseEncoder());
+            if (transport.bulkStreamEnabled) {
+                ch.pipeline()
+                    .addLast(
+                        "bulk_stream",
+                        new Netty4HttpStreamingBulkHandler(
+                            transport,
+                            transport.bulkStreamBatchSize,
+                            transport.bulkStreamBatchOperations,
+                            transport.bulkStreamFlushInterval,
+                            transport.bulkStreamMaxInFlightBatches,
+                            handlingSettings.getMaxContentLength()
+                        )
+                    );
+            }
             final HttpObjectAggregator aggregator = new HttpObjectAggregator(handlingSettings.getMaxContentLength());
             aggregator.setMaxCumulationBufferComponents(transport.maxCompositeBufferComponents);
             ch.pipeline().addLast("aggregator", aggregator);
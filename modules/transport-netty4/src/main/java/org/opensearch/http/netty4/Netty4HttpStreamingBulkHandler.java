@@ -0,0 +1,627 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpResponse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Serves streaming bulk requests, sent to {@code _bulk/stream} (optionally prefixed by an index), without aggregating their
+ * body. The NDJSON body is split into complete bulk items as its chunks arrive, and the items are grouped into batches that
+ * are cut when they reach {@code http.bulk_stream.batch_size} bytes or {@code http.bulk_stream.batch_operations} items, or
+ * when {@code http.bulk_stream.flush_interval} elapses. Each batch is dispatched through the REST layer as a regular
+ * {@code _bulk} request with the headers and parameters of the stream, so that authentication, the bulk action and its
+ * indexing pressure checks all apply, and the items of its response are streamed back as NDJSON lines, in the order of the
+ * batches, in a chunked response.
+ * <p>
+ * At most {@code http.bulk_stream.max_in_flight_batches} batches are executed at a time: reading from the connection is
+ * suspended until one of them completes, and while the client does not read the response. Batches that are rejected because
+ * of indexing pressure are retried with an exponential backoff, then reported as a failure line. Requests that are
+ * pipelined after a stream are held until its response is complete.
+ * <p>
+ * The handler sits between the decoder and the aggregator of the pipeline, and lets any other request through.
+ *
+ * @opensearch.internal
+ */
+class Netty4HttpStreamingBulkHandler extends ChannelDuplexHandler {
+
+    private static final Logger logger = LogManager.getLogger(Netty4HttpStreamingBulkHandler.class);
+
+    static final String STREAM_PATH_SUFFIX = "/_bulk/stream";
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    private final Netty4HttpServerTransport transport;
+    private final int batchSizeInBytes;
+    private final int batchOperations;
+    private final TimeValue flushInterval;
+    private final int maxInFlightBatches;
+    private final long maxItemSizeInBytes;
+
+    // messages received while a streamed response can't be interleaved with the response to them
+    private final ArrayDeque<Object> deferred = new ArrayDeque<>();
+    // the number of requests passed down the pipeline whose response hasn't been written yet
+    private int pendingResponses;
+    private BulkStream stream;
+
+    Netty4HttpStreamingBulkHandler(
+        Netty4HttpServerTransport transport,
+        int batchSizeInBytes,
+        int batchOperations,
+        TimeValue flushInterval,
+        int maxInFlightBatches,
+        long maxItemSizeInBytes
+    ) {
+        this.transport = transport;
+        this.batchSizeInBytes = batchSizeInBytes;
+        this.batchOperations = batchOperations;
+        this.flushInterval = flushInterval;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxItemSizeInBytes = maxItemSizeInBytes;
+    }
+
+    static boolean isStreamingBulkRequest(HttpRequest request) {
+        if (request.method() != HttpMethod.POST && request.method() != HttpMethod.PUT) {
+            return false;
+        }
+        if (HttpVersion.HTTP_1_1.equals(request.protocolVersion()) == false) {
+            // chunked responses require HTTP/1.1
+            return false;
+        }
+        final String contentType = request.headers().get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType != null
+            && contentType.startsWith("application/json") == false
+            && contentType.startsWith(NDJSON_CONTENT_TYPE) == false) {
+            // only newline delimited JSON can be split as it arrives
+            return false;
+        }
+        return new QueryStringDecoder(request.uri()).path().endsWith(STREAM_PATH_SUFFIX);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (deferred.isEmpty() == false || isBlocked(msg)) {
+            deferred.add(msg);
+            updateAutoRead(ctx);
+        } else {
+            handle(ctx, msg);
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        final boolean completesResponse = msg instanceof LastHttpContent
+            && (msg instanceof io.netty.handler.codec.http.HttpResponse == false
+                || ((io.netty.handler.codec.http.HttpResponse) msg).status().codeClass() != HttpStatusClass.INFORMATIONAL);
+        super.write(ctx, msg, promise);
+        if (completesResponse && pendingResponses > 0) {
+            pendingResponses--;
+            if (pendingResponses == 0) {
+                drainDeferred(ctx);
+            }
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        updateAutoRead(ctx);
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releaseResources();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        releaseResources();
+    }
+
+    private void releaseResources() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+        for (Object msg = deferred.poll(); msg != null; msg = deferred.poll()) {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    private boolean isBlocked(Object msg) {
+        if (stream != null) {
+            // the next request must wait for the streamed response to complete
+            return stream.requestComplete;
+        }
+        // a streamed response can only start once the responses to the previous requests have been written
+        return pendingResponses > 0 && msg instanceof HttpRequest && isStreamingBulkRequest((HttpRequest) msg);
+    }
+
+    private void handle(ChannelHandlerContext ctx, Object msg) {
+        if (stream != null) {
+            if (msg instanceof HttpContent) {
+                stream.onContent((HttpContent) msg);
+            } else {
+                assert false : "unexpected message while streaming a bulk request: " + msg;
+                ReferenceCountUtil.release(msg);
+            }
+        } else if (msg instanceof HttpRequest && isStreamingBulkRequest((HttpRequest) msg)) {
+            stream = new BulkStream(ctx, (HttpRequest) msg);
+            stream.start();
+            if (msg instanceof HttpContent) {
+                stream.onContent((HttpContent) msg);
+            }
+        } else {
+            if (msg instanceof HttpRequest) {
+                pendingResponses++;
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private void drainDeferred(ChannelHandlerContext ctx) {
+        while (deferred.isEmpty() == false && isBlocked(deferred.peek()) == false) {
+            handle(ctx, deferred.poll());
+        }
+        updateAutoRead(ctx);
+    }
+
+    private void updateAutoRead(ChannelHandlerContext ctx) {
+        final boolean autoRead = deferred.isEmpty()
+            && ctx.channel().isWritable()
+            && (stream == null || stream.inFlightBatches < maxInFlightBatches);
+        ctx.channel().config().setAutoRead(autoRead);
+    }
+
+    /**
+     * A batch of complete bulk items of a stream.
+     */
+    private static final class Batch {
+        private final long id;
+        private final byte[] body;
+        private final Iterator<TimeValue> backoff = BackoffPolicy.exponentialBackoff().iterator();
+
+        private Batch(long id, byte[] body) {
+            this.id = id;
+            this.body = body;
+        }
+    }
+
+    /**
+     * The state of the streaming bulk request that is being served. All its methods are called on the event loop of the
+     * channel.
+     */
+    private final class BulkStream {
+        private final ChannelHandlerContext ctx;
+        private final HttpRequest request;
+        private final String bulkUri;
+        private final HttpHeaders batchHeaders;
+        private final boolean keepAlive;
+        // the bytes of the request that have been received but not dispatched yet
+        private final ByteBuf pending = Unpooled.buffer();
+        // the responses of the batches that completed before a previous batch
+        private final Map<Long, ByteBuf> completedBatches = new HashMap<>();
+
+        // the index up to which lines have been split, and the end of the last complete item
+        private int scannedIndex;
+        private int batchEndIndex;
+        private int batchItems;
+        private boolean expectingSource;
+        private ScheduledFuture<?> flushTask;
+
+        private long nextBatchId;
+        private long nextBatchToWrite;
+        private int inFlightBatches;
+        private boolean requestComplete;
+        private boolean closed;
+
+        private BulkStream(ChannelHandlerContext ctx, HttpRequest request) {
+            this.ctx = ctx;
+            this.request = request;
+            final String uri = request.uri();
+            final int suffix = uri.indexOf(STREAM_PATH_SUFFIX);
+            this.bulkUri = uri.substring(0, suffix) + "/_bulk" + uri.substring(suffix + STREAM_PATH_SUFFIX.length());
+            this.batchHeaders = request.headers().copy();
+            // the connection and the encoding of the stream are handled here, batches are standalone requests
+            batchHeaders.remove(HttpHeaderNames.TRANSFER_ENCODING);
+            batchHeaders.remove(HttpHeaderNames.EXPECT);
+            batchHeaders.remove(HttpHeaderNames.CONNECTION);
+            batchHeaders.remove(HttpHeaderNames.CONTENT_ENCODING);
+            batchHeaders.set(HttpHeaderNames.CONTENT_TYPE, NDJSON_CONTENT_TYPE);
+            this.keepAlive = HttpUtil.isKeepAlive(request);
+        }
+
+        private void start() {
+            if (HttpUtil.is100ContinueExpected(request)) {
+                ctx.write(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+            }
+            final DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, NDJSON_CONTENT_TYPE);
+            response.headers().set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+            if (keepAlive == false) {
+                response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+            }
+            ctx.writeAndFlush(response);
+        }
+
+        private void onContent(HttpContent content) {
+            if (closed) {
+                // the stream failed and the connection is being closed
+                content.release();
+                return;
+            }
+            try {
+                pending.writeBytes(content.content());
+            } finally {
+                content.release();
+            }
+            splitItems();
+            if (content instanceof LastHttpContent) {
+                requestComplete = true;
+                // a trailing line without a line feed is sent as is, the bulk action reports whether it is valid
+                batchEndIndex = pending.writerIndex();
+                dispatch();
+                maybeComplete();
+            } else if (pending.writerIndex() - batchEndIndex > maxItemSizeInBytes) {
+                fail(RestStatus.REQUEST_ENTITY_TOO_LARGE, "bulk item is larger than [" + maxItemSizeInBytes + "] bytes");
+            }
+            updateAutoRead(ctx);
+        }
+
+        private void splitItems() {
+            int lineFeed;
+            while ((lineFeed = pending.indexOf(scannedIndex, pending.writerIndex(), (byte) '\n')) >= 0) {
+                final int lineStart = scannedIndex;
+                scannedIndex = lineFeed + 1;
+                if (expectingSource) {
+                    expectingSource = false;
+                    onItem();
+                } else if (isBlank(lineStart, lineFeed)) {
+                    if (batchEndIndex == lineStart) {
+                        batchEndIndex = scannedIndex;
+                    }
+                } else if (isDeleteAction(lineStart, lineFeed)) {
+                    onItem();
+                } else {
+                    expectingSource = true;
+                }
+            }
+        }
+
+        private boolean isBlank(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (Character.isWhitespace(pending.getByte(i)) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isDeleteAction(int from, int to) {
+            final byte[] bytes;
+            final int offset;
+            if (pending.hasArray()) {
+                bytes = pending.array();
+                offset = pending.arrayOffset() + from;
+            } else {
+                bytes = ByteBufUtil.getBytes(pending, from, to - from);
+                offset = 0;
+            }
+            try (
+                XContentParser parser = JsonXContent.jsonXContent.createParser(
+                    NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                    bytes,
+                    offset,
+                    to - from
+                )
+            ) {
+                return parser.nextToken() == XContentParser.Token.START_OBJECT
+                    && parser.nextToken() == XContentParser.Token.FIELD_NAME
+                    && "delete".equals(parser.currentName());
+            } catch (Exception e) {
+                // the bulk action reports malformed actions
+                return false;
+            }
+        }
+
+        private void onItem() {
+            batchEndIndex = scannedIndex;
+            batchItems++;
+            if (batchEndIndex - pending.readerIndex() >= batchSizeInBytes || batchItems >= batchOperations) {
+                dispatch();
+            } else if (flushTask == null) {
+                flushTask = ctx.executor().schedule(() -> {
+                    flushTask = null;
+                    dispatch();
+                    updateAutoRead(ctx);
+                }, flushInterval.millis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void dispatch() {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            final int length = batchEndIndex - pending.readerIndex();
+            if (closed || length == 0) {
+                return;
+            }
+            final byte[] body = new byte[length];
+            pending.readBytes(body);
+            final int dispatched = pending.readerIndex();
+            pending.discardReadBytes();
+            scannedIndex -= dispatched;
+            batchEndIndex -= dispatched;
+            batchItems = 0;
+            inFlightBatches++;
+            send(new Batch(nextBatchId++, body));
+        }
+
+        private void send(Batch batch) {
+            final HttpHeaders headers = batchHeaders.copy();
+            headers.set(HttpHeaderNames.CONTENT_LENGTH, batch.body.length);
+            final DefaultFullHttpRequest batchRequest = new DefaultFullHttpRequest(
+                HttpVersion.HTTP_1_1,
+                HttpMethod.POST,
+                bulkUri,
+                Unpooled.wrappedBuffer(batch.body),
+                headers,
+                EmptyHttpHeaders.INSTANCE
+            );
+            try {
+                transport.incomingRequest(new Netty4HttpRequest(batchRequest), new BatchChannel(this, batch));
+            } catch (Exception e) {
+                logger.debug("failed to dispatch bulk batch", e);
+                onBatchResponse(batch, RestStatus.INTERNAL_SERVER_ERROR.getStatus(), errorLine(RestStatus.INTERNAL_SERVER_ERROR, e));
+            }
+        }
+
+        private void onBatchResponse(Batch batch, int status, byte[] content) {
+            if (closed) {
+                return;
+            }
+            if (status == RestStatus.TOO_MANY_REQUESTS.getStatus() && batch.backoff.hasNext()) {
+                // the node is under indexing pressure, the batch is retried later while reading remains suspended
+                ctx.executor().schedule(() -> {
+                    if (closed == false) {
+                        send(batch);
+                    }
+                }, batch.backoff.next().millis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+            inFlightBatches--;
+            completedBatches.put(batch.id, responseLines(status, content));
+            // items are streamed back in the order of their batches
+            ByteBuf lines;
+            while ((lines = completedBatches.remove(nextBatchToWrite)) != null) {
+                nextBatchToWrite++;
+                if (lines.isReadable()) {
+                    ctx.writeAndFlush(new DefaultHttpContent(lines));
+                } else {
+                    lines.release();
+                }
+            }
+            maybeComplete();
+            drainDeferred(ctx);
+        }
+
+        private void maybeComplete() {
+            if (requestComplete && inFlightBatches == 0 && closed == false) {
+                assert completedBatches.isEmpty();
+                close();
+                stream = null;
+                if (keepAlive) {
+                    ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+                } else {
+                    ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT).addListener(ChannelFutureListener.CLOSE);
+                }
+            }
+        }
+
+        private void fail(RestStatus status, String reason) {
+            close();
+            ctx.write(new DefaultHttpContent(Unpooled.wrappedBuffer(errorLine(status, new IllegalArgumentException(reason)))));
+            ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT).addListener(ChannelFutureListener.CLOSE);
+        }
+
+        private void close() {
+            closed = true;
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            if (pending.refCnt() > 0) {
+                pending.release();
+            }
+            completedBatches.values().forEach(ByteBuf::release);
+            completedBatches.clear();
+        }
+    }
+
+    /**
+     * Converts the response to a batch into NDJSON lines: one per item when the batch was executed, or a single line
+     * holding the error otherwise.
+     */
+    private static ByteBuf responseLines(int status, byte[] content) {
+        final ByteBuf lines = Unpooled.buffer();
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                content
+            )
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                throw new IllegalStateException("unexpected bulk response");
+            }
+            if (status != RestStatus.OK.getStatus()) {
+                writeLine(lines, parser);
+                return lines;
+            }
+            for (XContentParser.Token token = parser.nextToken(); token == XContentParser.Token.FIELD_NAME; token = parser.nextToken()) {
+                final String field = parser.currentName();
+                token = parser.nextToken();
+                if ("items".equals(field) && token == XContentParser.Token.START_ARRAY) {
+                    while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                        writeLine(lines, parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (Exception e) {
+            lines.clear();
+            lines.writeBytes(
+                errorLine(RestStatus.fromCode(status), new IllegalStateException(new String(content, StandardCharsets.UTF_8), e))
+            );
+        }
+        return lines;
+    }
+
+    private static void writeLine(ByteBuf lines, XContentParser parser) throws IOException {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.copyCurrentStructure(parser);
+            lines.writeBytes(BytesReference.toBytes(BytesReference.bytes(builder)));
+        }
+        lines.writeByte('\n');
+    }
+
+    private static byte[] errorLine(RestStatus status, Exception e) {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            builder.startObject();
+            builder.startObject("error");
+            builder.field("type", e.getClass().getSimpleName());
+            builder.field("reason", e.getMessage());
+            builder.endObject();
+            builder.field("status", status == null ? RestStatus.INTERNAL_SERVER_ERROR.getStatus() : status.getStatus());
+            builder.endObject();
+            final byte[] json = BytesReference.toBytes(BytesReference.bytes(builder));
+            final byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        } catch (IOException ioe) {
+            throw new AssertionError(ioe);
+        }
+    }
+
+    /**
+     * The channel on which the response to a batch is sent: it hands the response over to the stream instead of writing it
+     * to the connection.
+     */
+    private static final class BatchChannel implements HttpChannel {
+        private final BulkStream stream;
+        private final Batch batch;
+        private final Netty4HttpChannel channel;
+
+        private BatchChannel(BulkStream stream, Batch batch) {
+            this.stream = stream;
+            this.batch = batch;
+            this.channel = stream.ctx.channel().attr(Netty4HttpServerTransport.HTTP_CHANNEL_KEY).get();
+        }
+
+        @Override
+        public void sendResponse(HttpResponse response, ActionListener<Void> listener) {
+            final Netty4HttpResponse nettyResponse = (Netty4HttpResponse) response;
+            final int status;
+            final byte[] content;
+            try {
+                status = nettyResponse.status().code();
+                content = ByteBufUtil.getBytes(nettyResponse.content());
+            } finally {
+                nettyResponse.release();
+            }
+            listener.onResponse(null);
+            stream.ctx.executor().execute(() -> stream.onBatchResponse(batch, status, content));
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return channel.getLocalAddress();
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return channel.getRemoteAddress();
+        }
+
+        @Override
+        public void addCloseListener(ActionListener<Void> listener) {
+            channel.addCloseListener(listener);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            channel.close();
+        }
+
+        @Override
+        public <T> Optional<T> get(String name, Class<T> clazz) {
+            return channel.get(name, clazz);
+        }
+    }
+}
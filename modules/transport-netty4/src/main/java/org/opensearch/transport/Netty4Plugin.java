@@ -76,6 +76,11 @@ public class Netty4Plugin extends Plugin implements NetworkPlugin {
             Netty4HttpServerTransport.SETTING_HTTP_NETTY_MAX_COMPOSITE_BUFFER_COMPONENTS,
             Netty4HttpServerTransport.SETTING_HTTP_WORKER_COUNT,
             Netty4HttpServerTransport.SETTING_HTTP_NETTY_RECEIVE_PREDICTOR_SIZE,
+            Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_ENABLED,
+            Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_BATCH_SIZE,
+            Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_BATCH_OPERATIONS,
+            Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_FLUSH_INTERVAL,
+            Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_MAX_IN_FLIGHT_BATCHES,
             Netty4Transport.WORKER_COUNT,
             Netty4Transport.NETTY_RECEIVE_PREDICTOR_SIZE,
             Netty4Transport.NETTY_RECEIVE_PREDICTOR_MIN,
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.network.NetworkService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpServerTransport;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.telemetry.tracing.noop.NoopTracer;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.SharedGroupFactory;
+import org.junit.After;
+import org.junit.Before;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class Netty4HttpStreamingBulkHandlerTests extends OpenSearchTestCase {
+
+    private static final Pattern ACTION = Pattern.compile("\\{\"(index|create|update|delete)\":\\{\"_id\":\"(\\w+)\"");
+
+    private NetworkService networkService;
+    private ThreadPool threadPool;
+    private MockBigArrays bigArrays;
+    private ClusterSettings clusterSettings;
+
+    @Before
+    public void setup() throws Exception {
+        networkService = new NetworkService(Collections.emptyList());
+        threadPool = new TestThreadPool("test");
+        bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+    }
+
+    @After
+    public void shutdown() throws Exception {
+        terminate(threadPool);
+    }
+
+    public void testStreamsTheItemsOfEachBatch() throws Exception {
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final int numItems = randomIntBetween(10, 50);
+        final StringBuilder body = new StringBuilder();
+        final List<String> expectedLines = new ArrayList<>();
+        for (int i = 0; i < numItems; i++) {
+            if (randomBoolean()) {
+                body.append("{\"delete\":{\"_id\":\"").append(i).append("\"}}\n");
+                expectedLines.add("{\"delete\":{\"_id\":\"" + i + "\",\"status\":200}}");
+            } else {
+                body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n");
+                body.append("{\"field\":\"").append(randomAlphaOfLength(randomIntBetween(1, 4096))).append("\"}\n");
+                expectedLines.add("{\"index\":{\"_id\":\"" + i + "\",\"status\":201}}");
+            }
+        }
+
+        final Settings settings = Settings.builder()
+            .put(Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_BATCH_OPERATIONS.getKey(), 3)
+            .put(Netty4HttpServerTransport.SETTING_HTTP_BULK_STREAM_MAX_IN_FLIGHT_BATCHES.getKey(), randomIntBetween(1, 4))
+            .build();
+        try (Netty4HttpServerTransport transport = newTransport(settings, new BulkDispatcher(batchSizes))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+            try (Netty4HttpClient client = new Netty4HttpClient()) {
+                final Collection<FullHttpResponse> responses = client.post(
+                    remoteAddress.address(),
+                    Collections.singletonList(Tuple.tuple("/index/_bulk/stream?refresh=true", body))
+                );
+                final FullHttpResponse response = responses.iterator().next();
+                try {
+                    assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+                    assertThat(response.headers().get("content-type"), equalTo("application/x-ndjson"));
+                    final String content = response.content().toString(StandardCharsets.UTF_8);
+                    assertThat(Arrays.asList(content.split("\n")), equalTo(expectedLines));
+                } finally {
+                    response.release();
+                }
+            }
+        }
+        int total = 0;
+        for (int batchSize : batchSizes) {
+            assertTrue(batchSize <= 3);
+            total += batchSize;
+        }
+        assertEquals(numItems, total);
+    }
+
+    public void testRequestsPipelinedAfterStreamAreAnsweredInOrder() throws Exception {
+        final String body = "{\"index\":{\"_id\":\"1\"}}\n{\"field\":\"value\"}\n";
+        try (Netty4HttpServerTransport transport = newTransport(Settings.EMPTY, new BulkDispatcher(new CopyOnWriteArrayList<>()))) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+            try (Netty4HttpClient client = new Netty4HttpClient()) {
+                final Collection<FullHttpResponse> responses = client.post(
+                    remoteAddress.address(),
+                    Arrays.asList(Tuple.tuple("/_bulk/stream", body), Tuple.tuple("/other", "{}"), Tuple.tuple("/_bulk/stream", body))
+                );
+                final List<String> contents = new ArrayList<>();
+                for (FullHttpResponse response : responses) {
+                    try {
+                        contents.add(response.content().toString(StandardCharsets.UTF_8));
+                    } finally {
+                        response.release();
+                    }
+                }
+                assertEquals(3, contents.size());
+                assertThat(contents.get(0), equalTo("{\"index\":{\"_id\":\"1\",\"status\":201}}\n"));
+                assertThat(contents.get(1), equalTo("other"));
+                assertThat(contents.get(2), equalTo("{\"index\":{\"_id\":\"1\",\"status\":201}}\n"));
+            }
+        }
+    }
+
+    public void testReportsFailedBatches() throws Exception {
+        final String body = "{\"index\":{\"_id\":\"1\"}}\n{\"field\":\"value\"}\n";
+        final HttpServerTransport.Dispatcher dispatcher = new BulkDispatcher(new CopyOnWriteArrayList<>()) {
+            @Override
+            public void dispatchRequest(RestRequest request, RestChannel channel, ThreadContext threadContext) {
+                channel.sendResponse(
+                    new BytesRestResponse(RestStatus.BAD_REQUEST, "application/json", "{\"error\":\"boom\",\"status\":400}")
+                );
+            }
+        };
+        try (Netty4HttpServerTransport transport = newTransport(Settings.EMPTY, dispatcher)) {
+            transport.start();
+            final TransportAddress remoteAddress = randomFrom(transport.boundAddress().boundAddresses());
+            try (Netty4HttpClient client = new Netty4HttpClient()) {
+                final FullHttpResponse response = client.post(
+                    remoteAddress.address(),
+                    Collections.singletonList(Tuple.tuple("/_bulk/stream", body))
+                ).iterator().next();
+                try {
+                    assertThat(response.status(), equalTo(HttpResponseStatus.OK));
+                    assertThat(response.content().toString(StandardCharsets.UTF_8), containsString("\"error\":\"boom\""));
+                } finally {
+                    response.release();
+                }
+            }
+        }
+    }
+
+    private Netty4HttpServerTransport newTransport(Settings settings, HttpServerTransport.Dispatcher dispatcher) {
+        return new Netty4HttpServerTransport(
+            settings,
+            networkService,
+            bigArrays,
+            threadPool,
+            xContentRegistry(),
+            dispatcher,
+            clusterSettings,
+            new SharedGroupFactory(settings),
+            NoopTracer.INSTANCE
+        );
+    }
+
+    /**
+     * Acknowledges the items of the bulk requests it receives, and answers other requests with their path.
+     */
+    private static class BulkDispatcher implements HttpServerTransport.Dispatcher {
+        private final List<Integer> batchSizes;
+
+        BulkDispatcher(List<Integer> batchSizes) {
+            this.batchSizes = batchSizes;
+        }
+
+        @Override
+        public void dispatchRequest(RestRequest request, RestChannel channel, ThreadContext threadContext) {
+            if (request.path().endsWith("/_bulk") == false) {
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, request.path().substring(1)));
+                return;
+            }
+            final StringBuilder items = new StringBuilder();
+            int numItems = 0;
+            final Matcher matcher = ACTION.matcher(request.content().utf8ToString());
+            while (matcher.find()) {
+                if (numItems++ > 0) {
+                    items.append(',');
+                }
+                final int status = "delete".equals(matcher.group(1)) ? 200 : 201;
+                items.append("{\"").append(matcher.group(1)).append("\":{\"_id\":\"").append(matcher.group(2));
+                items.append("\",\"status\":").append(status).append("}}");
+            }
+            batchSizes.add(numItems);
+            channel.sendResponse(
+                new BytesRestResponse(RestStatus.OK, "application/json", "{\"took\":1,\"errors\":false,\"items\":[" + items + "]}")
+            );
+        }
+
+        @Override
+        public void dispatchBadRequest(RestChannel channel, ThreadContext threadContext, Throwable cause) {
+            throw new AssertionError(cause);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.MergePolicyProvider;
+import org.opensearch.index.search.stats.SearchStats;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 1, numClientNodes = 0, supportsDedicatedMasters = false)
+public class ConcurrentFetchIT extends OpenSearchIntegTestCase {
+
+    private static final int NUM_SEGMENTS = 5;
+    private static final int DOCS_PER_SEGMENT = 20;
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal) {
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal))
+            .put(SearchService.CONCURRENT_FETCH_ENABLED_SETTING.getKey(), true)
+            .put(SearchService.CONCURRENT_FETCH_MIN_DOCS_SETTING.getKey(), 10)
+            .build();
+    }
+
+    private void indexSegments(String index) {
+        createIndex(
+            index,
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+                .build()
+        );
+        ensureGreen(index);
+        for (int segment = 0; segment < NUM_SEGMENTS; segment++) {
+            for (int i = 0; i < DOCS_PER_SEGMENT; i++) {
+                // spread the ranks over the segments so that the hits of the different segments are interleaved
+                final int rank = i * NUM_SEGMENTS + segment;
+                client().prepareIndex(index)
+                    .setId(Integer.toString(rank))
+                    .setSource("rank", rank, "text", "the quick brown fox " + rank)
+                    .get();
+            }
+            refresh(index);
+        }
+    }
+
+    public void testHitsKeepTheirOrder() {
+        indexSegments("test");
+        final int size = NUM_SEGMENTS * DOCS_PER_SEGMENT;
+        final SearchResponse response = client().prepareSearch("test")
+            .setQuery(matchQuery("text", "fox"))
+            .addSort("rank", SortOrder.DESC)
+            .setSize(size)
+            .highlighter(new HighlightBuilder().field("text"))
+            .get();
+        assertHitCount(response, size);
+        final SearchHit[] hits = response.getHits().getHits();
+        assertEquals(size, hits.length);
+        for (int i = 0; i < size; i++) {
+            final int rank = size - 1 - i;
+            assertThat(hits[i].getId(), equalTo(Integer.toString(rank)));
+            assertThat(hits[i].getSourceAsMap().get("rank"), equalTo(rank));
+            assertThat(hits[i].getHighlightFields().get("text").fragments()[0].string(), equalTo("the quick brown <em>fox</em> " + rank));
+        }
+
+        final SearchStats.Stats stats = client().admin().indices().prepareStats("test").get().getTotal().getSearch().getTotal();
+        assertEquals(1, stats.getConcurrentFetchCount());
+        assertThat(stats.getConcurrentAvgFetchTaskCount(), greaterThan(1.0));
+    }
+
+    public void testSmallPagesAreFetchedOnTheSearchThread() {
+        indexSegments("test");
+        final SearchResponse response = client().prepareSearch("test").setQuery(matchQuery("text", "fox")).setSize(5).get();
+        assertEquals(5, response.getHits().getHits().length);
+
+        final SearchStats.Stats stats = client().admin().indices().prepareStats("test").get().getTotal().getSearch().getTotal();
+        assertEquals(1, stats.getFetchCount());
+        assertEquals(0, stats.getConcurrentFetchCount());
+    }
+}
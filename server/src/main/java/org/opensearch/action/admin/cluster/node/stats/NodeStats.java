@@ -68,6 +68,7 @@ import org.opensearch.search.pipeline.SearchPipelineStats;
 import org.opensearch.tasks.TaskCancellationStats;
 import org.opensearch.threadpool.ThreadPoolStats;
 import org.opensearch.transport.TransportStats;
+import org.opensearch.wlm.QueryGroupStats;
 
 import java.io.IOException;
 import java.util.Map;
@@ -159,6 +160,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
     @Nullable
     private AdmissionControlStats admissionControlStats;
 
+    @Nullable
+    private QueryGroupStats queryGroupStats;
+
     public NodeStats(StreamInput in) throws IOException {
         super(in);
         timestamp = in.readVLong();
@@ -248,6 +252,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         } else {
             admissionControlStats = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
+            queryGroupStats = in.readOptionalWriteable(QueryGroupStats::new);
+        } else {
+            queryGroupStats = null;
+        }
     }
 
     public NodeStats(
@@ -278,7 +287,8 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         @Nullable SearchPipelineStats searchPipelineStats,
         @Nullable SegmentReplicationRejectionStats segmentReplicationRejectionStats,
         @Nullable RepositoriesStats repositoriesStats,
-        @Nullable AdmissionControlStats admissionControlStats
+        @Nullable AdmissionControlStats admissionControlStats,
+        @Nullable QueryGroupStats queryGroupStats
     ) {
         super(node);
         this.timestamp = timestamp;
@@ -308,6 +318,7 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         this.segmentReplicationRejectionStats = segmentReplicationRejectionStats;
         this.repositoriesStats = repositoriesStats;
         this.admissionControlStats = admissionControlStats;
+        this.queryGroupStats = queryGroupStats;
     }
 
     public long getTimestamp() {
@@ -465,6 +476,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         return admissionControlStats;
     }
 
+    @Nullable
+    public QueryGroupStats getQueryGroupStats() {
+        return queryGroupStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -527,6 +543,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_12_0)) {
             out.writeOptionalWriteable(admissionControlStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_2_13_0)) {
+            out.writeOptionalWriteable(queryGroupStats);
+        }
     }
 
     @Override
@@ -629,6 +648,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (getAdmissionControlStats() != null) {
             getAdmissionControlStats().toXContent(builder, params);
         }
+        if (getQueryGroupStats() != null) {
+            getQueryGroupStats().toXContent(builder, params);
+        }
         return builder;
     }
 }
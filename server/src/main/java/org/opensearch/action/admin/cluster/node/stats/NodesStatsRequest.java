@@ -250,7 +250,8 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         RESOURCE_USAGE_STATS("resource_usage_stats"),
         SEGMENT_REPLICATION_BACKPRESSURE("segment_replication_backpressure"),
         REPOSITORIES("repositories"),
-        ADMISSION_CONTROL("admission_control");
+        ADMISSION_CONTROL("admission_control"),
+        QUERY_GROUPS("query_groups");
 
         private String metricName;
 
@@ -34,6 +34,7 @@ package org.opensearch.action.bulk;
 
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.CompositeIndicesRequest;
@@ -96,6 +97,7 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
     private String globalRouting;
     private String globalIndex;
     private Boolean globalRequireAlias;
+    private int batchSize = 1;
 
     private long sizeInBytes = 0;
 
@@ -107,6 +109,9 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         requests.addAll(in.readList(i -> DocWriteRequest.readDocumentRequest(null, i)));
         refreshPolicy = RefreshPolicy.readFrom(in);
         timeout = in.readTimeValue();
+        if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
+            batchSize = in.readVInt();
+        }
     }
 
     public BulkRequest(@Nullable String globalIndex) {
@@ -420,6 +425,31 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         return this;
     }
 
+    /**
+     * Set the number of documents the ingest pipelines process together, see
+     * {@link org.opensearch.ingest.Processor#batchExecute}. Defaults to {@code 1}, meaning documents are processed one by one.
+     * <p>
+     * The batch size is sent along with requests forwarded to a dedicated ingest node, unless that node is on a version
+     * before 2.13, in which case it processes the documents one by one.
+     *
+     * @param size the batch size, must be greater than zero
+     * @return Bulk request with batch size set
+     */
+    public BulkRequest batchSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("batch_size must be greater than 0");
+        }
+        this.batchSize = size;
+        return this;
+    }
+
+    /**
+     * Get the number of documents the ingest pipelines process together.
+     */
+    public int batchSize() {
+        return this.batchSize;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         ActionRequestValidationException validationException = null;
@@ -453,6 +483,9 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         out.writeCollection(requests, DocWriteRequest::writeDocumentRequest);
         refreshPolicy.writeTo(out);
         out.writeTimeValue(timeout);
+        if (out.getVersion().onOrAfter(Version.V_2_13_0)) {
+            out.writeVInt(batchSize);
+        }
     }
 
     @Override
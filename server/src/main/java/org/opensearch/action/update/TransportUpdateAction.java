@@ -293,7 +293,7 @@ public class TransportUpdateAction extends TransportInstanceSingleOperationActio
                             response.getSeqNo(),
                             response.getPrimaryTerm(),
                             response.getVersion(),
-                            result.updatedSourceAsMap(),
+                            result::updatedSourceAsMap,
                             result.updateSourceContentType(),
                             indexSourceBytes
                         )
@@ -321,7 +321,7 @@ public class TransportUpdateAction extends TransportInstanceSingleOperationActio
                             response.getSeqNo(),
                             response.getPrimaryTerm(),
                             response.getVersion(),
-                            result.updatedSourceAsMap(),
+                            result::updatedSourceAsMap,
                             result.updateSourceContentType(),
                             null
                         )
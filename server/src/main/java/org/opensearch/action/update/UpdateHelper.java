@@ -35,21 +35,24 @@ package org.opensearch.action.update;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.Requests;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
-import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.DocumentMissingException;
 import org.opensearch.index.engine.DocumentSourceMissingException;
@@ -66,6 +69,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Helper for translating an update request to an index, delete request or update response.
@@ -207,15 +211,31 @@ public class UpdateHelper {
     /**
      * Prepare the request for merging the existing document with a new one, can optionally detect a noop change. Returns a {@code Result}
      * containing a new {@code IndexRequest} to be executed on the primary and replicas.
+     * <p>
+     * The partial document is merged into the source of the existing document while it is streamed, so that the fields it does not
+     * change are copied as they are rather than parsed into a map and serialized again.
      */
     Result prepareUpdateIndexRequest(ShardId shardId, UpdateRequest request, GetResult getResult, boolean detectNoop) {
         final IndexRequest currentRequest = request.doc();
         final String routing = calculateRouting(getResult, currentRequest);
-        final Tuple<XContentType, Map<String, Object>> sourceAndContent = XContentHelper.convertToMap(getResult.internalSourceRef(), true);
-        final XContentType updateSourceContentType = sourceAndContent.v1();
-        final Map<String, Object> updatedSourceAsMap = sourceAndContent.v2();
-
-        final boolean noop = !XContentHelper.update(updatedSourceAsMap, currentRequest.sourceAsMap(), detectNoop);
+        final BytesReference source = getResult.sourceRef();
+        final MediaType updateSourceContentType = MediaTypeRegistry.xContentType(source);
+        final BytesReference updatedSource;
+        final boolean noop;
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source,
+                updateSourceContentType
+            );
+            XContentBuilder builder = MediaTypeRegistry.contentBuilder(updateSourceContentType)
+        ) {
+            noop = !XContentHelper.update(parser, builder, currentRequest.sourceAsMap(), detectNoop);
+            updatedSource = BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchParseException("Failed to merge the partial document into the source", e);
+        }
 
         // We can only actually turn the update into a noop if detectNoop is true to preserve backwards compatibility and to handle cases
         // where users repopulating multi-fields or adding synonyms, etc.
@@ -228,6 +248,7 @@ public class UpdateHelper {
                 getResult.getVersion(),
                 DocWriteResponse.Result.NOOP
             );
+            final Result result = new Result(update, DocWriteResponse.Result.NOOP, updatedSource, updateSourceContentType);
             update.setGetResult(
                 extractGetResult(
                     request,
@@ -235,23 +256,23 @@ public class UpdateHelper {
                     getResult.getSeqNo(),
                     getResult.getPrimaryTerm(),
                     getResult.getVersion(),
-                    updatedSourceAsMap,
+                    result::updatedSourceAsMap,
                     updateSourceContentType,
                     getResult.internalSourceRef()
                 )
             );
-            return new Result(update, DocWriteResponse.Result.NOOP, updatedSourceAsMap, updateSourceContentType);
+            return result;
         } else {
             final IndexRequest finalIndexRequest = Requests.indexRequest(request.index())
                 .id(request.id())
                 .routing(routing)
-                .source(updatedSourceAsMap, updateSourceContentType)
+                .source(updatedSource, updateSourceContentType)
                 .setIfSeqNo(getResult.getSeqNo())
                 .setIfPrimaryTerm(getResult.getPrimaryTerm())
                 .waitForActiveShards(request.waitForActiveShards())
                 .timeout(request.timeout())
                 .setRefreshPolicy(request.getRefreshPolicy());
-            return new Result(finalIndexRequest, DocWriteResponse.Result.UPDATED, updatedSourceAsMap, updateSourceContentType);
+            return new Result(finalIndexRequest, DocWriteResponse.Result.UPDATED, updatedSource, updateSourceContentType);
         }
     }
 
@@ -356,6 +377,23 @@ public class UpdateHelper {
         final Map<String, Object> source,
         MediaType sourceContentType,
         @Nullable final BytesReference sourceAsBytes
+    ) {
+        return extractGetResult(request, concreteIndex, seqNo, primaryTerm, version, () -> source, sourceContentType, sourceAsBytes);
+    }
+
+    /**
+     * Applies {@link UpdateRequest#fetchSource()} to the _source of the updated document to be returned in a update response. The source
+     * is only requested as a map if it needs to be filtered and its bytes are not available.
+     */
+    public static GetResult extractGetResult(
+        final UpdateRequest request,
+        String concreteIndex,
+        long seqNo,
+        long primaryTerm,
+        long version,
+        final Supplier<Map<String, Object>> source,
+        MediaType sourceContentType,
+        @Nullable final BytesReference sourceAsBytes
     ) {
         if (request.fetchSource() == null || request.fetchSource().fetchSource() == false) {
             return null;
@@ -364,15 +402,15 @@ public class UpdateHelper {
         BytesReference sourceFilteredAsBytes = sourceAsBytes;
         if (request.fetchSource().includes().length > 0 || request.fetchSource().excludes().length > 0) {
             SourceLookup sourceLookup = new SourceLookup();
-            sourceLookup.setSource(source);
-            Object value = sourceLookup.filter(request.fetchSource());
+            if (sourceAsBytes != null) {
+                // the source is filtered while it is copied from its bytes
+                sourceLookup.setSource(sourceAsBytes);
+            } else {
+                sourceLookup.setSource(source.get());
+                sourceLookup.setSourceContentType(sourceContentType);
+            }
             try {
-                final int initialCapacity = Math.min(1024, sourceAsBytes.length());
-                BytesStreamOutput streamOutput = new BytesStreamOutput(initialCapacity);
-                try (XContentBuilder builder = new XContentBuilder(sourceContentType.xContent(), streamOutput)) {
-                    builder.value(value);
-                    sourceFilteredAsBytes = BytesReference.bytes(builder);
-                }
+                sourceFilteredAsBytes = sourceLookup.filterBytes(request.fetchSource());
             } catch (IOException e) {
                 throw new OpenSearchException("Error filtering source", e);
             }
@@ -401,7 +439,8 @@ public class UpdateHelper {
 
         private final Writeable action;
         private final DocWriteResponse.Result result;
-        private final Map<String, Object> updatedSourceAsMap;
+        private final BytesReference updatedSource;
+        private Map<String, Object> updatedSourceAsMap;
         private final MediaType updateSourceContentType;
 
         public Result(
@@ -412,10 +451,21 @@ public class UpdateHelper {
         ) {
             this.action = action;
             this.result = result;
+            this.updatedSource = null;
             this.updatedSourceAsMap = updatedSourceAsMap;
             this.updateSourceContentType = updateSourceContentType;
         }
 
+        /**
+         * A result whose updated source is only parsed into a map if it is requested.
+         */
+        public Result(Writeable action, DocWriteResponse.Result result, BytesReference updatedSource, MediaType updateSourceContentType) {
+            this.action = action;
+            this.result = result;
+            this.updatedSource = updatedSource;
+            this.updateSourceContentType = updateSourceContentType;
+        }
+
         @SuppressWarnings("unchecked")
         public <T extends Writeable> T action() {
             return (T) action;
@@ -426,6 +476,9 @@ public class UpdateHelper {
         }
 
         public Map<String, Object> updatedSourceAsMap() {
+            if (updatedSourceAsMap == null && updatedSource != null) {
+                updatedSourceAsMap = XContentHelper.convertToMap(updatedSource, true, updateSourceContentType).v2();
+            }
             return updatedSourceAsMap;
         }
 
@@ -253,6 +253,11 @@ public abstract class Streams {
             delegate.writeBytes(b, offset, length);
         }
 
+        @Override
+        public void spliceBytes(BytesReference bytes) throws IOException {
+            delegate.spliceBytes(bytes);
+        }
+
         @Override
         public void flush() throws IOException {
             delegate.flush();
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.io.stream;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ReleasableBytesStreamOutput} that references the large bytes that are spliced into it rather than copying them, so that
+ * {@link #bytes()} returns a composite of the written and the spliced bytes. Since the stream holds on to the spliced bytes, they
+ * must not be modified or released until the bytes of the stream have been consumed.
+ * <p>
+ * Only appending is supported once bytes have been spliced: seeking or skipping fails until the stream is {@link #reset()}. All the
+ * methods that expose the content of the stream, such as {@link #copyBytes()}, include the spliced bytes.
+ *
+ * @opensearch.internal
+ */
+public class SplicingBytesStreamOutput extends ReleasableBytesStreamOutput {
+
+    /**
+     * Bytes smaller than this are copied, referencing them would cost more than copying them.
+     */
+    static final int MIN_SPLICED_BYTES = 1024;
+
+    // the offsets in the written bytes at which the spliced bytes are inserted
+    private final List<Integer> spliceOffsets = new ArrayList<>();
+    private final List<BytesReference> spliced = new ArrayList<>();
+    private long splicedLength;
+
+    public SplicingBytesStreamOutput(BigArrays bigArrays) {
+        super(bigArrays);
+    }
+
+    @Override
+    public void spliceBytes(BytesReference bytes) throws IOException {
+        if (bytes.length() < MIN_SPLICED_BYTES) {
+            bytes.writeTo(this);
+            return;
+        }
+        if (position() + bytes.length() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(getClass().getSimpleName() + " cannot hold more than 2GB of data");
+        }
+        spliceOffsets.add(count);
+        spliced.add(bytes);
+        splicedLength += bytes.length();
+    }
+
+    @Override
+    public long position() {
+        return count + splicedLength;
+    }
+
+    @Override
+    public int size() {
+        return Math.toIntExact(position());
+    }
+
+    @Override
+    public void seek(long position) {
+        if (spliced.isEmpty() == false) {
+            throw new IllegalStateException("cannot seek in a stream that holds spliced bytes");
+        }
+        super.seek(position);
+    }
+
+    @Override
+    public void skip(int length) {
+        seek(position() + length);
+    }
+
+    @Override
+    public void reset() {
+        spliceOffsets.clear();
+        spliced.clear();
+        splicedLength = 0;
+        super.reset();
+    }
+
+    @Override
+    void ensureCapacity(long offset) {
+        if (offset + splicedLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(getClass().getSimpleName() + " cannot hold more than 2GB of data");
+        }
+        super.ensureCapacity(offset);
+    }
+
+    @Override
+    public BytesReference bytes() {
+        final BytesReference written = super.bytes();
+        if (spliced.isEmpty()) {
+            return written;
+        }
+        // the written bytes are sliced here rather than when the bytes are spliced, since growing the stream may reallocate them
+        final List<BytesReference> references = new ArrayList<>(2 * spliced.size() + 1);
+        int from = 0;
+        for (int i = 0; i < spliced.size(); i++) {
+            final int offset = spliceOffsets.get(i);
+            if (offset > from) {
+                references.add(written.slice(from, offset - from));
+            }
+            references.add(spliced.get(i));
+            from = offset;
+        }
+        if (count > from) {
+            references.add(written.slice(from, count - from));
+        }
+        return CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+    }
+
+    @Override
+    public BytesReference copyBytes() {
+        if (spliced.isEmpty()) {
+            return super.copyBytes();
+        }
+        // the copy of the parent only covers the written bytes
+        return new BytesArray(BytesReference.toBytes(bytes()));
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.lucene.uid;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
+import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
+
+/**
+ * Caches the location of the live copy of frequently updated documents, so that resolving their version does not
+ * require seeking the terms dictionary of the uid field of every segment. Entries map a uid to the segment, doc ID,
+ * version, seqNo and primary term of its live copy, and are validated against the reader of every lookup: an entry
+ * is used as is if its segment is part of the reader and its document is still live in it. Since a uid has at most
+ * one live document, such an entry is exactly what {@link VersionsAndSeqNoResolver} would find.
+ * <p>
+ * Entries remember the segments of the reader they were cached from. When the cached copy of a document was updated,
+ * deleted or merged away, the live copy, if any, is not in any of these segments, since the reader held a single live
+ * copy: only the other segments, usually the few that were refreshed or merged since, are searched, and the entry is
+ * replaced by the result. Entries cached from the same reader share its set of segments. Callers must ensure that a uid
+ * is not written while it is looked up, which the engine does by holding the lock of the uid.
+ * <p>
+ * The cache is bounded in size, least recently used uids are evicted first. The engine also accounts its memory against
+ * the indexing buffer of the node, and clears it when the indexing buffer is written or the shard becomes inactive.
+ *
+ * @opensearch.internal
+ */
+public final class DocIdLookupCache {
+
+    // the entry, the uid and its bytes, and the references of the cache to them
+    private static final long ENTRY_OVERHEAD = RamUsageEstimator.shallowSizeOfInstance(Entry.class)
+        + RamUsageEstimator.shallowSizeOfInstance(BytesRef.class)
+        + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER
+        + 4 * RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+
+    private final Cache<BytesRef, Entry> cache;
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric partialLookups = new CounterMetric();
+    private final CounterMetric misses = new CounterMetric();
+    // the leaves of the last reader that was used for lookups
+    private volatile Leaves leaves;
+
+    public DocIdLookupCache(long maxSizeInBytes) {
+        this.cache = CacheBuilder.<BytesRef, Entry>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((uid, entry) -> uid.length + ENTRY_OVERHEAD)
+            .build();
+    }
+
+    /**
+     * Loads the internal doc ID and version for the uid from the reader, like
+     * {@link VersionsAndSeqNoResolver#loadDocIdAndVersion(IndexReader, Term, boolean)}.
+     */
+    public DocIdAndVersion loadDocIdAndVersion(IndexReader reader, Term term, boolean loadSeqNo) throws IOException {
+        final Leaves leaves = leaves(reader);
+        final Entry entry = cache.get(term.bytes());
+        final DocIdAndVersion result;
+        if (entry != null) {
+            final LeafReaderContext leaf = leaves.liveLeaf(entry);
+            if (leaf != null) {
+                hits.inc();
+                return new DocIdAndVersion(
+                    entry.docId,
+                    entry.version,
+                    loadSeqNo ? entry.seqNo : UNASSIGNED_SEQ_NO,
+                    loadSeqNo ? entry.primaryTerm : UNASSIGNED_PRIMARY_TERM,
+                    leaf.reader(),
+                    leaf.docBase
+                );
+            }
+            partialLookups.inc();
+            result = VersionsAndSeqNoResolver.loadDocIdAndVersion(
+                reader,
+                term,
+                true,
+                candidate -> entry.isUnknownSegment(candidate)
+            );
+        } else {
+            misses.inc();
+            result = VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, term, true);
+        }
+        if (result == null) {
+            if (entry != null) {
+                cache.invalidate(term.bytes());
+            }
+            return null;
+        }
+        final IndexReader.CacheHelper cacheHelper = result.reader.getCoreCacheHelper();
+        if (cacheHelper != null) {
+            cache.put(
+                BytesRef.deepCopyOf(term.bytes()),
+                new Entry(cacheHelper.getKey(), leaves.segmentKeys, result.docId, result.version, result.seqNo, result.primaryTerm)
+            );
+        } else if (entry != null) {
+            cache.invalidate(term.bytes());
+        }
+        if (loadSeqNo) {
+            return result;
+        }
+        return new DocIdAndVersion(result.docId, result.version, UNASSIGNED_SEQ_NO, UNASSIGNED_PRIMARY_TERM, result.reader, result.docBase);
+    }
+
+    /**
+     * Loads the internal doc ID and seqNo of the latest copy for the uid from the reader, like
+     * {@link VersionsAndSeqNoResolver#loadDocIdAndSeqNo(IndexReader, Term)}.
+     */
+    public DocIdAndSeqNo loadDocIdAndSeqNo(IndexReader reader, Term term) throws IOException {
+        final DocIdAndVersion result = loadDocIdAndVersion(reader, term, true);
+        if (result == null) {
+            return null;
+        }
+        for (LeafReaderContext leaf : reader.leaves()) {
+            if (leaf.reader() == result.reader) {
+                return new DocIdAndSeqNo(result.docId, result.seqNo, leaf);
+            }
+        }
+        throw new AssertionError("the reader of doc [" + result.docId + "] is not a leaf of [" + reader + "]");
+    }
+
+    private Leaves leaves(IndexReader reader) {
+        final IndexReader.CacheHelper readerCacheHelper = reader.getReaderCacheHelper();
+        final Object readerKey = readerCacheHelper == null ? reader : readerCacheHelper.getKey();
+        Leaves current = leaves;
+        if (current == null || current.readerKey != readerKey) {
+            current = new Leaves(readerKey, reader);
+            leaves = current;
+        }
+        return current;
+    }
+
+    /**
+     * The number of lookups that were served by the cache.
+     */
+    public long hits() {
+        return hits.count();
+    }
+
+    /**
+     * The number of lookups whose cached copy was stale, and that only searched the segments added since.
+     */
+    public long partialLookups() {
+        return partialLookups.count();
+    }
+
+    /**
+     * The number of lookups of uids that were not cached, which searched all the segments.
+     */
+    public long misses() {
+        return misses.count();
+    }
+
+    /**
+     * The number of cached uids.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * The estimated heap used by the cached entries.
+     */
+    public long ramBytesUsed() {
+        return cache.weight();
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        cache.invalidateAll();
+        leaves = null;
+    }
+
+    /**
+     * The location of the live copy of a document.
+     */
+    private static final class Entry {
+        private final IndexReader.CacheKey segmentKey;
+        // the segments of the reader the entry was cached from, none of them can hold a newer copy of the document
+        private final Set<IndexReader.CacheKey> knownSegments;
+        private final int docId;
+        private final long version;
+        private final long seqNo;
+        private final long primaryTerm;
+
+        private Entry(
+            IndexReader.CacheKey segmentKey,
+            Set<IndexReader.CacheKey> knownSegments,
+            int docId,
+            long version,
+            long seqNo,
+            long primaryTerm
+        ) {
+            this.segmentKey = segmentKey;
+            this.knownSegments = knownSegments;
+            this.docId = docId;
+            this.version = version;
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+        }
+
+        private boolean isUnknownSegment(LeafReaderContext leaf) {
+            // segments without a core cache key can't be told apart, and are always searched
+            final IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+            return cacheHelper == null || knownSegments.contains(cacheHelper.getKey()) == false;
+        }
+    }
+
+    /**
+     * The leaves of a reader by segment.
+     */
+    private static final class Leaves {
+        private final Object readerKey;
+        private final Map<IndexReader.CacheKey, LeafReaderContext> bySegment = new IdentityHashMap<>();
+        // a copy of the keys of the segments, the entries hold on to it and must not hold on to the leaves
+        private final Set<IndexReader.CacheKey> segmentKeys;
+
+        private Leaves(Object readerKey, IndexReader reader) {
+            this.readerKey = readerKey;
+            final Set<IndexReader.CacheKey> segmentKeys = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (LeafReaderContext leaf : reader.leaves()) {
+                final IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+                if (cacheHelper != null) {
+                    bySegment.put(cacheHelper.getKey(), leaf);
+                    segmentKeys.add(cacheHelper.getKey());
+                }
+            }
+            this.segmentKeys = Collections.unmodifiableSet(segmentKeys);
+        }
+
+        private LeafReaderContext liveLeaf(Entry entry) {
+            final LeafReaderContext leaf = bySegment.get(entry.segmentKey);
+            if (leaf == null) {
+                return null;
+            }
+            final Bits liveDocs = leaf.reader().getLiveDocs();
+            if (liveDocs != null && liveDocs.get(entry.docId) == false) {
+                return null;
+            }
+            return leaf;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
 
 /**
  * Utility class to resolve the Lucene doc ID, version, seqNo and primaryTerms for a given uid.
@@ -171,6 +172,27 @@ public final class VersionsAndSeqNoResolver {
         return null;
     }
 
+    /**
+     * Like {@link #loadDocIdAndVersion(IndexReader, Term, boolean)}, but only looks the uid up in the leaves that match the
+     * given filter.
+     */
+    static DocIdAndVersion loadDocIdAndVersion(IndexReader reader, Term term, boolean loadSeqNo, Predicate<LeafReaderContext> leafFilter)
+        throws IOException {
+        PerThreadIDVersionAndSeqNoLookup[] lookups = getLookupState(reader, term.field());
+        List<LeafReaderContext> leaves = reader.leaves();
+        for (int i = leaves.size() - 1; i >= 0; i--) {
+            final LeafReaderContext leaf = leaves.get(i);
+            if (leafFilter.test(leaf) == false) {
+                continue;
+            }
+            DocIdAndVersion result = lookups[leaf.ord].lookupVersion(term.bytes(), loadSeqNo, leaf);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
     /**
      * Loads the internal docId and sequence number of the latest copy for a given uid from the provided reader.
      * The result is either null or the live and latest version of the given uid.
@@ -53,6 +53,34 @@ public class OperationMetrics {
         failed.inc();
     }
 
+    /**
+     * Invoked before the given operation begins in multiple items at the same time.
+     * @param n number of items
+     */
+    public void beforeN(int n) {
+        current.addAndGet(n);
+    }
+
+    /**
+     * Invoked upon completion (success or failure) of the given operation for multiple items.
+     * @param n number of items completed
+     * @param currentTime elapsed time of the operation
+     */
+    public void afterN(int n, long currentTime) {
+        current.addAndGet(-n);
+        for (int i = 0; i < n; ++i) {
+            time.inc(currentTime);
+        }
+    }
+
+    /**
+     * Invoked upon failure of the operation on multiple items.
+     * @param n number of items failed.
+     */
+    public void failedN(int n) {
+        failed.inc(n);
+    }
+
     public void add(OperationMetrics other) {
         // Don't try copying over current, since in-flight requests will be linked to the existing metrics instance.
         failed.inc(other.failed.count());
@@ -114,6 +114,8 @@ import org.opensearch.index.ShardIndexingPressureStore;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
+import org.opensearch.indices.AdaptiveRefreshScheduler;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -167,6 +169,7 @@ import org.opensearch.transport.RemoteConnectionStrategy;
 import org.opensearch.transport.SniffConnectionStrategy;
 import org.opensearch.transport.TransportSettings;
 import org.opensearch.watcher.ResourceWatcherService;
+import org.opensearch.wlm.QueryGroupSettings;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -295,6 +298,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RecoverySettings.INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING,
                 RecoverySettings.INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING,
+                RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_STREAMS_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
                 RecoverySettings.INDICES_INTERNAL_REMOTE_UPLOAD_TIMEOUT,
@@ -555,6 +559,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 PageCacheRecycler.WEIGHT_INT_SETTING,
                 PageCacheRecycler.WEIGHT_LONG_SETTING,
                 PageCacheRecycler.WEIGHT_OBJECTS_SETTING,
+                PageCacheRecycler.WEIGHT_DIRECT_SETTING,
+                PageCacheRecycler.OFF_HEAP_SETTING,
                 PageCacheRecycler.TYPE_SETTING,
                 PluginsService.MANDATORY_SETTING,
                 BootstrapSettings.SECURITY_FILTER_BAD_DEFAULTS_SETTING,
@@ -567,6 +573,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndexingMemoryController.MAX_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING,
                 IndexingMemoryController.SHARD_MEMORY_INTERVAL_TIME_SETTING,
+                AdaptiveRefreshScheduler.ADAPTIVE_REFRESH_ENABLED_SETTING,
+                AdaptiveRefreshScheduler.MAX_REFRESH_RATE_SETTING,
+                AdaptiveRefreshScheduler.ADAPTIVE_REFRESH_CHECK_INTERVAL_SETTING,
                 ResourceWatcherService.ENABLED,
                 ResourceWatcherService.RELOAD_INTERVAL_HIGH,
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
@@ -666,6 +675,13 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchBackpressureSettings.SETTING_CANCELLATION_RATIO,  // deprecated
                 SearchBackpressureSettings.SETTING_CANCELLATION_RATE,   // deprecated
                 SearchBackpressureSettings.SETTING_CANCELLATION_BURST,   // deprecated
+                // Settings related to query groups
+                QueryGroupSettings.SETTING_INTERVAL_MILLIS,
+                QueryGroupSettings.SETTING_NODE_CPU_DURESS_THRESHOLD,
+                QueryGroupSettings.SETTING_NODE_MEMORY_DURESS_THRESHOLD,
+                QueryGroupSettings.SETTING_MODE,
+                QueryGroupSettings.SETTING_CPU_LIMIT,
+                QueryGroupSettings.SETTING_MEMORY_LIMIT,
                 SegmentReplicationPressureService.SEGMENT_REPLICATION_INDEXING_PRESSURE_ENABLED,
                 SegmentReplicationPressureService.MAX_INDEXING_CHECKPOINTS,
                 SegmentReplicationPressureService.MAX_REPLICATION_TIME_BACKPRESSURE_SETTING,
@@ -679,6 +695,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
 
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
+                Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING,
                 FileCache.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
 
                 // Settings related to Remote Refresh Segment Pressure
@@ -709,12 +726,16 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RemoteStoreNodeService.REMOTE_STORE_COMPATIBILITY_MODE_SETTING,
                 RemoteStoreNodeService.MIGRATION_DIRECTION_SETTING,
                 IndicesService.CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
+                TranslogSyncCoordinator.GROUP_COMMIT_WINDOW_SETTING,
                 IndicesService.CLUSTER_INDEX_RESTRICT_REPLICATION_TYPE_SETTING,
                 IndicesService.CLUSTER_REMOTE_INDEX_RESTRICT_ASYNC_DURABILITY_SETTING,
 
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING,
                 SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SETTING,
+                SearchService.CONCURRENT_FETCH_ENABLED_SETTING,
+                SearchService.CONCURRENT_FETCH_MIN_DOCS_SETTING,
                 IndicesService.CLUSTER_REMOTE_INDEX_RESTRICT_ASYNC_DURABILITY_SETTING,
                 AdmissionControlSettings.ADMISSION_CONTROL_TRANSPORT_LAYER_MODE,
                 CpuBasedAdmissionControllerSettings.CPU_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE,
@@ -50,6 +50,7 @@ import org.opensearch.index.MergePolicyProvider;
 import org.opensearch.index.MergeSchedulerConfig;
 import org.opensearch.index.SearchSlowLog;
 import org.opensearch.index.TieredMergePolicyProvider;
+import org.opensearch.index.TimeOrderedMergePolicyProvider;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.fielddata.IndexFieldDataService;
@@ -174,6 +175,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.INDEX_TRANSLOG_RETENTION_AGE_SETTING,
                 IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING,
                 IndexSettings.INDEX_SEARCH_IDLE_AFTER,
+                IndexSettings.INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING,
                 IndexSettings.INDEX_SEARCH_THROTTLED,
                 IndexSettings.INDEX_UNREFERENCED_FILE_CLEANUP,
                 IndexFieldDataService.INDEX_FIELDDATA_CACHE_KEY,
@@ -214,6 +216,11 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 LogByteSizeMergePolicyProvider.INDEX_LBS_MAX_MERGE_SEGMENT_FOR_FORCED_MERGE_SETTING,
                 LogByteSizeMergePolicyProvider.INDEX_LBS_MAX_MERGED_DOCS_SETTING,
                 LogByteSizeMergePolicyProvider.INDEX_LBS_NO_CFS_RATIO_SETTING,
+                TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_TIMESTAMP_FIELD_SETTING,
+                TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_MERGE_FACTOR_SETTING,
+                TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_MIN_MERGE_SETTING,
+                TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MAX_MERGE_SEGMENT_SETTING,
+                TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_NO_CFS_RATIO_SETTING,
                 IndexSettings.DEFAULT_SEARCH_PIPELINE,
 
                 // Settings for Searchable Snapshots
@@ -233,6 +240,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
 
                 IndexSettings.INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING,
                 IndexSettings.INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING,
+                IndexSettings.INDEX_DOC_ID_LOOKUP_CACHE_ENABLED_SETTING,
 
                 // Settings for concurrent segment search
                 IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING,
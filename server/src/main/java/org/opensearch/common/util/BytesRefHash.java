@@ -203,7 +203,7 @@ public final class BytesRefHash implements Releasable {
                     table.set(idx, val);
                 }
                 return append(key, hash);
-            } else if (((value & MASK_FINGERPRINT) == fingerprint) && key.bytesEquals(get(ordinal = (value & MASK_ORDINAL), scratch))) {
+            } else if (((value & MASK_FINGERPRINT) == fingerprint) && keyEquals(ordinal = (value & MASK_ORDINAL), key)) {
                 return -1 - ordinal;
             }
         }
@@ -233,7 +233,7 @@ public final class BytesRefHash implements Releasable {
         for (long idx = hash & mask, value, ordinal;; idx = (idx + 1) & mask) {
             if ((value = table.get(idx)) == -1) {
                 return -1;
-            } else if (((value & MASK_FINGERPRINT) == fingerprint) && key.bytesEquals(get(ordinal = (value & MASK_ORDINAL), scratch))) {
+            } else if (((value & MASK_FINGERPRINT) == fingerprint) && keyEquals(ordinal = (value & MASK_ORDINAL), key)) {
                 return ordinal;
             }
         }
@@ -253,6 +253,16 @@ public final class BytesRefHash implements Releasable {
         return dest;
     }
 
+    private boolean keyEquals(final long ordinal, final BytesRef key) {
+        if (keys instanceof OffHeapByteArray) {
+            // materializing the key would allocate a byte[] on every fingerprint match
+            final long start = offsets.get(ordinal);
+            final int length = (int) (offsets.get(ordinal + 1) - start);
+            return length == key.length && ((OffHeapByteArray) keys).bytesEquals(start, key);
+        }
+        return key.bytesEquals(get(ordinal, scratch));
+    }
+
     /**
      * Returns the number of mappings in this hash table.
      */
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.core.common.util.ByteArray;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.opensearch.common.util.PageCacheRecycler.BYTE_PAGE_SIZE;
+
+/**
+ * Byte array abstraction able to support more than 2B values, whose pages are stored in direct memory so that large
+ * arrays don't put pressure on the old generation of the heap. Unlike {@link BigByteArray}, slices can't reference the
+ * pages, so {@link #get(long, int, BytesRef)} always materializes a byte[]. Callers that only need to compare bytes, like
+ * {@link BytesRefHash}, should use {@link #bytesEquals(long, BytesRef)} instead, which compares the pages in place.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapByteArray extends AbstractBigArray implements ByteArray {
+
+    private static final OffHeapByteArray ESTIMATOR = new OffHeapByteArray(0, BigArrays.NON_RECYCLING_INSTANCE, false);
+
+    private ByteBuffer[] pages;
+
+    /** Constructor. */
+    OffHeapByteArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(BYTE_PAGE_SIZE, bigArrays, clearOnResize);
+        this.size = size;
+        pages = new ByteBuffer[numPages(size)];
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = newDirectPage(i);
+        }
+    }
+
+    @Override
+    public byte get(long index) {
+        final int pageIndex = pageIndex(index);
+        final int indexInPage = indexInPage(index);
+        return pages[pageIndex].get(indexInPage);
+    }
+
+    @Override
+    public byte set(long index, byte value) {
+        final int pageIndex = pageIndex(index);
+        final int indexInPage = indexInPage(index);
+        final ByteBuffer page = pages[pageIndex];
+        final byte ret = page.get(indexInPage);
+        page.put(indexInPage, value);
+        return ret;
+    }
+
+    @Override
+    public boolean get(long index, int len, BytesRef ref) {
+        assert index + len <= size();
+        int pageIndex = pageIndex(index);
+        int indexInPage = indexInPage(index);
+        ref.bytes = new byte[len];
+        ref.offset = 0;
+        ref.length = 0;
+        while (ref.length < len) {
+            final int copyLength = Math.min(pageSize() - indexInPage, len - ref.length);
+            final ByteBuffer page = pages[pageIndex].duplicate();
+            page.position(indexInPage);
+            page.get(ref.bytes, ref.length, copyLength);
+            ref.length += copyLength;
+            ++pageIndex;
+            indexInPage = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the {@code ref.length} bytes starting at the given index are equal to the bytes of the given ref, without copying
+     * them to the heap.
+     */
+    boolean bytesEquals(long index, BytesRef ref) {
+        assert index + ref.length <= size();
+        int pageIndex = pageIndex(index);
+        int indexInPage = indexInPage(index);
+        int compared = 0;
+        while (compared < ref.length) {
+            final int compareLength = Math.min(pageSize() - indexInPage, ref.length - compared);
+            final ByteBuffer page = pages[pageIndex];
+            final int from = ref.offset + compared;
+            for (int i = 0; i < compareLength; ++i) {
+                if (page.get(indexInPage + i) != ref.bytes[from + i]) {
+                    return false;
+                }
+            }
+            compared += compareLength;
+            ++pageIndex;
+            indexInPage = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public void set(long index, byte[] buf, int offset, int len) {
+        assert index + len <= size();
+        int pageIndex = pageIndex(index);
+        int indexInPage = indexInPage(index);
+        while (len > 0) {
+            final int copyLength = Math.min(pageSize() - indexInPage, len);
+            final ByteBuffer page = pages[pageIndex].duplicate();
+            page.position(indexInPage);
+            page.put(buf, offset, copyLength);
+            offset += copyLength;
+            len -= copyLength;
+            ++pageIndex;
+            indexInPage = 0;
+        }
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, byte value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex == toIndex) {
+            return; // empty range
+        }
+        final int fromPage = pageIndex(fromIndex);
+        final int toPage = pageIndex(toIndex - 1);
+        if (fromPage == toPage) {
+            fill(pages[fromPage], indexInPage(fromIndex), indexInPage(toIndex - 1) + 1, value);
+        } else {
+            fill(pages[fromPage], indexInPage(fromIndex), pageSize(), value);
+            for (int i = fromPage + 1; i < toPage; ++i) {
+                fill(pages[i], 0, pageSize(), value);
+            }
+            fill(pages[toPage], 0, indexInPage(toIndex - 1) + 1, value);
+        }
+    }
+
+    private static void fill(ByteBuffer page, int from, int to, byte value) {
+        for (int i = from; i < to; ++i) {
+            page.put(i, value);
+        }
+    }
+
+    @Override
+    public boolean hasArray() {
+        return false;
+    }
+
+    @Override
+    public byte[] array() {
+        assert false;
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected int numBytesPerElement() {
+        return 1;
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    @Override
+    public void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            pages = Arrays.copyOf(pages, ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF));
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = newDirectPage(i);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            pages[i] = null;
+            releasePage(i);
+        }
+        this.size = newSize;
+    }
+
+    /** Estimates the number of bytes that would be consumed by an array of the given size. */
+    public static long estimateRamBytes(final long size) {
+        return ESTIMATOR.ramBytesEstimated(size);
+    }
+
+}
@@ -42,6 +42,8 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.bytes.PagedBytesReference;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -93,6 +95,19 @@ public class PageCacheRecycler {
         0d,
         Property.NodeScope
     );
+    // direct pages are only obtained by big arrays that are allocated off-heap, so they are only given a share of
+    // the limit when off-heap pages are enabled
+    public static final Setting<Double> WEIGHT_DIRECT_SETTING = Setting.doubleSetting(
+        "cache.recycler.page.weight.direct",
+        1d,
+        0d,
+        Property.NodeScope
+    );
+    /**
+     * Whether big long and byte arrays that are accounted against the circuit breaker, such as the ones that back the
+     * hash tables and bucket ordinals of aggregations, store their pages in direct memory rather than on the heap.
+     */
+    public static final Setting<Boolean> OFF_HEAP_SETTING = Setting.boolSetting("cache.recycler.page.off_heap", false, Property.NodeScope);
 
     /** Page size in bytes: 16KB */
     public static final int PAGE_SIZE_IN_BYTES = PagedBytesReference.PAGE_SIZE_IN_BYTES;
@@ -105,6 +120,8 @@ public class PageCacheRecycler {
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final Recycler<ByteBuffer> directPage;
+    private final boolean offHeap;
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
@@ -134,8 +151,10 @@ public class PageCacheRecycler {
         final double intsWeight = WEIGHT_INT_SETTING.get(settings);
         final double longsWeight = WEIGHT_LONG_SETTING.get(settings);
         final double objectsWeight = WEIGHT_OBJECTS_SETTING.get(settings);
+        this.offHeap = OFF_HEAP_SETTING.get(settings);
+        final double directWeight = offHeap ? WEIGHT_DIRECT_SETTING.get(settings) : 0d;
 
-        final double totalWeight = bytesWeight + intsWeight + longsWeight + objectsWeight;
+        final double totalWeight = bytesWeight + intsWeight + longsWeight + objectsWeight + directWeight;
         final int maxPageCount = (int) Math.min(Integer.MAX_VALUE, limit / PAGE_SIZE_IN_BYTES);
 
         final int maxBytePageCount = (int) (bytesWeight * maxPageCount / totalWeight);
@@ -190,7 +209,30 @@ public class PageCacheRecycler {
             }
         });
 
-        assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
+        // direct memory is only released when the buffer that owns it is garbage collected, so pooling direct pages
+        // is what keeps off-heap arrays from depending on the garbage collector
+        final int maxDirectPageCount = (int) (directWeight * maxPageCount / totalWeight);
+        directPage = build(type, maxDirectPageCount, allocatedProcessors, new AbstractRecyclerC<ByteBuffer>() {
+            @Override
+            public ByteBuffer newInstance() {
+                return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+            }
+
+            @Override
+            public void recycle(ByteBuffer value) {
+                // nothing to do, pages are only accessed with absolute positions
+            }
+        });
+
+        final long maxHeapPageCount = maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount;
+        assert PAGE_SIZE_IN_BYTES * (maxHeapPageCount + maxDirectPageCount) <= limit;
+    }
+
+    /**
+     * Whether big arrays that are accounted against the circuit breaker should store their pages in direct memory.
+     */
+    public boolean isOffHeap() {
+        return offHeap;
     }
 
     public Recycler.V<byte[]> bytePage(boolean clear) {
@@ -222,6 +264,20 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
+    /**
+     * Obtains a page of {@link #PAGE_SIZE_IN_BYTES} bytes of direct memory, in native byte order.
+     */
+    public Recycler.V<ByteBuffer> directPage(boolean clear) {
+        final Recycler.V<ByteBuffer> v = directPage.obtain();
+        if (v.isRecycled() && clear) {
+            final ByteBuffer page = v.v();
+            for (int i = 0; i < PAGE_SIZE_IN_BYTES; i += Long.BYTES) {
+                page.putLong(i, 0L);
+            }
+        }
+        return v;
+    }
+
     private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
         final Recycler<T> recycler;
         if (limit == 0) {
@@ -38,6 +38,7 @@ import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.xcontent.AbstractXContentParser;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -53,10 +54,14 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
 /**
  * Helper for xcontent utilities.
@@ -376,6 +381,77 @@ public class XContentHelper {
         return modified;
     }
 
+    /**
+     * Streams the object the parser is positioned on into the builder with the provided changes applied. The result is the same as
+     * parsing the object into an ordered map, updating it with {@link #update(Map, Map, boolean)} and serializing it again, but the
+     * fields that are not changed are copied token by token instead of being parsed into objects: changed fields are written in place,
+     * new fields are appended at the end of the object they are added to, and objects that are changed by objects are merged
+     * recursively. Only the values that are replaced are parsed, and only if {@code checkUpdatesAreUnequal} is set.
+     *
+     * @param source                 the parser to read the original object from, positioned on or right before its start
+     * @param builder                the builder to write the updated object to
+     * @param changes                the changes to update into the object
+     * @param checkUpdatesAreUnequal should this method check if updates to the same key (that are not both objects) are unequal?
+     * @return true if the object was modified
+     */
+    public static boolean update(
+        XContentParser source,
+        XContentBuilder builder,
+        Map<String, Object> changes,
+        boolean checkUpdatesAreUnequal
+    ) throws IOException {
+        XContentParser.Token token = source.currentToken() == null ? source.nextToken() : source.currentToken();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, token, source);
+        return updateObject(source, builder, changes, checkUpdatesAreUnequal);
+    }
+
+    private static boolean updateObject(
+        XContentParser source,
+        XContentBuilder builder,
+        Map<String, Object> changes,
+        boolean checkUpdatesAreUnequal
+    ) throws IOException {
+        boolean modified = false;
+        final Set<String> updated = new HashSet<>();
+        builder.startObject();
+        while (source.nextToken() == XContentParser.Token.FIELD_NAME) {
+            final String field = source.currentName();
+            if (changes.containsKey(field) == false) {
+                // copies the field name and its value
+                builder.copyCurrentStructure(source);
+                continue;
+            }
+            final XContentParser.Token token = source.nextToken();
+            if (updated.add(field) == false) {
+                // a duplicate key, the change was written with its first occurrence
+                source.skipChildren();
+                continue;
+            }
+            final Object change = changes.get(field);
+            builder.field(field);
+            if (token == XContentParser.Token.START_OBJECT && change instanceof Map) {
+                modified |= updateObject(source, builder, (Map<String, Object>) change, checkUpdatesAreUnequal && !modified);
+                continue;
+            }
+            builder.value(change);
+            if (modified || checkUpdatesAreUnequal == false) {
+                source.skipChildren();
+                modified = true;
+                continue;
+            }
+            modified = !Objects.equals(AbstractXContentParser.readValue(source, LinkedHashMap::new), change);
+        }
+        ensureExpectedToken(XContentParser.Token.END_OBJECT, source.currentToken(), source);
+        for (Map.Entry<String, Object> changesEntry : changes.entrySet()) {
+            if (updated.contains(changesEntry.getKey()) == false) {
+                builder.field(changesEntry.getKey(), changesEntry.getValue());
+                modified = true;
+            }
+        }
+        builder.endObject();
+        return modified;
+    }
+
     /**
      * Merges the defaults provided as the second parameter into the content of the first. Only does recursive merge
      * for inner maps.
@@ -445,7 +521,7 @@ public class XContentHelper {
 
     /**
      * Writes a "raw" (bytes) field, handling cases where the bytes are compressed, and tries to optimize writing using
-     * {@link XContentBuilder#rawField(String, InputStream)}.
+     * {@link XContentBuilder#rawField(String, BytesReference, MediaType)}, which may splice uncompressed bytes into the output.
      * @deprecated use {@link #writeRawField(String, BytesReference, XContentType, XContentBuilder, Params)} to avoid content type
      * auto-detection
      */
@@ -457,15 +533,20 @@ public class XContentHelper {
                 builder.rawField(field, compressedStreamInput);
             }
         } else {
-            try (InputStream stream = source.streamInput()) {
-                builder.rawField(field, stream);
+            final MediaType mediaType = MediaTypeRegistry.xContentType(source);
+            if (mediaType != null) {
+                builder.rawField(field, source, mediaType);
+            } else {
+                try (InputStream stream = source.streamInput()) {
+                    builder.rawField(field, stream);
+                }
             }
         }
     }
 
     /**
      * Writes a "raw" (bytes) field, handling cases where the bytes are compressed, and tries to optimize writing using
-     * {@link XContentBuilder#rawField(String, InputStream, MediaType)}.
+     * {@link XContentBuilder#rawField(String, BytesReference, MediaType)}, which may splice uncompressed bytes into the output.
      */
     public static void writeRawField(String field, BytesReference source, XContentType xContentType, XContentBuilder builder, Params params)
         throws IOException {
@@ -476,9 +557,7 @@ public class XContentHelper {
                 builder.rawField(field, compressedStreamInput, xContentType);
             }
         } else {
-            try (InputStream stream = source.streamInput()) {
-                builder.rawField(field, stream, xContentType);
-            }
+            builder.rawField(field, source, xContentType);
         }
     }
 
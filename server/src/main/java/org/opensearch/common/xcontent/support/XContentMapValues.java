@@ -38,11 +38,15 @@ import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -217,16 +221,40 @@ public class XContentMapValues {
      */
     public static Function<Map<String, ?>, Map<String, Object>> filter(String[] includes, String[] excludes) {
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
 
-        CharacterRunAutomaton include;
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+    }
+
+    /**
+     * Returns a function that copies the object the parser is positioned before or on to the builder, keeping only the properties that
+     * match the given include and exclude rules. The result is the same as parsing the object into a map and filtering it with
+     * {@link #filter(String[], String[])}, except that the properties keep their order, but only the properties that are kept are
+     * copied and nothing is parsed into a map.
+     * @see #filter(Map, String[], String[]) for details
+     */
+    public static CheckedBiConsumer<XContentParser, XContentBuilder, IOException> streamingFilter(String[] includes, String[] excludes) {
+        CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
+
+        return (parser, builder) -> new StreamingFilter(parser, builder, exclude, matchAllAutomaton).filterRoot(include);
+    }
+
+    private static CharacterRunAutomaton includeAutomaton(String[] includes, CharacterRunAutomaton matchAllAutomaton) {
         if (includes == null || includes.length == 0) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includes);
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAllAutomaton;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includes);
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    private static CharacterRunAutomaton excludeAutomaton(String[] excludes) {
         Automaton excludeA;
         if (excludes == null || excludes.length == 0) {
             excludeA = Automata.makeEmpty();
@@ -234,12 +262,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludes);
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -396,6 +419,174 @@ public class XContentMapValues {
         return filtered;
     }
 
+    /**
+     * Copies the properties that match the automata from a parser to a builder, following the same rules as the filtering of maps
+     * above. Whether an object or an array is kept may depend on whether any of its properties is kept, so objects and arrays are only
+     * started in the builder once something is written into them, or when they end if they have to be kept even if they are empty.
+     */
+    private static final class StreamingFilter {
+        private final XContentParser parser;
+        private final XContentBuilder builder;
+        private final CharacterRunAutomaton excludeAutomaton;
+        private final CharacterRunAutomaton matchAllAutomaton;
+        // the field names of the objects and arrays that are open in the parser and kept so far, null for array elements
+        private final List<String> names = new ArrayList<>();
+        private final List<Boolean> arrays = new ArrayList<>();
+        // the number of open objects and arrays that are started in the builder
+        private int started = 0;
+
+        private StreamingFilter(
+            XContentParser parser,
+            XContentBuilder builder,
+            CharacterRunAutomaton excludeAutomaton,
+            CharacterRunAutomaton matchAllAutomaton
+        ) {
+            this.parser = parser;
+            this.builder = builder;
+            this.excludeAutomaton = excludeAutomaton;
+            this.matchAllAutomaton = matchAllAutomaton;
+        }
+
+        void filterRoot(CharacterRunAutomaton includeAutomaton) throws IOException {
+            XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+            if (token != XContentParser.Token.START_OBJECT) {
+                throw new OpenSearchParseException("expected an object but got [{}]", token);
+            }
+            open(null, false);
+            filterObject(includeAutomaton, 0, 0);
+            // the root object is kept even if it is empty
+            close(true);
+        }
+
+        private void filterObject(CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                String key = parser.currentName();
+                token = parser.nextToken();
+
+                int includeState = step(includeAutomaton, key, initialIncludeState);
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int excludeState = step(excludeAutomaton, key, initialExcludeState);
+                if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+                int subIncludeState = includeState;
+                if (includeAutomaton.isAccept(includeState)) {
+                    if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                        // the exclude has no chances to match inner properties
+                        startPending();
+                        builder.field(key);
+                        builder.copyCurrentStructure(parser);
+                        continue;
+                    } else {
+                        // the object matched, so consider that the include matches every inner property
+                        // we only care about excludes now
+                        subIncludeAutomaton = matchAllAutomaton;
+                        subIncludeState = 0;
+                    }
+                }
+
+                if (token == XContentParser.Token.START_OBJECT) {
+                    subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                    if (subIncludeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    open(key, false);
+                    filterObject(subIncludeAutomaton, subIncludeState, excludeState);
+                    close(includeAutomaton.isAccept(includeState));
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    open(key, true);
+                    filterArray(subIncludeAutomaton, subIncludeState, excludeState);
+                    close(includeAutomaton.isAccept(includeState));
+                } else if (includeAutomaton.isAccept(includeState)) {
+                    // leaf property, the properties that match an exclude are skipped above
+                    startPending();
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        private void filterArray(CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    int includeState = includeAutomaton.step(initialIncludeState, '.');
+                    if (includeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    int excludeState = initialExcludeState;
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    open(null, false);
+                    filterObject(includeAutomaton, includeState, excludeState);
+                    close(false);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    open(null, true);
+                    filterArray(includeAutomaton, initialIncludeState, initialExcludeState);
+                    close(false);
+                } else if (isInclude) {
+                    // #22557: only accept this array value if the key we are on is accepted:
+                    startPending();
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        private void open(String name, boolean array) {
+            names.add(name);
+            arrays.add(array);
+        }
+
+        /**
+         * Starts the open objects and arrays that are not started in the builder yet, before something is written into them.
+         */
+        private void startPending() throws IOException {
+            for (; started < names.size(); started++) {
+                if (names.get(started) != null) {
+                    builder.field(names.get(started));
+                }
+                if (arrays.get(started)) {
+                    builder.startArray();
+                } else {
+                    builder.startObject();
+                }
+            }
+        }
+
+        private void close(boolean keepIfEmpty) throws IOException {
+            if (keepIfEmpty) {
+                startPending();
+            }
+            names.remove(names.size() - 1);
+            boolean array = arrays.remove(arrays.size() - 1);
+            if (started > names.size()) {
+                started = names.size();
+                if (array) {
+                    builder.endArray();
+                } else {
+                    builder.endObject();
+                }
+            }
+        }
+    }
+
     public static boolean isObject(Object node) {
         return node instanceof Map;
     }
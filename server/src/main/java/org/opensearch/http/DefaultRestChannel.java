@@ -35,6 +35,7 @@ package org.opensearch.http;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.io.stream.SplicingBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.network.CloseableChannel;
@@ -102,7 +103,8 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
 
     @Override
     protected BytesStreamOutput newBytesOutput() {
-        return new ReleasableBytesStreamOutput(bigArrays);
+        // responses splice large raw fields such as the _source of hits instead of copying them
+        return new SplicingBytesStreamOutput(bigArrays);
     }
 
     @Override
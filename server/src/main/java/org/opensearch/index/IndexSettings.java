@@ -95,6 +95,7 @@ public final class IndexSettings {
     public enum IndexMergePolicy {
         TIERED("tiered"),
         LOG_BYTE_SIZE("log_byte_size"),
+        TIME_ORDERED("time_ordered"),
         DEFAULT_POLICY(IndexSettings.DEFAULT_POLICY);
 
         private final String value;
@@ -357,6 +358,18 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * The longest interval the node may stretch the refresh interval of the shards of the index to, when adaptive refresh scheduling is
+     * enabled on the node and the shards are not searched often. The refresh interval of the index is the shortest one. The interval is
+     * never stretched when it is not longer than the refresh interval.
+     */
+    public static final Setting<TimeValue> INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING = Setting.timeSetting(
+        "index.refresh.adaptive.max_interval",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<ByteSizeValue> INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING = Setting.byteSizeSetting(
         "index.translog.flush_threshold_size",
         new ByteSizeValue(512, ByteSizeUnit.MB),
@@ -697,6 +710,13 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    public static final Setting<Boolean> INDEX_DOC_ID_LOOKUP_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "index.optimize_doc_id_lookup.cache.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
     public static final TimeValue DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL = new TimeValue(650, TimeUnit.MILLISECONDS);
     public static final TimeValue MINIMUM_REMOTE_TRANSLOG_BUFFER_INTERVAL = TimeValue.ZERO;
     public static final Setting<TimeValue> INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING = Setting.timeSetting(
@@ -748,6 +768,7 @@ public final class IndexSettings {
     private final MergeSchedulerConfig mergeSchedulerConfig;
     private final TieredMergePolicyProvider tieredMergePolicyProvider;
     private final LogByteSizeMergePolicyProvider logByteSizeMergePolicyProvider;
+    private final TimeOrderedMergePolicyProvider timeOrderedMergePolicyProvider;
     private final IndexSortConfig indexSortConfig;
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
@@ -783,6 +804,7 @@ public final class IndexSettings {
     private volatile int maxNgramDiff;
     private volatile int maxShingleDiff;
     private volatile TimeValue searchIdleAfter;
+    private volatile TimeValue adaptiveRefreshMaxInterval;
     private volatile int maxAnalyzedOffset;
     private volatile int maxTermsCount;
 
@@ -835,6 +857,11 @@ public final class IndexSettings {
      */
     private volatile boolean enableFuzzySetForDocId;
 
+    /**
+     * Is the cache of the doc ids of frequently updated documents enabled
+     */
+    private volatile boolean enableDocIdLookupCache;
+
     /**
      * False positive probability to use while creating fuzzy set.
      */
@@ -958,8 +985,10 @@ public final class IndexSettings {
         maxRegexLength = scopedSettings.get(MAX_REGEX_LENGTH_SETTING);
         this.tieredMergePolicyProvider = new TieredMergePolicyProvider(logger, this);
         this.logByteSizeMergePolicyProvider = new LogByteSizeMergePolicyProvider(logger, this);
+        this.timeOrderedMergePolicyProvider = new TimeOrderedMergePolicyProvider(logger, this);
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
+        adaptiveRefreshMaxInterval = scopedSettings.get(INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
         setTranslogRetentionAge(scopedSettings.get(INDEX_TRANSLOG_RETENTION_AGE_SETTING));
         setTranslogRetentionSize(scopedSettings.get(INDEX_TRANSLOG_RETENTION_SIZE_SETTING));
@@ -983,6 +1012,7 @@ public final class IndexSettings {
 
         setEnableFuzzySetForDocId(scopedSettings.get(INDEX_DOC_ID_FUZZY_SET_ENABLED_SETTING));
         setDocIdFuzzySetFalsePositiveProbability(scopedSettings.get(INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING));
+        setEnableDocIdLookupCache(scopedSettings.get(INDEX_DOC_ID_LOOKUP_CACHE_ENABLED_SETTING));
 
         scopedSettings.addSettingsUpdateConsumer(
             TieredMergePolicyProvider.INDEX_COMPOUND_FORMAT_SETTING,
@@ -1037,6 +1067,23 @@ public final class IndexSettings {
             LogByteSizeMergePolicyProvider.INDEX_LBS_NO_CFS_RATIO_SETTING,
             logByteSizeMergePolicyProvider::setLBSNoCFSRatio
         );
+
+        scopedSettings.addSettingsUpdateConsumer(
+            TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_MERGE_FACTOR_SETTING,
+            timeOrderedMergePolicyProvider::setMergeFactor
+        );
+        scopedSettings.addSettingsUpdateConsumer(
+            TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_MIN_MERGE_SETTING,
+            timeOrderedMergePolicyProvider::setMinMerge
+        );
+        scopedSettings.addSettingsUpdateConsumer(
+            TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MAX_MERGE_SEGMENT_SETTING,
+            timeOrderedMergePolicyProvider::setMaxMergeSegment
+        );
+        scopedSettings.addSettingsUpdateConsumer(
+            TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_NO_CFS_RATIO_SETTING,
+            timeOrderedMergePolicyProvider::setNoCFSRatio
+        );
         scopedSettings.addSettingsUpdateConsumer(
             MergeSchedulerConfig.MAX_THREAD_COUNT_SETTING,
             MergeSchedulerConfig.MAX_MERGE_COUNT_SETTING,
@@ -1070,6 +1117,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_PIT, this::setMaxSlicesPerPit);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING, this::setAdaptiveRefreshMaxInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REGEX_LENGTH_SETTING, this::setMaxRegexLength);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
@@ -1096,6 +1144,7 @@ public final class IndexSettings {
             INDEX_DOC_ID_FUZZY_SET_FALSE_POSITIVE_PROBABILITY_SETTING,
             this::setDocIdFuzzySetFalsePositiveProbability
         );
+        scopedSettings.addSettingsUpdateConsumer(INDEX_DOC_ID_LOOKUP_CACHE_ENABLED_SETTING, this::setEnableDocIdLookupCache);
     }
 
     private void setSearchIdleAfter(TimeValue searchIdleAfter) {
@@ -1108,6 +1157,10 @@ public final class IndexSettings {
         this.searchIdleAfter = searchIdleAfter;
     }
 
+    private void setAdaptiveRefreshMaxInterval(TimeValue adaptiveRefreshMaxInterval) {
+        this.adaptiveRefreshMaxInterval = adaptiveRefreshMaxInterval;
+    }
+
     private void setTranslogFlushThresholdSize(ByteSizeValue byteSizeValue) {
         this.flushThresholdSize = byteSizeValue;
     }
@@ -1626,6 +1679,9 @@ public final class IndexSettings {
             case LOG_BYTE_SIZE:
                 mergePolicyProvider = logByteSizeMergePolicyProvider;
                 break;
+            case TIME_ORDERED:
+                mergePolicyProvider = timeOrderedMergePolicyProvider;
+                break;
             case DEFAULT_POLICY:
                 if (isTimeSeriesIndex) {
                     String nodeScopedTimeSeriesIndexPolicy = TIME_SERIES_INDEX_MERGE_POLICY.get(nodeSettings);
@@ -1638,6 +1694,9 @@ public final class IndexSettings {
                         case LOG_BYTE_SIZE:
                             mergePolicyProvider = logByteSizeMergePolicyProvider;
                             break;
+                        case TIME_ORDERED:
+                            mergePolicyProvider = timeOrderedMergePolicyProvider;
+                            break;
                     }
                 } else {
                     mergePolicyProvider = tieredMergePolicyProvider;
@@ -1725,6 +1784,13 @@ public final class IndexSettings {
         return searchIdleAfter;
     }
 
+    /**
+     * Returns the longest interval the refresh interval of the shards may be stretched to by adaptive refresh scheduling.
+     */
+    public TimeValue getAdaptiveRefreshMaxInterval() {
+        return adaptiveRefreshMaxInterval;
+    }
+
     public String getDefaultPipeline() {
         return defaultPipeline;
     }
@@ -1897,4 +1963,12 @@ public final class IndexSettings {
     public void setDocIdFuzzySetFalsePositiveProbability(double docIdFuzzySetFalsePositiveProbability) {
         this.docIdFuzzySetFalsePositiveProbability = docIdFuzzySetFalsePositiveProbability;
     }
+
+    public boolean isEnableDocIdLookupCache() {
+        return enableDocIdLookupCache;
+    }
+
+    public void setEnableDocIdLookupCache(boolean enableDocIdLookupCache) {
+        this.enableDocIdLookupCache = enableDocIdLookupCache;
+    }
 }
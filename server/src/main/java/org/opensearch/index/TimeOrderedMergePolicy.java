@@ -0,0 +1,311 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.PointsReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.opensearch.common.util.io.IOUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A merge policy for indices whose documents are mostly indexed in the order of a timestamp field, which keeps the range of
+ * timestamps of segments apart so that range queries and the can match phase can skip the segments outside of their range.
+ * <p>
+ * Segments are ordered by the smallest timestamp they contain, and only consecutive segments in this order are merged together. A
+ * merged segment only overlaps the segments that one of its segments already overlapped, so segments that hold disjoint time ranges
+ * keep holding disjoint ranges as they grow. Like {@link org.apache.lucene.index.LogByteSizeMergePolicy}, merges combine
+ * {@code mergeFactor} segments of similar sizes: the largest segment of a merge is at most {@code mergeFactor} times larger than the
+ * smallest one, segments smaller than {@code minMergeBytes} counting as that size. Segments without timestamps are ordered last.
+ * <p>
+ * The smallest timestamp of a segment is read from the metadata of the points of the timestamp field the first time the segment is
+ * seen, and cached for as long as the segment is alive.
+ *
+ * @opensearch.internal
+ */
+final class TimeOrderedMergePolicy extends MergePolicy {
+
+    // segments are only rewritten to expunge deletes if at least this percentage of their documents are deleted, like the tiered policy
+    private static final double FORCE_MERGE_DELETES_PCT_ALLOWED = 10.0;
+
+    private static final byte[] NO_TIMESTAMPS = new byte[0];
+
+    // segments without timestamps come last
+    private static final Comparator<Segment> BY_MIN_TIMESTAMP = (a, b) -> {
+        if (a.minTimestamp.length == 0 || b.minTimestamp.length == 0) {
+            return Boolean.compare(a.minTimestamp.length == 0, b.minTimestamp.length == 0);
+        }
+        return Arrays.compareUnsigned(a.minTimestamp, b.minTimestamp);
+    };
+
+    private final String timestampField;
+    // the smallest encoded timestamp of the segments, empty for segments without timestamps
+    private final Map<SegmentInfo, byte[]> minTimestamps = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private volatile int mergeFactor = LogByteSizeMergePolicyProvider.DEFAULT_MERGE_FACTOR;
+    private volatile long minMergeBytes = LogByteSizeMergePolicyProvider.DEFAULT_MIN_MERGE.getBytes();
+    private volatile long maxMergedSegmentBytes = LogByteSizeMergePolicyProvider.DEFAULT_MAX_MERGED_SEGMENT.getBytes();
+
+    TimeOrderedMergePolicy(String timestampField) {
+        this.timestampField = timestampField;
+    }
+
+    void setMergeFactor(int mergeFactor) {
+        this.mergeFactor = mergeFactor;
+    }
+
+    int getMergeFactor() {
+        return mergeFactor;
+    }
+
+    void setMinMergeBytes(long minMergeBytes) {
+        this.minMergeBytes = minMergeBytes;
+    }
+
+    long getMinMergeBytes() {
+        return minMergeBytes;
+    }
+
+    void setMaxMergedSegmentBytes(long maxMergedSegmentBytes) {
+        this.maxMergedSegmentBytes = maxMergedSegmentBytes;
+    }
+
+    long getMaxMergedSegmentBytes() {
+        return maxMergedSegmentBytes;
+    }
+
+    String getTimestampField() {
+        return timestampField;
+    }
+
+    @Override
+    public MergeSpecification findMerges(MergeTrigger mergeTrigger, SegmentInfos infos, MergeContext mergeContext) throws IOException {
+        final int mergeFactor = this.mergeFactor;
+        final long maxMergedSegmentBytes = this.maxMergedSegmentBytes;
+        final Set<SegmentCommitInfo> merging = mergeContext.getMergingSegments();
+        final List<Segment> segments = sortedSegments(infos, mergeContext);
+        MergeSpecification spec = null;
+        int start = 0;
+        while (start + mergeFactor <= segments.size()) {
+            final List<Segment> window = segments.subList(start, start + mergeFactor);
+            long totalBytes = 0;
+            long smallest = Long.MAX_VALUE;
+            long largest = 0;
+            boolean eligible = true;
+            for (Segment segment : window) {
+                // segments that are being merged break the sequence of segments, merging across them would widen the merged range
+                if (merging.contains(segment.info) || segment.bytes > maxMergedSegmentBytes / 2) {
+                    eligible = false;
+                    break;
+                }
+                totalBytes += segment.bytes;
+                smallest = Math.min(smallest, Math.max(segment.bytes, minMergeBytes));
+                largest = Math.max(largest, Math.max(segment.bytes, minMergeBytes));
+            }
+            if (eligible && totalBytes <= maxMergedSegmentBytes && largest <= smallest * mergeFactor) {
+                if (spec == null) {
+                    spec = new MergeSpecification();
+                }
+                spec.add(new OneMerge(infos(window)));
+                start += mergeFactor;
+            } else {
+                start++;
+            }
+        }
+        return spec;
+    }
+
+    @Override
+    public MergeSpecification findForcedMerges(
+        SegmentInfos infos,
+        int maxSegmentCount,
+        Map<SegmentCommitInfo, Boolean> segmentsToMerge,
+        MergeContext mergeContext
+    ) throws IOException {
+        final Set<SegmentCommitInfo> merging = mergeContext.getMergingSegments();
+        final List<Segment> candidates = new ArrayList<>();
+        for (Segment segment : sortedSegments(infos, mergeContext)) {
+            if (segmentsToMerge.containsKey(segment.info)) {
+                if (merging.contains(segment.info)) {
+                    // wait for the merge to complete, the merged segment is considered next
+                    return null;
+                }
+                candidates.add(segment);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() <= maxSegmentCount) {
+            boolean merged = true;
+            for (Segment segment : candidates) {
+                merged &= isMerged(infos, segment.info, mergeContext);
+            }
+            if (merged) {
+                return null;
+            }
+        }
+        // split the segments in maxSegmentCount groups of consecutive segments and of similar sizes
+        final int groups = Math.min(maxSegmentCount, candidates.size());
+        long remainingBytes = 0;
+        for (Segment segment : candidates) {
+            remainingBytes += segment.bytes;
+        }
+        MergeSpecification spec = null;
+        int start = 0;
+        for (int group = 0; group < groups; group++) {
+            final long targetBytes = remainingBytes / (groups - group);
+            int end = start + 1;
+            long groupBytes = candidates.get(start).bytes;
+            // leave at least one segment per remaining group, and only add a segment if it brings the group closer to its target size
+            while (end < candidates.size() - (groups - group - 1)
+                && (group == groups - 1 || groupBytes + candidates.get(end).bytes / 2 < targetBytes)) {
+                groupBytes += candidates.get(end).bytes;
+                end++;
+            }
+            final List<Segment> window = candidates.subList(start, end);
+            if (window.size() > 1 || isMerged(infos, window.get(0).info, mergeContext) == false) {
+                if (spec == null) {
+                    spec = new MergeSpecification();
+                }
+                spec.add(new OneMerge(infos(window)));
+            }
+            remainingBytes -= groupBytes;
+            start = end;
+        }
+        return spec;
+    }
+
+    @Override
+    public MergeSpecification findForcedDeletesMerges(SegmentInfos infos, MergeContext mergeContext) throws IOException {
+        final Set<SegmentCommitInfo> merging = mergeContext.getMergingSegments();
+        MergeSpecification spec = null;
+        for (SegmentCommitInfo info : infos) {
+            final double deletesPct = 100.0 * mergeContext.numDeletesToMerge(info) / info.info.maxDoc();
+            // segments are rewritten on their own, which keeps their range
+            if (deletesPct > FORCE_MERGE_DELETES_PCT_ALLOWED && merging.contains(info) == false) {
+                if (spec == null) {
+                    spec = new MergeSpecification();
+                }
+                spec.add(new OneMerge(List.of(info)));
+            }
+        }
+        return spec;
+    }
+
+    /**
+     * Returns the segments ordered by the smallest timestamp they contain.
+     */
+    private List<Segment> sortedSegments(SegmentInfos infos, MergeContext mergeContext) throws IOException {
+        final List<Segment> segments = new ArrayList<>(infos.size());
+        for (SegmentCommitInfo info : infos) {
+            segments.add(new Segment(info, minTimestamp(info), size(info, mergeContext)));
+        }
+        // the sort is stable, segments with the same smallest timestamp keep their order in the index
+        segments.sort(BY_MIN_TIMESTAMP);
+        return segments;
+    }
+
+    private static List<SegmentCommitInfo> infos(List<Segment> segments) {
+        final List<SegmentCommitInfo> infos = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            infos.add(segment.info);
+        }
+        return infos;
+    }
+
+    private byte[] minTimestamp(SegmentCommitInfo info) throws IOException {
+        byte[] minTimestamp = minTimestamps.get(info.info);
+        if (minTimestamp == null) {
+            minTimestamp = readMinTimestamp(info);
+            minTimestamps.put(info.info, minTimestamp);
+        }
+        return minTimestamp;
+    }
+
+    /**
+     * Reads the smallest timestamp of the segment from the metadata of the points of the timestamp field.
+     */
+    private byte[] readMinTimestamp(SegmentCommitInfo info) throws IOException {
+        final SegmentInfo segmentInfo = info.info;
+        final Codec codec = segmentInfo.getCodec();
+        final Directory directory = segmentInfo.getUseCompoundFile()
+            ? codec.compoundFormat().getCompoundReader(segmentInfo.dir, segmentInfo, IOContext.READONCE)
+            : segmentInfo.dir;
+        try {
+            final FieldInfos fieldInfos = info.hasFieldUpdates()
+                ? codec.fieldInfosFormat()
+                    .read(segmentInfo.dir, segmentInfo, Long.toString(info.getFieldInfosGen(), Character.MAX_RADIX), IOContext.READONCE)
+                : codec.fieldInfosFormat().read(directory, segmentInfo, "", IOContext.READONCE);
+            final FieldInfo fieldInfo = fieldInfos.fieldInfo(timestampField);
+            if (fieldInfo == null || fieldInfo.getPointDimensionCount() != 1) {
+                return NO_TIMESTAMPS;
+            }
+            final SegmentReadState state = new SegmentReadState(directory, segmentInfo, fieldInfos, IOContext.READONCE);
+            try (PointsReader reader = codec.pointsFormat().fieldsReader(state)) {
+                final PointValues values = reader.getValues(timestampField);
+                return values == null ? NO_TIMESTAMPS : values.getMinPackedValue();
+            }
+        } finally {
+            if (directory != segmentInfo.dir) {
+                IOUtils.close(directory);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TimeOrderedMergePolicy{"
+            + "timestampField="
+            + timestampField
+            + ", mergeFactor="
+            + mergeFactor
+            + ", minMergeBytes="
+            + minMergeBytes
+            + ", maxMergedSegmentBytes="
+            + maxMergedSegmentBytes
+            + ", noCFSRatio="
+            + getNoCFSRatio()
+            + '}';
+    }
+
+    /**
+     * A segment with its smallest timestamp and its size.
+     */
+    private static final class Segment {
+        private final SegmentCommitInfo info;
+        private final byte[] minTimestamp;
+        private final long bytes;
+
+        private Segment(SegmentCommitInfo info, byte[] minTimestamp, long bytes) {
+            this.info = info;
+            this.minTimestamp = minTimestamp;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import static org.apache.lucene.index.LogMergePolicy.DEFAULT_NO_CFS_RATIO;
+
+/**
+ * <p>
+ * The time ordered merge policy is an alternative merge policy for indices with timestamps, which can be configured with
+ * <code>index.merge.policy: time_ordered</code> or as the default merge policy of time series indices using the
+ * <code>indices.time_series_index.default_index_merge_policy</code> setting.
+ *
+ * <p>
+ * The LogByteSizeMergePolicy merges segments that are adjacent in the index, which only keeps the timestamp ranges of segments
+ * apart as long as documents are indexed in timestamp order. The time ordered merge policy orders the segments by the smallest
+ * timestamp they contain instead, and only merges segments that are adjacent in this order, so late or out of order documents
+ * don't make merged segments span the ranges of other segments. Range queries and the can match phase can then skip the segments
+ * outside of their range even as segments grow older and larger.
+ *
+ * @opensearch.internal
+ */
+public class TimeOrderedMergePolicyProvider implements MergePolicyProvider {
+    private final TimeOrderedMergePolicy timeOrderedMergePolicy;
+
+    private final Logger logger;
+    private final boolean mergesEnabled;
+
+    public static final String DEFAULT_TIMESTAMP_FIELD = "@timestamp";
+
+    public static final Setting<String> INDEX_TIME_ORDERED_MERGE_POLICY_TIMESTAMP_FIELD_SETTING = Setting.simpleString(
+        "index.merge.time_ordered_policy.timestamp_field",
+        DEFAULT_TIMESTAMP_FIELD,
+        Setting.Property.IndexScope
+    );
+
+    public static final Setting<Integer> INDEX_TIME_ORDERED_MERGE_POLICY_MERGE_FACTOR_SETTING = Setting.intSetting(
+        "index.merge.time_ordered_policy.merge_factor",
+        LogByteSizeMergePolicyProvider.DEFAULT_MERGE_FACTOR,
+        2,
+        Setting.Property.Dynamic,
+        Setting.Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> INDEX_TIME_ORDERED_MERGE_POLICY_MIN_MERGE_SETTING = Setting.byteSizeSetting(
+        "index.merge.time_ordered_policy.min_merge",
+        LogByteSizeMergePolicyProvider.DEFAULT_MIN_MERGE,
+        Setting.Property.Dynamic,
+        Setting.Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> INDEX_TIME_ORDERED_MAX_MERGE_SEGMENT_SETTING = Setting.byteSizeSetting(
+        "index.merge.time_ordered_policy.max_merge_segment",
+        LogByteSizeMergePolicyProvider.DEFAULT_MAX_MERGED_SEGMENT,
+        Setting.Property.Dynamic,
+        Setting.Property.IndexScope
+    );
+
+    public static final Setting<Double> INDEX_TIME_ORDERED_NO_CFS_RATIO_SETTING = new Setting<>(
+        "index.merge.time_ordered_policy.no_cfs_ratio",
+        Double.toString(DEFAULT_NO_CFS_RATIO),
+        TieredMergePolicyProvider::parseNoCFSRatio,
+        Setting.Property.Dynamic,
+        Setting.Property.IndexScope
+    );
+
+    TimeOrderedMergePolicyProvider(Logger logger, IndexSettings indexSettings) {
+        this.logger = logger;
+        this.mergesEnabled = indexSettings.getSettings().getAsBoolean(INDEX_MERGE_ENABLED, true);
+        this.timeOrderedMergePolicy = new TimeOrderedMergePolicy(
+            indexSettings.getValue(INDEX_TIME_ORDERED_MERGE_POLICY_TIMESTAMP_FIELD_SETTING)
+        );
+        timeOrderedMergePolicy.setMergeFactor(indexSettings.getValue(INDEX_TIME_ORDERED_MERGE_POLICY_MERGE_FACTOR_SETTING));
+        timeOrderedMergePolicy.setMinMergeBytes(indexSettings.getValue(INDEX_TIME_ORDERED_MERGE_POLICY_MIN_MERGE_SETTING).getBytes());
+        timeOrderedMergePolicy.setMaxMergedSegmentBytes(indexSettings.getValue(INDEX_TIME_ORDERED_MAX_MERGE_SEGMENT_SETTING).getBytes());
+        timeOrderedMergePolicy.setNoCFSRatio(indexSettings.getValue(INDEX_TIME_ORDERED_NO_CFS_RATIO_SETTING));
+    }
+
+    @Override
+    public MergePolicy getMergePolicy() {
+        return mergesEnabled ? timeOrderedMergePolicy : NoMergePolicy.INSTANCE;
+    }
+
+    void setMergeFactor(int mergeFactor) {
+        timeOrderedMergePolicy.setMergeFactor(mergeFactor);
+    }
+
+    void setMinMerge(ByteSizeValue minMerge) {
+        timeOrderedMergePolicy.setMinMergeBytes(minMerge.getBytes());
+    }
+
+    void setMaxMergeSegment(ByteSizeValue maxMergeSegment) {
+        timeOrderedMergePolicy.setMaxMergedSegmentBytes(maxMergeSegment.getBytes());
+    }
+
+    void setNoCFSRatio(Double noCFSRatio) {
+        timeOrderedMergePolicy.setNoCFSRatio(noCFSRatio);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeOrderedMergePolicyProvider{" + timeOrderedMergePolicy + '}';
+    }
+
+}
@@ -39,7 +39,9 @@ import org.apache.lucene.codecs.lucene99.Lucene99Codec.Mode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.codec.startree.StarTreeCodec;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.StarTreeFieldMapper;
 
 import java.util.Map;
 
@@ -73,10 +75,10 @@ public class CodecService {
             codecs.put(BEST_COMPRESSION_CODEC, new Lucene99Codec(Mode.BEST_COMPRESSION));
             codecs.put(ZLIB, new Lucene99Codec(Mode.BEST_COMPRESSION));
         } else {
-            codecs.put(DEFAULT_CODEC, new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger));
-            codecs.put(LZ4, new PerFieldMappingPostingFormatCodec(Mode.BEST_SPEED, mapperService, logger));
-            codecs.put(BEST_COMPRESSION_CODEC, new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger));
-            codecs.put(ZLIB, new PerFieldMappingPostingFormatCodec(Mode.BEST_COMPRESSION, mapperService, logger));
+            codecs.put(DEFAULT_CODEC, perFieldMappingCodec(Mode.BEST_SPEED, mapperService, logger));
+            codecs.put(LZ4, perFieldMappingCodec(Mode.BEST_SPEED, mapperService, logger));
+            codecs.put(BEST_COMPRESSION_CODEC, perFieldMappingCodec(Mode.BEST_COMPRESSION, mapperService, logger));
+            codecs.put(ZLIB, perFieldMappingCodec(Mode.BEST_COMPRESSION, mapperService, logger));
         }
         codecs.put(LUCENE_DEFAULT_CODEC, Codec.getDefault());
         for (String codec : Codec.availableCodecs()) {
@@ -85,6 +87,18 @@ public class CodecService {
         this.codecs = codecs.immutableMap();
     }
 
+    /**
+     * Creates the codec of an index with a mapping, wrapped so that it builds star-trees if the mapping configures one.
+     * The codec is picked when the shard opens, so the star-tree must be part of the mapping the index is created with.
+     */
+    private static Codec perFieldMappingCodec(Mode compressionMode, MapperService mapperService, Logger logger) {
+        Codec codec = new PerFieldMappingPostingFormatCodec(compressionMode, mapperService, logger);
+        if (StarTreeFieldMapper.starTreeField(mapperService.documentMapper()) == null) {
+            return codec;
+        }
+        return new StarTreeCodec(codec, () -> StarTreeFieldMapper.starTreeField(mapperService.documentMapper()));
+    }
+
     @Deprecated(since = "2.9.0", forRemoval = true)
     public CodecService(@Nullable MapperService mapperService, Logger logger) {
         final MapBuilder<String, Codec> codecs = MapBuilder.<String, Codec>newMapBuilder();
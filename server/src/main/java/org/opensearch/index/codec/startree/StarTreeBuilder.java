@@ -0,0 +1,376 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BitUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefHash;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Aggregates the documents of a segment into the records of a star-tree.
+ * <p>
+ * The documents are first grouped by the values of all dimensions. The resulting records are sorted by dimension
+ * values, missing values first, and then rolled up one trailing dimension at a time: level {@code k} of the tree holds
+ * the records grouped by the first {@code k} dimensions only, the remaining ones being aggregated away (the "star").
+ * A request that groups by the first {@code k} dimensions reads level {@code k}, level {@code 0} holds a single record
+ * with the totals of the segment.
+ *
+ * @opensearch.internal
+ */
+final class StarTreeBuilder {
+
+    /**
+     * Maximum number of records per level, above that the segment isn't pre-aggregated.
+     */
+    static final int MAX_RECORDS = 1 << 19;
+
+    private final StarTreeField field;
+    private final int numDims;
+    private final int numMetrics;
+    private final long[] minValues;
+    private final long[] maxValues;
+
+    private Level[] levels;
+
+    StarTreeBuilder(StarTreeField field) {
+        this.field = field;
+        this.numDims = field.dimensions().size();
+        this.numMetrics = field.metrics().size();
+        this.minValues = new long[numDims];
+        this.maxValues = new long[numDims];
+    }
+
+    /**
+     * Aggregates the documents of a segment.
+     *
+     * @param maxDoc      the number of documents of the segment
+     * @param dimensions  the values of every dimension, in the order of the star-tree configuration
+     * @param metrics     the values of every metric, in the order of the star-tree configuration
+     * @param docCounts   the values of the {@code _doc_count} field, or {@code null} if no document has one
+     * @return {@code false} if the segment can't be pre-aggregated, e.g. because a dimension has several values
+     */
+    boolean aggregate(int maxDoc, FieldValues[] dimensions, SortedNumericDocValues[] metrics, NumericDocValues docCounts)
+        throws IOException {
+        assert dimensions.length == numDims && metrics.length == numMetrics;
+        final int keyLength = numDims * (1 + Long.BYTES);
+        final BytesRefHash keys = new BytesRefHash();
+        final BytesRef key = new BytesRef(new byte[keyLength]);
+        final long[] values = new long[numDims];
+        Level full = new Level(numDims, numMetrics);
+        for (int dim = 0; dim < numDims; dim++) {
+            minValues[dim] = Long.MAX_VALUE;
+            maxValues[dim] = Long.MIN_VALUE;
+        }
+        for (int doc = 0; doc < maxDoc; doc++) {
+            long missing = 0;
+            for (int dim = 0; dim < numDims; dim++) {
+                FieldValues dimValues = dimensions[dim];
+                if (dimValues.docID() < doc) {
+                    dimValues.nextDoc();
+                }
+                if (dimValues.docID() == doc) {
+                    if (dimValues.docValueCount() > 1) {
+                        return false;
+                    }
+                    long value = dimValues.nextValue();
+                    if (field.dimensions().get(dim).type() == StarTreeField.DimensionType.DATE) {
+                        value = Math.floorDiv(value, field.dateInterval()) * field.dateInterval();
+                    }
+                    values[dim] = value;
+                    minValues[dim] = Math.min(minValues[dim], value);
+                    maxValues[dim] = Math.max(maxValues[dim], value);
+                } else {
+                    missing |= 1L << dim;
+                    values[dim] = 0;
+                }
+            }
+            encodeKey(key.bytes, missing, values);
+            int ord = keys.add(key);
+            if (ord >= 0) {
+                if (ord >= MAX_RECORDS) {
+                    return false;
+                }
+                full.add(missing, values, 0, 0);
+            } else {
+                ord = -1 - ord;
+            }
+            long docCount = 1;
+            if (docCounts != null) {
+                if (docCounts.docID() < doc) {
+                    docCounts.nextDoc();
+                }
+                if (docCounts.docID() == doc) {
+                    docCount = docCounts.longValue();
+                }
+            }
+            full.docCounts[ord] += docCount;
+            for (int metric = 0; metric < numMetrics; metric++) {
+                SortedNumericDocValues metricValues = metrics[metric];
+                if (metricValues.docID() < doc) {
+                    metricValues.nextDoc();
+                }
+                if (metricValues.docID() == doc) {
+                    StarTreeField.MetricType type = field.metrics().get(metric).type();
+                    for (int i = 0, count = metricValues.docValueCount(); i < count; i++) {
+                        full.collectMetric(ord, metric, type.toDouble(metricValues.nextValue()));
+                    }
+                }
+            }
+        }
+        if (full.size > maxDoc / 2) {
+            // pre-aggregating is only worth it if it at least halves the number of entries to visit
+            return false;
+        }
+
+        final int[] sortedOrds = keys.sort();
+        final Level sorted = new Level(numDims, numMetrics);
+        for (int i = 0; i < full.size; i++) {
+            sorted.copyFrom(full, sortedOrds[i]);
+        }
+        levels = new Level[numDims + 1];
+        levels[numDims] = sorted;
+        for (int level = numDims - 1; level >= 0; level--) {
+            levels[level] = levels[level + 1].rollup();
+        }
+        return true;
+    }
+
+    /**
+     * Writes the configuration and the records of the star-tree, must be called after a successful {@link #aggregate}.
+     */
+    void write(IndexOutput out) throws IOException {
+        assert levels != null;
+        List<StarTreeField.Dimension> dimensions = field.dimensions();
+        out.writeVInt(numDims);
+        for (int dim = 0; dim < numDims; dim++) {
+            out.writeString(dimensions.get(dim).field());
+            out.writeByte(dimensions.get(dim).type().id());
+            out.writeLong(minValues[dim]);
+            out.writeLong(maxValues[dim]);
+        }
+        out.writeVLong(field.dateInterval());
+        out.writeVInt(numMetrics);
+        for (StarTreeField.Metric metric : field.metrics()) {
+            out.writeString(metric.field());
+        }
+        for (Level level : levels) {
+            level.write(out);
+        }
+    }
+
+    /**
+     * Encodes the dimension values so that keys sort like the values: missing first, then by signed value.
+     */
+    private void encodeKey(byte[] key, long missing, long[] values) {
+        int offset = 0;
+        for (int dim = 0; dim < numDims; dim++) {
+            boolean isMissing = (missing & (1L << dim)) != 0;
+            key[offset++] = (byte) (isMissing ? 0 : 1);
+            BitUtil.VH_BE_LONG.set(key, offset, isMissing ? 0L : values[dim] ^ Long.MIN_VALUE);
+            offset += Long.BYTES;
+        }
+    }
+
+    /**
+     * The records of one level of the star-tree, stored column-wise in growable arrays.
+     */
+    private static final class Level {
+        private final int numDims;
+        private final int numMetrics;
+        private int size;
+        private long[] missing = new long[16];
+        private long[] values;
+        private long[] docCounts = new long[16];
+        private long[] valueCounts;
+        private double[] sums;
+        private double[] mins;
+        private double[] maxs;
+
+        Level(int numDims, int numMetrics) {
+            this.numDims = numDims;
+            this.numMetrics = numMetrics;
+            this.values = new long[16 * numDims];
+            this.valueCounts = new long[16 * numMetrics];
+            this.sums = new double[16 * numMetrics];
+            this.mins = new double[16 * numMetrics];
+            this.maxs = new double[16 * numMetrics];
+        }
+
+        /**
+         * Appends an empty record with the given dimension values.
+         */
+        void add(long missingBits, long[] dimValues, int dimOffset, long docCount) {
+            if (size == missing.length) {
+                missing = ArrayUtil.grow(missing, size + 1);
+                docCounts = ArrayUtil.growExact(docCounts, missing.length);
+                values = ArrayUtil.growExact(values, missing.length * numDims);
+                valueCounts = ArrayUtil.growExact(valueCounts, missing.length * numMetrics);
+                sums = ArrayUtil.growExact(sums, missing.length * numMetrics);
+                mins = ArrayUtil.growExact(mins, missing.length * numMetrics);
+                maxs = ArrayUtil.growExact(maxs, missing.length * numMetrics);
+            }
+            missing[size] = missingBits;
+            System.arraycopy(dimValues, dimOffset, values, size * numDims, numDims);
+            docCounts[size] = docCount;
+            for (int metric = size * numMetrics; metric < (size + 1) * numMetrics; metric++) {
+                valueCounts[metric] = 0;
+                sums[metric] = 0;
+                mins[metric] = Double.POSITIVE_INFINITY;
+                maxs[metric] = Double.NEGATIVE_INFINITY;
+            }
+            size++;
+        }
+
+        void collectMetric(int record, int metric, double value) {
+            int index = record * numMetrics + metric;
+            valueCounts[index]++;
+            sums[index] += value;
+            mins[index] = Math.min(mins[index], value);
+            maxs[index] = Math.max(maxs[index], value);
+        }
+
+        /**
+         * Appends the record of another level, keeping only the dimensions of this level.
+         */
+        void copyFrom(Level other, int record) {
+            add(other.missing[record] & ((1L << numDims) - 1), other.values, record * other.numDims, other.docCounts[record]);
+            mergeMetrics(size - 1, other, record);
+        }
+
+        void mergeMetrics(int record, Level other, int otherRecord) {
+            for (int metric = 0; metric < numMetrics; metric++) {
+                int index = record * numMetrics + metric;
+                int otherIndex = otherRecord * numMetrics + metric;
+                valueCounts[index] += other.valueCounts[otherIndex];
+                sums[index] += other.sums[otherIndex];
+                mins[index] = Math.min(mins[index], other.mins[otherIndex]);
+                maxs[index] = Math.max(maxs[index], other.maxs[otherIndex]);
+            }
+        }
+
+        /**
+         * Builds the level above this one by aggregating away the last dimension. Records that share all other
+         * dimension values are adjacent since the records are sorted.
+         */
+        Level rollup() {
+            Level parent = new Level(numDims - 1, numMetrics);
+            long prefixMask = (1L << parent.numDims) - 1;
+            for (int record = 0; record < size; record++) {
+                int last = parent.size - 1;
+                if (last >= 0 && samePrefix(parent, last, record, prefixMask)) {
+                    parent.docCounts[last] += docCounts[record];
+                    parent.mergeMetrics(last, this, record);
+                } else {
+                    parent.copyFrom(this, record);
+                }
+            }
+            return parent;
+        }
+
+        private boolean samePrefix(Level parent, int parentRecord, int record, long prefixMask) {
+            if (parent.missing[parentRecord] != (missing[record] & prefixMask)) {
+                return false;
+            }
+            for (int dim = 0; dim < parent.numDims; dim++) {
+                if (parent.values[parentRecord * parent.numDims + dim] != values[record * numDims + dim]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void write(IndexOutput out) throws IOException {
+            out.writeVInt(size);
+            for (int record = 0; record < size; record++) {
+                out.writeLong(missing[record]);
+                for (int dim = 0; dim < numDims; dim++) {
+                    out.writeLong(values[record * numDims + dim]);
+                }
+                out.writeLong(docCounts[record]);
+                for (int metric = 0; metric < numMetrics; metric++) {
+                    int index = record * numMetrics + metric;
+                    out.writeLong(valueCounts[index]);
+                    out.writeLong(Double.doubleToRawLongBits(sums[index]));
+                    out.writeLong(Double.doubleToRawLongBits(mins[index]));
+                    out.writeLong(Double.doubleToRawLongBits(maxs[index]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Single valued view of the values of a dimension field, iterated in doc id order.
+     */
+    abstract static class FieldValues {
+
+        abstract int docID();
+
+        abstract int nextDoc() throws IOException;
+
+        abstract int docValueCount();
+
+        abstract long nextValue() throws IOException;
+
+        static FieldValues of(SortedNumericDocValues values) {
+            return new FieldValues() {
+                @Override
+                int docID() {
+                    return values.docID();
+                }
+
+                @Override
+                int nextDoc() throws IOException {
+                    return values.nextDoc();
+                }
+
+                @Override
+                int docValueCount() {
+                    return values.docValueCount();
+                }
+
+                @Override
+                long nextValue() throws IOException {
+                    return values.nextValue();
+                }
+            };
+        }
+
+        static FieldValues of(SortedSetDocValues values) {
+            return new FieldValues() {
+                @Override
+                int docID() {
+                    return values.docID();
+                }
+
+                @Override
+                int nextDoc() throws IOException {
+                    return values.nextDoc();
+                }
+
+                @Override
+                int docValueCount() {
+                    return values.docValueCount();
+                }
+
+                @Override
+                long nextValue() throws IOException {
+                    return values.nextOrd();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+
+import java.util.function.Supplier;
+
+/**
+ * Codec that builds a star-tree for every segment on top of the formats of the delegate codec, see
+ * {@link StarTreeDocValuesFormat}. Only the doc values format differs from the delegate codec, so segments can be read
+ * with the default delegate.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeCodec extends FilterCodec {
+
+    /**
+     * This name is stored in segment infos. If changing the implementation of the codec, this name should be updated
+     * so that reads can work as expected.
+     */
+    public static final String STAR_TREE_CODEC_NAME = "StarTreeCodec99";
+
+    private final DocValuesFormat docValuesFormat;
+
+    public StarTreeCodec(Codec delegate, Supplier<StarTreeField> starTreeField) {
+        super(STAR_TREE_CODEC_NAME, delegate);
+        this.docValuesFormat = new StarTreeDocValuesFormat(delegate.docValuesFormat(), starTreeField);
+    }
+
+    // Needed for SPI
+    public StarTreeCodec() {
+        this(new Lucene99Codec(), () -> null);
+    }
+
+    @Override
+    public DocValuesFormat docValuesFormat() {
+        return docValuesFormat;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Doc values format that builds the star-tree of a segment, in its own file, from the doc values of the configured
+ * dimensions and metrics while they are written by the delegate format, both on flush and on merge.
+ * <p>
+ * This format is not registered by name: the delegate doc values formats record themselves per field, so segments are
+ * read back by the {@link StarTreeCodec} without configuration.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeDocValuesFormat extends DocValuesFormat {
+
+    /**
+     * This name is stored in headers. If changing the implementation for the format, this name/version should be updated
+     * so that reads can work as expected.
+     */
+    public static final String STAR_TREE_CODEC_NAME = "StarTree";
+
+    public static final int VERSION_START = 0;
+    public static final int VERSION_CURRENT = VERSION_START;
+
+    /** Extension of star-tree files */
+    public static final String STAR_TREE_FILE_EXTENSION = "stt";
+
+    /** Segment attribute that records that the segment has a star-tree */
+    static final String STAR_TREE_ATTRIBUTE = StarTreeDocValuesFormat.class.getSimpleName() + ".enabled";
+
+    private final DocValuesFormat delegate;
+    private final Supplier<StarTreeField> starTreeField;
+
+    /**
+     * @param delegate      the format that writes and reads the doc values themselves
+     * @param starTreeField the configuration of the star-tree, resolved for every new segment, may return {@code null}
+     */
+    public StarTreeDocValuesFormat(DocValuesFormat delegate, Supplier<StarTreeField> starTreeField) {
+        super(delegate.getName());
+        this.delegate = delegate;
+        this.starTreeField = starTreeField;
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        StarTreeField field = starTreeField.get();
+        DocValuesConsumer consumer = delegate.fieldsConsumer(state);
+        if (field == null || state.segmentSuffix.isEmpty() == false) {
+            // doc values updates are written with a suffix, they never change the dimensions or metrics of the star-tree
+            return consumer;
+        }
+        return new StarTreeDocValuesWriter(consumer, state, field);
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        DocValuesProducer producer = delegate.fieldsProducer(state);
+        if (state.segmentSuffix.isEmpty() == false || state.segmentInfo.getAttribute(STAR_TREE_ATTRIBUTE) == null) {
+            return producer;
+        }
+        return new StarTreeDocValuesReader(producer, state);
+    }
+}
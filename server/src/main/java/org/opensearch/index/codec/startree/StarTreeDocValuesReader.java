@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.util.io.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * Reads the doc values through the delegate producer and exposes the star-tree of the segment.
+ *
+ * @opensearch.internal
+ */
+final class StarTreeDocValuesReader extends DocValuesProducer {
+
+    private final DocValuesProducer delegate;
+    private final IndexInput data;
+    private final StarTreeValues starTreeValues;
+
+    StarTreeDocValuesReader(DocValuesProducer delegate, SegmentReadState state) throws IOException {
+        this.delegate = delegate;
+        String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            StarTreeDocValuesFormat.STAR_TREE_FILE_EXTENSION
+        );
+        IndexInput in = null;
+        boolean success = false;
+        try {
+            in = state.directory.openInput(fileName, state.context);
+            CodecUtil.checkIndexHeader(
+                in,
+                StarTreeDocValuesFormat.STAR_TREE_CODEC_NAME,
+                StarTreeDocValuesFormat.VERSION_START,
+                StarTreeDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            this.starTreeValues = new StarTreeValues(in);
+            CodecUtil.retrieveChecksum(in);
+            this.data = in;
+            success = true;
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(in, delegate);
+            }
+        }
+    }
+
+    StarTreeValues starTreeValues() {
+        return starTreeValues;
+    }
+
+    @Override
+    public NumericDocValues getNumeric(FieldInfo field) throws IOException {
+        return delegate.getNumeric(field);
+    }
+
+    @Override
+    public BinaryDocValues getBinary(FieldInfo field) throws IOException {
+        return delegate.getBinary(field);
+    }
+
+    @Override
+    public SortedDocValues getSorted(FieldInfo field) throws IOException {
+        return delegate.getSorted(field);
+    }
+
+    @Override
+    public SortedNumericDocValues getSortedNumeric(FieldInfo field) throws IOException {
+        return delegate.getSortedNumeric(field);
+    }
+
+    @Override
+    public SortedSetDocValues getSortedSet(FieldInfo field) throws IOException {
+        return delegate.getSortedSet(field);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+        delegate.checkIntegrity();
+        CodecUtil.checksumEntireFile(data);
+    }
+
+    @Override
+    public DocValuesProducer getMergeInstance() {
+        // merges rebuild the star-tree from the doc values
+        return delegate.getMergeInstance();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(data, delegate);
+    }
+}
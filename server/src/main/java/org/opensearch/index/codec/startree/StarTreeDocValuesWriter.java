@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the doc values through the delegate consumer, keeping hold of the producers of the star-tree fields, and
+ * builds the star-tree from them once all fields have been written.
+ *
+ * @opensearch.internal
+ */
+final class StarTreeDocValuesWriter extends DocValuesConsumer {
+
+    private final DocValuesConsumer delegate;
+    private final SegmentWriteState state;
+    private final StarTreeField starTreeField;
+    private final Map<String, DocValuesProducer> producers = new HashMap<>();
+    private final Map<String, FieldInfo> fieldInfos = new HashMap<>();
+
+    StarTreeDocValuesWriter(DocValuesConsumer delegate, SegmentWriteState state, StarTreeField starTreeField) {
+        this.delegate = delegate;
+        this.state = state;
+        this.starTreeField = starTreeField;
+    }
+
+    @Override
+    public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addNumericField(field, valuesProducer);
+        if (DocCountFieldMapper.NAME.equals(field.name)) {
+            capture(field, valuesProducer);
+        }
+    }
+
+    @Override
+    public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addBinaryField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedNumericField(field, valuesProducer);
+        if (isStarTreeField(field.name)) {
+            capture(field, valuesProducer);
+        }
+    }
+
+    @Override
+    public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedSetField(field, valuesProducer);
+        if (isStarTreeField(field.name)) {
+            capture(field, valuesProducer);
+        }
+    }
+
+    private void capture(FieldInfo field, DocValuesProducer valuesProducer) {
+        producers.put(field.name, valuesProducer);
+        fieldInfos.put(field.name, field);
+    }
+
+    private boolean isStarTreeField(String name) {
+        for (StarTreeField.Dimension dimension : starTreeField.dimensions()) {
+            if (dimension.field().equals(name)) {
+                return true;
+            }
+        }
+        for (StarTreeField.Metric metric : starTreeField.metrics()) {
+            if (metric.field().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        boolean success = false;
+        try {
+            writeStarTree();
+            success = true;
+        } finally {
+            if (success) {
+                IOUtils.close(delegate);
+            } else {
+                IOUtils.closeWhileHandlingException(delegate);
+            }
+        }
+    }
+
+    private void writeStarTree() throws IOException {
+        final int maxDoc = state.segmentInfo.maxDoc();
+        final List<StarTreeField.Dimension> dimensions = starTreeField.dimensions();
+        final List<StarTreeField.Metric> metrics = starTreeField.metrics();
+        final StarTreeBuilder.FieldValues[] dimensionValues = new StarTreeBuilder.FieldValues[dimensions.size()];
+        for (int dim = 0; dim < dimensionValues.length; dim++) {
+            StarTreeField.Dimension dimension = dimensions.get(dim);
+            DocValuesType expected = dimension.type() == StarTreeField.DimensionType.KEYWORD
+                ? DocValuesType.SORTED_SET
+                : DocValuesType.SORTED_NUMERIC;
+            if (hasUnexpectedType(dimension.field(), expected)) {
+                return;
+            }
+            FieldInfo fieldInfo = fieldInfos.get(dimension.field());
+            if (expected == DocValuesType.SORTED_SET) {
+                dimensionValues[dim] = StarTreeBuilder.FieldValues.of(
+                    fieldInfo == null ? DocValues.emptySortedSet() : producers.get(dimension.field()).getSortedSet(fieldInfo)
+                );
+            } else {
+                dimensionValues[dim] = StarTreeBuilder.FieldValues.of(
+                    fieldInfo == null ? DocValues.emptySortedNumeric() : producers.get(dimension.field()).getSortedNumeric(fieldInfo)
+                );
+            }
+        }
+        final SortedNumericDocValues[] metricValues = new SortedNumericDocValues[metrics.size()];
+        for (int metric = 0; metric < metricValues.length; metric++) {
+            String name = metrics.get(metric).field();
+            if (hasUnexpectedType(name, DocValuesType.SORTED_NUMERIC)) {
+                return;
+            }
+            FieldInfo fieldInfo = fieldInfos.get(name);
+            metricValues[metric] = fieldInfo == null ? DocValues.emptySortedNumeric() : producers.get(name).getSortedNumeric(fieldInfo);
+        }
+        NumericDocValues docCounts = null;
+        FieldInfo docCountInfo = fieldInfos.get(DocCountFieldMapper.NAME);
+        if (docCountInfo != null) {
+            docCounts = producers.get(DocCountFieldMapper.NAME).getNumeric(docCountInfo);
+        }
+
+        StarTreeBuilder builder = new StarTreeBuilder(starTreeField);
+        if (builder.aggregate(maxDoc, dimensionValues, metricValues, docCounts) == false) {
+            return;
+        }
+        String fileName = IndexFileNames.segmentFileName(
+            state.segmentInfo.name,
+            state.segmentSuffix,
+            StarTreeDocValuesFormat.STAR_TREE_FILE_EXTENSION
+        );
+        try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+            CodecUtil.writeIndexHeader(
+                out,
+                StarTreeDocValuesFormat.STAR_TREE_CODEC_NAME,
+                StarTreeDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(),
+                state.segmentSuffix
+            );
+            builder.write(out);
+            CodecUtil.writeFooter(out);
+        }
+        state.segmentInfo.putAttribute(StarTreeDocValuesFormat.STAR_TREE_ATTRIBUTE, Boolean.TRUE.toString());
+    }
+
+    /**
+     * Whether the segment has doc values of another type than expected for the given field, in which case the star-tree
+     * is not built. Fields without doc values in the segment are treated as having no values.
+     */
+    private boolean hasUnexpectedType(String field, DocValuesType expected) {
+        FieldInfo fieldInfo = state.fieldInfos.fieldInfo(field);
+        if (fieldInfo == null || fieldInfo.getDocValuesType() == DocValuesType.NONE) {
+            return false;
+        }
+        return fieldInfo.getDocValuesType() != expected || fieldInfos.containsKey(field) == false;
+    }
+}
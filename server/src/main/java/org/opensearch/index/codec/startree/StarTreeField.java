@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.util.NumericUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The resolved configuration of a star-tree: the dimensions records are grouped by, in order, and the numeric fields
+ * that are pre-aggregated for every record.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeField {
+
+    /**
+     * Maximum number of dimensions of a star-tree, the missing values of a record are tracked in a single long.
+     */
+    public static final int MAX_DIMENSIONS = 16;
+
+    private final List<Dimension> dimensions;
+    private final List<Metric> metrics;
+    private final long dateInterval;
+
+    public StarTreeField(List<Dimension> dimensions, List<Metric> metrics, long dateInterval) {
+        if (dimensions.isEmpty() || dimensions.size() > MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("a star-tree requires between 1 and " + MAX_DIMENSIONS + " dimensions");
+        }
+        if (dateInterval <= 0) {
+            throw new IllegalArgumentException("the date interval of a star-tree must be positive but was [" + dateInterval + "]");
+        }
+        this.dimensions = List.copyOf(dimensions);
+        this.metrics = List.copyOf(metrics);
+        this.dateInterval = dateInterval;
+    }
+
+    public List<Dimension> dimensions() {
+        return dimensions;
+    }
+
+    public List<Metric> metrics() {
+        return metrics;
+    }
+
+    /**
+     * The interval in milliseconds that the values of {@link DimensionType#DATE} dimensions are rounded down to.
+     */
+    public long dateInterval() {
+        return dateInterval;
+    }
+
+    /**
+     * How the values of a dimension are read and stored.
+     */
+    public enum DimensionType {
+        /** Segment ordinals of a single valued {@code keyword} field */
+        KEYWORD((byte) 0),
+        /** Raw values of a single valued integral field */
+        NUMERIC((byte) 1),
+        /** Milliseconds since the epoch of a single valued {@code date} field, rounded down to the date interval */
+        DATE((byte) 2);
+
+        private final byte id;
+
+        DimensionType(byte id) {
+            this.id = id;
+        }
+
+        byte id() {
+            return id;
+        }
+
+        static DimensionType fromId(byte id) {
+            for (DimensionType type : values()) {
+                if (type.id == id) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("unknown star-tree dimension type [" + id + "]");
+        }
+    }
+
+    /**
+     * How the sortable long doc values of a metric are decoded to the value that is aggregated.
+     */
+    public enum MetricType {
+        LONG {
+            @Override
+            public double toDouble(long raw) {
+                return raw;
+            }
+        },
+        DOUBLE {
+            @Override
+            public double toDouble(long raw) {
+                return NumericUtils.sortableLongToDouble(raw);
+            }
+        },
+        FLOAT {
+            @Override
+            public double toDouble(long raw) {
+                return NumericUtils.sortableIntToFloat((int) raw);
+            }
+        },
+        HALF_FLOAT {
+            @Override
+            public double toDouble(long raw) {
+                return HalfFloatPoint.sortableShortToHalfFloat((short) raw);
+            }
+        };
+
+        public abstract double toDouble(long raw);
+    }
+
+    /**
+     * A field the records of the star-tree are grouped by.
+     */
+    public static final class Dimension {
+        private final String field;
+        private final DimensionType type;
+
+        public Dimension(String field, DimensionType type) {
+            this.field = Objects.requireNonNull(field);
+            this.type = Objects.requireNonNull(type);
+        }
+
+        public String field() {
+            return field;
+        }
+
+        public DimensionType type() {
+            return type;
+        }
+    }
+
+    /**
+     * A numeric field whose value count, sum, min and max are pre-aggregated for every record of the star-tree.
+     */
+    public static final class Metric {
+        private final String field;
+        private final MetricType type;
+
+        public Metric(String field, MetricType type) {
+            this.field = Objects.requireNonNull(field);
+            this.type = Objects.requireNonNull(type);
+        }
+
+        public String field() {
+            return field;
+        }
+
+        public MetricType type() {
+            return type;
+        }
+    }
+}
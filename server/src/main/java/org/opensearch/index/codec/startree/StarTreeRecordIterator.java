@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.store.IndexInput;
+
+import java.io.IOException;
+
+/**
+ * Iterates over the records of one level of a star-tree. A record of level {@code k} has a value, possibly missing,
+ * for each of the first {@code k} dimensions, and the aggregated metrics of all the documents that have these values.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeRecordIterator {
+
+    private final IndexInput in;
+    private final int level;
+    private final int numMetrics;
+    private int remaining;
+
+    private long missing;
+    private final long[] dimensionValues;
+    private long docCount;
+    private final long[] valueCounts;
+    private final double[] sums;
+    private final double[] mins;
+    private final double[] maxs;
+
+    StarTreeRecordIterator(IndexInput in, int level, int numMetrics, int size) {
+        this.in = in;
+        this.level = level;
+        this.numMetrics = numMetrics;
+        this.remaining = size;
+        this.dimensionValues = new long[level];
+        this.valueCounts = new long[numMetrics];
+        this.sums = new double[numMetrics];
+        this.mins = new double[numMetrics];
+        this.maxs = new double[numMetrics];
+    }
+
+    /**
+     * Moves to the next record, returns {@code false} when all records have been visited.
+     */
+    public boolean next() throws IOException {
+        if (remaining == 0) {
+            return false;
+        }
+        remaining--;
+        missing = in.readLong();
+        for (int dim = 0; dim < level; dim++) {
+            dimensionValues[dim] = in.readLong();
+        }
+        docCount = in.readLong();
+        for (int metric = 0; metric < numMetrics; metric++) {
+            valueCounts[metric] = in.readLong();
+            sums[metric] = Double.longBitsToDouble(in.readLong());
+            mins[metric] = Double.longBitsToDouble(in.readLong());
+            maxs[metric] = Double.longBitsToDouble(in.readLong());
+        }
+        return true;
+    }
+
+    /**
+     * Whether the documents of the current record have a value for the given dimension.
+     */
+    public boolean hasDimensionValue(int dimension) {
+        assert dimension < level : "dimension [" + dimension + "] is aggregated away at level [" + level + "]";
+        return (missing & (1L << dimension)) == 0;
+    }
+
+    /**
+     * The value of the given dimension for the current record: a segment ordinal for keyword dimensions, the raw value
+     * for numeric dimensions and the rounded value for date dimensions.
+     */
+    public long dimensionValue(int dimension) {
+        assert hasDimensionValue(dimension);
+        return dimensionValues[dimension];
+    }
+
+    /**
+     * The number of documents aggregated in the current record, taking {@code _doc_count} into account.
+     */
+    public long docCount() {
+        return docCount;
+    }
+
+    /**
+     * The number of values of the given metric in the current record.
+     */
+    public long valueCount(int metric) {
+        return valueCounts[metric];
+    }
+
+    public double sum(int metric) {
+        return sums[metric];
+    }
+
+    /**
+     * The minimum value of the given metric, {@link Double#POSITIVE_INFINITY} if the record has no values.
+     */
+    public double min(int metric) {
+        return mins[metric];
+    }
+
+    /**
+     * The maximum value of the given metric, {@link Double#NEGATIVE_INFINITY} if the record has no values.
+     */
+    public double max(int metric) {
+        return maxs[metric];
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.FilterCodecReader;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.Nullable;
+
+import java.io.IOException;
+
+/**
+ * The star-tree of a segment: its configuration and access to the pre-aggregated records of each level.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeValues {
+
+    private final String[] dimensionFields;
+    private final StarTreeField.DimensionType[] dimensionTypes;
+    private final long[] minValues;
+    private final long[] maxValues;
+    private final long dateInterval;
+    private final String[] metricFields;
+    private final long[] levelOffsets;
+    private final int[] levelSizes;
+    private final IndexInput data;
+
+    /**
+     * Reads the star-tree of a segment from the given input, positioned right after the index header.
+     */
+    StarTreeValues(IndexInput data) throws IOException {
+        this.data = data;
+        int numDims = data.readVInt();
+        dimensionFields = new String[numDims];
+        dimensionTypes = new StarTreeField.DimensionType[numDims];
+        minValues = new long[numDims];
+        maxValues = new long[numDims];
+        for (int dim = 0; dim < numDims; dim++) {
+            dimensionFields[dim] = data.readString();
+            dimensionTypes[dim] = StarTreeField.DimensionType.fromId(data.readByte());
+            minValues[dim] = data.readLong();
+            maxValues[dim] = data.readLong();
+        }
+        dateInterval = data.readVLong();
+        int numMetrics = data.readVInt();
+        metricFields = new String[numMetrics];
+        for (int metric = 0; metric < numMetrics; metric++) {
+            metricFields[metric] = data.readString();
+        }
+        levelOffsets = new long[numDims + 1];
+        levelSizes = new int[numDims + 1];
+        for (int level = 0; level <= numDims; level++) {
+            levelSizes[level] = data.readVInt();
+            levelOffsets[level] = data.getFilePointer();
+            data.seek(levelOffsets[level] + (long) levelSizes[level] * recordBytes(level));
+        }
+    }
+
+    private long recordBytes(int level) {
+        return Long.BYTES * (2L + level + 4L * metricFields.length);
+    }
+
+    public int numDimensions() {
+        return dimensionFields.length;
+    }
+
+    public String dimensionField(int dimension) {
+        return dimensionFields[dimension];
+    }
+
+    public StarTreeField.DimensionType dimensionType(int dimension) {
+        return dimensionTypes[dimension];
+    }
+
+    /**
+     * The smallest value of the given dimension in the segment, {@link Long#MAX_VALUE} if no document has one.
+     */
+    public long minValue(int dimension) {
+        return minValues[dimension];
+    }
+
+    /**
+     * The largest value of the given dimension in the segment, {@link Long#MIN_VALUE} if no document has one.
+     */
+    public long maxValue(int dimension) {
+        return maxValues[dimension];
+    }
+
+    /**
+     * The interval in milliseconds that the values of date dimensions are rounded down to.
+     */
+    public long dateInterval() {
+        return dateInterval;
+    }
+
+    /**
+     * The index of the dimension on the given field, or {@code -1} if the field isn't a dimension of the star-tree.
+     */
+    public int dimensionIndex(String field) {
+        for (int dim = 0; dim < dimensionFields.length; dim++) {
+            if (dimensionFields[dim].equals(field)) {
+                return dim;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The index of the metric on the given field, or {@code -1} if the field isn't a metric of the star-tree.
+     */
+    public int metricIndex(String field) {
+        for (int metric = 0; metric < metricFields.length; metric++) {
+            if (metricFields[metric].equals(field)) {
+                return metric;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The number of records of the given level.
+     */
+    public int numRecords(int level) {
+        return levelSizes[level];
+    }
+
+    /**
+     * Iterates over the records grouped by the first {@code level} dimensions, in ascending order of their values.
+     */
+    public StarTreeRecordIterator records(int level) throws IOException {
+        IndexInput in = data.clone();
+        in.seek(levelOffsets[level]);
+        return new StarTreeRecordIterator(in, level, metricFields.length, levelSizes[level]);
+    }
+
+    /**
+     * Returns the star-tree of the segment behind the given reader, or {@code null} if it has none.
+     */
+    @Nullable
+    public static StarTreeValues forLeaf(LeafReader reader) {
+        LeafReader unwrapped = reader;
+        while (true) {
+            if (unwrapped instanceof FilterLeafReader) {
+                unwrapped = ((FilterLeafReader) unwrapped).getDelegate();
+            } else if (unwrapped instanceof FilterCodecReader) {
+                unwrapped = ((FilterCodecReader) unwrapped).getDelegate();
+            } else {
+                break;
+            }
+        }
+        if (unwrapped instanceof CodecReader) {
+            DocValuesProducer producer = ((CodecReader) unwrapped).getDocValuesReader();
+            if (producer instanceof StarTreeDocValuesReader) {
+                return ((StarTreeDocValuesReader) producer).starTreeValues();
+            }
+        }
+        return null;
+    }
+}
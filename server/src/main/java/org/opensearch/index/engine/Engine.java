@@ -1103,6 +1103,19 @@ public abstract class Engine implements Closeable {
     /** How much heap is used that would be freed by a refresh.  Note that this may throw {@link AlreadyClosedException}. */
     public abstract long getIndexBufferRAMBytesUsed();
 
+    /**
+     * How much heap is used by caches that only speed up indexing, and that are freed by {@link #writeIndexingBuffer()} and
+     * {@link #clearIndexingCaches()}. The indexing memory controller accounts it against the indexing buffer.
+     */
+    public long getIndexingCachesRAMBytesUsed() {
+        return 0;
+    }
+
+    /**
+     * Frees the caches that only speed up indexing, called once the shard became inactive.
+     */
+    public void clearIndexingCaches() {}
+
     final Segment[] getSegmentInfo(SegmentInfos lastCommittedSegmentInfos, boolean verbose) {
         ensureOpen();
         Map<String, Segment> segments = new HashMap<>();
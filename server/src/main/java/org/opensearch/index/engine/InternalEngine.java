@@ -78,6 +78,7 @@ import org.opensearch.common.lucene.LoggerInfoStream;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.lucene.uid.DocIdLookupCache;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
@@ -165,6 +166,9 @@ public class InternalEngine extends Engine {
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
     private final LiveVersionMap versionMap = new LiveVersionMap();
 
+    // the location of the live copy of frequently updated documents, used when the version map misses
+    private final DocIdLookupCache docIdLookupCache;
+
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
     private final IndexThrottle throttle;
@@ -240,6 +244,9 @@ public class InternalEngine extends Engine {
     ) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        // at most a tenth of the indexing buffer per shard: the version map covers the documents that are still in the buffer.
+        // The cache is accounted against the indexing buffer of the node, which bounds the memory used by all the shards.
+        this.docIdLookupCache = new DocIdLookupCache(engineConfig.getIndexingBufferSize().getBytes() / 10);
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -808,7 +815,9 @@ public class InternalEngine extends Engine {
             // load from index
             assert incrementIndexVersionLookup();
             try (Searcher searcher = acquireSearcher("load_seq_no", SearcherScope.INTERNAL)) {
-                final DocIdAndSeqNo docAndSeqNo = VersionsAndSeqNoResolver.loadDocIdAndSeqNo(searcher.getIndexReader(), op.uid());
+                final DocIdAndSeqNo docAndSeqNo = engineConfig.getIndexSettings().isEnableDocIdLookupCache()
+                    ? docIdLookupCache.loadDocIdAndSeqNo(searcher.getIndexReader(), op.uid())
+                    : VersionsAndSeqNoResolver.loadDocIdAndSeqNo(searcher.getIndexReader(), op.uid());
                 if (docAndSeqNo == null) {
                     status = OpVsLuceneDocStatus.LUCENE_DOC_NOT_FOUND;
                 } else if (op.seqNo() > docAndSeqNo.seqNo) {
@@ -833,7 +842,11 @@ public class InternalEngine extends Engine {
             assert incrementIndexVersionLookup(); // used for asserting in tests
             final VersionsAndSeqNoResolver.DocIdAndVersion docIdAndVersion;
             try (Searcher searcher = acquireSearcher("load_version", SearcherScope.INTERNAL)) {
-                docIdAndVersion = VersionsAndSeqNoResolver.loadDocIdAndVersion(searcher.getIndexReader(), op.uid(), loadSeqNo);
+                if (engineConfig.getIndexSettings().isEnableDocIdLookupCache()) {
+                    docIdAndVersion = docIdLookupCache.loadDocIdAndVersion(searcher.getIndexReader(), op.uid(), loadSeqNo);
+                } else {
+                    docIdAndVersion = VersionsAndSeqNoResolver.loadDocIdAndVersion(searcher.getIndexReader(), op.uid(), loadSeqNo);
+                }
             }
             if (docIdAndVersion != null) {
                 versionValue = new IndexVersionValue(null, docIdAndVersion.version, docIdAndVersion.seqNo, docIdAndVersion.primaryTerm);
@@ -1899,9 +1912,20 @@ public class InternalEngine extends Engine {
 
     @Override
     public void writeIndexingBuffer() throws EngineException {
+        docIdLookupCache.clear();
         refresh("write indexing buffer", SearcherScope.INTERNAL, false);
     }
 
+    @Override
+    public long getIndexingCachesRAMBytesUsed() {
+        return docIdLookupCache.ramBytesUsed();
+    }
+
+    @Override
+    public void clearIndexingCaches() {
+        docIdLookupCache.clear();
+    }
+
     @Override
     public boolean shouldPeriodicallyFlush() {
         ensureOpen();
@@ -2110,6 +2134,11 @@ public class InternalEngine extends Engine {
         versionMap.pruneTombstones(Long.MAX_VALUE, localCheckpointTracker.getMaxSeqNo());
     }
 
+    // for testing
+    final DocIdLookupCache getDocIdLookupCache() {
+        return docIdLookupCache;
+    }
+
     // for testing
     final Map<BytesRef, VersionValue> getVersionMap() {
         return Stream.concat(versionMap.getAllCurrent().entrySet().stream(), versionMap.getAllTombstones().entrySet().stream())
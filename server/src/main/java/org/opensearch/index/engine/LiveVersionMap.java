@@ -38,22 +38,30 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
-import org.opensearch.common.util.concurrent.KeyedLock;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Maps _uid value to its version information.
+ * <p>
+ * Uids are locked by stripes: each uid maps to one of {@link UidVersionTable#NUM_SEGMENTS} locks, which are created the first time they
+ * are used and also guard the segment of the uid in the {@link UidVersionTable}s that hold the live versions.
  *
  * @opensearch.internal
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    private static final VarHandle LOCKS = MethodHandles.arrayElementVarHandle(StripeLock[].class);
+
+    private final StripeLock[] locks = new StripeLock[UidVersionTable.NUM_SEGMENTS];
 
     /**
      * Looks up document version
@@ -62,13 +70,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private static final class VersionLookup {
 
-        /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
-         *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
-        final AtomicLong ramBytesUsed = new AtomicLong();
+        private static final VersionLookup EMPTY = new VersionLookup();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        /** Deletes are removed from the table, and only accounted against the tombstones, since refresh would not clear their RAM. */
+        private final UidVersionTable table = new UidVersionTable();
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,24 +91,21 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
-            this.map = map;
-        }
-
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return table.get(key);
         }
 
         VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+            return table.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return table.isEmpty();
         }
 
-        int size() {
-            return map.size();
+        /** Tracks bytes used by this map, i.e. what is freed on refresh. */
+        long ramBytesUsed() {
+            return table.ramBytesUsed();
         }
 
         boolean isUnsafe() {
@@ -115,7 +117,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+            return table.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -150,7 +152,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+            this(new VersionLookup(), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,11 +170,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(new VersionLookup(), current, shouldInheritSafeAccess());
         }
 
         /**
@@ -183,27 +181,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
-        }
-
-        void adjustRam(long value) {
-            if (value != 0) {
-                long v = current.ramBytesUsed.addAndGet(value);
-                assert v >= 0 : "bytes=" + v;
-            }
+            current.put(uid, version);
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -243,12 +226,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             3;
 
     /**
-     * Bytes used by having CHM point to a key/value.
+     * Bytes used by having the tombstones CHM point to a key/value.
      */
     private static final long BASE_BYTES_PER_CHM_ENTRY;
 
     static {
-        // use the same impl as the Maps does
+        // use the same impl as the tombstones do
         Map<Integer, Integer> map = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
         map.put(0, 0);
         long chmEntryShallowSize = RamUsageEstimator.shallowSizeOf(map.entrySet().iterator().next());
@@ -421,7 +404,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = tryAcquireLock(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -453,7 +436,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + ramBytesUsedTombstones.get();
     }
 
     /**
@@ -461,7 +444,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * don't clear on refresh.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsed();
     }
 
     /**
@@ -469,7 +452,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * except does not include tombstones because they don't clear on refresh.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsed();
     }
 
     @Override
@@ -479,10 +462,24 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     }
 
     /**
-     * Returns the current internal versions as a point in time snapshot
+     * Returns a snapshot of the current internal versions. Each stripe is locked in turn while it is copied, so this must not be called
+     * while holding the lock of a uid.
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        final VersionLookup current = maps.current;
+        final Map<BytesRef, VersionValue> snapshot = new HashMap<>();
+        for (int stripe = 0; stripe < UidVersionTable.NUM_SEGMENTS; stripe++) {
+            final StripeLock lock = (StripeLock) LOCKS.getVolatile(locks, stripe);
+            if (lock != null) {
+                lock.lock();
+                try {
+                    current.table.forEach(stripe, snapshot::put);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+        return snapshot;
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -495,14 +492,47 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Acquires a releaseable lock for the given uId. All *UnderLock methods require
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
-     * @see KeyedLock
+     * The lock is shared with the other uids of its stripe, and is reentrant.
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        final StripeLock lock = lock(uid);
+        lock.lock();
+        return lock;
+    }
+
+    /**
+     * Tries to acquire the lock of the given uid, returns {@code null} if it is held by another thread.
+     */
+    private Releasable tryAcquireLock(BytesRef uid) {
+        final StripeLock lock = lock(uid);
+        return lock.tryLock() ? lock : null;
+    }
+
+    private StripeLock lock(BytesRef uid) {
+        final int stripe = UidVersionTable.segment(uid);
+        final StripeLock lock = (StripeLock) LOCKS.getAcquire(locks, stripe);
+        if (lock != null) {
+            return lock;
+        }
+        final StripeLock newLock = new StripeLock();
+        final StripeLock witness = (StripeLock) LOCKS.compareAndExchange(locks, stripe, null, newLock);
+        return witness == null ? newLock : witness;
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert lock(uid).isHeldByCurrentThread() : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
+
+    /**
+     * The lock of a stripe of uids, which is released by closing it.
+     *
+     * @opensearch.internal
+     */
+    private static final class StripeLock extends ReentrantLock implements Releasable {
+        @Override
+        public void close() {
+            unlock();
+        }
+    }
 }
@@ -42,6 +42,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.ReplicationStats;
 import org.opensearch.index.codec.fuzzy.FuzzyFilterPostingsFormat;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
 import org.opensearch.index.remote.RemoteSegmentStats;
 
 import java.io.IOException;
@@ -97,7 +98,8 @@ public class SegmentsStats implements Writeable, ToXContentFragment {
         Map.entry("tvd", "Term Vector Documents"),
         Map.entry("tvf", "Term Vector Fields"),
         Map.entry("liv", "Live Documents"),
-        Map.entry(FuzzyFilterPostingsFormat.FUZZY_FILTER_FILE_EXTENSION, "Fuzzy Filter")
+        Map.entry(FuzzyFilterPostingsFormat.FUZZY_FILTER_FILE_EXTENSION, "Fuzzy Filter"),
+        Map.entry(StarTreeDocValuesFormat.STAR_TREE_FILE_EXTENSION, "Star Tree")
     );
 
     public SegmentsStats() {
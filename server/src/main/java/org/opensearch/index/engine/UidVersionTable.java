@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * An open addressing hash table from uids to their {@link VersionValue}, which backs the maps of {@link LiveVersionMap}.
+ * <p>
+ * The table is split in {@link #NUM_SEGMENTS} segments that are not thread-safe on their own: a segment must only be accessed while
+ * holding the lock of the stripe of the version map with the same number, which is also the stripe of all the uids of the segment (see
+ * {@link #segment(BytesRef)}). Since the engine holds the lock of a uid while it reads and writes its version, the table needs no
+ * synchronization of its own.
+ * <p>
+ * Segments use linear probing over parallel arrays of hashes, key addresses and values, and copy the bytes of their uids into pages that
+ * grow up to {@link PageCacheRecycler#BYTE_PAGE_SIZE}, so that adding an entry only allocates when a segment grows and the table does
+ * not retain the uids of the operations. The bytes of uids that are removed are only reclaimed when the table is dropped, which
+ * happens on every refresh. The memory used by the table is the exact size of its segments and their arrays and pages, plus the size of
+ * the values.
+ *
+ * @opensearch.internal
+ */
+final class UidVersionTable {
+
+    private static final int SEGMENT_BITS = 10;
+    static final int NUM_SEGMENTS = 1 << SEGMENT_BITS;
+
+    // must be a power of two
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int MIN_PAGE_SIZE = 64;
+    private static final int MAX_PAGE_SIZE = PageCacheRecycler.BYTE_PAGE_SIZE;
+
+    // the address of a key packs the index of its page, its offset in the page and its length
+    private static final int LENGTH_BITS = 20;
+    private static final int OFFSET_BITS = 20;
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    static final int MAX_KEY_LENGTH = (int) LENGTH_MASK;
+
+    private static final long SEGMENT_SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Segment.class);
+
+    private final Segment[] segments = new Segment[NUM_SEGMENTS];
+    private final AtomicLong ramBytesUsed = new AtomicLong();
+    private final AtomicLong size = new AtomicLong();
+
+    /**
+     * The segment of the uid, which is also the stripe of its lock in the version map.
+     */
+    static int segment(BytesRef uid) {
+        return segment(uid.hashCode());
+    }
+
+    private static int segment(int hash) {
+        return hash >>> (Integer.SIZE - SEGMENT_BITS);
+    }
+
+    VersionValue get(BytesRef uid) {
+        final int hash = uid.hashCode();
+        final Segment segment = segments[segment(hash)];
+        return segment == null ? null : segment.get(uid, hash);
+    }
+
+    VersionValue put(BytesRef uid, VersionValue value) {
+        if (uid.length > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("uid of length [" + uid.length + "] is longer than [" + MAX_KEY_LENGTH + "]");
+        }
+        final int hash = uid.hashCode();
+        final int index = segment(hash);
+        Segment segment = segments[index];
+        if (segment == null) {
+            segment = new Segment();
+            segments[index] = segment;
+            adjustRam(segment.ramBytesUsed);
+        }
+        final long ramBytesUsedBefore = segment.ramBytesUsed;
+        final VersionValue previous = segment.put(uid, hash, value);
+        adjustRam(segment.ramBytesUsed - ramBytesUsedBefore);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        return previous;
+    }
+
+    VersionValue remove(BytesRef uid) {
+        final int hash = uid.hashCode();
+        final Segment segment = segments[segment(hash)];
+        if (segment == null) {
+            return null;
+        }
+        final long ramBytesUsedBefore = segment.ramBytesUsed;
+        final VersionValue previous = segment.remove(uid, hash);
+        if (previous != null) {
+            adjustRam(segment.ramBytesUsed - ramBytesUsedBefore);
+            size.decrementAndGet();
+        }
+        return previous;
+    }
+
+    private void adjustRam(long value) {
+        if (value != 0) {
+            final long v = ramBytesUsed.addAndGet(value);
+            assert v >= 0 : "bytes=" + v;
+        }
+    }
+
+    /**
+     * Calls the consumer with a copy of each uid of the segment and its value. The caller must hold the lock of the segment.
+     */
+    void forEach(int segment, BiConsumer<BytesRef, VersionValue> consumer) {
+        if (segments[segment] != null) {
+            segments[segment].forEach(consumer);
+        }
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    long ramBytesUsed() {
+        return ramBytesUsed.get();
+    }
+
+    /**
+     * A segment of the table, only accessed under the lock of its stripe.
+     */
+    private static final class Segment {
+        private int[] hashes = new int[INITIAL_CAPACITY];
+        private long[] addresses = new long[INITIAL_CAPACITY];
+        // null marks free slots
+        private VersionValue[] values = new VersionValue[INITIAL_CAPACITY];
+        private int size;
+        private byte[][] pages = new byte[1][];
+        private int numPages;
+        // the offset of the free space of the last page
+        private int pageOffset;
+        private long ramBytesUsed = SEGMENT_SHALLOW_SIZE + slotsRamBytesUsed() + RamUsageEstimator.shallowSizeOf(pages);
+
+        VersionValue get(BytesRef uid, int hash) {
+            final int slot = slot(uid, hash);
+            return slot >= 0 ? values[slot] : null;
+        }
+
+        VersionValue put(BytesRef uid, int hash, VersionValue value) {
+            int slot = slot(uid, hash);
+            if (slot >= 0) {
+                final VersionValue previous = values[slot];
+                values[slot] = value;
+                ramBytesUsed += value.ramBytesUsed() - previous.ramBytesUsed();
+                return previous;
+            }
+            if (size + 1 > (values.length >>> 1) + (values.length >>> 2)) {
+                resize(values.length << 1);
+                slot = freeSlot(hash);
+            } else {
+                slot = -1 - slot;
+            }
+            hashes[slot] = hash;
+            addresses[slot] = copyKey(uid);
+            values[slot] = value;
+            size++;
+            ramBytesUsed += value.ramBytesUsed();
+            return null;
+        }
+
+        VersionValue remove(BytesRef uid, int hash) {
+            final int slot = slot(uid, hash);
+            if (slot < 0) {
+                return null;
+            }
+            final VersionValue previous = values[slot];
+            size--;
+            ramBytesUsed -= previous.ramBytesUsed();
+            // shift back the entries that follow the removed one in their probe sequence, so that lookups don't need tombstones
+            final int mask = values.length - 1;
+            int free = slot;
+            for (int i = (slot + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+                final int ideal = hashes[i] & mask;
+                if (((i - ideal) & mask) >= ((i - free) & mask)) {
+                    hashes[free] = hashes[i];
+                    addresses[free] = addresses[i];
+                    values[free] = values[i];
+                    free = i;
+                }
+            }
+            values[free] = null;
+            return previous;
+        }
+
+        void forEach(BiConsumer<BytesRef, VersionValue> consumer) {
+            for (int slot = 0; slot < values.length; slot++) {
+                if (values[slot] != null) {
+                    final long address = addresses[slot];
+                    final int offset = offset(address);
+                    consumer.accept(new BytesRef(Arrays.copyOfRange(page(address), offset, offset + length(address))), values[slot]);
+                }
+            }
+        }
+
+        /**
+         * Returns the slot of the uid if it is in the segment, or {@code -1 - slot} where slot is the free slot it would be added to.
+         */
+        private int slot(BytesRef uid, int hash) {
+            final int mask = values.length - 1;
+            for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+                if (values[slot] == null) {
+                    return -1 - slot;
+                }
+                if (hashes[slot] == hash && keyEquals(addresses[slot], uid)) {
+                    return slot;
+                }
+            }
+        }
+
+        private int freeSlot(int hash) {
+            final int mask = values.length - 1;
+            int slot = hash & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private boolean keyEquals(long address, BytesRef uid) {
+            final int length = length(address);
+            if (length != uid.length) {
+                return false;
+            }
+            final int offset = offset(address);
+            return Arrays.equals(page(address), offset, offset + length, uid.bytes, uid.offset, uid.offset + uid.length);
+        }
+
+        private void resize(int capacity) {
+            final int[] oldHashes = hashes;
+            final long[] oldAddresses = addresses;
+            final VersionValue[] oldValues = values;
+            ramBytesUsed -= slotsRamBytesUsed();
+            hashes = new int[capacity];
+            addresses = new long[capacity];
+            values = new VersionValue[capacity];
+            ramBytesUsed += slotsRamBytesUsed();
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    final int slot = freeSlot(oldHashes[i]);
+                    hashes[slot] = oldHashes[i];
+                    addresses[slot] = oldAddresses[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private long copyKey(BytesRef uid) {
+            if (numPages == 0 || pageOffset + uid.length > pages[numPages - 1].length) {
+                addPage(uid.length);
+            }
+            final int offset = pageOffset;
+            System.arraycopy(uid.bytes, uid.offset, pages[numPages - 1], offset, uid.length);
+            pageOffset += uid.length;
+            return ((long) (numPages - 1) << (OFFSET_BITS + LENGTH_BITS)) | ((long) offset << LENGTH_BITS) | uid.length;
+        }
+
+        private void addPage(int minSize) {
+            if (numPages == pages.length) {
+                ramBytesUsed -= RamUsageEstimator.shallowSizeOf(pages);
+                pages = Arrays.copyOf(pages, numPages << 1);
+                ramBytesUsed += RamUsageEstimator.shallowSizeOf(pages);
+            }
+            final int pageSize = numPages == 0 ? MIN_PAGE_SIZE : Math.min(pages[numPages - 1].length << 1, MAX_PAGE_SIZE);
+            final byte[] page = new byte[Math.max(pageSize, minSize)];
+            pages[numPages++] = page;
+            pageOffset = 0;
+            ramBytesUsed += RamUsageEstimator.sizeOf(page);
+        }
+
+        private long slotsRamBytesUsed() {
+            return RamUsageEstimator.sizeOf(hashes) + RamUsageEstimator.sizeOf(addresses) + RamUsageEstimator.shallowSizeOf(values);
+        }
+
+        private byte[] page(long address) {
+            return pages[(int) (address >>> (OFFSET_BITS + LENGTH_BITS))];
+        }
+
+        private static int offset(long address) {
+            return (int) ((address >>> LENGTH_BITS) & OFFSET_MASK);
+        }
+
+        private static int length(long address) {
+            return (int) (address & LENGTH_MASK);
+        }
+    }
+}
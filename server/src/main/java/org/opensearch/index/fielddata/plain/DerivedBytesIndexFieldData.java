@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.plain;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.SortField;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+import org.opensearch.index.fielddata.fieldcomparator.BytesRefFieldComparatorSource;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.MultiValueMode;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.ValuesSourceType;
+import org.opensearch.search.sort.BucketedSort;
+import org.opensearch.search.sort.SortOrder;
+
+import java.io.IOException;
+
+/**
+ * String field data of a derived field, computed by its script and cached per segment.
+ *
+ * @opensearch.internal
+ */
+public class DerivedBytesIndexFieldData implements IndexFieldData<DerivedLeafFieldData> {
+
+    /**
+     * Builder for derived bytes index field data
+     *
+     * @opensearch.internal
+     */
+    public static class Builder implements IndexFieldData.Builder {
+        private final String name;
+        private final CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader;
+
+        public Builder(String name, CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        @Override
+        public DerivedBytesIndexFieldData build(IndexFieldDataCache cache, CircuitBreakerService breakerService) {
+            return new DerivedBytesIndexFieldData(name, loader, cache, breakerService);
+        }
+    }
+
+    private final String fieldName;
+    private final CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader;
+    private final IndexFieldDataCache cache;
+    private final CircuitBreakerService breakerService;
+
+    public DerivedBytesIndexFieldData(
+        String fieldName,
+        CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader,
+        IndexFieldDataCache cache,
+        CircuitBreakerService breakerService
+    ) {
+        this.fieldName = fieldName;
+        this.loader = loader;
+        this.cache = cache;
+        this.breakerService = breakerService;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public ValuesSourceType getValuesSourceType() {
+        return CoreValuesSourceType.BYTES;
+    }
+
+    @Override
+    public DerivedLeafFieldData load(LeafReaderContext context) {
+        try {
+            return cache.load(context, this);
+        } catch (Exception e) {
+            if (e instanceof OpenSearchException) {
+                throw (OpenSearchException) e;
+            } else {
+                throw new OpenSearchException(e);
+            }
+        }
+    }
+
+    @Override
+    public DerivedLeafFieldData loadDirect(LeafReaderContext context) throws Exception {
+        DerivedFieldValues values = loader.apply(context);
+        breakerService.getBreaker(CircuitBreaker.FIELDDATA).addEstimateBytesAndMaybeBreak(values.ramBytesUsed(), fieldName);
+        return new DerivedBytesLeafFieldData(values);
+    }
+
+    @Override
+    public SortField sortField(
+        @Nullable Object missingValue,
+        MultiValueMode sortMode,
+        XFieldComparatorSource.Nested nested,
+        boolean reverse
+    ) {
+        XFieldComparatorSource source = new BytesRefFieldComparatorSource(this, missingValue, sortMode, nested);
+        return new SortField(getFieldName(), source, reverse);
+    }
+
+    @Override
+    public BucketedSort newBucketedSort(
+        BigArrays bigArrays,
+        Object missingValue,
+        MultiValueMode sortMode,
+        XFieldComparatorSource.Nested nested,
+        SortOrder sortOrder,
+        DocValueFormat format,
+        int bucketSize,
+        BucketedSort.ExtraData extra
+    ) {
+        throw new IllegalArgumentException("only supported on numeric fields");
+    }
+
+    /**
+     * Derived field data for strings.
+     *
+     * @opensearch.internal
+     */
+    static final class DerivedBytesLeafFieldData implements DerivedLeafFieldData {
+        private final DerivedFieldValues values;
+
+        DerivedBytesLeafFieldData(DerivedFieldValues values) {
+            this.values = values;
+        }
+
+        @Override
+        public ScriptDocValues<String> getScriptValues() {
+            return new ScriptDocValues.Strings(getBytesValues());
+        }
+
+        @Override
+        public SortedBinaryDocValues getBytesValues() {
+            return values.bytesValues();
+        }
+
+        @Override
+        public DerivedFieldValues getDerivedFieldValues() {
+            return values;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return values.ramBytesUsed();
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.plain;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.index.fielddata.AbstractSortedNumericDocValues;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.script.DerivedFieldScript;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * The values of a derived field for all the documents of a segment. They are computed once by running the script of
+ * the field on every live document and are then kept in the field data cache, so that later searches neither run the
+ * script nor parse {@code _source} again.
+ *
+ * @opensearch.internal
+ */
+public final class DerivedFieldValues implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(DerivedFieldValues.class);
+    private static final long BYTES_REF_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(BytesRef.class);
+
+    // the sorted values of a document are at the indices [docStarts[doc], docStarts[doc + 1])
+    private final int[] docStarts;
+    private final long[] longs;
+    private final BytesRef[] bytes;
+    private final long ramBytesUsed;
+
+    private DerivedFieldValues(int[] docStarts, long[] longs, BytesRef[] bytes, long ramBytesUsed) {
+        this.docStarts = docStarts;
+        this.longs = longs;
+        this.bytes = bytes;
+        this.ramBytesUsed = ramBytesUsed;
+    }
+
+    /**
+     * The index of the first value of the given document.
+     */
+    public int valueStart(int doc) {
+        return docStarts[doc];
+    }
+
+    /**
+     * The number of values of the given document.
+     */
+    public int valueCount(int doc) {
+        return docStarts[doc + 1] - docStarts[doc];
+    }
+
+    public long longAt(int index) {
+        return longs[index];
+    }
+
+    public BytesRef bytesAt(int index) {
+        return bytes[index];
+    }
+
+    /**
+     * A doc values view of numeric values.
+     */
+    public SortedNumericDocValues longValues() {
+        assert longs != null;
+        return new AbstractSortedNumericDocValues() {
+            private int count;
+            private int index;
+
+            @Override
+            public boolean advanceExact(int target) {
+                index = docStarts[target];
+                count = docStarts[target + 1] - index;
+                return count > 0;
+            }
+
+            @Override
+            public long nextValue() {
+                return longs[index++];
+            }
+
+            @Override
+            public int docValueCount() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * A doc values view of binary values.
+     */
+    public SortedBinaryDocValues bytesValues() {
+        assert bytes != null;
+        return new SortedBinaryDocValues() {
+            private int count;
+            private int index;
+
+            @Override
+            public boolean advanceExact(int target) {
+                index = docStarts[target];
+                count = docStarts[target + 1] - index;
+                return count > 0;
+            }
+
+            @Override
+            public int docValueCount() {
+                return count;
+            }
+
+            @Override
+            public BytesRef nextValue() {
+                return bytes[index++];
+            }
+        };
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        return ramBytesUsed;
+    }
+
+    /**
+     * Runs the script on every live document of the segment and converts the values it returns to longs.
+     */
+    public static DerivedFieldValues loadLongs(
+        LeafReaderContext context,
+        DerivedFieldScript script,
+        boolean skipNestedDocs,
+        ToLongFunction<Object> converter
+    ) throws IOException {
+        final LeafReader reader = context.reader();
+        final int maxDoc = reader.maxDoc();
+        final Bits liveDocs = reader.getLiveDocs();
+        final Bits rootDocs = skipNestedDocs ? rootDocs(reader) : null;
+        final int[] docStarts = new int[maxDoc + 1];
+        long[] values = new long[0];
+        int count = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            docStarts[doc] = count;
+            if ((liveDocs != null && liveDocs.get(doc) == false) || (rootDocs != null && rootDocs.get(doc) == false)) {
+                continue;
+            }
+            script.setDocument(doc);
+            for (Object value : scriptValues(script.execute())) {
+                if (value != null) {
+                    values = ArrayUtil.grow(values, count + 1);
+                    values[count++] = converter.applyAsLong(value);
+                }
+            }
+            Arrays.sort(values, docStarts[doc], count);
+        }
+        docStarts[maxDoc] = count;
+        values = ArrayUtil.copyOfSubArray(values, 0, count);
+        long ramBytesUsed = BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(docStarts) + RamUsageEstimator.sizeOf(values);
+        return new DerivedFieldValues(docStarts, values, null, ramBytesUsed);
+    }
+
+    /**
+     * Runs the script on every live document of the segment and converts the values it returns to bytes.
+     */
+    public static DerivedFieldValues loadBytes(
+        LeafReaderContext context,
+        DerivedFieldScript script,
+        boolean skipNestedDocs,
+        Function<Object, BytesRef> converter
+    ) throws IOException {
+        final LeafReader reader = context.reader();
+        final int maxDoc = reader.maxDoc();
+        final Bits liveDocs = reader.getLiveDocs();
+        final Bits rootDocs = skipNestedDocs ? rootDocs(reader) : null;
+        final int[] docStarts = new int[maxDoc + 1];
+        BytesRef[] values = new BytesRef[0];
+        int count = 0;
+        long valuesRamBytesUsed = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            docStarts[doc] = count;
+            if ((liveDocs != null && liveDocs.get(doc) == false) || (rootDocs != null && rootDocs.get(doc) == false)) {
+                continue;
+            }
+            script.setDocument(doc);
+            for (Object value : scriptValues(script.execute())) {
+                if (value != null) {
+                    BytesRef bytesRef = converter.apply(value);
+                    values = ArrayUtil.grow(values, count + 1);
+                    values[count++] = bytesRef;
+                    valuesRamBytesUsed += BYTES_REF_RAM_BYTES_USED + RamUsageEstimator.sizeOf(bytesRef.bytes);
+                }
+            }
+            Arrays.sort(values, docStarts[doc], count);
+        }
+        docStarts[maxDoc] = count;
+        values = ArrayUtil.copyOfSubArray(values, 0, count);
+        long ramBytesUsed = BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(docStarts) + RamUsageEstimator.shallowSizeOf(values)
+            + valuesRamBytesUsed;
+        return new DerivedFieldValues(docStarts, null, values, ramBytesUsed);
+    }
+
+    /**
+     * The values returned by a derived field script: either a single value, a collection or an array of values, or
+     * {@code null} if the document has no value.
+     */
+    public static Collection<?> scriptValues(Object result) {
+        if (result == null) {
+            return Collections.emptyList();
+        } else if (result instanceof Collection) {
+            return (Collection<?>) result;
+        } else if (result instanceof Object[]) {
+            return Arrays.asList((Object[]) result);
+        }
+        return Collections.singletonList(result);
+    }
+
+    /**
+     * Nested documents don't have a primary term, only the root documents do.
+     */
+    private static Bits rootDocs(LeafReader reader) throws IOException {
+        FixedBitSet rootDocs = new FixedBitSet(reader.maxDoc());
+        NumericDocValues primaryTerms = DocValues.getNumeric(reader, SeqNoFieldMapper.PRIMARY_TERM_NAME);
+        for (int doc = primaryTerms.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = primaryTerms.nextDoc()) {
+            rootDocs.set(doc);
+        }
+        return rootDocs;
+    }
+}
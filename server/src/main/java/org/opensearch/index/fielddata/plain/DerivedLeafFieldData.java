@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.plain;
+
+import org.opensearch.index.fielddata.LeafFieldData;
+
+/**
+ * Field data of a derived field for a segment, backed by the values that were computed by its script.
+ *
+ * @opensearch.internal
+ */
+public interface DerivedLeafFieldData extends LeafFieldData {
+
+    /**
+     * The values of all the documents of the segment.
+     */
+    DerivedFieldValues getDerivedFieldValues();
+}
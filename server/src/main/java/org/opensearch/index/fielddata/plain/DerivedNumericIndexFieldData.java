@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddata.plain;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.util.Accountable;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.fielddata.LeafNumericFieldData;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.search.aggregations.support.ValuesSourceType;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Numeric field data of a derived field, computed by its script and cached per segment.
+ *
+ * @opensearch.internal
+ */
+public class DerivedNumericIndexFieldData extends IndexNumericFieldData {
+
+    /**
+     * Builder for derived numeric index field data
+     *
+     * @opensearch.internal
+     */
+    public static class Builder implements IndexFieldData.Builder {
+        private final String name;
+        private final NumericType numericType;
+        private final CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader;
+
+        public Builder(String name, NumericType numericType, CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader) {
+            this.name = name;
+            this.numericType = numericType;
+            this.loader = loader;
+        }
+
+        @Override
+        public DerivedNumericIndexFieldData build(IndexFieldDataCache cache, CircuitBreakerService breakerService) {
+            return new DerivedNumericIndexFieldData(name, numericType, loader, cache, breakerService);
+        }
+    }
+
+    private final String fieldName;
+    private final NumericType numericType;
+    private final CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader;
+    private final IndexFieldDataCache cache;
+    private final CircuitBreakerService breakerService;
+
+    public DerivedNumericIndexFieldData(
+        String fieldName,
+        NumericType numericType,
+        CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader,
+        IndexFieldDataCache cache,
+        CircuitBreakerService breakerService
+    ) {
+        this.fieldName = fieldName;
+        this.numericType = numericType;
+        this.loader = loader;
+        this.cache = cache;
+        this.breakerService = breakerService;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public ValuesSourceType getValuesSourceType() {
+        return numericType.getValuesSourceType();
+    }
+
+    @Override
+    public NumericType getNumericType() {
+        return numericType;
+    }
+
+    @Override
+    protected boolean sortRequiresCustomComparator() {
+        // there are no doc values in the index to sort on
+        return true;
+    }
+
+    @Override
+    public LeafNumericFieldData load(LeafReaderContext context) {
+        try {
+            return cache.load(context, this);
+        } catch (Exception e) {
+            if (e instanceof OpenSearchException) {
+                throw (OpenSearchException) e;
+            } else {
+                throw new OpenSearchException(e);
+            }
+        }
+    }
+
+    @Override
+    public LeafNumericFieldData loadDirect(LeafReaderContext context) throws Exception {
+        DerivedFieldValues values = loader.apply(context);
+        breakerService.getBreaker(CircuitBreaker.FIELDDATA).addEstimateBytesAndMaybeBreak(values.ramBytesUsed(), fieldName);
+        if (numericType.isFloatingPoint()) {
+            return new DerivedDoubleLeafFieldData(values);
+        }
+        return new DerivedLongLeafFieldData(values, numericType);
+    }
+
+    /**
+     * Derived field data for integral values, dates and booleans.
+     *
+     * @opensearch.internal
+     */
+    static final class DerivedLongLeafFieldData extends LeafLongFieldData implements DerivedLeafFieldData {
+        private final DerivedFieldValues values;
+
+        DerivedLongLeafFieldData(DerivedFieldValues values, NumericType numericType) {
+            super(values.ramBytesUsed(), numericType);
+            this.values = values;
+        }
+
+        @Override
+        public SortedNumericDocValues getLongValues() {
+            return values.longValues();
+        }
+
+        @Override
+        public DerivedFieldValues getDerivedFieldValues() {
+            return values;
+        }
+
+        @Override
+        public Collection<Accountable> getChildResources() {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Derived field data for floating point values, which are stored as sortable longs.
+     *
+     * @opensearch.internal
+     */
+    static final class DerivedDoubleLeafFieldData extends LeafDoubleFieldData implements DerivedLeafFieldData {
+        private final DerivedFieldValues values;
+
+        DerivedDoubleLeafFieldData(DerivedFieldValues values) {
+            super(values.ramBytesUsed());
+            this.values = values;
+        }
+
+        @Override
+        public SortedNumericDoubleValues getDoubleValues() {
+            return FieldData.sortableLongBitsToDoubles(values.longValues());
+        }
+
+        @Override
+        public DerivedFieldValues getDerivedFieldValues() {
+            return values;
+        }
+
+        @Override
+        public Collection<Accountable> getChildResources() {
+            return Collections.emptyList();
+        }
+    }
+}
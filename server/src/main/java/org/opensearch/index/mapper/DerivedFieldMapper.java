@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.script.DerivedFieldScript;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A field mapper for derived fields, whose values are not indexed but computed at query time by a script from the
+ * doc values or the {@code _source} of each document:
+ * <pre>
+ * "full_name": {
+ *   "type": "derived",
+ *   "derived_type": "keyword",
+ *   "script": "return params._source.first_name + ' ' + params._source.last_name"
+ * }
+ * </pre>
+ * The script can't be updated, because the values that it computes are cached per segment.
+ *
+ * @opensearch.internal
+ */
+public class DerivedFieldMapper extends ParametrizedFieldMapper {
+
+    public static final String CONTENT_TYPE = "derived";
+
+    private static DerivedFieldMapper toType(FieldMapper in) {
+        return (DerivedFieldMapper) in;
+    }
+
+    /**
+     * Builder for this field mapper
+     *
+     * @opensearch.internal
+     */
+    public static class Builder extends ParametrizedFieldMapper.Builder {
+
+        private final Parameter<String> derivedType = new Parameter<String>(
+            "derived_type",
+            false,
+            () -> null,
+            (n, c, o) -> o.toString(),
+            m -> toType(m).fieldType().getDerivedType().getName()
+        ).setValidator(v -> {
+            if (v == null) {
+                throw new MapperParsingException("[derived_type] must be set on a [" + CONTENT_TYPE + "] field");
+            }
+            try {
+                DerivedFieldSupportedTypes.fromName(v);
+            } catch (IllegalArgumentException e) {
+                throw new MapperParsingException(e.getMessage(), e);
+            }
+        });
+
+        private final Parameter<Script> script = new Parameter<Script>(
+            "script",
+            false,
+            () -> null,
+            (n, c, o) -> Script.parse(o),
+            m -> toType(m).fieldType().getScript()
+        ).setValidator(v -> {
+            if (v == null) {
+                throw new MapperParsingException("[script] must be set on a [" + CONTENT_TYPE + "] field");
+            }
+        });
+
+        private final Parameter<Map<String, String>> meta = Parameter.metaParam();
+
+        private final ScriptService scriptService;
+
+        public Builder(String name, ScriptService scriptService) {
+            super(name);
+            this.scriptService = scriptService;
+        }
+
+        @Override
+        protected List<Parameter<?>> getParameters() {
+            return Arrays.asList(derivedType, script, meta);
+        }
+
+        @Override
+        public DerivedFieldMapper build(BuilderContext context) {
+            if (scriptService == null) {
+                throw new IllegalArgumentException("scripts are not supported on field [" + name + "] in this context");
+            }
+            DerivedFieldScript.Factory factory = scriptService.compile(script.getValue(), DerivedFieldScript.CONTEXT);
+            DerivedFieldType ft = new DerivedFieldType(
+                buildFullName(context),
+                DerivedFieldSupportedTypes.fromName(derivedType.getValue()),
+                script.getValue(),
+                factory,
+                meta.getValue()
+            );
+            return new DerivedFieldMapper(name, ft, multiFieldsBuilder.build(this, context), copyTo.build(), this);
+        }
+    }
+
+    public static final TypeParser PARSER = new TypeParser((n, c) -> new Builder(n, c.scriptService()));
+
+    private final ScriptService scriptService;
+
+    protected DerivedFieldMapper(
+        String simpleName,
+        MappedFieldType mappedFieldType,
+        MultiFields multiFields,
+        CopyTo copyTo,
+        Builder builder
+    ) {
+        super(simpleName, mappedFieldType, multiFields, copyTo);
+        this.scriptService = builder.scriptService;
+    }
+
+    @Override
+    public DerivedFieldType fieldType() {
+        return (DerivedFieldType) super.fieldType();
+    }
+
+    @Override
+    protected void parseCreateField(ParseContext context) throws IOException {
+        throw new IllegalArgumentException("Cannot index data directly into a derived field [" + name() + "]");
+    }
+
+    @Override
+    public ParametrizedFieldMapper.Builder getMergeBuilder() {
+        return new Builder(simpleName(), scriptService).init(this);
+    }
+
+    @Override
+    protected String contentType() {
+        return CONTENT_TYPE;
+    }
+}
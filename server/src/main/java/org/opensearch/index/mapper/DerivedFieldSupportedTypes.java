@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.document.DoubleField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KeywordField;
+import org.apache.lucene.document.LongField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexNumericFieldData.NumericType;
+import org.opensearch.index.fielddata.plain.DerivedBytesIndexFieldData;
+import org.opensearch.index.fielddata.plain.DerivedFieldValues;
+import org.opensearch.index.fielddata.plain.DerivedNumericIndexFieldData;
+import org.opensearch.script.DerivedFieldScript;
+import org.opensearch.script.JodaCompatibleZonedDateTime;
+import org.opensearch.search.DocValueFormat;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * The types that the values of a derived field can have. Each type relies on the field type of the equivalent
+ * indexed field to build queries and format values.
+ *
+ * @opensearch.internal
+ */
+public enum DerivedFieldSupportedTypes {
+    KEYWORD(KeywordFieldMapper.CONTENT_TYPE, null) {
+        @Override
+        MappedFieldType newDelegateFieldType(String name) {
+            return new KeywordFieldMapper.KeywordFieldType(name);
+        }
+
+        @Override
+        public IndexableField createField(String name, DerivedFieldValues values, int index) {
+            return new KeywordField(name, values.bytesAt(index), Field.Store.NO);
+        }
+
+        @Override
+        Object format(DocValueFormat format, MappedFieldType delegate, Object value) {
+            return format.format(new BytesRef(value.toString()));
+        }
+    },
+    LONG(NumberFieldMapper.NumberType.LONG.typeName(), NumericType.LONG) {
+        @Override
+        MappedFieldType newDelegateFieldType(String name) {
+            return new NumberFieldMapper.NumberFieldType(name, NumberFieldMapper.NumberType.LONG);
+        }
+
+        @Override
+        long toLong(MappedFieldType delegate, Object value) {
+            return NumberFieldMapper.NumberType.LONG.parse(value, false).longValue();
+        }
+
+        @Override
+        public IndexableField createField(String name, DerivedFieldValues values, int index) {
+            return new LongField(name, values.longAt(index), Field.Store.NO);
+        }
+    },
+    DOUBLE(NumberFieldMapper.NumberType.DOUBLE.typeName(), NumericType.DOUBLE) {
+        @Override
+        MappedFieldType newDelegateFieldType(String name) {
+            return new NumberFieldMapper.NumberFieldType(name, NumberFieldMapper.NumberType.DOUBLE);
+        }
+
+        @Override
+        long toLong(MappedFieldType delegate, Object value) {
+            return NumericUtils.doubleToSortableLong(NumberFieldMapper.NumberType.DOUBLE.parse(value, false).doubleValue());
+        }
+
+        @Override
+        public IndexableField createField(String name, DerivedFieldValues values, int index) {
+            return new DoubleField(name, NumericUtils.sortableLongToDouble(values.longAt(index)), Field.Store.NO);
+        }
+
+        @Override
+        Object format(DocValueFormat format, MappedFieldType delegate, Object value) {
+            return format.format(NumberFieldMapper.NumberType.DOUBLE.parse(value, false).doubleValue());
+        }
+    },
+    DATE(DateFieldMapper.CONTENT_TYPE, NumericType.DATE) {
+        @Override
+        MappedFieldType newDelegateFieldType(String name) {
+            return new DateFieldMapper.DateFieldType(name);
+        }
+
+        @Override
+        long toLong(MappedFieldType delegate, Object value) {
+            if (value instanceof Number) {
+                return ((Number) value).longValue();
+            } else if (value instanceof JodaCompatibleZonedDateTime) {
+                return ((JodaCompatibleZonedDateTime) value).toInstant().toEpochMilli();
+            } else if (value instanceof ZonedDateTime) {
+                return ((ZonedDateTime) value).toInstant().toEpochMilli();
+            } else if (value instanceof Instant) {
+                return ((Instant) value).toEpochMilli();
+            }
+            return ((DateFieldMapper.DateFieldType) delegate).parse(value.toString());
+        }
+
+        @Override
+        public IndexableField createField(String name, DerivedFieldValues values, int index) {
+            return new LongField(name, values.longAt(index), Field.Store.NO);
+        }
+    },
+    BOOLEAN(BooleanFieldMapper.CONTENT_TYPE, NumericType.BOOLEAN) {
+        @Override
+        MappedFieldType newDelegateFieldType(String name) {
+            return new BooleanFieldMapper.BooleanFieldType(name);
+        }
+
+        @Override
+        long toLong(MappedFieldType delegate, Object value) {
+            boolean b = value instanceof Boolean ? (Boolean) value : Booleans.parseBoolean(value.toString());
+            return b ? 1 : 0;
+        }
+
+        @Override
+        public IndexableField createField(String name, DerivedFieldValues values, int index) {
+            BytesRef term = values.longAt(index) == 1 ? BooleanFieldMapper.Values.TRUE : BooleanFieldMapper.Values.FALSE;
+            return new StringField(name, term, Field.Store.NO);
+        }
+    };
+
+    private final String name;
+    private final NumericType numericType;
+
+    DerivedFieldSupportedTypes(String name, NumericType numericType) {
+        this.name = name;
+        this.numericType = numericType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates the field type of an indexed field of this type, used to build queries and to format values.
+     */
+    abstract MappedFieldType newDelegateFieldType(String name);
+
+    /**
+     * Converts a value returned by the script of a numeric derived field to its doc values representation.
+     */
+    long toLong(MappedFieldType delegate, Object value) {
+        throw new UnsupportedOperationException("[" + name + "] is not a numeric type");
+    }
+
+    /**
+     * Creates the Lucene field for the value at the given index, used to run queries against the values of a document.
+     */
+    public abstract IndexableField createField(String name, DerivedFieldValues values, int index);
+
+    /**
+     * Formats a value returned by the script for display.
+     */
+    Object format(DocValueFormat format, MappedFieldType delegate, Object value) {
+        return format.format(toLong(delegate, value));
+    }
+
+    /**
+     * Computes the values of all the documents of a segment, skipping nested documents if requested.
+     */
+    DerivedFieldValues load(LeafReaderContext context, DerivedFieldScript script, boolean skipNestedDocs, MappedFieldType delegate)
+        throws IOException {
+        if (numericType == null) {
+            return DerivedFieldValues.loadBytes(context, script, skipNestedDocs, value -> new BytesRef(value.toString()));
+        }
+        return DerivedFieldValues.loadLongs(context, script, skipNestedDocs, value -> toLong(delegate, value));
+    }
+
+    IndexFieldData.Builder fielddataBuilder(String fieldName, CheckedFunction<LeafReaderContext, DerivedFieldValues, IOException> loader) {
+        if (numericType == null) {
+            return new DerivedBytesIndexFieldData.Builder(fieldName, loader);
+        }
+        return new DerivedNumericIndexFieldData.Builder(fieldName, numericType, loader);
+    }
+
+    public static DerivedFieldSupportedTypes fromName(String name) {
+        for (DerivedFieldSupportedTypes type : values()) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported derived field type [" + name + "], must be one of " + Arrays.toString(names()));
+    }
+
+    static String[] names() {
+        return Arrays.stream(values()).map(type -> type.name).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.geo.ShapeRelation;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.common.unit.Fuzziness;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.plain.DerivedFieldValues;
+import org.opensearch.index.query.DerivedFieldQuery;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.script.DerivedFieldScript;
+import org.opensearch.script.Script;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.lookup.SourceLookup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.opensearch.search.SearchService.ALLOW_EXPENSIVE_QUERIES;
+
+/**
+ * The field type of a derived field, whose values are computed at query time by a script.
+ * <p>
+ * Queries are built by the field type of an indexed field of the same type and are then evaluated against the
+ * computed values of each document, see {@link DerivedFieldQuery}. The values are computed once per segment and
+ * cached by the field data of the field, which also backs sorting and aggregations.
+ *
+ * @opensearch.internal
+ */
+public final class DerivedFieldType extends MappedFieldType {
+
+    private final DerivedFieldSupportedTypes type;
+    private final MappedFieldType delegate;
+    private final Script script;
+    private final DerivedFieldScript.Factory factory;
+
+    public DerivedFieldType(
+        String name,
+        DerivedFieldSupportedTypes type,
+        Script script,
+        DerivedFieldScript.Factory factory,
+        Map<String, String> meta
+    ) {
+        this(name, type, type.newDelegateFieldType(name), script, factory, meta);
+    }
+
+    private DerivedFieldType(
+        String name,
+        DerivedFieldSupportedTypes type,
+        MappedFieldType delegate,
+        Script script,
+        DerivedFieldScript.Factory factory,
+        Map<String, String> meta
+    ) {
+        super(name, true, false, true, delegate.getTextSearchInfo(), meta);
+        this.type = type;
+        this.delegate = delegate;
+        this.script = script;
+        this.factory = factory;
+    }
+
+    @Override
+    public String typeName() {
+        return DerivedFieldMapper.CONTENT_TYPE;
+    }
+
+    public DerivedFieldSupportedTypes getDerivedType() {
+        return type;
+    }
+
+    public Script getScript() {
+        return script;
+    }
+
+    @Override
+    public IndexFieldData.Builder fielddataBuilder(String fullyQualifiedIndexName, Supplier<SearchLookup> searchLookup) {
+        return type.fielddataBuilder(name(), context -> {
+            SearchLookup lookup = searchLookup.get();
+            DerivedFieldScript derivedFieldScript = factory.newFactory(script.getParams(), lookup).newInstance(context);
+            MapperService mapperService = lookup.doc().mapperService();
+            return type.load(context, derivedFieldScript, mapperService != null && mapperService.hasNested(), delegate);
+        });
+    }
+
+    @Override
+    public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, @Nullable String format) {
+        final DocValueFormat docValueFormat = docValueFormat(format, null);
+        final DerivedFieldScript.LeafFactory leafFactory = factory.newFactory(script.getParams(), searchLookup);
+        return new ValueFetcher() {
+            private DerivedFieldScript derivedFieldScript;
+
+            @Override
+            public void setNextReader(LeafReaderContext context) {
+                try {
+                    derivedFieldScript = leafFactory.newInstance(context);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public List<Object> fetchValues(SourceLookup lookup) {
+                // the source of the hit is already loaded, the script reuses it rather than loading it again
+                derivedFieldScript.setDocument(lookup.docId(), lookup.loadSourceIfNeeded());
+                List<Object> values = new ArrayList<>();
+                for (Object value : DerivedFieldValues.scriptValues(derivedFieldScript.execute())) {
+                    if (value != null) {
+                        values.add(type.format(docValueFormat, delegate, value));
+                    }
+                }
+                return values;
+            }
+        };
+    }
+
+    @Override
+    public DocValueFormat docValueFormat(@Nullable String format, ZoneId timeZone) {
+        return delegate.docValueFormat(format, timeZone);
+    }
+
+    @Override
+    public Object valueForDisplay(Object value) {
+        return delegate.valueForDisplay(value);
+    }
+
+    @Override
+    public Query termQuery(Object value, QueryShardContext context) {
+        return derivedQuery(delegate.termQuery(value, context), context);
+    }
+
+    @Override
+    public Query termQueryCaseInsensitive(Object value, QueryShardContext context) {
+        return derivedQuery(delegate.termQueryCaseInsensitive(value, context), context);
+    }
+
+    @Override
+    public Query termsQuery(List<?> values, QueryShardContext context) {
+        return derivedQuery(delegate.termsQuery(values, context), context);
+    }
+
+    @Override
+    public Query rangeQuery(
+        Object lowerTerm,
+        Object upperTerm,
+        boolean includeLower,
+        boolean includeUpper,
+        ShapeRelation relation,
+        ZoneId timeZone,
+        DateMathParser parser,
+        QueryShardContext context
+    ) {
+        return derivedQuery(
+            delegate.rangeQuery(lowerTerm, upperTerm, includeLower, includeUpper, relation, timeZone, parser, context),
+            context
+        );
+    }
+
+    @Override
+    public Query fuzzyQuery(
+        Object value,
+        Fuzziness fuzziness,
+        int prefixLength,
+        int maxExpansions,
+        boolean transpositions,
+        QueryShardContext context
+    ) {
+        return derivedQuery(delegate.fuzzyQuery(value, fuzziness, prefixLength, maxExpansions, transpositions, context), context);
+    }
+
+    @Override
+    public Query fuzzyQuery(
+        Object value,
+        Fuzziness fuzziness,
+        int prefixLength,
+        int maxExpansions,
+        boolean transpositions,
+        @Nullable MultiTermQuery.RewriteMethod method,
+        QueryShardContext context
+    ) {
+        return derivedQuery(
+            delegate.fuzzyQuery(value, fuzziness, prefixLength, maxExpansions, transpositions, method, context),
+            context
+        );
+    }
+
+    @Override
+    public Query prefixQuery(
+        String value,
+        @Nullable MultiTermQuery.RewriteMethod method,
+        boolean caseInsensitive,
+        QueryShardContext context
+    ) {
+        return derivedQuery(delegate.prefixQuery(value, method, caseInsensitive, context), context);
+    }
+
+    @Override
+    public Query wildcardQuery(
+        String value,
+        @Nullable MultiTermQuery.RewriteMethod method,
+        boolean caseInsensitive,
+        QueryShardContext context
+    ) {
+        return derivedQuery(delegate.wildcardQuery(value, method, caseInsensitive, context), context);
+    }
+
+    @Override
+    public Query normalizedWildcardQuery(String value, @Nullable MultiTermQuery.RewriteMethod method, QueryShardContext context) {
+        return derivedQuery(delegate.normalizedWildcardQuery(value, method, context), context);
+    }
+
+    @Override
+    public Query regexpQuery(
+        String value,
+        int syntaxFlags,
+        int matchFlags,
+        int maxDeterminizedStates,
+        @Nullable MultiTermQuery.RewriteMethod method,
+        QueryShardContext context
+    ) {
+        return derivedQuery(delegate.regexpQuery(value, syntaxFlags, matchFlags, maxDeterminizedStates, method, context), context);
+    }
+
+    @Override
+    public Query existsQuery(QueryShardContext context) {
+        return derivedQuery(new MatchAllDocsQuery(), context);
+    }
+
+    private Query derivedQuery(Query filter, QueryShardContext context) {
+        if (context.allowExpensiveQueries() == false) {
+            throw new OpenSearchException(
+                "queries on [" + typeName() + "] fields cannot be executed when '" + ALLOW_EXPENSIVE_QUERIES.getKey() + "' is set to false."
+            );
+        }
+        return new DerivedFieldQuery(filter, name(), type, context.getForField(this));
+    }
+}
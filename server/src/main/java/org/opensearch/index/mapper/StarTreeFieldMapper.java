@@ -0,0 +1,311 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.codec.startree.StarTreeField;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.lookup.SearchLookup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Metadata field mapper that configures the star-tree of an index: the dimensions the documents of each segment are
+ * grouped by, in order, and the numeric metrics that are pre-aggregated for every group. Aggregations on these fields
+ * are then computed from the pre-aggregated records of a segment rather than from its documents when possible.
+ * <p>
+ * The star-tree is built by the codec the index is opened with, so it must be configured when the index is created
+ * and can't be changed afterwards.
+ *
+ * @opensearch.internal
+ */
+public class StarTreeFieldMapper extends MetadataFieldMapper {
+
+    public static final String NAME = "_star_tree";
+    public static final String CONTENT_TYPE = "_star_tree";
+
+    private static final String[] DATE_INTERVALS = new String[] { "hour", "minute", "day" };
+
+    /**
+     * Default parameters
+     *
+     * @opensearch.internal
+     */
+    public static final class Defaults {
+        public static final List<String> DIMENSIONS = Collections.emptyList();
+        public static final List<String> METRICS = Collections.emptyList();
+        public static final String DATE_INTERVAL = DATE_INTERVALS[0];
+    }
+
+    private static StarTreeFieldMapper toType(FieldMapper in) {
+        return (StarTreeFieldMapper) in;
+    }
+
+    /**
+     * Builder for the star-tree field mapper
+     *
+     * @opensearch.internal
+     */
+    public static class Builder extends MetadataFieldMapper.Builder {
+
+        final Parameter<List<String>> dimensions = Parameter.stringArrayParam(
+            "dimensions",
+            false,
+            m -> toType(m).dimensions,
+            Defaults.DIMENSIONS
+        );
+        final Parameter<List<String>> metrics = Parameter.stringArrayParam("metrics", false, m -> toType(m).metrics, Defaults.METRICS);
+        final Parameter<String> dateInterval = Parameter.restrictedStringParam(
+            "date_interval",
+            false,
+            m -> toType(m).dateInterval,
+            DATE_INTERVALS
+        );
+
+        protected Builder() {
+            super(NAME);
+        }
+
+        @Override
+        protected List<Parameter<?>> getParameters() {
+            return Arrays.asList(dimensions, metrics, dateInterval);
+        }
+
+        @Override
+        public StarTreeFieldMapper build(BuilderContext context) {
+            if (dimensions.getValue().isEmpty() != metrics.getValue().isEmpty()) {
+                throw new MapperParsingException("[" + NAME + "] requires both [dimensions] and [metrics]");
+            }
+            if (dimensions.getValue().size() > StarTreeField.MAX_DIMENSIONS) {
+                throw new MapperParsingException(
+                    "[" + NAME + "] supports at most [" + StarTreeField.MAX_DIMENSIONS + "] dimensions but got " + dimensions.getValue()
+                );
+            }
+            checkDuplicates("dimensions", dimensions.getValue());
+            checkDuplicates("metrics", metrics.getValue());
+            return new StarTreeFieldMapper(dimensions.getValue(), metrics.getValue(), dateInterval.getValue());
+        }
+
+        private static void checkDuplicates(String parameter, List<String> fields) {
+            Set<String> seen = new HashSet<>();
+            for (String field : fields) {
+                if (seen.add(field) == false) {
+                    throw new MapperParsingException("[" + NAME + "] has duplicate field [" + field + "] in [" + parameter + "]");
+                }
+            }
+        }
+    }
+
+    public static final TypeParser PARSER = new ConfigurableTypeParser(
+        c -> new StarTreeFieldMapper(Defaults.DIMENSIONS, Defaults.METRICS, Defaults.DATE_INTERVAL),
+        c -> new Builder()
+    );
+
+    /**
+     * Field type for the star-tree field mapper
+     *
+     * @opensearch.internal
+     */
+    static final class StarTreeFieldType extends MappedFieldType {
+
+        static final StarTreeFieldType INSTANCE = new StarTreeFieldType();
+
+        private StarTreeFieldType() {
+            super(NAME, false, false, false, TextSearchInfo.NONE, Collections.emptyMap());
+        }
+
+        @Override
+        public String typeName() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(QueryShardContext context, SearchLookup searchLookup, String format) {
+            throw new UnsupportedOperationException("Cannot fetch values for internal field [" + typeName() + "]");
+        }
+
+        @Override
+        public Query termQuery(Object value, QueryShardContext context) {
+            throw new UnsupportedOperationException("Cannot run term query on internal field [" + typeName() + "]");
+        }
+
+        @Override
+        public Query existsQuery(QueryShardContext context) {
+            throw new UnsupportedOperationException("Cannot run exists query on internal field [" + typeName() + "]");
+        }
+    }
+
+    private final List<String> dimensions;
+    private final List<String> metrics;
+    private final String dateInterval;
+
+    private StarTreeFieldMapper(List<String> dimensions, List<String> metrics, String dateInterval) {
+        super(StarTreeFieldType.INSTANCE);
+        this.dimensions = dimensions;
+        this.metrics = metrics;
+        this.dateInterval = dateInterval;
+    }
+
+    @Override
+    public ParametrizedFieldMapper.Builder getMergeBuilder() {
+        return new Builder().init(this);
+    }
+
+    public boolean enabled() {
+        return dimensions.isEmpty() == false;
+    }
+
+    @Override
+    protected void doValidate(MappingLookup mappers) {
+        starTreeField(mappers);
+    }
+
+    /**
+     * Resolves the configuration of the star-tree against the mapped fields, or returns {@code null} if the star-tree
+     * isn't enabled.
+     *
+     * @throws IllegalArgumentException if a dimension or metric isn't mapped to a supported field
+     */
+    @Nullable
+    public StarTreeField starTreeField(MappingLookup mappers) {
+        if (enabled() == false) {
+            return null;
+        }
+        List<StarTreeField.Dimension> starTreeDimensions = new ArrayList<>(dimensions.size());
+        for (String field : dimensions) {
+            MappedFieldType fieldType = fieldType(mappers, field, "dimension");
+            StarTreeField.DimensionType type = dimensionType(fieldType);
+            if (type == null) {
+                throw new IllegalArgumentException(
+                    "["
+                        + NAME
+                        + "] dimension ["
+                        + field
+                        + "] of type ["
+                        + fieldType.typeName()
+                        + "] is not supported, dimensions must be keyword, date or integral number fields"
+                );
+            }
+            starTreeDimensions.add(new StarTreeField.Dimension(field, type));
+        }
+        List<StarTreeField.Metric> starTreeMetrics = new ArrayList<>(metrics.size());
+        for (String field : metrics) {
+            MappedFieldType fieldType = fieldType(mappers, field, "metric");
+            StarTreeField.MetricType type = null;
+            if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+                type = metricType(((NumberFieldMapper.NumberFieldType) fieldType).numberType());
+            }
+            if (type == null) {
+                throw new IllegalArgumentException(
+                    "["
+                        + NAME
+                        + "] metric ["
+                        + field
+                        + "] of type ["
+                        + fieldType.typeName()
+                        + "] is not supported, metrics must be signed number fields"
+                );
+            }
+            starTreeMetrics.add(new StarTreeField.Metric(field, type));
+        }
+        return new StarTreeField(starTreeDimensions, starTreeMetrics, dateIntervalMillis(dateInterval));
+    }
+
+    private static MappedFieldType fieldType(MappingLookup mappers, String field, String role) {
+        Mapper mapper = mappers.getMapper(field);
+        if (mapper == null) {
+            throw new IllegalArgumentException("[" + NAME + "] " + role + " [" + field + "] is not mapped");
+        }
+        if (mapper instanceof FieldMapper == false) {
+            throw new IllegalArgumentException("[" + NAME + "] " + role + " [" + field + "] must be a concrete field, not an alias");
+        }
+        if (mappers.getNestedScope(field) != null) {
+            throw new IllegalArgumentException("[" + NAME + "] " + role + " [" + field + "] must not be inside a nested object");
+        }
+        MappedFieldType fieldType = ((FieldMapper) mapper).fieldType();
+        if (fieldType.hasDocValues() == false) {
+            throw new IllegalArgumentException("[" + NAME + "] " + role + " [" + field + "] must have doc values");
+        }
+        return fieldType;
+    }
+
+    private static StarTreeField.DimensionType dimensionType(MappedFieldType fieldType) {
+        if (fieldType instanceof KeywordFieldMapper.KeywordFieldType) {
+            return StarTreeField.DimensionType.KEYWORD;
+        }
+        if (fieldType instanceof DateFieldMapper.DateFieldType) {
+            boolean millis = ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS;
+            return millis ? StarTreeField.DimensionType.DATE : null;
+        }
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            boolean integral = isIntegral(((NumberFieldMapper.NumberFieldType) fieldType).numberType());
+            return integral ? StarTreeField.DimensionType.NUMERIC : null;
+        }
+        return null;
+    }
+
+    private static boolean isIntegral(NumberFieldMapper.NumberType type) {
+        return type == NumberFieldMapper.NumberType.LONG
+            || type == NumberFieldMapper.NumberType.INTEGER
+            || type == NumberFieldMapper.NumberType.SHORT
+            || type == NumberFieldMapper.NumberType.BYTE;
+    }
+
+    private static StarTreeField.MetricType metricType(NumberFieldMapper.NumberType type) {
+        if (isIntegral(type)) {
+            return StarTreeField.MetricType.LONG;
+        }
+        switch (type) {
+            case DOUBLE:
+                return StarTreeField.MetricType.DOUBLE;
+            case FLOAT:
+                return StarTreeField.MetricType.FLOAT;
+            case HALF_FLOAT:
+                return StarTreeField.MetricType.HALF_FLOAT;
+            default:
+                return null;
+        }
+    }
+
+    private static long dateIntervalMillis(String dateInterval) {
+        switch (dateInterval) {
+            case "minute":
+                return 60_000L;
+            case "hour":
+                return 3_600_000L;
+            case "day":
+                return 86_400_000L;
+            default:
+                throw new IllegalArgumentException("unknown date interval [" + dateInterval + "]");
+        }
+    }
+
+    /**
+     * Returns the configuration of the star-tree of the given mapping, or {@code null} if it has none.
+     */
+    @Nullable
+    public static StarTreeField starTreeField(@Nullable DocumentMapper documentMapper) {
+        if (documentMapper == null) {
+            return null;
+        }
+        StarTreeFieldMapper mapper = documentMapper.metadataMapper(StarTreeFieldMapper.class);
+        return mapper == null ? null : mapper.starTreeField(documentMapper.mappers());
+    }
+
+    @Override
+    protected String contentType() {
+        return CONTENT_TYPE;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.query;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.memory.MemoryIndex;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.plain.DerivedFieldValues;
+import org.opensearch.index.fielddata.plain.DerivedLeafFieldData;
+import org.opensearch.index.mapper.DerivedFieldSupportedTypes;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A query on a derived field. The values of the field are computed per segment by the field data of the field, which
+ * caches them, and each document matches if the given filter matches an in-memory index of its values.
+ * <p>
+ * The filter is built by the field type of an indexed field of the same type, so that any query supported by that
+ * field type is supported by the derived field as well.
+ */
+public final class DerivedFieldQuery extends Query {
+    private final Query filter;
+    private final String fieldName;
+    private final DerivedFieldSupportedTypes type;
+    private final IndexFieldData<?> fieldData;
+
+    /**
+     * Constructs a DerivedFieldQuery.
+     *
+     * @param filter    The query to run against the values of each document, {@link MatchAllDocsQuery} matches all
+     *                  documents that have at least one value.
+     * @param fieldName The name of the derived field.
+     * @param type      The type of the values of the derived field.
+     * @param fieldData The field data that computes the values of the derived field.
+     */
+    public DerivedFieldQuery(Query filter, String fieldName, DerivedFieldSupportedTypes type, IndexFieldData<?> fieldData) {
+        this.filter = filter;
+        this.fieldName = fieldName;
+        this.type = type;
+        this.fieldData = fieldData;
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(fieldName)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        final boolean matchAll = filter instanceof MatchAllDocsQuery;
+        return new ConstantScoreWeight(this, boost) {
+
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                final DerivedFieldValues values = ((DerivedLeafFieldData) fieldData.load(context)).getDerivedFieldValues();
+                final DocIdSetIterator approximation = DocIdSetIterator.all(context.reader().maxDoc());
+                final MemoryIndex memoryIndex = new MemoryIndex();
+                TwoPhaseIterator twoPhase = new TwoPhaseIterator(approximation) {
+
+                    @Override
+                    public boolean matches() {
+                        final int doc = approximation.docID();
+                        final int count = values.valueCount(doc);
+                        if (count == 0) {
+                            return false;
+                        }
+                        if (matchAll) {
+                            return true;
+                        }
+                        memoryIndex.reset();
+                        final int start = values.valueStart(doc);
+                        for (int i = start; i < start + count; i++) {
+                            memoryIndex.addField(type.createField(fieldName, values, i), Lucene.KEYWORD_ANALYZER);
+                        }
+                        return memoryIndex.search(filter) > 0.0f;
+                    }
+
+                    @Override
+                    public float matchCost() {
+                        // arbitrary cost
+                        return matchAll ? 1f : 1000f;
+                    }
+                };
+                return new ConstantScoreScorer(this, score(), scoreMode, twoPhase);
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                // the values are already cached by the field data, and the field data must not outlive the search
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (sameClassAs(o) == false) {
+            return false;
+        }
+        DerivedFieldQuery other = (DerivedFieldQuery) o;
+        return Objects.equals(this.filter, other.filter)
+            && Objects.equals(this.fieldName, other.fieldName)
+            && Objects.equals(this.type, other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), filter, fieldName, type);
+    }
+
+    @Override
+    public String toString(String f) {
+        return "DerivedFieldQuery (field: [" + fieldName + "], filter query: [" + filter.toString(f) + "])";
+    }
+}
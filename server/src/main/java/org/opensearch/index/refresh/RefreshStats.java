@@ -33,6 +33,7 @@
 package org.opensearch.index.refresh;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -65,6 +66,16 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * Number of scheduled refreshes that were deferred by adaptive refresh scheduling.
+     */
+    private long deferred;
+
+    /**
+     * The longest refresh interval picked by adaptive refresh scheduling, or -1 if it does not apply.
+     */
+    private long adaptiveIntervalInMillis = -1;
+
     public RefreshStats() {}
 
     public RefreshStats(StreamInput in) throws IOException {
@@ -75,6 +86,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             externalTotalTimeInMillis = in.readVLong();
         }
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
+            deferred = in.readVLong();
+            adaptiveIntervalInMillis = in.readLong();
+        }
     }
 
     @Override
@@ -86,6 +101,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             out.writeVLong(externalTotalTimeInMillis);
         }
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_2_13_0)) {
+            out.writeVLong(deferred);
+            out.writeLong(adaptiveIntervalInMillis);
+        }
     }
 
     public RefreshStats(long total, long totalTimeInMillis, long externalTotal, long externalTotalTimeInMillis, int listeners) {
@@ -96,6 +115,20 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.listeners = listeners;
     }
 
+    public RefreshStats(
+        long total,
+        long totalTimeInMillis,
+        long externalTotal,
+        long externalTotalTimeInMillis,
+        int listeners,
+        long deferred,
+        long adaptiveIntervalInMillis
+    ) {
+        this(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        this.deferred = deferred;
+        this.adaptiveIntervalInMillis = adaptiveIntervalInMillis;
+    }
+
     public void add(RefreshStats refreshStats) {
         addTotals(refreshStats);
     }
@@ -109,6 +142,8 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.deferred += refreshStats.deferred;
+        this.adaptiveIntervalInMillis = Math.max(this.adaptiveIntervalInMillis, refreshStats.adaptiveIntervalInMillis);
     }
 
     /**
@@ -160,6 +195,20 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The number of scheduled refreshes that were deferred by adaptive refresh scheduling.
+     */
+    public long getDeferred() {
+        return deferred;
+    }
+
+    /**
+     * The longest refresh interval picked by adaptive refresh scheduling (in milliseconds), or -1 if it does not apply.
+     */
+    public long getAdaptiveIntervalInMillis() {
+        return adaptiveIntervalInMillis;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -168,6 +217,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        builder.field("deferred", deferred);
+        if (adaptiveIntervalInMillis >= 0) {
+            builder.humanReadableField("adaptive_interval_in_millis", "adaptive_interval", new TimeValue(adaptiveIntervalInMillis));
+        }
         builder.endObject();
         return builder;
     }
@@ -182,11 +235,21 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             && totalTimeInMillis == rhs.totalTimeInMillis
             && externalTotal == rhs.externalTotal
             && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-            && listeners == rhs.listeners;
+            && listeners == rhs.listeners
+            && deferred == rhs.deferred
+            && adaptiveIntervalInMillis == rhs.adaptiveIntervalInMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(
+            total,
+            totalTimeInMillis,
+            externalTotal,
+            externalTotalTimeInMillis,
+            listeners,
+            deferred,
+            adaptiveIntervalInMillis
+        );
     }
 }
@@ -151,6 +151,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long fetchTimeInMillis;
         private long fetchCurrent;
 
+        private long concurrentFetchCount;
+        private long concurrentFetchTimeInMillis;
+        private long fetchConcurrency;
+
         private long scrollCount;
         private long scrollTimeInMillis;
         private long scrollCurrent;
@@ -185,6 +189,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
             long fetchCount,
             long fetchTimeInMillis,
             long fetchCurrent,
+            long concurrentFetchCount,
+            long concurrentFetchTimeInMillis,
+            long fetchConcurrency,
             long scrollCount,
             long scrollTimeInMillis,
             long scrollCurrent,
@@ -209,6 +216,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.fetchTimeInMillis = fetchTimeInMillis;
             this.fetchCurrent = fetchCurrent;
 
+            this.concurrentFetchCount = concurrentFetchCount;
+            this.concurrentFetchTimeInMillis = concurrentFetchTimeInMillis;
+            this.fetchConcurrency = fetchConcurrency;
+
             this.scrollCount = scrollCount;
             this.scrollTimeInMillis = scrollTimeInMillis;
             this.scrollCurrent = scrollCurrent;
@@ -255,6 +266,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 concurrentQueryCurrent = in.readVLong();
                 queryConcurrency = in.readVLong();
             }
+            if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
+                concurrentFetchCount = in.readVLong();
+                concurrentFetchTimeInMillis = in.readVLong();
+                fetchConcurrency = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -271,6 +287,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             fetchTimeInMillis += stats.fetchTimeInMillis;
             fetchCurrent += stats.fetchCurrent;
 
+            concurrentFetchCount += stats.concurrentFetchCount;
+            concurrentFetchTimeInMillis += stats.concurrentFetchTimeInMillis;
+            fetchConcurrency += stats.fetchConcurrency;
+
             scrollCount += stats.scrollCount;
             scrollTimeInMillis += stats.scrollTimeInMillis;
             scrollCurrent += stats.scrollCurrent;
@@ -294,6 +314,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             fetchCount += stats.fetchCount;
             fetchTimeInMillis += stats.fetchTimeInMillis;
 
+            concurrentFetchCount += stats.concurrentFetchCount;
+            concurrentFetchTimeInMillis += stats.concurrentFetchTimeInMillis;
+            fetchConcurrency += stats.fetchConcurrency;
+
             scrollCount += stats.scrollCount;
             scrollTimeInMillis += stats.scrollTimeInMillis;
             // need consider the count of the shard's current scroll
@@ -364,6 +388,26 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return fetchCurrent;
         }
 
+        public long getConcurrentFetchCount() {
+            return concurrentFetchCount;
+        }
+
+        public TimeValue getConcurrentFetchTime() {
+            return new TimeValue(concurrentFetchTimeInMillis);
+        }
+
+        public long getConcurrentFetchTimeInMillis() {
+            return concurrentFetchTimeInMillis;
+        }
+
+        public double getConcurrentAvgFetchTaskCount() {
+            if (concurrentFetchCount == 0) {
+                return 0;
+            } else {
+                return fetchConcurrency / (double) concurrentFetchCount;
+            }
+        }
+
         public long getScrollCount() {
             return scrollCount;
         }
@@ -457,6 +501,12 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(concurrentQueryCurrent);
                 out.writeVLong(queryConcurrency);
             }
+
+            if (out.getVersion().onOrAfter(Version.V_2_13_0)) {
+                out.writeVLong(concurrentFetchCount);
+                out.writeVLong(concurrentFetchTimeInMillis);
+                out.writeVLong(fetchConcurrency);
+            }
         }
 
         @Override
@@ -474,6 +524,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.FETCH_TIME_IN_MILLIS, Fields.FETCH_TIME, getFetchTime());
             builder.field(Fields.FETCH_CURRENT, fetchCurrent);
 
+            builder.field(Fields.CONCURRENT_FETCH_TOTAL, concurrentFetchCount);
+            builder.humanReadableField(Fields.CONCURRENT_FETCH_TIME_IN_MILLIS, Fields.CONCURRENT_FETCH_TIME, getConcurrentFetchTime());
+            builder.field(Fields.CONCURRENT_AVG_FETCH_TASK_COUNT, getConcurrentAvgFetchTaskCount());
+
             builder.field(Fields.SCROLL_TOTAL, scrollCount);
             builder.humanReadableField(Fields.SCROLL_TIME_IN_MILLIS, Fields.SCROLL_TIME, getScrollTime());
             builder.field(Fields.SCROLL_CURRENT, scrollCurrent);
@@ -637,6 +691,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String FETCH_TIME = "fetch_time";
         static final String FETCH_TIME_IN_MILLIS = "fetch_time_in_millis";
         static final String FETCH_CURRENT = "fetch_current";
+        static final String CONCURRENT_FETCH_TOTAL = "concurrent_fetch_total";
+        static final String CONCURRENT_FETCH_TIME = "concurrent_fetch_time";
+        static final String CONCURRENT_FETCH_TIME_IN_MILLIS = "concurrent_fetch_time_in_millis";
+        static final String CONCURRENT_AVG_FETCH_TASK_COUNT = "concurrent_avg_fetch_task_count";
         static final String SCROLL_TOTAL = "scroll_total";
         static final String SCROLL_TIME = "scroll_time";
         static final String SCROLL_TIME_IN_MILLIS = "scroll_time_in_millis";
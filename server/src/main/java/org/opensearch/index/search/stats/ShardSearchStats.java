@@ -153,6 +153,10 @@ public final class ShardSearchStats implements SearchOperationListener {
             statsHolder.fetchMetric.inc(tookInNanos);
             statsHolder.fetchCurrent.dec();
             assert statsHolder.fetchCurrent.count() >= 0;
+            if (searchContext.getConcurrentFetchTaskCount() > 0) {
+                statsHolder.concurrentFetchMetric.inc(tookInNanos);
+                statsHolder.fetchConcurrencyMetric.inc(searchContext.getConcurrentFetchTaskCount());
+            }
         });
     }
 
@@ -223,6 +227,8 @@ public final class ShardSearchStats implements SearchOperationListener {
         final MeanMetric concurrentQueryMetric = new MeanMetric();
         final CounterMetric queryConcurrencyMetric = new CounterMetric();
         final MeanMetric fetchMetric = new MeanMetric();
+        final MeanMetric concurrentFetchMetric = new MeanMetric();
+        final CounterMetric fetchConcurrencyMetric = new CounterMetric();
         /* We store scroll statistics in microseconds because with nanoseconds we run the risk of overflowing the total stats if there are
          * many scrolls. For example, on a system with 2^24 scrolls that have been executed, each executing for 2^10 seconds, then using
          * nanoseconds would require a numeric representation that can represent at least 2^24 * 2^10 * 10^9 > 2^24 * 2^10 * 2^29 = 2^63
@@ -252,6 +258,9 @@ public final class ShardSearchStats implements SearchOperationListener {
                 fetchMetric.count(),
                 TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()),
                 fetchCurrent.count(),
+                concurrentFetchMetric.count(),
+                TimeUnit.NANOSECONDS.toMillis(concurrentFetchMetric.sum()),
+                fetchConcurrencyMetric.count(),
                 scrollMetric.count(),
                 TimeUnit.MICROSECONDS.toMillis(scrollMetric.sum()),
                 scrollCurrent.count(),
@@ -176,6 +176,7 @@ import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -301,6 +302,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RecoveryStats recoveryStats = new RecoveryStats();
     private final MeanMetric refreshMetric = new MeanMetric();
     private final MeanMetric externalRefreshMetric = new MeanMetric();
+    private final CounterMetric deferredRefreshMetric = new CounterMetric();
     private final MeanMetric flushMetric = new MeanMetric();
     private final CounterMetric periodicFlushMetric = new CounterMetric();
 
@@ -337,6 +339,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private final AtomicLong lastSearcherAccess = new AtomicLong();
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
+    private static final long NO_SCHEDULED_REFRESH = Long.MIN_VALUE;
+    // the interval picked by the adaptive refresh scheduler of the node, -1 if scheduled refreshes are not deferred
+    private volatile long adaptiveRefreshIntervalMillis = -1;
+    private volatile long lastScheduledRefreshMillis = NO_SCHEDULED_REFRESH;
     private final RefreshPendingLocationListener refreshPendingLocationListener;
     private volatile boolean useRetentionLeasesInPeerRecovery;
 
@@ -376,7 +382,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         final RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory,
         final Supplier<TimeValue> clusterRemoteTranslogBufferIntervalSupplier,
         final String nodeId,
-        final RecoverySettings recoverySettings
+        final RecoverySettings recoverySettings,
+        @Nullable final TranslogSyncCoordinator translogSyncCoordinator
     ) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
@@ -397,7 +404,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             threadPool,
             this::getEngine,
             indexSettings.isRemoteTranslogStoreEnabled(),
-            () -> getRemoteTranslogUploadBufferInterval(clusterRemoteTranslogBufferIntervalSupplier)
+            () -> getRemoteTranslogUploadBufferInterval(clusterRemoteTranslogBufferIntervalSupplier),
+            translogSyncCoordinator
         );
         this.mapperService = mapperService;
         this.indexCache = indexCache;
@@ -1366,7 +1374,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             TimeUnit.NANOSECONDS.toMillis(refreshMetric.sum()),
             externalRefreshMetric.count(),
             TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()),
-            listeners
+            listeners,
+            deferredRefreshMetric.count(),
+            adaptiveRefreshIntervalMillis
         );
     }
 
@@ -2702,6 +2712,17 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Returns number of heap bytes used by the caches that only speed up indexing for this shard, or 0 if the shard is closed
+     */
+    public long getIndexingCachesRAMBytesUsed() {
+        Engine engine = getEngineOrNull();
+        if (engine == null) {
+            return 0;
+        }
+        return engine.getIndexingCachesRAMBytesUsed();
+    }
+
     public void addShardFailureCallback(Consumer<ShardFailure> onShardFailure) {
         this.shardEventListener.delegates.add(onShardFailure);
     }
@@ -2716,6 +2737,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             boolean wasActive = active.getAndSet(false);
             if (wasActive) {
                 logger.debug("flushing shard on inactive");
+                engineOrNull.clearIndexingCaches();
                 threadPool.executor(ThreadPool.Names.FLUSH).execute(new AbstractRunnable() {
                     @Override
                     public void onFailure(Exception e) {
@@ -4295,7 +4317,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ThreadPool threadPool,
         Supplier<Engine> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        @Nullable TranslogSyncCoordinator translogSyncCoordinator
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
@@ -4325,6 +4348,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 }
             };
         }
+        if (translogSyncCoordinator != null) {
+            // syncs of the local translog may be coalesced with the ones of the other shards of the node
+            return translogSyncCoordinator.newSyncProcessor(logger, 1024, threadContext, writeConsumer);
+        }
         return new AsyncIOProcessor<>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
@@ -4504,10 +4531,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false && isScheduledRefreshDeferred()) {
+                // the adaptive refresh scheduler stretched the refresh interval of this shard, searches see the changes later
+                deferredRefreshMetric.inc();
+                getEngine().maybePruneDeletes();
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
                 }
+                lastScheduledRefreshMillis = threadPool.relativeTimeInMillis();
                 return getEngine().maybeRefresh("schedule");
             }
         }
@@ -4516,6 +4549,21 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    private boolean isScheduledRefreshDeferred() {
+        final long interval = adaptiveRefreshIntervalMillis;
+        final long lastRefresh = lastScheduledRefreshMillis;
+        return interval > 0 && lastRefresh != NO_SCHEDULED_REFRESH && threadPool.relativeTimeInMillis() - lastRefresh < interval;
+    }
+
+    /**
+     * Sets the interval at which scheduled refreshes actually refresh this shard, as picked by the adaptive refresh scheduler of the
+     * node. Scheduled refreshes that happen sooner after the previous one are deferred, unless refresh listeners are waiting. A
+     * {@code null} interval stops deferring refreshes.
+     */
+    public void setAdaptiveRefreshInterval(@Nullable TimeValue interval) {
+        adaptiveRefreshIntervalMillis = interval == null ? -1 : interval.millis();
+    }
+
     /**
      * Returns true if this shards is search idle
      */
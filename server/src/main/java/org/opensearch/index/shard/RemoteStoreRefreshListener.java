@@ -39,8 +39,10 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -412,7 +414,10 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         Map<String, Long> localSegmentsSizeMap,
         ActionListener<Void> listener
     ) {
-        Collection<String> filteredFiles = localSegmentsPostRefresh.stream().filter(file -> !skipUpload(file)).collect(Collectors.toList());
+        Collection<String> filteredFiles = sortForUpload(
+            localSegmentsPostRefresh.stream().filter(file -> !skipUpload(file)).collect(Collectors.toList()),
+            localSegmentsSizeMap
+        );
         if (filteredFiles.size() == 0) {
             logger.debug("No new segments to upload in uploadNewSegments");
             listener.onResponse(null);
@@ -442,6 +447,16 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         }
     }
 
+    /**
+     * Orders the files to upload smallest first, so that the small segments written by a refresh are submitted before the large
+     * segments produced by merges. Files of unknown size are submitted last.
+     */
+    static List<String> sortForUpload(Collection<String> files, Map<String, Long> sizes) {
+        return files.stream()
+            .sorted(Comparator.comparingLong(file -> sizes.getOrDefault(file, Long.MAX_VALUE)))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Whether to upload a file or not depending on whether file is in excluded list or has been already uploaded.
      *
@@ -324,10 +324,29 @@ public class RemoteDirectory extends Directory {
         IOContext context,
         Runnable postUploadRunner,
         ActionListener<Void> listener
+    ) {
+        return copyFrom(from, src, remoteFileName, context, postUploadRunner, listener, WritePriority.NORMAL);
+    }
+
+    /**
+     * Uploads the file with the given priority if the blob container supports multi-stream uploads, the parts of the file are then
+     * uploaded in parallel. Higher priority uploads use dedicated resources of the blob store so that they are not queued behind large
+     * uploads of normal priority.
+     *
+     * @return {@code false} if the blob container does not support multi-stream uploads, in which case nothing was uploaded.
+     */
+    public boolean copyFrom(
+        Directory from,
+        String src,
+        String remoteFileName,
+        IOContext context,
+        Runnable postUploadRunner,
+        ActionListener<Void> listener,
+        WritePriority writePriority
     ) {
         if (blobContainer instanceof AsyncMultiStreamBlobContainer) {
             try {
-                uploadBlob(from, src, remoteFileName, context, postUploadRunner, listener);
+                uploadBlob(from, src, remoteFileName, context, postUploadRunner, listener, writePriority);
             } catch (Exception e) {
                 listener.onFailure(e);
             }
@@ -342,7 +361,8 @@ public class RemoteDirectory extends Directory {
         String remoteFileName,
         IOContext ioContext,
         Runnable postUploadRunner,
-        ActionListener<Void> listener
+        ActionListener<Void> listener,
+        WritePriority writePriority
     ) throws Exception {
         long expectedChecksum = calculateChecksumOfChecksum(from, src);
         long contentLength;
@@ -358,7 +378,7 @@ public class RemoteDirectory extends Directory {
             remoteFileName,
             contentLength,
             true,
-            WritePriority.NORMAL,
+            writePriority,
             (size, position) -> uploadRateLimiter.apply(new OffsetRangeIndexInputStream(from.openInput(src, ioContext), size, position)),
             expectedChecksum,
             remoteIntegrityEnabled
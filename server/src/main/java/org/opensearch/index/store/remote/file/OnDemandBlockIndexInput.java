@@ -27,6 +27,11 @@ import java.util.Objects;
  * <br>
  * This class delegate the responsibility of actually fetching the block when demanded to its subclasses using
  * {@link OnDemandBlockIndexInput#fetchBlock(int)}.
+ * <br>
+ * Once blocks are read sequentially, the following blocks are read ahead using {@link OnDemandBlockIndexInput#prefetchBlock(int)}, so
+ * that they are already fetched when the reader gets to them. The number of blocks that are read ahead doubles for every block that is
+ * read sequentially, up to {@link OnDemandBlockIndexInput#MAX_READ_AHEAD_BLOCKS}, and drops to zero as soon as the reader jumps to
+ * another block. Each clone tracks its own access pattern.
  * <p>
  * Like {@link IndexInput}, this class may only be used from one thread as it is not thread safe.
  * However, a cleaning action may run from another thread triggered by the {@link Cleaner}, but
@@ -49,6 +54,11 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     private static final Cleaner CLEANER = Cleaner.create(OpenSearchExecutors.daemonThreadFactory(CLEANER_THREAD_NAME_PREFIX));
 
+    /**
+     * Maximum number of blocks that are read ahead of a sequential reader
+     */
+    static final int MAX_READ_AHEAD_BLOCKS = 4;
+
     /**
      * Start offset of the virtual file : non-zero in the slice case
      */
@@ -77,6 +87,12 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     private int currentBlockId;
 
+    /**
+     * Number of blocks that are read ahead of the current block, and ID of the last block that was read ahead
+     */
+    private int readAheadBlocks;
+    private int readAheadBlockId = -1;
+
     private final BlockHolder blockHolder = new BlockHolder();
 
     OnDemandBlockIndexInput(Builder builder) {
@@ -102,6 +118,12 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Given a blockId, start fetching it asynchronously so that it is available once it is demanded. Does nothing by default.
+     * @param blockId to prefetch
+     */
+    protected void prefetchBlock(int blockId) {}
+
     @Override
     public abstract OnDemandBlockIndexInput clone();
 
@@ -130,6 +152,8 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
     public void close() throws IOException {
         blockHolder.close();
         currentBlockId = 0;
+        readAheadBlocks = 0;
+        readAheadBlockId = -1;
     }
 
     @Override
@@ -333,12 +357,34 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
 
     private void demandBlock(int blockId) throws IOException {
         if (blockHolder.block != null && currentBlockId == blockId) return;
+        final boolean sequential = blockHolder.block != null && blockId == currentBlockId + 1;
 
         // close the current block before jumping to the new block
         blockHolder.close();
 
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
+        readAhead(blockId, sequential);
+    }
+
+    /**
+     * Grows the read-ahead window while blocks are read sequentially and prefetches the blocks of the window that were not read ahead
+     * yet, or resets the window when the reader jumped to another block.
+     * NOTE: the blockId is a block of the whole file, not of the slice
+     */
+    private void readAhead(int blockId, boolean sequential) {
+        if (sequential == false) {
+            readAheadBlocks = 0;
+            readAheadBlockId = blockId;
+            return;
+        }
+        readAheadBlocks = Math.min(MAX_READ_AHEAD_BLOCKS, Math.max(1, readAheadBlocks * 2));
+        final int lastBlockId = getBlock(offset + length - 1);
+        final int toBlockId = Math.min(lastBlockId, blockId + readAheadBlocks);
+        for (int id = Math.max(blockId, readAheadBlockId) + 1; id <= toBlockId; id++) {
+            prefetchBlock(id);
+        }
+        readAheadBlockId = Math.max(readAheadBlockId, toBlockId);
     }
 
     protected void cloneBlock(OnDemandBlockIndexInput other) {
@@ -133,6 +133,15 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
+        return transferManager.fetchBlob(getBlobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlock(int blockId) {
+        transferManager.prefetchBlob(getBlobFetchRequest(blockId));
+    }
+
+    private BlobFetchRequest getBlobFetchRequest(int blockId) {
         final String blockFileName = fileName + "." + blockId;
 
         final long blockStart = getBlockStart(blockId);
@@ -140,12 +149,11 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
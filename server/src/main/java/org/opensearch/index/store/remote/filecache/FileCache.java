@@ -23,6 +23,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -52,6 +53,11 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
 
     private final CircuitBreaker circuitBreaker;
 
+    // blocks fetched ahead of being read, and how many of those were read or evicted before being read
+    private final LongAdder prefetchCount = new LongAdder();
+    private final LongAdder prefetchHitCount = new LongAdder();
+    private final LongAdder prefetchWasteCount = new LongAdder();
+
     /**
      * Defines a limit of how much total remote data can be referenced as a ratio of the size of the disk reserved for
      * the file cache. For example, if 100GB disk space is configured for use as a file cache and the
@@ -155,6 +161,27 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         return theCache.stats();
     }
 
+    /**
+     * Records that a file was added to the cache ahead of being read.
+     */
+    public void recordPrefetch() {
+        prefetchCount.increment();
+    }
+
+    /**
+     * Records that a file that was added to the cache ahead of being read was read.
+     */
+    public void recordPrefetchHit() {
+        prefetchHitCount.increment();
+    }
+
+    /**
+     * Records that a file that was added to the cache ahead of being read was removed from the cache without having been read.
+     */
+    public void recordPrefetchWaste() {
+        prefetchWasteCount.increment();
+    }
+
     /**
      * Ensures that the PARENT breaker is not tripped when an entry is added to the cache
      * @param filePath the path key for which entry is added
@@ -220,7 +247,10 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            prefetchCount.sum(),
+            prefetchHitCount.sum(),
+            prefetchWasteCount.sum()
         );
     }
 
@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
@@ -33,6 +34,10 @@ import static org.opensearch.ExceptionsHelper.catchAsRuntimeException;
  * items from cache tail and triggers a callback to clean up the file from disk. The
  * cleanup process also includes closing file’s descriptor.
  *
+ * <p>The file cache can also be built with the {@link EvictionPolicy#W_TINY_LFU} policy, which only admits a new file at the
+ * expense of an existing one if it is accessed more frequently, so that a large scan does not flush the files that are used
+ * over and over.
+ *
  * @opensearch.internal
  */
 public class FileCacheFactory {
@@ -45,6 +50,22 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build(), circuitBreaker);
     }
 
+    public static FileCache createConcurrentFileCache(long capacity, EvictionPolicy evictionPolicy, CircuitBreaker circuitBreaker) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).evictionPolicy(evictionPolicy).build(), circuitBreaker);
+    }
+
+    public static FileCache createConcurrentFileCache(
+        long capacity,
+        int concurrencyLevel,
+        EvictionPolicy evictionPolicy,
+        CircuitBreaker circuitBreaker
+    ) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).evictionPolicy(evictionPolicy).build(),
+            circuitBreaker
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
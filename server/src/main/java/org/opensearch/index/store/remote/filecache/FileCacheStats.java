@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -33,6 +34,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long evicted;
     private final long hits;
     private final long misses;
+    private final long prefetched;
+    private final long prefetchHits;
+    private final long prefetchWasted;
 
     public FileCacheStats(
         final long timestamp,
@@ -42,6 +46,21 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long evicted,
         final long hits,
         final long misses
+    ) {
+        this(timestamp, active, total, used, evicted, hits, misses, 0, 0, 0);
+    }
+
+    public FileCacheStats(
+        final long timestamp,
+        final long active,
+        final long total,
+        final long used,
+        final long evicted,
+        final long hits,
+        final long misses,
+        final long prefetched,
+        final long prefetchHits,
+        final long prefetchWasted
     ) {
         this.timestamp = timestamp;
         this.active = active;
@@ -50,6 +69,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = evicted;
         this.hits = hits;
         this.misses = misses;
+        this.prefetched = prefetched;
+        this.prefetchHits = prefetchHits;
+        this.prefetchWasted = prefetchWasted;
     }
 
     public FileCacheStats(final StreamInput in) throws IOException {
@@ -60,6 +82,15 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = in.readLong();
         this.hits = in.readLong();
         this.misses = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
+            this.prefetched = in.readLong();
+            this.prefetchHits = in.readLong();
+            this.prefetchWasted = in.readLong();
+        } else {
+            this.prefetched = 0;
+            this.prefetchHits = 0;
+            this.prefetchWasted = 0;
+        }
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -75,6 +106,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(evicted);
         out.writeLong(hits);
         out.writeLong(misses);
+        if (out.getVersion().onOrAfter(Version.V_2_13_0)) {
+            out.writeLong(prefetched);
+            out.writeLong(prefetchHits);
+            out.writeLong(prefetchWasted);
+        }
     }
 
     public long getTimestamp() {
@@ -113,6 +149,27 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * The number of blocks that were fetched into the cache ahead of being read.
+     */
+    public long getPrefetched() {
+        return prefetched;
+    }
+
+    /**
+     * The number of prefetched blocks that were read.
+     */
+    public long getPrefetchHits() {
+        return prefetchHits;
+    }
+
+    /**
+     * The number of prefetched blocks that were evicted without having been read.
+     */
+    public long getPrefetchWasted() {
+        return prefetchWasted;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.FILE_CACHE);
@@ -125,6 +182,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.PREFETCH_COUNT, getPrefetched());
+        builder.field(Fields.PREFETCH_HIT_COUNT, getPrefetchHits());
+        builder.field(Fields.PREFETCH_WASTE_COUNT, getPrefetchWasted());
         builder.endObject();
         return builder;
     }
@@ -146,5 +206,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String PREFETCH_COUNT = "prefetch_count";
+        static final String PREFETCH_HIT_COUNT = "prefetch_hit_count";
+        static final String PREFETCH_WASTE_COUNT = "prefetch_waste_count";
     }
 }
@@ -10,8 +10,10 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
@@ -28,6 +30,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -41,10 +44,20 @@ public class TransferManager {
 
     private final BlobContainer blobContainer;
     private final FileCache fileCache;
+    @Nullable
+    private final Executor prefetchExecutor;
 
     public TransferManager(final BlobContainer blobContainer, final FileCache fileCache) {
+        this(blobContainer, fileCache, null);
+    }
+
+    /**
+     * @param prefetchExecutor the executor that fetches the blobs that are prefetched, or {@code null} to disable prefetching
+     */
+    public TransferManager(final BlobContainer blobContainer, final FileCache fileCache, @Nullable final Executor prefetchExecutor) {
         this.blobContainer = blobContainer;
         this.fileCache = fileCache;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     /**
@@ -59,7 +72,7 @@ public class TransferManager {
         final CachedIndexInput cacheEntry = fileCache.compute(key, (path, cachedIndexInput) -> {
             if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
                 // Doesn't exist or is closed, either way create a new one
-                return new DelayedCreationCachedIndexInput(fileCache, blobContainer, blobFetchRequest);
+                return new DelayedCreationCachedIndexInput(fileCache, blobContainer, blobFetchRequest, false);
             } else {
                 // already in the cache and ready to be used (open)
                 return cachedIndexInput;
@@ -70,12 +83,49 @@ public class TransferManager {
         // way the reference count has been incremented by one. We can only
         // decrement this reference _after_ creating the clone to be returned.
         try {
+            if (cacheEntry instanceof DelayedCreationCachedIndexInput) {
+                ((DelayedCreationCachedIndexInput) cacheEntry).onDemand();
+            }
             return cacheEntry.getIndexInput().clone();
         } finally {
             fileCache.decRef(key);
         }
     }
 
+    /**
+     * Asynchronously fetches the given blob into the file cache, unless it is already cached or prefetching is disabled. The blob is
+     * not referenced once fetched, so it is evicted like any other unused file if it is not read before the cache fills up.
+     * @param blobFetchRequest to prefetch
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest) {
+        if (prefetchExecutor == null) {
+            return;
+        }
+        final Path key = blobFetchRequest.getFilePath();
+        prefetchExecutor.execute(() -> {
+            if (Files.exists(key)) {
+                // already fetched, or being fetched
+                return;
+            }
+            final CachedIndexInput cacheEntry = fileCache.compute(key, (path, cachedIndexInput) -> {
+                if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
+                    fileCache.recordPrefetch();
+                    return new DelayedCreationCachedIndexInput(fileCache, blobContainer, blobFetchRequest, true);
+                } else {
+                    return cachedIndexInput;
+                }
+            });
+            try {
+                cacheEntry.getIndexInput();
+            } catch (Exception e) {
+                // the block is fetched again when it is read
+                logger.debug(() -> new ParameterizedMessage("Failed to prefetch blob [{}]", key), e);
+            } finally {
+                fileCache.decRef(key);
+            }
+        });
+    }
+
     @SuppressWarnings("removal")
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, BlobContainer blobContainer, BlobFetchRequest request) {
         // We need to do a privileged action here in order to fetch from remote
@@ -124,11 +174,26 @@ public class TransferManager {
         private final CompletableFuture<IndexInput> result = new CompletableFuture<>();
         private final AtomicBoolean isStarted = new AtomicBoolean(false);
         private final AtomicBoolean isClosed = new AtomicBoolean(false);
-
-        private DelayedCreationCachedIndexInput(FileCache fileCache, BlobContainer blobContainer, BlobFetchRequest request) {
+        // whether the blob was fetched ahead of being read, and whether it has been read since
+        private final boolean isPrefetched;
+        private final AtomicBoolean isDemanded = new AtomicBoolean(false);
+
+        private DelayedCreationCachedIndexInput(
+            FileCache fileCache,
+            BlobContainer blobContainer,
+            BlobFetchRequest request,
+            boolean isPrefetched
+        ) {
             this.fileCache = fileCache;
             this.blobContainer = blobContainer;
             this.request = request;
+            this.isPrefetched = isPrefetched;
+        }
+
+        private void onDemand() {
+            if (isPrefetched && isDemanded.getAndSet(true) == false) {
+                fileCache.recordPrefetchHit();
+            }
         }
 
         @Override
@@ -170,6 +235,9 @@ public class TransferManager {
         @Override
         public void close() throws Exception {
             if (isClosed.getAndSet(true) == false) {
+                if (isPrefetched && isDemanded.get() == false) {
+                    fileCache.recordPrefetchWaste();
+                }
                 result.whenComplete((indexInput, error) -> {
                     if (indexInput != null) {
                         try {
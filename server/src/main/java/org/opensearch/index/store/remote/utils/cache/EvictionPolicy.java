@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.Weigher;
+
+import java.util.Locale;
+
+/**
+ * The policies deciding which entries a {@link SegmentedCache} admits and evicts, each segment of the cache is a {@link RefCountedCache}
+ * built by the policy.
+ *
+ * @opensearch.internal
+ */
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry, see {@link LRUCache}.
+     */
+    LRU {
+        @Override
+        <K, V> RefCountedCache<K, V> newCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+            return new LRUCache<>(capacity, listener, weigher);
+        }
+    },
+    /**
+     * Only admits a new entry at the expense of an existing one if it is used more frequently, see {@link WTinyLFUCache}.
+     */
+    W_TINY_LFU {
+        @Override
+        <K, V> RefCountedCache<K, V> newCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+            return new WTinyLFUCache<>(capacity, listener, weigher);
+        }
+    };
+
+    abstract <K, V> RefCountedCache<K, V> newCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher);
+
+    public static EvictionPolicy fromString(String policy) {
+        try {
+            return valueOf(policy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown eviction policy [" + policy + "], must be one of [lru, w_tiny_lfu]", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+/**
+ * A count-min sketch estimating the popularity of the keys of a cache, used by {@link WTinyLFUCache} to decide whether a new entry is
+ * worth admitting at the expense of an existing one. Each key is counted in one 4-bit counter of each of the {@link #DEPTH} rows, and
+ * its frequency is the minimum of these counters, which bounds the overestimation caused by hash collisions.
+ * <p>
+ * Once the number of increments reaches ten times the width of the sketch, all counters are halved, so that the sketch ages and keys
+ * that were popular a long time ago do not keep their frequency forever.
+ * <p>
+ * This class is not thread safe, it is guarded by the lock of the cache that owns it.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch<K> {
+
+    static final int DEPTH = 4;
+
+    static final int MAX_FREQUENCY = 15;
+
+    private static final int MIN_WIDTH = 16;
+
+    private static final int MAX_WIDTH = 1 << 24;
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+    private byte[] table;
+
+    private int widthMask;
+
+    private int sampleSize;
+
+    private int additions;
+
+    FrequencySketch() {
+        resize(MIN_WIDTH);
+    }
+
+    /**
+     * Grows the sketch so that it can tell apart the frequencies of about {@code maximumSize} keys. Growing the sketch discards the
+     * frequencies counted so far.
+     */
+    void ensureCapacity(int maximumSize) {
+        final int width = Math.min(MAX_WIDTH, ceilingPowerOfTwo(Math.max(MIN_WIDTH, maximumSize)));
+        if (width > widthMask + 1) {
+            resize(width);
+        }
+    }
+
+    /**
+     * Returns the estimated number of times the key was counted, up to {@link #MAX_FREQUENCY}.
+     */
+    int frequency(K key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[indexOf(hash, i)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Counts one more occurrence of the key, and ages the sketch once enough occurrences have been counted.
+     */
+    void increment(K key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            final int index = indexOf(hash, i);
+            if (table[index] < MAX_FREQUENCY) {
+                table[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (byte) (table[i] >>> 1);
+        }
+        additions >>>= 1;
+    }
+
+    private void resize(int width) {
+        table = new byte[DEPTH * width];
+        widthMask = width - 1;
+        sampleSize = 10 * width;
+        additions = 0;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += (h >>> 32);
+        return row * (widthMask + 1) + ((int) h & widthMask);
+    }
+
+    private static int spread(int x) {
+        // the segments of a SegmentedCache are picked from the low bits of the hash, so mix the hash differently here
+        x ^= x >>> 17;
+        x *= 0xed5ad4bb;
+        x ^= x >>> 11;
+        x *= 0xac4c1b51;
+        x ^= x >>> 15;
+        return x;
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(x - 1));
+    }
+}
@@ -18,7 +18,8 @@ import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link RefCountedCache} to offer concurrent access with less contention. Each segment evicts entries according to the
+ * {@link EvictionPolicy} of the cache, {@link EvictionPolicy#LRU} by default.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -56,7 +57,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = builder.evictionPolicy.newCache(perSegmentCapacity, builder.listener, builder.weigher);
         }
     }
 
@@ -234,9 +235,12 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        EvictionPolicy evictionPolicy;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            evictionPolicy = EvictionPolicy.LRU;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -299,6 +303,19 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the policy deciding which entries each segment of the cache
+         * admits and evicts (default {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy of the segments
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
@@ -0,0 +1,511 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.Weigher;
+import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
+import org.opensearch.index.store.remote.utils.cache.stats.DefaultStatsCounter;
+import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * W-TinyLFU implementation of {@link RefCountedCache}, which unlike {@link LRUCache} does not let a burst of entries that are only used
+ * once, such as the blocks read by a large scan, flush the entries that are used over and over. As with {@link LRUCache}, entries with
+ * a {@link Node#refCount} greater than 0 are never evicted, so the capacity is maintained on a best-effort basis.
+ * <br>
+ * The cache is split into three regions, each of them kept in LRU order:
+ * <ul>
+ * <li>the window, which takes all new entries and holds about 1% of the capacity once the cache is full</li>
+ * <li>the probation region, which takes the entries admitted from the window and the entries demoted from the protected region</li>
+ * <li>the protected region, which takes the entries of the probation region that are accessed again, up to 80% of the main space</li>
+ * </ul>
+ * When the cache overflows and the window is over its share, the least recently used entry of the window competes with the least
+ * recently used entry of the main space: it is only admitted if a {@link FrequencySketch} estimates that it was accessed more often,
+ * otherwise it is evicted.
+ * @see RefCountedCache
+ *
+ * @opensearch.internal
+ */
+class WTinyLFUCache<K, V> implements RefCountedCache<K, V> {
+
+    static final int WINDOW_PERCENT = 1;
+
+    static final int PROTECTED_PERCENT = 80;
+
+    private enum Region {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private final long capacity;
+
+    private final long maxWindowWeight;
+
+    private final long maxMainWeight;
+
+    private final long maxProtectedWeight;
+
+    private final HashMap<K, Node<K, V>> data;
+
+    /** the regions, in LRU order, they hold the referenced entries as well */
+    private final LinkedHashMap<K, Node<K, V>> window;
+    private final LinkedHashMap<K, Node<K, V>> probation;
+    private final LinkedHashMap<K, Node<K, V>> protectedRegion;
+
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    private final FrequencySketch<K> sketch;
+
+    private final RemovalListener<K, V> listener;
+
+    private final Weigher<V> weigher;
+
+    private final StatsCounter<K> statsCounter;
+
+    private final ReentrantLock lock;
+
+    /**
+     * this tracks cache usage on the system (as long as cache entry is in the cache)
+     */
+    private long usage;
+
+    /**
+     * this tracks cache usage only by entries which are being referred ({@link Node#refCount > 0})
+     */
+    private long activeUsage;
+
+    static class Node<K, V> {
+        final K key;
+
+        V value;
+
+        long weight;
+
+        int refCount;
+
+        Region region;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.refCount = 0;
+            this.region = Region.WINDOW;
+        }
+
+        public boolean evictable() {
+            return (refCount == 0);
+        }
+    }
+
+    public WTinyLFUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this.capacity = capacity;
+        this.maxWindowWeight = Math.max(1L, capacity * WINDOW_PERCENT / 100);
+        this.maxMainWeight = Math.max(0L, capacity - maxWindowWeight);
+        this.maxProtectedWeight = maxMainWeight * PROTECTED_PERCENT / 100;
+        this.listener = listener;
+        this.weigher = weigher;
+        this.data = new HashMap<>();
+        this.window = new LinkedHashMap<>();
+        this.probation = new LinkedHashMap<>();
+        this.protectedRegion = new LinkedHashMap<>();
+        this.sketch = new FrequencySketch<>();
+        this.lock = new ReentrantLock();
+        this.statsCounter = new DefaultStatsCounter<>();
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Node<K, V> node = data.get(key);
+            // miss
+            if (node == null) {
+                statsCounter.recordMisses(key, 1);
+                return null;
+            }
+            // hit
+            onAccess(node);
+            incRef(key);
+            statsCounter.recordHits(key, 1);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                final V oldValue = node.value;
+                onAccess(node);
+                replaceNode(node, value);
+                return oldValue;
+            } else {
+                addNode(key, value);
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(remappingFunction);
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (node == null) {
+                final V newValue = remappingFunction.apply(key, null);
+                if (newValue == null) {
+                    // Remapping function asked for removal, but nothing to remove
+                    return null;
+                } else {
+                    sketch.increment(key);
+                    addNode(key, newValue);
+                    statsCounter.recordMisses(key, 1);
+                    return newValue;
+                }
+            } else {
+                final V newValue = remappingFunction.apply(key, node.value);
+                if (newValue == null) {
+                    removeNode(key);
+                    return null;
+                } else {
+                    sketch.increment(key);
+                    statsCounter.recordHits(key, 1);
+                    onAccess(node);
+                    replaceNode(node, newValue);
+                    return newValue;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            removeNode(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            usage = 0L;
+            activeUsage = 0L;
+            window.clear();
+            probation.clear();
+            protectedRegion.clear();
+            windowWeight = 0L;
+            probationWeight = 0L;
+            protectedWeight = 0L;
+            final Iterator<Node<K, V>> iterator = data.values().iterator();
+            while (iterator.hasNext()) {
+                final Node<K, V> node = iterator.next();
+                iterator.remove();
+                statsCounter.recordRemoval(node.weight);
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return data.size();
+    }
+
+    @Override
+    public void incRef(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                if (node.refCount == 0) {
+                    // if it was inactive, we should add the weight to active usage from now
+                    activeUsage += node.weight;
+                }
+                node.refCount++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void decRef(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null && node.refCount > 0) {
+                node.refCount--;
+                if (node.refCount == 0) {
+                    // if it was active, we should remove its weight from active usage
+                    activeUsage -= node.weight;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long prune(Predicate<K> keyPredicate) {
+        long sum = 0L;
+        lock.lock();
+        try {
+            final Iterator<Node<K, V>> iterator = data.values().iterator();
+            while (iterator.hasNext()) {
+                final Node<K, V> node = iterator.next();
+                if (node.evictable() == false || (keyPredicate != null && keyPredicate.test(node.key) == false)) {
+                    continue;
+                }
+                iterator.remove();
+                unlink(node);
+                sum += node.weight;
+                statsCounter.recordRemoval(node.weight);
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+            }
+            usage -= sum;
+        } finally {
+            lock.unlock();
+        }
+        return sum;
+    }
+
+    @Override
+    public CacheUsage usage() {
+        lock.lock();
+        try {
+            return new CacheUsage(usage, activeUsage);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return statsCounter.snapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addNode(K key, V value) {
+        final long weight = weigher.weightOf(value);
+        Node<K, V> newNode = new Node<>(key, value, weight);
+        data.put(key, newNode);
+        sketch.ensureCapacity(data.size());
+        link(newNode, Region.WINDOW);
+        usage += weight;
+        incRef(key);
+        evict();
+    }
+
+    private void replaceNode(Node<K, V> node, V newValue) {
+        if (node.value != newValue) { // replace if new value is not the same instance as existing value
+            final V oldValue = node.value;
+            final long oldWeight = node.weight;
+            final long newWeight = weigher.weightOf(newValue);
+            // update the value and weight, unlinking the node first to keep the weights of the regions right
+            final Region region = node.region;
+            unlink(node);
+            node.value = newValue;
+            node.weight = newWeight;
+            link(node, region);
+            // update usage
+            final long weightDiff = newWeight - oldWeight;
+            if (node.refCount > 0) {
+                activeUsage += weightDiff;
+            }
+            usage += weightDiff;
+            statsCounter.recordReplacement();
+            listener.onRemoval(new RemovalNotification<>(node.key, oldValue, RemovalReason.REPLACED));
+        }
+        incRef(node.key);
+        evict();
+    }
+
+    private void removeNode(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node != null) {
+            if (node.refCount > 0) {
+                activeUsage -= node.weight;
+            }
+            usage -= node.weight;
+            unlink(node);
+            statsCounter.recordRemoval(node.weight);
+            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+        }
+    }
+
+    /**
+     * Moves an entry that is accessed again to the most recently used end of its region, and promotes it to the protected region if it
+     * was on probation.
+     */
+    private void onAccess(Node<K, V> node) {
+        if (node.region == Region.PROBATION) {
+            unlink(node);
+            link(node, Region.PROTECTED);
+            // demote the least recently used entries of the protected region to make room for it
+            final Iterator<Node<K, V>> iterator = protectedRegion.values().iterator();
+            while (protectedWeight > maxProtectedWeight && iterator.hasNext()) {
+                final Node<K, V> demoted = iterator.next();
+                if (demoted == node) {
+                    break;
+                }
+                iterator.remove();
+                protectedWeight -= demoted.weight;
+                link(demoted, Region.PROBATION);
+            }
+        } else {
+            final Region region = node.region;
+            unlink(node);
+            link(node, region);
+        }
+    }
+
+    private void link(Node<K, V> node, Region region) {
+        node.region = region;
+        switch (region) {
+            case WINDOW:
+                window.put(node.key, node);
+                windowWeight += node.weight;
+                break;
+            case PROBATION:
+                probation.put(node.key, node);
+                probationWeight += node.weight;
+                break;
+            case PROTECTED:
+                protectedRegion.put(node.key, node);
+                protectedWeight += node.weight;
+                break;
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW:
+                window.remove(node.key);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                break;
+            case PROTECTED:
+                protectedRegion.remove(node.key);
+                protectedWeight -= node.weight;
+                break;
+        }
+    }
+
+    private boolean hasOverflowed() {
+        return usage >= capacity;
+    }
+
+    /**
+     * Returns the least recently used entry of the region that is not referenced, the referenced entries cannot be evicted.
+     */
+    private Node<K, V> leastRecentlyUsedEvictable(LinkedHashMap<K, Node<K, V>> region) {
+        for (Node<K, V> node : region.values()) {
+            if (node.evictable()) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private Node<K, V> mainVictim() {
+        final Node<K, V> victim = leastRecentlyUsedEvictable(probation);
+        return victim != null ? victim : leastRecentlyUsedEvictable(protectedRegion);
+    }
+
+    private void evict() {
+        // Attempts to evict entries from the cache if it exceeds the maximum capacity. Every iteration either moves an entry out of the
+        // window or evicts an entry, so the loop terminates.
+        while (hasOverflowed()) {
+            final Node<K, V> candidate = windowWeight > maxWindowWeight ? leastRecentlyUsedEvictable(window) : null;
+            if (candidate != null) {
+                if (probationWeight + protectedWeight + candidate.weight < maxMainWeight) {
+                    // the main space is not full yet, admit the candidate without evicting anything. The main space is only
+                    // filled up to one unit short of its share, so that an overflowing cache always has a candidate in the window
+                    // competing with the main space rather than evicting from the main space unconditionally
+                    unlink(candidate);
+                    link(candidate, Region.PROBATION);
+                    continue;
+                }
+                final Node<K, V> victim = mainVictim();
+                if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                    evictNode(victim);
+                    unlink(candidate);
+                    link(candidate, Region.PROBATION);
+                } else {
+                    evictNode(candidate);
+                }
+                continue;
+            }
+            Node<K, V> victim = mainVictim();
+            if (victim == null) {
+                victim = leastRecentlyUsedEvictable(window);
+            }
+            if (victim == null) {
+                // all the entries are referenced
+                return;
+            }
+            evictNode(victim);
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        unlink(node);
+        // Notify the listener only if the entry was evicted
+        data.remove(node.key, node);
+        usage -= node.weight;
+        statsCounter.recordEviction(node.weight);
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the translog syncs that are requested by the shards of a node, when the durability of their translog is
+ * {@link org.opensearch.index.translog.Translog.Durability#REQUEST}. Instead of having each write request fsync its
+ * shard's translog as soon as it completes, requests that arrive within a window are grouped: each shard's translog is
+ * then synced once up to the highest location that was requested, and all the listeners of the shard are notified
+ * together. Syncs of different shards are issued concurrently, so that the disk can merge them.
+ * <p>
+ * Listeners are only notified once their location has been synced, so request durability is preserved: the window
+ * trades some latency for fewer fsyncs. A window of zero disables coalescing, and each shard syncs its translog as
+ * {@link AsyncIOProcessor} does.
+ *
+ * @opensearch.internal
+ */
+public class TranslogSyncCoordinator {
+
+    /**
+     * The time during which translog sync requests are collected before being processed together.
+     */
+    public static final Setting<TimeValue> GROUP_COMMIT_WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private final ThreadPool threadPool;
+    private final ConcurrentLinkedQueue<PendingSync> pendingSyncs = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile TimeValue window;
+
+    public TranslogSyncCoordinator(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.window = GROUP_COMMIT_WINDOW_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(GROUP_COMMIT_WINDOW_SETTING, this::setWindow);
+    }
+
+    private void setWindow(TimeValue window) {
+        this.window = window;
+        // syncs that are pending when coalescing gets disabled must still be processed
+        maybeScheduleFlush();
+    }
+
+    /**
+     * Creates the processor of the translog syncs of a shard.
+     *
+     * @param logger the logger of the shard
+     * @param queueSize the size of the queue of syncs of the shard, when coalescing is disabled
+     * @param threadContext the thread context to restore when notifying listeners
+     * @param writer syncs the translog of the shard up to the given locations
+     */
+    public AsyncIOProcessor<Translog.Location> newSyncProcessor(
+        Logger logger,
+        int queueSize,
+        ThreadContext threadContext,
+        CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer
+    ) {
+        return new ShardSyncProcessor(logger, queueSize, threadContext, writer);
+    }
+
+    private void maybeScheduleFlush() {
+        if (pendingSyncs.isEmpty() == false && flushScheduled.compareAndSet(false, true)) {
+            try {
+                threadPool.schedule(this::flush, window, ThreadPool.Names.TRANSLOG_SYNC);
+            } catch (Exception e) {
+                // the node is shutting down
+                flushScheduled.set(false);
+                for (PendingSync sync = pendingSyncs.poll(); sync != null; sync = pendingSyncs.poll()) {
+                    sync.processor.notifyListeners(List.of(new Tuple<>(sync.location, sync.listener)), e);
+                }
+            }
+        }
+    }
+
+    private void flush() {
+        final Map<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> syncsByShard = new IdentityHashMap<>();
+        try {
+            for (PendingSync sync = pendingSyncs.poll(); sync != null; sync = pendingSyncs.poll()) {
+                syncsByShard.computeIfAbsent(sync.processor, p -> new ArrayList<>()).add(new Tuple<>(sync.location, sync.listener));
+            }
+        } finally {
+            flushScheduled.set(false);
+        }
+        // syncs that were requested while draining are processed in the next window
+        maybeScheduleFlush();
+
+        final Iterator<Map.Entry<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>>> iterator = syncsByShard
+            .entrySet()
+            .iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> entry = iterator.next();
+            final ShardSyncProcessor processor = entry.getKey();
+            final List<Tuple<Translog.Location, Consumer<Exception>>> syncs = entry.getValue();
+            if (iterator.hasNext()) {
+                try {
+                    threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(() -> processor.sync(syncs));
+                } catch (OpenSearchRejectedExecutionException e) {
+                    processor.sync(syncs);
+                }
+            } else {
+                // the last shard is synced on the current thread
+                processor.sync(syncs);
+            }
+        }
+    }
+
+    /**
+     * A translog sync request of a shard.
+     */
+    private static final class PendingSync {
+        private final ShardSyncProcessor processor;
+        private final Translog.Location location;
+        private final Consumer<Exception> listener;
+
+        private PendingSync(ShardSyncProcessor processor, Translog.Location location, Consumer<Exception> listener) {
+            this.processor = processor;
+            this.location = location;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Processes the translog syncs of a shard, through the coordinator when coalescing is enabled.
+     */
+    private final class ShardSyncProcessor extends AsyncIOProcessor<Translog.Location> {
+        private final Logger logger;
+        private final ThreadContext threadContext;
+        private final CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer;
+
+        private ShardSyncProcessor(
+            Logger logger,
+            int queueSize,
+            ThreadContext threadContext,
+            CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer
+        ) {
+            super(logger, queueSize, threadContext);
+            this.logger = logger;
+            this.threadContext = threadContext;
+            this.writer = writer;
+        }
+
+        @Override
+        public void put(Translog.Location location, Consumer<Exception> listener) {
+            if (window.nanos() == 0) {
+                super.put(location, listener);
+                return;
+            }
+            Objects.requireNonNull(location, "item must not be null");
+            Objects.requireNonNull(listener, "listener must not be null");
+            final Supplier<ThreadContext.StoredContext> restorableContext = threadContext.newRestorableContext(false);
+            pendingSyncs.add(new PendingSync(this, location, e -> {
+                try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                    listener.accept(e);
+                }
+            }));
+            maybeScheduleFlush();
+        }
+
+        @Override
+        protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+            writer.accept(candidates);
+        }
+
+        private void sync(List<Tuple<Translog.Location, Consumer<Exception>>> syncs) {
+            Exception exception = null;
+            try {
+                write(syncs);
+            } catch (Exception e) {
+                logger.debug("failed to sync translog", e);
+                exception = e;
+            }
+            notifyListeners(syncs, exception);
+        }
+
+        private void notifyListeners(List<Tuple<Translog.Location, Consumer<Exception>>> syncs, Exception exception) {
+            for (Tuple<Translog.Location, Consumer<Exception>> sync : syncs) {
+                try {
+                    sync.v2().accept(exception);
+                } catch (Exception e) {
+                    logger.warn("failed to notify callback", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Picks the interval at which the scheduled refreshes of each shard of the node actually refresh it, so that shards that are rarely
+ * searched produce fewer and larger segments. The interval of a shard is bounded by the refresh interval of its index and
+ * {@link IndexSettings#INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING}, and is picked from:
+ * <ul>
+ *     <li>the search rate of the shard: refreshing more often than the shard is searched is wasted, so the interval is about the time
+ *     between two searches, and the longest one when the shard is not searched,</li>
+ *     <li>the indexing buffer of the shard: a shard that holds more than its share of the indexing buffer of the node is refreshed at
+ *     the refresh interval of its index,</li>
+ *     <li>the refresh budget of the node: when the shards would refresh more than
+ *     {@link #MAX_REFRESH_RATE_SETTING} times per second in total, the intervals of the shards that are not under indexing pressure are
+ *     stretched accordingly.</li>
+ * </ul>
+ * Shards that can't be search idle are left alone, since their refreshes also replicate or upload their segments.
+ *
+ * @opensearch.internal
+ */
+public class AdaptiveRefreshScheduler implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveRefreshScheduler.class);
+
+    /** Whether the refresh intervals of the shards of the node adapt to their search demand (default: false). */
+    public static final Setting<Boolean> ADAPTIVE_REFRESH_ENABLED_SETTING = Setting.boolSetting(
+        "indices.refresh.adaptive.enabled",
+        false,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /** The most refreshes per second the shards of the node should perform in total, 0 for no limit (default: 0). */
+    public static final Setting<Double> MAX_REFRESH_RATE_SETTING = Setting.doubleSetting(
+        "indices.refresh.adaptive.max_refresh_rate",
+        0d,
+        0d,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /** How frequently the refresh intervals of the shards are updated (default: 5 seconds). */
+    public static final Setting<TimeValue> ADAPTIVE_REFRESH_CHECK_INTERVAL_SETTING = Setting.positiveTimeSetting(
+        "indices.refresh.adaptive.check_interval",
+        TimeValue.timeValueSeconds(5),
+        Property.NodeScope
+    );
+
+    // the weight of the last check interval in the search rate of a shard
+    private static final double SEARCH_RATE_ALPHA = 0.5;
+
+    private final ThreadPool threadPool;
+    private final Iterable<IndexShard> indexShards;
+    private final long indexingBufferBytes;
+    private final Supplier<TimeValue> clusterDefaultRefreshInterval;
+    private final TimeValue interval;
+    private final Cancellable scheduler;
+    // only accessed by the scheduled task
+    private final Map<IndexShard, SearchDemand> searchDemands = new IdentityHashMap<>();
+
+    private volatile boolean enabled;
+    private volatile double maxRefreshRate;
+
+    AdaptiveRefreshScheduler(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        ThreadPool threadPool,
+        Iterable<IndexShard> indexShards,
+        long indexingBufferBytes,
+        Supplier<TimeValue> clusterDefaultRefreshInterval
+    ) {
+        this.threadPool = threadPool;
+        this.indexShards = indexShards;
+        this.indexingBufferBytes = indexingBufferBytes;
+        this.clusterDefaultRefreshInterval = clusterDefaultRefreshInterval;
+        this.enabled = ADAPTIVE_REFRESH_ENABLED_SETTING.get(settings);
+        this.maxRefreshRate = MAX_REFRESH_RATE_SETTING.get(settings);
+        this.interval = ADAPTIVE_REFRESH_CHECK_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ADAPTIVE_REFRESH_ENABLED_SETTING, enabled -> this.enabled = enabled);
+        clusterSettings.addSettingsUpdateConsumer(MAX_REFRESH_RATE_SETTING, maxRefreshRate -> this.maxRefreshRate = maxRefreshRate);
+        this.scheduler = scheduleTask(threadPool);
+    }
+
+    protected Cancellable scheduleTask(ThreadPool threadPool) {
+        // it's fine to run it on the scheduler thread, no busy work
+        return threadPool.scheduleWithFixedDelay(this::updateRefreshIntervals, interval, ThreadPool.Names.SAME);
+    }
+
+    @Override
+    public void close() {
+        scheduler.cancel();
+    }
+
+    /**
+     * Picks the refresh interval of every started shard of the node.
+     */
+    void updateRefreshIntervals() {
+        final List<IndexShard> shards = new ArrayList<>();
+        for (IndexShard shard : indexShards) {
+            if (shard.state() == IndexShardState.STARTED) {
+                shards.add(shard);
+            }
+        }
+        if (enabled == false) {
+            if (searchDemands.isEmpty() == false) {
+                shards.forEach(shard -> shard.setAdaptiveRefreshInterval(null));
+                searchDemands.clear();
+            }
+            return;
+        }
+        final Set<IndexShard> started = Collections.newSetFromMap(new IdentityHashMap<>());
+        started.addAll(shards);
+        searchDemands.keySet().retainAll(started);
+
+        final long now = threadPool.relativeTimeInMillis();
+        final long bufferShare = indexingBufferBytes / Math.max(1, shards.size());
+        final List<Decision> decisions = new ArrayList<>();
+        double refreshRate = 0;
+        for (IndexShard shard : shards) {
+            final long queries = shard.searchStats().getTotal().getQueryCount();
+            final double searchRate = searchDemands.computeIfAbsent(shard, s -> new SearchDemand(queries, now)).update(queries, now);
+            final IndexSettings indexSettings = shard.indexSettings();
+            final long minInterval = indexSettings.isExplicitRefresh()
+                ? indexSettings.getRefreshInterval().millis()
+                : clusterDefaultRefreshInterval.get().millis();
+            final long maxInterval = indexSettings.getAdaptiveRefreshMaxInterval().millis();
+            // shards are refreshed at the refresh interval of their index until their search rate is known
+            if (searchRate < 0 || minInterval <= 0 || maxInterval <= minInterval || shard.isSearchIdleSupported() == false) {
+                shard.setAdaptiveRefreshInterval(null);
+                continue;
+            }
+            final boolean underPressure = shard.getIndexBufferRAMBytesUsed() > bufferShare;
+            final long interval = targetInterval(searchRate, underPressure, minInterval, maxInterval);
+            // shards under indexing pressure are not stretched
+            final Decision decision = new Decision(shard, interval, underPressure ? interval : maxInterval);
+            decisions.add(decision);
+            refreshRate += 1000d / decision.interval;
+        }
+
+        final double maxRefreshRate = this.maxRefreshRate;
+        final double stretch = maxRefreshRate > 0 && refreshRate > maxRefreshRate ? refreshRate / maxRefreshRate : 1;
+        for (Decision decision : decisions) {
+            final long interval = Math.min(decision.maxInterval, (long) Math.ceil(decision.interval * stretch));
+            decision.shard.setAdaptiveRefreshInterval(TimeValue.timeValueMillis(interval));
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace(
+                "picked the refresh intervals of [{}] shards for [{}] refreshes per second, stretched by [{}]",
+                decisions.size(),
+                refreshRate,
+                stretch
+            );
+        }
+    }
+
+    /**
+     * The refresh interval of a shard that is searched {@code searchRate} times per second.
+     */
+    static long targetInterval(double searchRate, boolean underIndexingPressure, long minInterval, long maxInterval) {
+        if (underIndexingPressure) {
+            return minInterval;
+        }
+        if (searchRate <= 0) {
+            return maxInterval;
+        }
+        final double timeBetweenSearches = 1000 / searchRate;
+        return Math.max(minInterval, Math.min(maxInterval, (long) timeBetweenSearches));
+    }
+
+    /**
+     * The interval picked for a shard before applying the refresh budget of the node.
+     */
+    private static final class Decision {
+        private final IndexShard shard;
+        private final long interval;
+        // the longest interval the refresh budget may stretch the interval to
+        private final long maxInterval;
+
+        private Decision(IndexShard shard, long interval, long maxInterval) {
+            this.shard = shard;
+            this.interval = interval;
+            this.maxInterval = maxInterval;
+        }
+    }
+
+    /**
+     * Tracks the rate at which a shard is searched.
+     */
+    private static final class SearchDemand {
+        private final ExponentiallyWeightedMovingAverage rate = new ExponentiallyWeightedMovingAverage(SEARCH_RATE_ALPHA, 0);
+        private long queries;
+        private long timestamp;
+        private boolean measured;
+
+        private SearchDemand(long queries, long timestamp) {
+            this.queries = queries;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Returns the number of searches per second, given the number of queries the shard executed so far, or -1 if the rate is not
+         * known yet.
+         */
+        private double update(long queries, long now) {
+            final long elapsed = now - timestamp;
+            if (elapsed > 0) {
+                rate.addValue(Math.max(0, queries - this.queries) * 1000d / elapsed);
+                this.queries = queries;
+                this.timestamp = now;
+                measured = true;
+            }
+            return measured ? rate.getAverage() : -1;
+        }
+    }
+}
@@ -203,9 +203,9 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         return availableShards;
     }
 
-    /** returns how much heap this shard is using for its indexing buffer */
+    /** returns how much heap this shard is using for its indexing buffer, including the caches that writing the buffer frees */
     protected long getIndexBufferRAMBytesUsed(IndexShard shard) {
-        return shard.getIndexBufferRAMBytesUsed();
+        return shard.getIndexBufferRAMBytesUsed() + shard.getIndexingCachesRAMBytesUsed();
     }
 
     /** returns how many bytes this shard is currently writing to disk */
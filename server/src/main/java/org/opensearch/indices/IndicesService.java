@@ -141,6 +141,7 @@ import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -341,6 +342,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    private final AdaptiveRefreshScheduler adaptiveRefreshScheduler;
     private final TimeValue cleanInterval;
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
@@ -363,6 +365,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final BiFunction<IndexSettings, ShardRouting, TranslogFactory> translogFactorySupplier;
     private volatile TimeValue clusterDefaultRefreshInterval;
     private volatile TimeValue clusterRemoteTranslogBufferInterval;
+    private final TranslogSyncCoordinator translogSyncCoordinator;
 
     private final SearchRequestStats searchRequestStats;
 
@@ -425,6 +428,14 @@ public class IndicesService extends AbstractLifecycleComponent
             // ensure we pull an iter with new shards - flatten makes a copy
             () -> Iterables.flatten(this).iterator()
         );
+        adaptiveRefreshScheduler = new AdaptiveRefreshScheduler(
+            settings,
+            clusterService.getClusterSettings(),
+            threadPool,
+            () -> Iterables.flatten(this).iterator(),
+            indexingMemoryController.indexingBufferSize().getBytes(),
+            () -> clusterDefaultRefreshInterval
+        );
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
         this.bigArrays = bigArrays;
@@ -462,6 +473,7 @@ public class IndicesService extends AbstractLifecycleComponent
                     IOUtils.close(
                         analysisRegistry,
                         indexingMemoryController,
+                        adaptiveRefreshScheduler,
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
@@ -501,6 +513,7 @@ public class IndicesService extends AbstractLifecycleComponent
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING, this::setClusterRemoteTranslogBufferInterval);
         this.recoverySettings = recoverySettings;
+        this.translogSyncCoordinator = new TranslogSyncCoordinator(settings, clusterService.getClusterSettings(), threadPool);
     }
 
     /**
@@ -899,7 +912,8 @@ public class IndicesService extends AbstractLifecycleComponent
             translogFactorySupplier,
             this::getClusterDefaultRefreshInterval,
             this::getClusterRemoteTranslogBufferInterval,
-            this.recoverySettings
+            this.recoverySettings,
+            translogSyncCoordinator
         );
     }
 
@@ -50,9 +50,19 @@ public class LocalStorePeerRecoverySourceHandler extends RecoverySourceHandler {
         StartRecoveryRequest request,
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks,
+        int maxConcurrentFileStreams,
         int maxConcurrentOperations
     ) {
-        super(shard, recoveryTarget, threadPool, request, fileChunkSizeInBytes, maxConcurrentFileChunks, maxConcurrentOperations);
+        super(
+            shard,
+            recoveryTarget,
+            threadPool,
+            request,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks,
+            maxConcurrentFileStreams,
+            maxConcurrentOperations
+        );
     }
 
     @Override
@@ -77,6 +77,20 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Controls the number of streams over which the files of a peer recovery are sent concurrently. Each stream sends whole files, up
+     * to {@link #INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING} chunks at a time, and the chunks of all the streams are spread over
+     * the recovery connections to the target node and throttled by the same node wide rate limiter.
+     */
+    public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_FILE_STREAMS_SETTING = Setting.intSetting(
+        "indices.recovery.max_concurrent_file_streams",
+        1,
+        1,
+        8,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * Controls the maximum number of operation chunk requests that can be sent concurrently from the source node to the target node.
      */
@@ -190,6 +204,7 @@ public class RecoverySettings {
 
     private volatile ByteSizeValue maxBytesPerSec;
     private volatile int maxConcurrentFileChunks;
+    private volatile int maxConcurrentFileStreams;
     private volatile int maxConcurrentOperations;
     private volatile int maxConcurrentRemoteStoreStreams;
     private volatile SimpleRateLimiter rateLimiter;
@@ -207,6 +222,7 @@ public class RecoverySettings {
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
+        this.maxConcurrentFileStreams = INDICES_RECOVERY_MAX_CONCURRENT_FILE_STREAMS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
         this.maxConcurrentRemoteStoreStreams = INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
@@ -230,6 +246,7 @@ public class RecoverySettings {
 
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING, this::setMaxBytesPerSec);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING, this::setMaxConcurrentFileChunks);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_FILE_STREAMS_SETTING, this::setMaxConcurrentFileStreams);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING, this::setMaxConcurrentOperations);
         clusterSettings.addSettingsUpdateConsumer(
             INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
@@ -338,6 +355,14 @@ public class RecoverySettings {
         this.maxConcurrentFileChunks = maxConcurrentFileChunks;
     }
 
+    public int getMaxConcurrentFileStreams() {
+        return maxConcurrentFileStreams;
+    }
+
+    private void setMaxConcurrentFileStreams(int maxConcurrentFileStreams) {
+        this.maxConcurrentFileStreams = maxConcurrentFileStreams;
+    }
+
     public int getMaxConcurrentOperations() {
         return maxConcurrentOperations;
     }
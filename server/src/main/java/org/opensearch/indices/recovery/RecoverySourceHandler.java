@@ -113,6 +113,7 @@ public abstract class RecoverySourceHandler {
     protected final StartRecoveryRequest request;
     private final int chunkSizeInBytes;
     private final RecoveryTargetHandler recoveryTarget;
+    private final int maxConcurrentFileStreams;
     private final int maxConcurrentOperations;
     private final ThreadPool threadPool;
     protected final CancellableThreads cancellableThreads = new CancellableThreads();
@@ -128,6 +129,7 @@ public abstract class RecoverySourceHandler {
         StartRecoveryRequest request,
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks,
+        int maxConcurrentFileStreams,
         int maxConcurrentOperations
     ) {
         this.logger = Loggers.getLogger(RecoverySourceHandler.class, request.shardId(), "recover to " + request.targetNode().getName());
@@ -147,6 +149,7 @@ public abstract class RecoverySourceHandler {
         this.recoveryTarget = recoveryTarget;
         this.shardId = this.request.shardId().id();
         this.chunkSizeInBytes = fileChunkSizeInBytes;
+        this.maxConcurrentFileStreams = maxConcurrentFileStreams;
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentOperations = maxConcurrentOperations;
     }
@@ -529,14 +532,12 @@ public abstract class RecoverySourceHandler {
     }
 
     void sendFiles(Store store, StoreFileMetadata[] files, IntSupplier translogOps, ActionListener<Void> listener) {
-        final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = transferHandler.createTransfer(
-            store,
-            files,
-            translogOps,
-            listener
-        );
-        resources.add(transfer);
-        transfer.start();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = transferHandler
+            .createTransfers(store, files, translogOps, maxConcurrentFileStreams, listener);
+        resources.addAll(transfers);
+        for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+            transfer.start();
+        }
     }
 
     void createRetentionLease(final long startingSeqNo, ActionListener<RetentionLease> listener) {
@@ -32,6 +32,7 @@ public class RecoverySourceHandlerFactory {
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                 recoverySettings.getMaxConcurrentFileChunks(),
+                recoverySettings.getMaxConcurrentFileStreams(),
                 recoverySettings.getMaxConcurrentOperations()
             );
         } else {
@@ -42,6 +43,7 @@ public class RecoverySourceHandlerFactory {
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                 recoverySettings.getMaxConcurrentFileChunks(),
+                recoverySettings.getMaxConcurrentFileStreams(),
                 recoverySettings.getMaxConcurrentOperations()
             );
         }
@@ -38,9 +38,19 @@ public class RemoteStorePeerRecoverySourceHandler extends RecoverySourceHandler
         StartRecoveryRequest request,
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks,
+        int maxConcurrentFileStreams,
         int maxConcurrentOperations
     ) {
-        super(shard, recoveryTarget, threadPool, request, fileChunkSizeInBytes, maxConcurrentFileChunks, maxConcurrentOperations);
+        super(
+            shard,
+            recoveryTarget,
+            threadPool,
+            request,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks,
+            maxConcurrentFileStreams,
+            maxConcurrentOperations
+        );
     }
 
     @Override
@@ -228,7 +228,8 @@ class OngoingSegmentReplications {
             copyState,
             allocationId,
             Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
-            recoverySettings.getMaxConcurrentFileChunks()
+            recoverySettings.getMaxConcurrentFileChunks(),
+            recoverySettings.getMaxConcurrentFileStreams()
         );
     }
 
@@ -19,6 +19,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
@@ -33,9 +34,13 @@ import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.Transports;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.IntSupplier;
 
@@ -167,6 +172,56 @@ public final class SegmentFileTransferHandler {
         };
     }
 
+    /**
+     * Returns closeable {@link MultiChunkTransfer}s that send the given files over up to {@code maxConcurrentFileStreams} concurrent
+     * streams, each sending up to {@code maxConcurrentFileChunks} chunks at a time. Files are not split across streams since the target
+     * writes the chunks of a file in order, instead the largest files are spread first so that the streams send similar amounts of
+     * bytes. The listener is notified once all the streams completed, or as soon as one of them failed.
+     * Callers are responsible for starting the transfers and closing the resources.
+     */
+    public List<MultiChunkTransfer<StoreFileMetadata, FileChunk>> createTransfers(
+        Store store,
+        StoreFileMetadata[] files,
+        IntSupplier translogOps,
+        int maxConcurrentFileStreams,
+        ActionListener<Void> listener
+    ) {
+        final int numStreams = Math.max(1, Math.min(maxConcurrentFileStreams, files.length));
+        if (numStreams == 1) {
+            return Collections.singletonList(createTransfer(store, files, translogOps, listener));
+        }
+        final List<List<StoreFileMetadata>> streams = new ArrayList<>(numStreams);
+        final long[] streamBytes = new long[numStreams];
+        final PriorityQueue<Integer> byBytes = new PriorityQueue<>(
+            numStreams,
+            Comparator.<Integer>comparingLong(stream -> streamBytes[stream]).thenComparingInt(stream -> stream)
+        );
+        for (int i = 0; i < numStreams; i++) {
+            streams.add(new ArrayList<>());
+            byBytes.add(i);
+        }
+        final StoreFileMetadata[] largestFirst = files.clone();
+        ArrayUtil.timSort(largestFirst, Comparator.comparingLong(StoreFileMetadata::length).reversed());
+        for (StoreFileMetadata file : largestFirst) {
+            final int stream = byBytes.poll();
+            streams.get(stream).add(file);
+            streamBytes[stream] += file.length();
+            byBytes.add(stream);
+        }
+        final ActionListener<Void> notifyOnce = ActionListener.notifyOnce(listener);
+        final CountDown countDown = new CountDown(numStreams);
+        final ActionListener<Void> streamListener = ActionListener.wrap(r -> {
+            if (countDown.countDown()) {
+                notifyOnce.onResponse(null);
+            }
+        }, notifyOnce::onFailure);
+        final List<MultiChunkTransfer<StoreFileMetadata, FileChunk>> transfers = new ArrayList<>(numStreams);
+        for (List<StoreFileMetadata> stream : streams) {
+            transfers.add(createTransfer(store, stream.toArray(new StoreFileMetadata[0]), translogOps, streamListener));
+        }
+        return transfers;
+    }
+
     public void handleErrorOnSendFiles(Store store, Exception e, StoreFileMetadata[] mds) throws Exception {
         final IOException corruptIndexException = ExceptionsHelper.unwrapCorruption(e);
         assert Transports.assertNotTransportThread(this + "[handle error on send/clean files]");
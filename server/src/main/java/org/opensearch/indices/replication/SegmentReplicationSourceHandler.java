@@ -56,6 +56,7 @@ class SegmentReplicationSourceHandler {
     private final String allocationId;
 
     private final FileChunkWriter writer;
+    private final int maxConcurrentFileStreams;
 
     /**
      * Constructor.
@@ -66,6 +67,7 @@ class SegmentReplicationSourceHandler {
      * @param copyState               {@link CopyState} CopyState holding segment file metadata.
      * @param fileChunkSizeInBytes    {@link Integer}
      * @param maxConcurrentFileChunks {@link Integer}
+     * @param maxConcurrentFileStreams {@link Integer} number of files that are sent concurrently
      */
     SegmentReplicationSourceHandler(
         DiscoveryNode targetNode,
@@ -74,7 +76,8 @@ class SegmentReplicationSourceHandler {
         CopyState copyState,
         String allocationId,
         int fileChunkSizeInBytes,
-        int maxConcurrentFileChunks
+        int maxConcurrentFileChunks,
+        int maxConcurrentFileStreams
     ) {
         this.targetNode = targetNode;
         this.shard = copyState.getShard();
@@ -93,6 +96,7 @@ class SegmentReplicationSourceHandler {
             fileChunkSizeInBytes,
             maxConcurrentFileChunks
         );
+        this.maxConcurrentFileStreams = maxConcurrentFileStreams;
         this.allocationId = allocationId;
         this.copyState = copyState;
         this.writer = writer;
@@ -151,11 +155,13 @@ class SegmentReplicationSourceHandler {
                 .filter(file -> storeFiles.contains(file.name()))
                 .toArray(StoreFileMetadata[]::new);
 
-            final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = segmentFileTransferHandler
-                .createTransfer(shard.store(), storeFileMetadata, () -> 0, sendFileStep);
-            resources.add(transfer);
+            final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = segmentFileTransferHandler
+                .createTransfers(shard.store(), storeFileMetadata, () -> 0, maxConcurrentFileStreams, sendFileStep);
+            resources.addAll(transfers);
             cancellableThreads.checkForCancel();
-            transfer.start();
+            for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+                transfer.start();
+            }
 
             sendFileStep.whenComplete(r -> {
                 try {
@@ -41,6 +41,8 @@ import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -59,6 +61,14 @@ public class PublishCheckpointAction extends TransportReplicationAction<
 
     private final SegmentReplicationTargetService replicationService;
 
+    /**
+     * The shards that have a checkpoint publish in flight, mapped to the latest checkpoint that is waiting for that publish to complete,
+     * or to {@code null} if there is none. A shard has at most one publish in flight: checkpoints that are published in the meantime are
+     * coalesced so that only the latest one is sent once the in flight publish completes. Replicas always replicate to the latest
+     * checkpoint of the primary, so the intermediate checkpoints would only start replication events that are superseded right away.
+     */
+    private final Map<IndexShard, ReplicationCheckpoint> inFlightPublishes = new IdentityHashMap<>();
+
     @Inject
     public PublishCheckpointAction(
         Settings settings,
@@ -105,9 +115,57 @@ public class PublishCheckpointAction extends TransportReplicationAction<
     }
 
     /**
-     * Publish checkpoint request to shard
+     * Publish checkpoint request to shard, or coalesce it with the checkpoints that wait for the in flight publish of the shard.
      */
     final void publish(IndexShard indexShard, ReplicationCheckpoint checkpoint) {
+        synchronized (inFlightPublishes) {
+            if (inFlightPublishes.containsKey(indexShard)) {
+                final ReplicationCheckpoint pending = inFlightPublishes.get(indexShard);
+                if (checkpoint.isAheadOf(pending)) {
+                    logger.trace(
+                        () -> new ParameterizedMessage(
+                            "[shardId {}] Coalescing replication checkpoint [{}] with pending checkpoint [{}]",
+                            indexShard.shardId().getId(),
+                            checkpoint,
+                            pending
+                        )
+                    );
+                    inFlightPublishes.put(indexShard, checkpoint);
+                }
+                return;
+            }
+            inFlightPublishes.put(indexShard, null);
+        }
+        boolean success = false;
+        try {
+            doPublish(indexShard, checkpoint);
+            success = true;
+        } finally {
+            if (success == false) {
+                synchronized (inFlightPublishes) {
+                    inFlightPublishes.remove(indexShard);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called once the in flight publish of the given shard completed, publishes the latest checkpoint that waited for it if any.
+     */
+    final void onPublishCompleted(IndexShard indexShard) {
+        final ReplicationCheckpoint pending;
+        synchronized (inFlightPublishes) {
+            pending = inFlightPublishes.remove(indexShard);
+        }
+        if (pending != null) {
+            publish(indexShard, pending);
+        }
+    }
+
+    /**
+     * Sends the checkpoint to the replicas of the shard, and calls {@link #onPublishCompleted(IndexShard)} once done.
+     */
+    void doPublish(IndexShard indexShard, ReplicationCheckpoint checkpoint) {
         String primaryAllocationId = indexShard.routingEntry().allocationId().getId();
         long primaryTerm = indexShard.getPendingPrimaryTerm();
         final ThreadContext threadContext = threadPool.getThreadContext();
@@ -148,6 +206,7 @@ public class PublishCheckpointAction extends TransportReplicationAction<
                         );
                         task.setPhase("finished");
                         taskManager.unregister(task);
+                        onPublishCompleted(indexShard);
                     }
 
                     @Override
@@ -156,6 +215,7 @@ public class PublishCheckpointAction extends TransportReplicationAction<
                         logger.debug("[shardId {}] Failed to publish checkpoint, timing: {}", indexShard.shardId().getId(), timer.time());
                         task.setPhase("finished");
                         taskManager.unregister(task);
+                        onPublishCompleted(indexShard);
                         if (ExceptionsHelper.unwrap(
                             e,
                             NodeClosedException.class,
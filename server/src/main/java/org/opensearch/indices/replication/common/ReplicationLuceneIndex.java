@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication.common;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
@@ -409,6 +410,10 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         private long length;
         private long recovered;
         private boolean reused;
+        // the time at which the first bytes of the file were received, only known on the node that recovers the file
+        private long startNanoTime;
+        // the time it took to receive the file, once it is fully recovered or when it was read from another node
+        private long time = -1;
 
         public FileMetadata(String name, long length, boolean reused) {
             assert name != null;
@@ -422,6 +427,9 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
             length = in.readVLong();
             recovered = in.readVLong();
             reused = in.readBoolean();
+            if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
+                time = in.readVLong();
+            }
         }
 
         @Override
@@ -430,12 +438,21 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
             out.writeVLong(length);
             out.writeVLong(recovered);
             out.writeBoolean(reused);
+            if (out.getVersion().onOrAfter(Version.V_2_13_0)) {
+                out.writeVLong(time());
+            }
         }
 
         public void addRecoveredBytes(long bytes) {
             assert reused == false : "file is marked as reused, can't update recovered bytes";
             assert bytes >= 0 : "can't recovered negative bytes. got [" + bytes + "]";
+            if (startNanoTime == 0) {
+                startNanoTime = System.nanoTime();
+            }
             recovered += bytes;
+            if (recovered == length) {
+                time = TimeValue.nsecToMSec(System.nanoTime() - startNanoTime);
+            }
         }
 
         /**
@@ -466,6 +483,19 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
             return reused;
         }
 
+        /**
+         * time in millis spent receiving this file, from its first chunk to its last one (so far). 0 if no bytes were received yet
+         */
+        public long time() {
+            if (time >= 0) {
+                return time;
+            }
+            if (startNanoTime == 0) {
+                return 0;
+            }
+            return Math.max(0, TimeValue.nsecToMSec(System.nanoTime() - startNanoTime));
+        }
+
         public boolean fullyRecovered() {
             return reused == false && length == recovered;
         }
@@ -477,6 +507,9 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
             builder.humanReadableField(Fields.LENGTH_IN_BYTES, Fields.LENGTH, new ByteSizeValue(length));
             builder.field(Fields.REUSED, reused);
             builder.humanReadableField(Fields.RECOVERED_IN_BYTES, Fields.RECOVERED, new ByteSizeValue(recovered));
+            if (reused == false) {
+                builder.humanReadableField(Fields.TOTAL_TIME_IN_MILLIS, Fields.TOTAL_TIME, new TimeValue(time()));
+            }
             builder.endObject();
             return builder;
         }
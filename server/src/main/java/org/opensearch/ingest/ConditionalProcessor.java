@@ -49,7 +49,9 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
@@ -131,6 +133,51 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
         }
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final List<IngestDocumentWrapper> matchedDocuments = new ArrayList<>(ingestDocumentWrappers.size());
+        final List<IngestDocumentWrapper> skippedDocuments = new ArrayList<>();
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            try {
+                if (evaluate(ingestDocumentWrapper.getIngestDocument())) {
+                    matchedDocuments.add(ingestDocumentWrapper);
+                } else {
+                    skippedDocuments.add(ingestDocumentWrapper);
+                }
+            } catch (Exception e) {
+                skippedDocuments.add(new IngestDocumentWrapper(ingestDocumentWrapper.getSlot(), null, e));
+            }
+        }
+        if (skippedDocuments.isEmpty() == false) {
+            handler.accept(skippedDocuments);
+        }
+        if (matchedDocuments.isEmpty()) {
+            return;
+        }
+
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final int size = matchedDocuments.size();
+        metric.beforeN(size);
+        // results may be reported in several chunks, the time is only recorded once all of them came back
+        final AtomicInteger counter = new AtomicInteger(size);
+        processor.batchExecute(matchedDocuments, results -> {
+            int failed = 0;
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                metric.failedN(failed);
+            }
+            if (counter.addAndGet(-results.size()) == 0) {
+                long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+                metric.afterN(size, ingestTimeInMillis);
+            }
+            handler.accept(results);
+        });
+    }
+
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
         throw new UnsupportedOperationException("this method should not get executed");
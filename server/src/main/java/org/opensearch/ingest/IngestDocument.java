@@ -57,6 +57,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Represents a single document being captured before indexing and holds the source and metadata (like id, type and index).
@@ -815,6 +816,57 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline on a batch of documents, with the same pipeline bookkeeping and cycle detection as
+     * {@link #executePipeline(Pipeline, BiConsumer)} applies to a single document.
+     *
+     * @param pipeline the pipeline to execute
+     * @param ingestDocumentWrappers the documents to run through the pipeline
+     * @param handler consumer of the results, may be invoked several times with subsets of the batch
+     */
+    public static void executePipeline(
+        Pipeline pipeline,
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        final String pipelineId = pipeline.getId();
+        final Map<Integer, IngestDocument> documentsBySlot = new HashMap<>(ingestDocumentWrappers.size());
+        final Map<Integer, Object> previousPipelines = new HashMap<>(ingestDocumentWrappers.size());
+        final List<IngestDocumentWrapper> toExecute = new ArrayList<>(ingestDocumentWrappers.size());
+        final List<IngestDocumentWrapper> cyclic = new ArrayList<>();
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            IngestDocument document = wrapper.getIngestDocument();
+            if (document.executedPipelines.add(pipelineId)) {
+                documentsBySlot.put(wrapper.getSlot(), document);
+                previousPipelines.put(wrapper.getSlot(), document.ingestMetadata.put("pipeline", pipelineId));
+                toExecute.add(wrapper);
+            } else {
+                cyclic.add(
+                    new IngestDocumentWrapper(wrapper.getSlot(), null, new IllegalStateException(PIPELINE_CYCLE_ERROR_MESSAGE + pipelineId))
+                );
+            }
+        }
+        if (cyclic.isEmpty() == false) {
+            handler.accept(cyclic);
+        }
+        if (toExecute.isEmpty()) {
+            return;
+        }
+        pipeline.batchExecute(toExecute, results -> {
+            for (IngestDocumentWrapper result : results) {
+                IngestDocument document = documentsBySlot.get(result.getSlot());
+                document.executedPipelines.remove(pipelineId);
+                Object previousPipeline = previousPipelines.get(result.getSlot());
+                if (previousPipeline != null) {
+                    document.ingestMetadata.put("pipeline", previousPipeline);
+                } else {
+                    document.ingestMetadata.remove("pipeline");
+                }
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
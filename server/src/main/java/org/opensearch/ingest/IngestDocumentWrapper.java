@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+/**
+ * A IngestDocument wrapper including the slot of the IngestDocument in a bulk request, the IngestDocument itself and
+ * the exception raised while processing it. It is the unit passed between processors when documents are executed in
+ * batches, see {@link Processor#batchExecute}.
+ *
+ * @opensearch.internal
+ */
+public final class IngestDocumentWrapper {
+    private final int slot;
+    private final IngestDocument ingestDocument;
+    private final Exception exception;
+
+    public IngestDocumentWrapper(int slot, IngestDocument ingestDocument, Exception ex) {
+        this.slot = slot;
+        this.ingestDocument = ingestDocument;
+        this.exception = ex;
+    }
+
+    /**
+     * The slot of the document in the originating bulk request, used to map the result back to its request.
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * The document after processing, or {@code null} if it was dropped or failed.
+     */
+    public IngestDocument getIngestDocument() {
+        return this.ingestDocument;
+    }
+
+    /**
+     * The exception raised while processing the document, or {@code null} if it was processed successfully.
+     */
+    public Exception getException() {
+        return this.exception;
+    }
+}
@@ -83,6 +83,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -513,6 +514,25 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         IntConsumer onDropped,
         String executorName
     ) {
+        executeBulkRequest(numberOfActionRequests, actionRequests, onFailure, onCompletion, onDropped, executorName, 1);
+    }
+
+    /**
+     * Executes the ingest pipelines of the given requests.
+     * <p>
+     * With a {@code batchSize} greater than one, the requests sharing the same pipelines are grouped and handed to the
+     * processors in batches of up to {@code batchSize} documents through {@link Processor#batchExecute}. Processors
+     * that don't support batching process the documents of a batch one by one.
+     */
+    public void executeBulkRequest(
+        int numberOfActionRequests,
+        Iterable<DocWriteRequest<?>> actionRequests,
+        BiConsumer<Integer, Exception> onFailure,
+        BiConsumer<Thread, Exception> onCompletion,
+        IntConsumer onDropped,
+        String executorName,
+        int batchSize
+    ) {
 
         threadPool.executor(executorName).execute(new AbstractRunnable() {
 
@@ -525,6 +545,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                final Map<Tuple<List<String>, Boolean>, List<IndexRequestWrapper>> batches = new LinkedHashMap<>();
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -560,6 +581,14 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
+                    if (batchSize > 1) {
+                        // requests are only batched together if they go through the very same pipelines
+                        batches.computeIfAbsent(new Tuple<>(pipelines, hasFinalPipeline), k -> new ArrayList<>())
+                            .add(new IndexRequestWrapper(i, indexRequest));
+                        i++;
+                        continue;
+                    }
+
                     executePipelines(
                         i,
                         pipelines.iterator(),
@@ -574,6 +603,25 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
                     i++;
                 }
+
+                for (Map.Entry<Tuple<List<String>, Boolean>, List<IndexRequestWrapper>> entry : batches.entrySet()) {
+                    final List<String> pipelines = entry.getKey().v1();
+                    final boolean hasFinalPipeline = entry.getKey().v2();
+                    final List<IndexRequestWrapper> requests = entry.getValue();
+                    for (int from = 0; from < requests.size(); from += batchSize) {
+                        List<IndexRequestWrapper> batch = requests.subList(from, Math.min(requests.size(), from + batchSize));
+                        executePipelinesInBatch(
+                            pipelines.iterator(),
+                            hasFinalPipeline,
+                            batch,
+                            onDropped,
+                            onFailure,
+                            counter,
+                            onCompletion,
+                            originalThread
+                        );
+                    }
+                }
             }
         });
     }
@@ -677,6 +725,190 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    private void executePipelinesInBatch(
+        final Iterator<String> it,
+        final boolean hasFinalPipeline,
+        final List<IndexRequestWrapper> indexRequestWrappers,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final String pipelineId = it.next();
+        final PipelineHolder holder = pipelines.get(pipelineId);
+        if (holder == null) {
+            final Exception e = new IllegalArgumentException("pipeline with id [" + pipelineId + "] does not exist");
+            for (IndexRequestWrapper indexRequestWrapper : indexRequestWrappers) {
+                logger.debug(
+                    () -> new ParameterizedMessage(
+                        "failed to execute pipeline [{}] for document [{}/{}]",
+                        pipelineId,
+                        indexRequestWrapper.indexRequest.index(),
+                        indexRequestWrapper.indexRequest.id()
+                    ),
+                    e
+                );
+                onFailure.accept(indexRequestWrapper.slot, e);
+                completeRequest(counter, onCompletion, originalThread);
+            }
+            return;
+        }
+        if (holder.pipeline.getProcessors().isEmpty()) {
+            // an empty pipeline leaves the documents untouched, there is no need to rebuild their sources
+            continueBatch(it, hasFinalPipeline, indexRequestWrappers, onDropped, onFailure, counter, onCompletion, originalThread);
+            return;
+        }
+        final Map<Integer, String> originalIndices = new HashMap<>(indexRequestWrappers.size());
+        for (IndexRequestWrapper indexRequestWrapper : indexRequestWrappers) {
+            originalIndices.put(indexRequestWrapper.slot, indexRequestWrapper.indexRequest.indices()[0]);
+        }
+        innerBatchExecute(indexRequestWrappers, holder.pipeline, results -> {
+            final List<IndexRequestWrapper> toContinue = new ArrayList<>(results.size());
+            for (Tuple<IndexRequestWrapper, IngestDocumentWrapper> result : results) {
+                final IndexRequestWrapper indexRequestWrapper = result.v1();
+                final IngestDocumentWrapper ingestDocumentWrapper = result.v2();
+                final IndexRequest indexRequest = indexRequestWrapper.indexRequest;
+                final int slot = indexRequestWrapper.slot;
+                if (ingestDocumentWrapper.getException() != null) {
+                    logger.debug(
+                        () -> new ParameterizedMessage(
+                            "failed to execute pipeline [{}] for document [{}/{}]",
+                            pipelineId,
+                            indexRequest.index(),
+                            indexRequest.id()
+                        ),
+                        ingestDocumentWrapper.getException()
+                    );
+                    onFailure.accept(slot, ingestDocumentWrapper.getException());
+                    completeRequest(counter, onCompletion, originalThread);
+                    continue;
+                }
+                if (ingestDocumentWrapper.getIngestDocument() == null) {
+                    onDropped.accept(slot);
+                    completeRequest(counter, onCompletion, originalThread);
+                    continue;
+                }
+                if (Objects.equals(originalIndices.get(slot), indexRequest.indices()[0])) {
+                    toContinue.add(indexRequestWrapper);
+                    continue;
+                }
+                // the target index changed, so the pipelines of this request have to be resolved again
+                if (hasFinalPipeline && it.hasNext() == false) {
+                    totalMetrics.failed();
+                    onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId + "] can't change the target index"));
+                    completeRequest(counter, onCompletion, originalThread);
+                    continue;
+                }
+                indexRequest.isPipelineResolved(false);
+                resolvePipelines(null, indexRequest, state.metadata());
+                if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                    executePipelines(
+                        slot,
+                        Collections.singleton(indexRequest.getFinalPipeline()).iterator(),
+                        true,
+                        indexRequest,
+                        onDropped,
+                        onFailure,
+                        counter,
+                        onCompletion,
+                        originalThread
+                    );
+                } else {
+                    completeRequest(counter, onCompletion, originalThread);
+                }
+            }
+
+            continueBatch(it, hasFinalPipeline, toContinue, onDropped, onFailure, counter, onCompletion, originalThread);
+        });
+    }
+
+    private void continueBatch(
+        final Iterator<String> it,
+        final boolean hasFinalPipeline,
+        final List<IndexRequestWrapper> indexRequestWrappers,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        if (indexRequestWrappers.isEmpty()) {
+            return;
+        }
+        if (it.hasNext()) {
+            executePipelinesInBatch(
+                it,
+                hasFinalPipeline,
+                indexRequestWrappers,
+                onDropped,
+                onFailure,
+                counter,
+                onCompletion,
+                originalThread
+            );
+        } else {
+            for (int i = 0; i < indexRequestWrappers.size(); i++) {
+                completeRequest(counter, onCompletion, originalThread);
+            }
+        }
+    }
+
+    private void innerBatchExecute(
+        List<IndexRequestWrapper> indexRequestWrappers,
+        Pipeline pipeline,
+        Consumer<List<Tuple<IndexRequestWrapper, IngestDocumentWrapper>>> handler
+    ) {
+        final int size = indexRequestWrappers.size();
+        final List<Tuple<IndexRequestWrapper, IngestDocumentWrapper>> allResults = new ArrayList<>(size);
+        final long startTimeInNanos = System.nanoTime();
+        // the pipeline specific stat holder may not exist and that is fine:
+        // (e.g. the pipeline may have been removed while we're ingesting a document
+        totalMetrics.beforeN(size);
+        final Map<Integer, IndexRequestWrapper> slotToRequest = new HashMap<>(size);
+        final List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>(size);
+        for (IndexRequestWrapper indexRequestWrapper : indexRequestWrappers) {
+            slotToRequest.put(indexRequestWrapper.slot, indexRequestWrapper);
+            ingestDocumentWrappers.add(
+                new IngestDocumentWrapper(indexRequestWrapper.slot, toIngestDocument(indexRequestWrapper.indexRequest), null)
+            );
+        }
+        final AtomicInteger pending = new AtomicInteger(size);
+        IngestDocument.executePipeline(pipeline, ingestDocumentWrappers, results -> {
+            int failed = 0;
+            final List<Tuple<IndexRequestWrapper, IngestDocumentWrapper>> updated = new ArrayList<>(results.size());
+            for (IngestDocumentWrapper result : results) {
+                IndexRequestWrapper indexRequestWrapper = slotToRequest.get(result.getSlot());
+                if (result.getException() != null) {
+                    failed++;
+                } else if (result.getIngestDocument() != null) {
+                    updateIndexRequest(indexRequestWrapper.indexRequest, result.getIngestDocument());
+                }
+                updated.add(new Tuple<>(indexRequestWrapper, result));
+            }
+            if (failed > 0) {
+                totalMetrics.failedN(failed);
+            }
+            final boolean done;
+            synchronized (allResults) {
+                allResults.addAll(updated);
+                done = pending.addAndGet(-results.size()) == 0;
+            }
+            if (done) {
+                long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+                totalMetrics.afterN(size, ingestTimeInMillis);
+                handler.accept(allResults);
+            }
+        });
+    }
+
+    private static void completeRequest(AtomicInteger counter, BiConsumer<Thread, Exception> onCompletion, Thread originalThread) {
+        if (counter.decrementAndGet() == 0) {
+            onCompletion.accept(originalThread, null);
+        }
+        assert counter.get() >= 0;
+    }
+
     public IngestStats stats() {
         IngestStats.Builder statsBuilder = new IngestStats.Builder();
         statsBuilder.addTotalMetrics(totalMetrics);
@@ -744,13 +976,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         // the pipeline specific stat holder may not exist and that is fine:
         // (e.g. the pipeline may have been removed while we're ingesting a document
         totalMetrics.before();
-        String index = indexRequest.index();
-        String id = indexRequest.id();
-        String routing = indexRequest.routing();
-        Long version = indexRequest.version();
-        VersionType versionType = indexRequest.versionType();
-        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
-        IngestDocument ingestDocument = new IngestDocument(index, id, routing, version, versionType, sourceAsMap);
+        IngestDocument ingestDocument = toIngestDocument(indexRequest);
         ingestDocument.executePipeline(pipeline, (result, e) -> {
             long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
             totalMetrics.after(ingestTimeInMillis);
@@ -761,28 +987,43 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 itemDroppedHandler.accept(slot);
                 handler.accept(null);
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                // it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                // before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                updateIndexRequest(indexRequest, ingestDocument);
                 handler.accept(null);
             }
         });
     }
 
+    private static IngestDocument toIngestDocument(IndexRequest indexRequest) {
+        return new IngestDocument(
+            indexRequest.index(),
+            indexRequest.id(),
+            indexRequest.routing(),
+            indexRequest.version(),
+            indexRequest.versionType(),
+            indexRequest.sourceAsMap()
+        );
+    }
+
+    private static void updateIndexRequest(IndexRequest indexRequest, IngestDocument ingestDocument) {
+        Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+        // it's fine to set all metadata fields all the time, as ingest document holds their starting values
+        // before ingestion, which might also get modified during ingestion.
+        indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+        indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+        indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+        indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+        if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+            indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+            indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+            indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+        }
+        indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+    }
+
     @Override
     public void applyClusterState(final ClusterChangedEvent event) {
         state = event.state();
@@ -958,6 +1199,20 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         return new Pipeline(id, description, null, new CompoundProcessor(failureProcessor));
     }
 
+    /**
+     * An index request along with its slot in the bulk request, used when executing pipelines in batches.
+     */
+    private static final class IndexRequestWrapper {
+
+        final int slot;
+        final IndexRequest indexRequest;
+
+        IndexRequestWrapper(int slot, IndexRequest indexRequest) {
+            this.slot = slot;
+            this.indexRequest = indexRequest;
+        }
+    }
+
     static class PipelineHolder {
 
         final PipelineConfiguration configuration;
@@ -42,7 +42,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 
 /**
@@ -140,6 +142,34 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies the data of a batch of documents to be indexed based on the processors this pipeline holds.
+     * <p>
+     * A result holding a {@code null} document and no exception means the document has been dropped.
+     */
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final int size = ingestDocumentWrappers.size();
+        metrics.beforeN(size);
+        final AtomicInteger counter = new AtomicInteger(size);
+        compoundProcessor.batchExecute(ingestDocumentWrappers, results -> {
+            int failed = 0;
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                metrics.failedN(failed);
+            }
+            if (counter.addAndGet(-results.size()) == 0) {
+                long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+                metrics.afterN(size, ingestTimeInMillis);
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * The unique id of this pipeline
      */
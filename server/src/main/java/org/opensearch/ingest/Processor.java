@@ -33,6 +33,7 @@
 package org.opensearch.ingest;
 
 import org.opensearch.client.Client;
+import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
@@ -40,7 +41,10 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.Scheduler;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -73,6 +77,47 @@ public interface Processor {
         handler.accept(result, null);
     }
 
+    /**
+     * Process a batch of documents.
+     * <p>
+     * Expert method: only override this method if a processor can process several documents more efficiently than one
+     * at a time, e.g. by sharing a single external call or compiled state across the batch. The default implementation
+     * falls back to {@link #execute(IngestDocument, BiConsumer)} for each document.
+     * <p>
+     * The handler may be invoked several times, each time with a subset of the results, but every document of the batch
+     * must be reported exactly once. A result with a {@code null} document and no exception means the document was dropped.
+     *
+     * @param ingestDocumentWrappers the documents to process, never {@code null}
+     * @param handler                the consumer of the processed results
+     */
+    default void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        int size = ingestDocumentWrappers.size();
+        AtomicInteger counter = new AtomicInteger(size);
+        AtomicArray<IngestDocumentWrapper> results = new AtomicArray<>(size);
+        for (int i = 0; i < size; ++i) {
+            innerExecute(i, ingestDocumentWrappers.get(i), results, counter, handler);
+        }
+    }
+
+    private void innerExecute(
+        int slot,
+        IngestDocumentWrapper ingestDocumentWrapper,
+        AtomicArray<IngestDocumentWrapper> results,
+        AtomicInteger counter,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        execute(ingestDocumentWrapper.getIngestDocument(), (doc, ex) -> {
+            results.set(slot, new IngestDocumentWrapper(ingestDocumentWrapper.getSlot(), doc, ex));
+            if (counter.decrementAndGet() == 0) {
+                handler.accept(results.asList());
+            }
+        });
+    }
+
     /**
      * Introspect and potentially modify the incoming data.
      *
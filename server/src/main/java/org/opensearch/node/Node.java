@@ -150,6 +150,7 @@ import org.opensearch.index.store.RemoteSegmentStoreDirectoryFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheCleaner;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.ShardLimitValidator;
@@ -250,6 +251,8 @@ import org.opensearch.transport.TransportInterceptor;
 import org.opensearch.transport.TransportService;
 import org.opensearch.usage.UsageService;
 import org.opensearch.watcher.ResourceWatcherService;
+import org.opensearch.wlm.QueryGroupService;
+import org.opensearch.wlm.QueryGroupSettings;
 
 import javax.net.ssl.SNIHostName;
 
@@ -369,6 +372,13 @@ public class Node implements Closeable {
         Property.NodeScope
     );
 
+    public static final Setting<EvictionPolicy> NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        "lru",
+        EvictionPolicy::fromString,
+        Property.NodeScope
+    );
+
     private static final String CLIENT_TYPE = "node";
 
     /**
@@ -986,7 +996,7 @@ public class Node implements Closeable {
             final Transport transport = networkModule.getTransportSupplier().get();
             Set<String> taskHeaders = Stream.concat(
                 pluginsService.filterPlugins(ActionPlugin.class).stream().flatMap(p -> p.getTaskHeaders().stream()),
-                Stream.of(Task.X_OPAQUE_ID)
+                Stream.of(Task.X_OPAQUE_ID, QueryGroupService.QUERY_GROUP_HEADER)
             ).collect(Collectors.toSet());
             final TransportService transportService = newTransportService(
                 settings,
@@ -1040,6 +1050,13 @@ public class Node implements Closeable {
                 transportService.getTaskManager()
             );
 
+            final QueryGroupService queryGroupService = new QueryGroupService(
+                new QueryGroupSettings(settings, clusterService.getClusterSettings()),
+                taskResourceTrackingService,
+                threadPool,
+                transportService.getTaskManager()
+            );
+
             final SegmentReplicationStatsTracker segmentReplicationStatsTracker = new SegmentReplicationStatsTracker(indicesService);
             RepositoriesModule repositoriesModule = new RepositoriesModule(
                 this.environment,
@@ -1172,7 +1189,8 @@ public class Node implements Closeable {
                 resourceUsageCollectorService,
                 segmentReplicationStatsTracker,
                 repositoryService,
-                admissionControlService
+                admissionControlService,
+                queryGroupService
             );
 
             final SearchService searchService = newSearchService(
@@ -1234,6 +1252,7 @@ public class Node implements Closeable {
                 b.bind(IndexingPressureService.class).toInstance(indexingPressureService);
                 b.bind(TaskResourceTrackingService.class).toInstance(taskResourceTrackingService);
                 b.bind(SearchBackpressureService.class).toInstance(searchBackpressureService);
+                b.bind(QueryGroupService.class).toInstance(queryGroupService);
                 b.bind(AdmissionControlService.class).toInstance(admissionControlService);
                 b.bind(UsageService.class).toInstance(usageService);
                 b.bind(AggregationUsageService.class).toInstance(searchModule.getValuesSourceRegistry().getUsageService());
@@ -1419,6 +1438,7 @@ public class Node implements Closeable {
         injector.getInstance(ResourceUsageCollectorService.class).start();
         nodeService.getMonitorService().start();
         nodeService.getSearchBackpressureService().start();
+        nodeService.getQueryGroupService().start();
         nodeService.getTaskCancellationMonitoringService().start();
 
         final ClusterService clusterService = injector.getInstance(ClusterService.class);
@@ -1584,6 +1604,7 @@ public class Node implements Closeable {
         injector.getInstance(ResourceUsageCollectorService.class).stop();
         nodeService.getMonitorService().stop();
         nodeService.getSearchBackpressureService().stop();
+        nodeService.getQueryGroupService().stop();
         injector.getInstance(GatewayService.class).stop();
         injector.getInstance(SearchService.class).stop();
         injector.getInstance(TransportService.class).stop();
@@ -1644,6 +1665,7 @@ public class Node implements Closeable {
         toClose.add(() -> stopWatch.stop().start("monitor"));
         toClose.add(nodeService.getMonitorService());
         toClose.add(nodeService.getSearchBackpressureService());
+        toClose.add(nodeService.getQueryGroupService());
         toClose.add(() -> stopWatch.stop().start("fsHealth"));
         toClose.add(injector.getInstance(FsHealthService.class));
         toClose.add(() -> stopWatch.stop().start("resource_usage_tracker"));
@@ -1916,6 +1938,7 @@ public class Node implements Closeable {
      * The capacity of the cache is based on user configuration for {@link Node#NODE_SEARCH_CACHE_SIZE_SETTING}.
      * If the user doesn't configure the cache size, it fails if the node is a data + search node.
      * Else it configures the size to 80% of available capacity for a dedicated search node, if not explicitly defined.
+     * The cache evicts files according to {@link Node#NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING}.
      */
     private void initializeFileCache(Settings settings, CircuitBreaker circuitBreaker) throws IOException {
         if (DiscoveryNode.isSearchNode(settings)) {
@@ -1942,7 +1965,11 @@ public class Node implements Closeable {
             }
             capacity = Math.min(capacity, availableCapacity);
             fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(capacity, ByteSizeUnit.BYTES);
-            this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+            this.fileCache = FileCacheFactory.createConcurrentFileCache(
+                capacity,
+                NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(settings),
+                circuitBreaker
+            );
             List<Path> fileCacheDataPaths = collectFileCacheDataPath(fileCacheNodePath);
             this.fileCache.restoreFromDirectory(fileCacheDataPaths);
         }
@@ -63,6 +63,7 @@ import org.opensearch.search.pipeline.SearchPipelineService;
 import org.opensearch.tasks.TaskCancellationMonitoringService;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
+import org.opensearch.wlm.QueryGroupService;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -98,6 +99,7 @@ public class NodeService implements Closeable {
     private final TaskCancellationMonitoringService taskCancellationMonitoringService;
     private final RepositoriesService repositoriesService;
     private final AdmissionControlService admissionControlService;
+    private final QueryGroupService queryGroupService;
     private final SegmentReplicationStatsTracker segmentReplicationStatsTracker;
 
     NodeService(
@@ -125,7 +127,8 @@ public class NodeService implements Closeable {
         ResourceUsageCollectorService resourceUsageCollectorService,
         SegmentReplicationStatsTracker segmentReplicationStatsTracker,
         RepositoriesService repositoriesService,
-        AdmissionControlService admissionControlService
+        AdmissionControlService admissionControlService,
+        QueryGroupService queryGroupService
     ) {
         this.settings = settings;
         this.threadPool = threadPool;
@@ -151,6 +154,7 @@ public class NodeService implements Closeable {
         this.resourceUsageCollectorService = resourceUsageCollectorService;
         this.repositoriesService = repositoriesService;
         this.admissionControlService = admissionControlService;
+        this.queryGroupService = queryGroupService;
         clusterService.addStateApplier(ingestService);
         clusterService.addStateApplier(searchPipelineService);
         this.segmentReplicationStatsTracker = segmentReplicationStatsTracker;
@@ -236,7 +240,8 @@ public class NodeService implements Closeable {
         boolean resourceUsageStats,
         boolean segmentReplicationTrackerStats,
         boolean repositoriesStats,
-        boolean admissionControl
+        boolean admissionControl,
+        boolean queryGroups
     ) {
         // for indices stats we want to include previous allocated shards stats as well (it will
         // only be applied to the sensible ones to use, like refresh/merge/flush/indexing stats)
@@ -268,7 +273,8 @@ public class NodeService implements Closeable {
             searchPipelineStats ? this.searchPipelineService.stats() : null,
             segmentReplicationTrackerStats ? this.segmentReplicationStatsTracker.getTotalRejectionStats() : null,
             repositoriesStats ? this.repositoriesService.getRepositoriesStats() : null,
-            admissionControl ? this.admissionControlService.stats() : null
+            admissionControl ? this.admissionControlService.stats() : null,
+            queryGroups ? this.queryGroupService.nodeStats() : null
         );
     }
 
@@ -284,6 +290,10 @@ public class NodeService implements Closeable {
         return searchBackpressureService;
     }
 
+    public QueryGroupService getQueryGroupService() {
+        return queryGroupService;
+    }
+
     public TaskCancellationMonitoringService getTaskCancellationMonitoringService() {
         return taskCancellationMonitoringService;
     }
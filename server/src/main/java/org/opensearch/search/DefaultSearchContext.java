@@ -48,6 +48,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.search.Queries;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
@@ -86,6 +87,7 @@ import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.internal.SliceStrategy;
 import org.opensearch.search.profile.Profilers;
 import org.opensearch.search.query.QueryPhaseExecutionException;
 import org.opensearch.search.query.QuerySearchResult;
@@ -186,6 +188,7 @@ final class DefaultSearchContext extends SearchContext {
     private final FetchPhase fetchPhase;
     private final Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder;
     private final boolean concurrentSearchSettingsEnabled;
+    private final Executor indexSearcherExecutor;
     private final SetOnce<Boolean> requestShouldUseConcurrentSearch = new SetOnce<>();
 
     DefaultSearchContext(
@@ -218,6 +221,7 @@ final class DefaultSearchContext extends SearchContext {
         this.clusterService = clusterService;
         this.engineSearcher = readerContext.acquireSearcher("search");
         this.concurrentSearchSettingsEnabled = evaluateConcurrentSegmentSearchSettings(executor);
+        this.indexSearcherExecutor = executor;
         this.searcher = new ContextIndexSearcher(
             engineSearcher.getIndexReader(),
             engineSearcher.getSimilarity(),
@@ -990,4 +994,22 @@ final class DefaultSearchContext extends SearchContext {
         return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING);
     }
 
+    @Override
+    public Executor getConcurrentFetchExecutor() {
+        if (clusterService == null || indexSearcherExecutor == null) {
+            return null;
+        }
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        if (clusterSettings.get(SearchService.CONCURRENT_FETCH_ENABLED_SETTING) == false
+            || docsIdsToLoadSize < clusterSettings.get(SearchService.CONCURRENT_FETCH_MIN_DOCS_SETTING)) {
+            return null;
+        }
+        return indexSearcherExecutor;
+    }
+
+    @Override
+    public SliceStrategy getSliceStrategy() {
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SETTING);
+    }
+
 }
@@ -121,6 +121,7 @@ import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.internal.SliceStrategy;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.profile.Profilers;
 import org.opensearch.search.query.QueryPhase;
@@ -270,6 +271,32 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // how segments are grouped into slices, cost_balanced also applies when the lucene slice computation is used
+    public static final Setting<SliceStrategy> CONCURRENT_SEGMENT_SEARCH_SLICE_STRATEGY_SETTING = new Setting<>(
+        "search.concurrent.slice_strategy",
+        SliceStrategy.ROUND_ROBIN.getValue(),
+        SliceStrategy::fromString,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // settings to fetch the hits of the different segments of a shard concurrently on the index searcher thread pool
+    public static final Setting<Boolean> CONCURRENT_FETCH_ENABLED_SETTING = Setting.boolSetting(
+        "search.concurrent_fetch.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // smaller pages are fetched on the search thread, the cost of handing the segments to other threads outweighs the gain
+    public static final Setting<Integer> CONCURRENT_FETCH_MIN_DOCS_SETTING = Setting.intSetting(
+        "search.concurrent_fetch.min_docs",
+        100,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -40,6 +40,7 @@ import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreCachingWrappingScorer;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -152,6 +153,13 @@ public class MultiBucketCollector extends BucketCollector {
         }
     }
 
+    @Override
+    public void setWeight(Weight weight) {
+        for (BucketCollector collector : collectors) {
+            collector.setWeight(weight);
+        }
+    }
+
     @Override
     public String toString() {
         return Arrays.toString(collectors);
@@ -35,6 +35,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorBase;
@@ -45,6 +46,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.global.GlobalAggregator;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.AggregationPath;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.SortOrder;
@@ -115,6 +117,19 @@ public abstract class BucketsAggregator extends AggregatorBase {
         collectExistingBucket(subCollector, doc, bucketOrd);
     }
 
+    /**
+     * Utility method to collect the current record of a star-tree in the given bucket, counting all its documents.
+     */
+    public final void collectStarTreeBucket(StarTreeCollector subCollector, StarTreeRecordIterator record, long bucketOrd)
+        throws IOException {
+        grow(bucketOrd + 1);
+        long docCount = record.docCount();
+        if (docCounts.increment(bucketOrd, docCount) == docCount) {
+            multiBucketConsumer.accept(0);
+        }
+        subCollector.collect(record, bucketOrd);
+    }
+
     /**
      * Same as {@link #collectBucket(LeafBucketCollector, int, long)}, but doesn't check if the docCounts needs to be re-sized.
      */
@@ -39,6 +39,9 @@ import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.index.codec.startree.StarTreeField;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -51,6 +54,9 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.FastFilterRewriteHelper;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
+import org.opensearch.search.aggregations.startree.StarTreeAggregations;
+import org.opensearch.search.aggregations.startree.StarTreeAggregator;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -68,7 +74,7 @@ import java.util.function.BiConsumer;
  *
  * @opensearch.internal
  */
-class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator {
+class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAggregator, StarTreeAggregator {
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat formatter;
     private final Rounding rounding;
@@ -155,6 +161,38 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         return super.scoreMode();
     }
 
+    @Override
+    public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) throws IOException {
+        if (valuesSource instanceof ValuesSource.Numeric.FieldData == false) {
+            return null;
+        }
+        String field = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        int dimension = StarTreeAggregations.dimension(starTree, field, StarTreeField.DimensionType.DATE);
+        if (dimension < 0 || StarTreeAggregations.isAligned(starTree, dimension, preparedRounding) == false) {
+            return null;
+        }
+        StarTreeCollector sub = StarTreeAggregations.subCollector(subAggregators, ctx, starTree);
+        if (sub == null) {
+            return null;
+        }
+        return new StarTreeCollector(Math.max(dimension + 1, sub.level())) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long owningBucketOrd) throws IOException {
+                if (record.hasDimensionValue(dimension) == false) {
+                    return;
+                }
+                long rounded = preparedRounding.round(record.dimensionValue(dimension));
+                if (hardBounds == null || hardBounds.contain(rounded)) {
+                    long bucketOrd = bucketOrds.add(owningBucketOrd, rounded);
+                    if (bucketOrd < 0) { // already seen
+                        bucketOrd = -1 - bucketOrd;
+                    }
+                    collectStarTreeBucket(sub, record, bucketOrd);
+                }
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -51,6 +51,9 @@ import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.startree.StarTreeField;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
@@ -66,6 +69,9 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForBytes;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
+import org.opensearch.search.aggregations.startree.StarTreeAggregations;
+import org.opensearch.search.aggregations.startree.StarTreeAggregator;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 
@@ -86,7 +92,7 @@ import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
  *
  * @opensearch.internal
  */
-public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggregator {
+public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggregator implements StarTreeAggregator {
     protected final ResultStrategy<?, ?, ?> resultStrategy;
     protected final ValuesSource.Bytes.WithOrdinals valuesSource;
 
@@ -154,7 +160,9 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         return collectionStrategy.describe();
     }
 
+    @Override
     public void setWeight(Weight weight) {
+        super.setWeight(weight);
         this.weight = weight;
     }
 
@@ -226,6 +234,37 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         };
     }
 
+    @Override
+    public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) throws IOException {
+        if (this.resultStrategy instanceof StandardTermsResults == false) {
+            return null;
+        }
+        int dimension = StarTreeAggregations.dimension(starTree, fieldName, StarTreeField.DimensionType.KEYWORD);
+        if (dimension < 0) {
+            return null;
+        }
+        StarTreeCollector sub = StarTreeAggregations.subCollector(subAggregators, ctx, starTree);
+        if (sub == null) {
+            return null;
+        }
+        collectionStrategy.globalOrdsReady(valuesSource.globalOrdinalsValues(ctx));
+        // keyword dimensions hold segment ordinals
+        LongUnaryOperator mapping = valuesSource.globalOrdinalsMapping(ctx);
+        return new StarTreeCollector(Math.max(dimension + 1, sub.level())) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long owningBucketOrd) throws IOException {
+                if (record.hasDimensionValue(dimension) == false) {
+                    return;
+                }
+                long globalOrd = mapping.applyAsLong(record.dimensionValue(dimension));
+                if (false == acceptedGlobalOrdinals.test(globalOrd)) {
+                    return;
+                }
+                collectStarTreeBucket(sub, record, collectionStrategy.addGlobalOrd(owningBucketOrd, globalOrd));
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         SortedSetDocValues globalOrds = valuesSource.globalOrdinalsValues(ctx);
@@ -433,6 +472,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             this.segmentDocCounts = context.bigArrays().newLongArray(1, true);
         }
 
+        @Override
+        public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) {
+            // counts are accumulated per segment ordinal and mapped to global ordinals when moving to the next segment
+            return null;
+        }
+
         @Override
         public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
             if (mapping != null) {
@@ -557,6 +602,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
          */
         abstract long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd);
 
+        /**
+         * Convert a global ordinal into a bucket ordinal, creating the bucket if it doesn't exist yet.
+         */
+        abstract long addGlobalOrd(long owningBucketOrd, long globalOrd);
+
         /**
          * Iterate all of the buckets. Implementations take into account
          * the {@link BucketCountThresholds}. In particular,
@@ -603,6 +653,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return globalOrd;
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            assert owningBucketOrd == 0;
+            return globalOrd;
+        }
+
         @Override
         void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException {
             assert owningBucketOrd == 0;
@@ -663,6 +719,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return bucketOrds.find(owningBucketOrd, globalOrd);
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            long bucketOrd = bucketOrds.add(owningBucketOrd, globalOrd);
+            return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+        }
+
         @Override
         void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException {
             if (bucketCountThresholds.getMinDocCount() == 0) {
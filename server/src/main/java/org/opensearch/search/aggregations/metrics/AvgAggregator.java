@@ -37,12 +37,17 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeAggregations;
+import org.opensearch.search.aggregations.startree.StarTreeAggregator;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -55,7 +60,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class AvgAggregator extends NumericMetricsAggregator.SingleValue {
+class AvgAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeAggregator {
 
     final ValuesSource.Numeric valuesSource;
 
@@ -88,6 +93,35 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) {
+        if (valuesSource == null) {
+            return StarTreeCollector.NO_OP_COLLECTOR;
+        }
+        final int metric = StarTreeAggregations.metric(starTree, valuesSource);
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        return new StarTreeCollector(0) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long bucket) {
+                counts = bigArrays.grow(counts, bucket + 1);
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+                long valueCount = record.valueCount(metric);
+                if (valueCount > 0) {
+                    counts.increment(bucket, valueCount);
+                    kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                    kahanSummation.add(record.sum(metric));
+                    sums.set(bucket, kahanSummation.value());
+                    compensations.set(bucket, kahanSummation.delta());
+                }
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -40,6 +40,8 @@ import org.apache.lucene.util.Bits;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -48,6 +50,9 @@ import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeAggregations;
+import org.opensearch.search.aggregations.startree.StarTreeAggregator;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -62,7 +67,7 @@ import java.util.function.Function;
  *
  * @opensearch.internal
  */
-class MaxAggregator extends NumericMetricsAggregator.SingleValue {
+class MaxAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeAggregator {
 
     final ValuesSource.Numeric valuesSource;
     final DocValueFormat formatter;
@@ -95,6 +100,31 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) {
+        if (valuesSource == null) {
+            return StarTreeCollector.NO_OP_COLLECTOR;
+        }
+        final int metric = StarTreeAggregations.metric(starTree, valuesSource);
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        return new StarTreeCollector(0) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long bucket) {
+                if (bucket >= maxes.size()) {
+                    long from = maxes.size();
+                    maxes = bigArrays.grow(maxes, bucket + 1);
+                    maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+                }
+                if (record.valueCount(metric) > 0) {
+                    maxes.set(bucket, Math.max(maxes.get(bucket), record.max(metric)));
+                }
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -40,6 +40,8 @@ import org.apache.lucene.util.Bits;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -48,6 +50,9 @@ import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeAggregations;
+import org.opensearch.search.aggregations.startree.StarTreeAggregator;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -61,7 +66,7 @@ import java.util.function.Function;
  *
  * @opensearch.internal
  */
-class MinAggregator extends NumericMetricsAggregator.SingleValue {
+class MinAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeAggregator {
     private static final int MAX_BKD_LOOKUPS = 1024;
 
     final ValuesSource.Numeric valuesSource;
@@ -95,6 +100,31 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    @Override
+    public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) {
+        if (valuesSource == null) {
+            return StarTreeCollector.NO_OP_COLLECTOR;
+        }
+        final int metric = StarTreeAggregations.metric(starTree, valuesSource);
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        return new StarTreeCollector(0) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long bucket) {
+                if (bucket >= mins.size()) {
+                    long from = mins.size();
+                    mins = bigArrays.grow(mins, bucket + 1);
+                    mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+                }
+                if (record.valueCount(metric) > 0) {
+                    mins.set(bucket, Math.min(mins.get(bucket), record.min(metric)));
+                }
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -37,12 +37,17 @@ import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
 import org.opensearch.index.fielddata.MultiGeoPointValues;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.startree.StarTreeAggregations;
+import org.opensearch.search.aggregations.startree.StarTreeAggregator;
+import org.opensearch.search.aggregations.startree.StarTreeCollector;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -58,7 +63,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
+public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeAggregator {
 
     final ValuesSource valuesSource;
 
@@ -80,6 +85,25 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         }
     }
 
+    @Override
+    public StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) {
+        if (valuesSource == null) {
+            return StarTreeCollector.NO_OP_COLLECTOR;
+        }
+        final int metric = StarTreeAggregations.metric(starTree, valuesSource);
+        if (metric < 0) {
+            return null;
+        }
+        final BigArrays bigArrays = context.bigArrays();
+        return new StarTreeCollector(0) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long bucket) {
+                counts = bigArrays.grow(counts, bucket + 1);
+                counts.increment(bucket, record.valueCount(metric));
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         if (valuesSource == null) {
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Weight;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Rounding;
+import org.opensearch.index.codec.startree.StarTreeField;
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+import org.opensearch.index.codec.startree.StarTreeValues;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+
+/**
+ * Utilities to collect aggregations from the star-tree of a segment, see {@link StarTreeAggregator}.
+ *
+ * @opensearch.internal
+ */
+public final class StarTreeAggregations {
+
+    /**
+     * Maximum number of date intervals checked when verifying that a rounding is aligned with the star-tree.
+     */
+    static final long MAX_ALIGNMENT_CHECKS = 100_000;
+
+    private StarTreeAggregations() {}
+
+    /**
+     * Tries to collect the given top level aggregator from the star-tree of the segment. This only applies when the
+     * query matches all the documents of the segment, which also guarantees that there are no deleted documents.
+     *
+     * @return {@code true} if the segment has been fully collected, {@code false} if it must be collected doc by doc
+     */
+    public static boolean tryCollect(StarTreeAggregator aggregator, SearchContext context, @Nullable Weight weight, LeafReaderContext ctx)
+        throws IOException {
+        if (weight == null
+            || context.minimumScore() != null
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return false;
+        }
+        StarTreeValues starTree = StarTreeValues.forLeaf(ctx.reader());
+        if (starTree == null || weight.count(ctx) != ctx.reader().maxDoc()) {
+            return false;
+        }
+        StarTreeCollector collector = aggregator.getStarTreeCollector(ctx, starTree);
+        if (collector == null) {
+            return false;
+        }
+        StarTreeRecordIterator records = starTree.records(collector.level());
+        while (records.next()) {
+            collector.collect(records, 0);
+        }
+        return true;
+    }
+
+    /**
+     * Returns a collector that forwards records to all the given sub-aggregators, or {@code null} if one of them can't
+     * be collected from the star-tree.
+     */
+    @Nullable
+    public static StarTreeCollector subCollector(Aggregator[] subAggregators, LeafReaderContext ctx, StarTreeValues starTree)
+        throws IOException {
+        if (subAggregators.length == 0) {
+            return StarTreeCollector.NO_OP_COLLECTOR;
+        }
+        final StarTreeCollector[] collectors = new StarTreeCollector[subAggregators.length];
+        int level = 0;
+        for (int i = 0; i < subAggregators.length; i++) {
+            // deferred and profiled sub-aggregators are wrapped and don't implement StarTreeAggregator
+            if (subAggregators[i] instanceof StarTreeAggregator == false) {
+                return null;
+            }
+            collectors[i] = ((StarTreeAggregator) subAggregators[i]).getStarTreeCollector(ctx, starTree);
+            if (collectors[i] == null) {
+                return null;
+            }
+            level = Math.max(level, collectors[i].level());
+        }
+        if (collectors.length == 1) {
+            return collectors[0];
+        }
+        return new StarTreeCollector(level) {
+            @Override
+            public void collect(StarTreeRecordIterator record, long owningBucketOrd) throws IOException {
+                for (StarTreeCollector collector : collectors) {
+                    collector.collect(record, owningBucketOrd);
+                }
+            }
+        };
+    }
+
+    /**
+     * The index of the dimension of the star-tree on the given field and of the given type, {@code -1} if there is none.
+     */
+    public static int dimension(StarTreeValues starTree, @Nullable String field, StarTreeField.DimensionType type) {
+        if (field == null) {
+            return -1;
+        }
+        int dimension = starTree.dimensionIndex(field);
+        return dimension >= 0 && starTree.dimensionType(dimension) == type ? dimension : -1;
+    }
+
+    /**
+     * The index of the metric of the star-tree that holds the values of the given values source, {@code -1} if there is
+     * none, e.g. because the values source has a script or a missing value.
+     */
+    public static int metric(StarTreeValues starTree, @Nullable ValuesSource valuesSource) {
+        if (valuesSource instanceof ValuesSource.Numeric.FieldData == false) {
+            return -1;
+        }
+        return starTree.metricIndex(((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName());
+    }
+
+    /**
+     * Whether all the documents that share a value of the given date dimension, which is rounded down to the date
+     * interval of the star-tree, fall into the same bucket of the given rounding.
+     */
+    public static boolean isAligned(StarTreeValues starTree, int dimension, Rounding.Prepared rounding) {
+        final long interval = starTree.dateInterval();
+        final long min = starTree.minValue(dimension);
+        final long max = starTree.maxValue(dimension);
+        if (min > max) {
+            // no values
+            return true;
+        }
+        if ((max - min) / interval > MAX_ALIGNMENT_CHECKS) {
+            return false;
+        }
+        for (long start = min; start <= max; start += interval) {
+            if (rounding.round(start) != rounding.round(start + interval - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
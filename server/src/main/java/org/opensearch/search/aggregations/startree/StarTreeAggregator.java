@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.codec.startree.StarTreeValues;
+
+import java.io.IOException;
+
+/**
+ * An aggregator that can collect a segment from its star-tree instead of its documents.
+ *
+ * @opensearch.internal
+ */
+public interface StarTreeAggregator {
+
+    /**
+     * Returns a collector of the records of the given star-tree, or {@code null} if this aggregator, or one of its
+     * sub-aggregators, can't be computed from it.
+     */
+    @Nullable
+    StarTreeCollector getStarTreeCollector(LeafReaderContext ctx, StarTreeValues starTree) throws IOException;
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.opensearch.index.codec.startree.StarTreeRecordIterator;
+
+import java.io.IOException;
+
+/**
+ * Collects the records of a star-tree into the buckets of an aggregator, the star-tree equivalent of a
+ * {@link org.opensearch.search.aggregations.LeafBucketCollector}.
+ *
+ * @opensearch.internal
+ */
+public abstract class StarTreeCollector {
+
+    /**
+     * Collector that ignores the records, for aggregators without sub-aggregators.
+     */
+    public static final StarTreeCollector NO_OP_COLLECTOR = new StarTreeCollector(0) {
+        @Override
+        public void collect(StarTreeRecordIterator record, long owningBucketOrd) {}
+    };
+
+    private final int level;
+
+    /**
+     * @param level the lowest level of the star-tree whose records hold all the dimensions this collector needs
+     */
+    protected StarTreeCollector(int level) {
+        this.level = level;
+    }
+
+    /**
+     * The lowest level of the star-tree this collector can collect. Records of deeper levels are finer grained groups of
+     * the same documents and must be accepted too, so that collectors with different needs can share records.
+     */
+    public final int level() {
+        return level;
+    }
+
+    /**
+     * Collects the current record of the iterator into the bucket with the given ordinal.
+     */
+    public abstract void collect(StarTreeRecordIterator record, long owningBucketOrd) throws IOException;
+}
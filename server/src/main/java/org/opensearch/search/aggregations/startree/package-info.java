@@ -0,0 +1,10 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+/** Collection of aggregations from the star-tree pre-aggregations of segments instead of their documents */
+package org.opensearch.search.aggregations.startree;
@@ -601,6 +601,10 @@ public abstract class ValuesSource {
                 this.indexFieldData = indexFieldData;
             }
 
+            public String getIndexFieldName() {
+                return indexFieldData.getFieldName();
+            }
+
             @Override
             public boolean isFloatingPoint() {
                 return indexFieldData.getNumericType().isFloatingPoint();
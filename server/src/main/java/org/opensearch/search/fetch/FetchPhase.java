@@ -85,6 +85,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -132,17 +136,98 @@ public class FetchPhase {
         Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
         FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
 
-        FetchContext fetchContext = new FetchContext(context);
-
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
 
-        List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+        boolean hasSequentialDocs = hasSequentialDocs(docs);
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        Executor executor = context.getConcurrentFetchExecutor();
+        context.setConcurrentFetchTaskCount(0);
+        // inner hits are fetched with sub contexts that are shared by all the hits
+        if (executor != null && context.hasInnerHits() == false && context instanceof InnerHitsContext.InnerHitSubContext == false) {
+            List<FutureTask<Void>> tasks = new ArrayList<>();
+            int from = 0;
+            while (from < docs.length) {
+                LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+                int to = from + 1;
+                while (to < docs.length && docs[to].docId < leaf.docBase + leaf.reader().maxDoc()) {
+                    to++;
+                }
+                // each task gets its own lookup, processors and visitor, none of them can be shared across threads
+                FetchContext fetchContext = new FetchContext(context);
+                List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+                FieldsVisitor taskFieldsVisitor = tasks.isEmpty()
+                    ? fieldsVisitor
+                    : copyStoredFieldsVisitor(context, fieldsVisitor, storedToRequestedFields);
+                int taskFrom = from;
+                int taskTo = to;
+                tasks.add(new FutureTask<>(() -> {
+                    fetchHits(
+                        context,
+                        docs,
+                        taskFrom,
+                        taskTo,
+                        hits,
+                        fetchContext,
+                        processors,
+                        taskFieldsVisitor,
+                        storedToRequestedFields,
+                        hasSequentialDocs
+                    );
+                    return null;
+                }));
+                from = to;
+            }
+            if (tasks.size() > 1) {
+                runConcurrently(context, executor, tasks);
+                context.setConcurrentFetchTaskCount(tasks.size());
+            } else {
+                tasks.get(0).run();
+                waitFor(context, tasks.get(0));
+            }
+        } else {
+            FetchContext fetchContext = new FetchContext(context);
+            List<FetchSubPhaseProcessor> processors = getProcessors(context.shardTarget(), fetchContext);
+            fetchHits(
+                context,
+                docs,
+                0,
+                docs.length,
+                hits,
+                fetchContext,
+                processors,
+                fieldsVisitor,
+                storedToRequestedFields,
+                hasSequentialDocs
+            );
+        }
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+        }
 
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+    }
+
+    /**
+     * Fetches the hits of the docs in the given range, which are sorted by doc id, and sets them at their index in the hits.
+     */
+    private void fetchHits(
+        SearchContext context,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        SearchHit[] hits,
+        FetchContext fetchContext,
+        List<FetchSubPhaseProcessor> processors,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        boolean hasSequentialDocs
+    ) {
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+        for (int index = from; index < to; index++) {
             if (context.isCancelled()) {
                 throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
             }
@@ -186,13 +271,50 @@ public class FetchPhase {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-        }
+    }
 
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+    /**
+     * Runs the first task on the current thread and the others on the given executor, and waits for all of them to complete since
+     * they read from the searcher of the context.
+     */
+    private void runConcurrently(SearchContext context, Executor executor, List<FutureTask<Void>> tasks) {
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                tasks.get(i).run();
+            }
+        }
+        tasks.get(0).run();
+        RuntimeException failure = null;
+        for (FutureTask<Void> task : tasks) {
+            try {
+                waitFor(context, task);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
+    private static void waitFor(SearchContext context, FutureTask<Void> task) {
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Interrupted while running fetch phase", e);
+        }
     }
 
     List<FetchSubPhaseProcessor> getProcessors(SearchShardTarget target, FetchContext context) {
@@ -273,6 +395,23 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Creates a visitor that loads the same stored fields as the given visitor, for another thread.
+     */
+    private FieldsVisitor copyStoredFieldsVisitor(
+        SearchContext context,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields
+    ) {
+        if (fieldsVisitor == null) {
+            return null;
+        } else if (fieldsVisitor instanceof CustomFieldsVisitor) {
+            return new CustomFieldsVisitor(storedToRequestedFields.keySet(), sourceRequired(context));
+        } else {
+            return new FieldsVisitor(sourceRequired(context));
+        }
+    }
+
     private boolean sourceRequired(SearchContext context) {
         return context.sourceRequested() || context.fetchFieldsContext() != null;
     }
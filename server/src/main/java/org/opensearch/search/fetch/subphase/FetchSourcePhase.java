@@ -96,15 +96,21 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
-        // Otherwise, filter the source and add it to the hit.
-        Object value = source.filter(fetchSourceContext);
-        if (nestedHit) {
-            value = getNestedSource((Map<String, Object>) value, hitContext);
+        // If this is a parent document, stream the filtered source to the hit without parsing it into a map.
+        if (nestedHit == false) {
+            try {
+                hitContext.hit().sourceRef(source.filterBytes(fetchSourceContext));
+            } catch (IOException e) {
+                throw new OpenSearchException("Error filtering source", e);
+            }
+            return;
         }
 
+        // Otherwise, filter the source and add the nested part of it to the hit.
+        Object value = getNestedSource((Map<String, Object>) source.filter(fetchSourceContext), hitContext);
+
         try {
-            final int initialCapacity = nestedHit ? 1024 : Math.min(1024, source.internalSourceRef().length());
-            BytesStreamOutput streamOutput = new BytesStreamOutput(initialCapacity);
+            BytesStreamOutput streamOutput = new BytesStreamOutput(1024);
             XContentBuilder builder = new XContentBuilder(source.sourceContentType().xContent(), streamOutput);
             if (value != null) {
                 builder.value(value);
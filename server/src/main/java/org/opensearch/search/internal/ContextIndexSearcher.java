@@ -36,18 +36,26 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.CollectionStatistics;
 import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConjunctionUtils;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
@@ -59,6 +67,7 @@ import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
@@ -67,6 +76,7 @@ import org.apache.lucene.util.SparseFixedBitSet;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.AggregatedDfs;
@@ -81,6 +91,7 @@ import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -270,6 +281,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
+        if (weight instanceof ProfileWeight
+            && searchContext.shouldUseConcurrentSearch()
+            && searchContext.getSliceStrategy() == SliceStrategy.COST_BALANCED) {
+            long sliceCost = 0;
+            for (LeafReaderContext leaf : leaves) {
+                sliceCost += estimateCost(leaf);
+            }
+            ((ProfileWeight) weight).recordSliceCost(sliceCost);
+        }
         // Time series based workload by default traverses segments in desc order i.e. latest to the oldest order.
         // This is actually beneficial for search queries to start search on latest segments first for time series workload.
         // That can slow down ASC order queries on timestamp workload. So to avoid that slowdown, we will reverse leaf
@@ -295,7 +315,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
 
         // Check if at all we need to call this leaf for collecting results.
-        if (canMatch(ctx) == false) {
+        if (canMatch(ctx, weight) == false) {
             return;
         }
 
@@ -465,7 +485,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
-        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount());
+        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount(), searchContext.getSliceStrategy());
     }
 
     public DirectoryReader getDirectoryReader() {
@@ -507,9 +527,83 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
-    private boolean canMatch(LeafReaderContext ctx) throws IOException {
-        // skip segments for search after if min/max of them doesn't qualify competitive
-        return canMatchSearchAfter(ctx);
+    private boolean canMatch(LeafReaderContext ctx, Weight weight) throws IOException {
+        // skip segments whose points are outside of the ranges required by the query, and for search after if min/max of them doesn't
+        // qualify competitive
+        if (canMatchPointRanges(weight.getQuery(), ctx.reader()) && canMatchSearchAfter(ctx)) {
+            return true;
+        }
+        if (weight instanceof ProfileWeight) {
+            ((ProfileWeight) weight).skipSegment();
+        }
+        return false;
+    }
+
+    /**
+     * Estimates the cost of searching a segment for the slice computation: its live document count, or almost nothing if its points
+     * are outside of the ranges required by the query.
+     */
+    private long estimateCost(LeafReaderContext ctx) {
+        final Query query = searchContext.query();
+        try {
+            if (query != null && canMatchPointRanges(query, ctx.reader()) == false) {
+                return 1;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Math.max(1, ctx.reader().numDocs());
+    }
+
+    /**
+     * Returns false if the query requires a range of points that doesn't intersect the range of the points of the segment. Segments
+     * record the min and max of the points of each field in the metadata of their points, so this doesn't need to build any scorer.
+     */
+    // package-private for testing
+    static boolean canMatchPointRanges(Query query, LeafReader reader) throws IOException {
+        if (query instanceof PointRangeQuery) {
+            return canMatchPointRange((PointRangeQuery) query, reader);
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            return canMatchPointRanges(((IndexOrDocValuesQuery) query).getIndexQuery(), reader);
+        } else if (query instanceof ConstantScoreQuery) {
+            return canMatchPointRanges(((ConstantScoreQuery) query).getQuery(), reader);
+        } else if (query instanceof BoostQuery) {
+            return canMatchPointRanges(((BoostQuery) query).getQuery(), reader);
+        } else if (query instanceof DateRangeIncludingNowQuery) {
+            return canMatchPointRanges(((DateRangeIncludingNowQuery) query).getQuery(), reader);
+        } else if (query instanceof BooleanQuery) {
+            for (BooleanClause clause : (BooleanQuery) query) {
+                if (clause.isRequired() && canMatchPointRanges(clause.getQuery(), reader) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean canMatchPointRange(PointRangeQuery query, LeafReader reader) throws IOException {
+        final PointValues values = reader.getPointValues(query.getField());
+        if (values == null) {
+            // no document of the segment has a value for the field
+            return false;
+        }
+        final int numDims = query.getNumDims();
+        final int bytesPerDim = query.getBytesPerDim();
+        if (values.getNumIndexDimensions() != numDims || values.getBytesPerDimension() != bytesPerDim) {
+            // let the query report the mismatch
+            return true;
+        }
+        final ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator(bytesPerDim);
+        final byte[] minPackedValue = values.getMinPackedValue();
+        final byte[] maxPackedValue = values.getMaxPackedValue();
+        for (int dim = 0; dim < numDims; dim++) {
+            final int offset = dim * bytesPerDim;
+            if (comparator.compare(query.getLowerPoint(), offset, maxPackedValue, offset) > 0
+                || comparator.compare(query.getUpperPoint(), offset, minPackedValue, offset) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private boolean canMatchSearchAfter(LeafReaderContext ctx) throws IOException {
@@ -535,9 +629,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     }
 
     // package-private for testing
-    LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
+    LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice, SliceStrategy sliceStrategy) {
         LeafSlice[] leafSlices;
-        if (targetMaxSlice == 0) {
+        if (sliceStrategy == SliceStrategy.COST_BALANCED) {
+            // balance the cost of the slices, with as many slices as the default lucene slice calculation unless targetMaxSlice is set
+            // the default calculation has no slices for an empty shard, which still needs a valid slice count
+            final int sliceCount = targetMaxSlice == 0 ? Math.max(1, super.slices(leaves).length) : targetMaxSlice;
+            leafSlices = CostBalancedSliceSupplier.getSlices(leaves, sliceCount, this::estimateCost);
+            logger.debug("Slice count using cost balanced slice supplier [{}]", leafSlices.length);
+        } else if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
             leafSlices = super.slices(leaves);
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
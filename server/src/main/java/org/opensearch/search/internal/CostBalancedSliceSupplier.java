@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Supplier to compute leaf slices whose estimated costs are balanced, since the latency of a concurrent search is the latency of its
+ * slowest slice. Leaves are sorted by descending cost and each leaf is assigned to the slice with the lowest total cost so far, which
+ * keeps small leaves from piling up with the largest one when {@link MaxTargetSliceSupplier} would assign them in round-robin fashion.
+ *
+ * @opensearch.internal
+ */
+final class CostBalancedSliceSupplier {
+
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice, ToLongFunction<LeafReaderContext> cost) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("CostBalancedSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        if (leaves.isEmpty()) {
+            // an empty shard has no slices
+            return new IndexSearcher.LeafSlice[0];
+        }
+
+        // slice count should not exceed the segment count
+        final int targetSliceCount = Math.min(targetMaxSlice, leaves.size());
+
+        final List<Leaf> sortedLeaves = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            sortedLeaves.add(new Leaf(leaf, cost.applyAsLong(leaf)));
+        }
+        // Sort by cost, descending:
+        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingLong(leaf -> leaf.cost)));
+
+        final PriorityQueue<Slice> slices = new PriorityQueue<>(
+            targetSliceCount,
+            Comparator.<Slice>comparingLong(slice -> slice.cost).thenComparingInt(slice -> slice.leaves.size())
+        );
+        for (int i = 0; i < targetSliceCount; ++i) {
+            slices.add(new Slice());
+        }
+        for (Leaf leaf : sortedLeaves) {
+            final Slice cheapest = slices.poll();
+            cheapest.leaves.add(leaf.context);
+            cheapest.cost += leaf.cost;
+            slices.add(cheapest);
+        }
+
+        final List<IndexSearcher.LeafSlice> leafSlices = new ArrayList<>(targetSliceCount);
+        for (Slice slice : slices) {
+            // search the leaves of a slice in the order of the index
+            slice.leaves.sort(Comparator.comparingInt(leaf -> leaf.ord));
+            leafSlices.add(new IndexSearcher.LeafSlice(slice.leaves));
+        }
+        return leafSlices.toArray(new IndexSearcher.LeafSlice[0]);
+    }
+
+    private static final class Leaf {
+        private final LeafReaderContext context;
+        private final long cost;
+
+        private Leaf(LeafReaderContext context, long cost) {
+            this.context = context;
+            this.cost = cost;
+        }
+    }
+
+    private static final class Slice {
+        private final List<LeafReaderContext> leaves = new ArrayList<>();
+        private long cost;
+    }
+}
@@ -71,6 +71,7 @@ import org.opensearch.search.suggest.SuggestionSearchContext;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Context used during a filtered search
@@ -582,4 +583,14 @@ public abstract class FilteredSearchContext extends SearchContext {
     public int getTargetMaxSliceCount() {
         return in.getTargetMaxSliceCount();
     }
+
+    @Override
+    public Executor getConcurrentFetchExecutor() {
+        return in.getConcurrentFetchExecutor();
+    }
+
+    @Override
+    public SliceStrategy getSliceStrategy() {
+        return in.getSliceStrategy();
+    }
 }
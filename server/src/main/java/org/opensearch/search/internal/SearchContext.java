@@ -84,6 +84,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -121,6 +122,8 @@ public abstract class SearchContext implements Releasable {
 
     private volatile boolean searchTimedOut;
 
+    private volatile int concurrentFetchTaskCount;
+
     protected SearchContext() {}
 
     public abstract void setTask(SearchShardTask task);
@@ -431,6 +434,26 @@ public abstract class SearchContext implements Releasable {
         return false;
     }
 
+    /**
+     * Returns the executor the fetch phase loads the hits of the different segments with, or {@code null} if the hits should be
+     * fetched on the current thread. Should only be used once the doc ids to load are set.
+     */
+    public Executor getConcurrentFetchExecutor() {
+        return null;
+    }
+
+    /**
+     * Returns the number of tasks the hits of the last fetch phase were loaded with, or {@code 0} if they were loaded on the
+     * search thread.
+     */
+    public int getConcurrentFetchTaskCount() {
+        return concurrentFetchTaskCount;
+    }
+
+    public void setConcurrentFetchTaskCount(int concurrentFetchTaskCount) {
+        this.concurrentFetchTaskCount = concurrentFetchTaskCount;
+    }
+
     /**
      * Returns local bucket count thresholds based on concurrent segment search status
      */
@@ -516,4 +539,6 @@ public abstract class SearchContext implements Releasable {
     public abstract boolean shouldUseTimeSeriesDescSortOptimization();
 
     public abstract int getTargetMaxSliceCount();
+
+    public abstract SliceStrategy getSliceStrategy();
 }
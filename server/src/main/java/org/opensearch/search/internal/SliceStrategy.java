@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Arrays;
+
+/**
+ * How concurrent segment search groups the segments of a shard into slices.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public enum SliceStrategy {
+    /**
+     * Segments are sorted by document count and assigned to the slices in round-robin fashion.
+     */
+    ROUND_ROBIN("round_robin"),
+    /**
+     * Segments are assigned to the slice with the lowest estimated cost so far, largest segments first, so that slices have
+     * similar costs. The cost of a segment is its live document count, and segments that can't match the ranges required by the
+     * query cost almost nothing.
+     */
+    COST_BALANCED("cost_balanced");
+
+    private final String value;
+
+    SliceStrategy(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static SliceStrategy fromString(String text) {
+        for (SliceStrategy strategy : SliceStrategy.values()) {
+            if (strategy.value.equals(text)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException(
+            "unsupported slice strategy ["
+                + text
+                + "], must be one of: "
+                + String.join(", ", Arrays.stream(SliceStrategy.values()).map(SliceStrategy::getValue).toArray(String[]::new))
+        );
+    }
+}
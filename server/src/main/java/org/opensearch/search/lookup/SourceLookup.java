@@ -38,12 +38,17 @@ import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
@@ -200,6 +205,35 @@ public class SourceLookup implements Map {
         return context.getFilter().apply(loadSourceIfNeeded());
     }
 
+    /**
+     * Returns the source filtered with the given context, serialized with the content type of the source. Unless the source is already
+     * parsed into a map, it is filtered while it is copied from its bytes, so that the properties that are filtered out are never
+     * parsed into objects.
+     */
+    public BytesReference filterBytes(FetchSourceContext context) throws IOException {
+        if (source == null && sourceAsBytes != null) {
+            try (
+                XContentParser parser = XContentHelper.createParser(
+                    NamedXContentRegistry.EMPTY,
+                    DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                    sourceAsBytes
+                )
+            ) {
+                sourceContentType = parser.contentType();
+                XContentBuilder builder = new XContentBuilder(
+                    sourceContentType.xContent(),
+                    new BytesStreamOutput(Math.min(1024, sourceAsBytes.length()))
+                );
+                context.getStreamingFilter().accept(parser, builder);
+                return BytesReference.bytes(builder);
+            }
+        }
+        Object value = filter(context);
+        XContentBuilder builder = new XContentBuilder(sourceContentType.xContent(), new BytesStreamOutput(1024));
+        builder.value(value);
+        return BytesReference.bytes(builder);
+    }
+
     @Override
     public Object get(Object key) {
         return loadSourceIfNeeded().get(key);
@@ -11,8 +11,11 @@ package org.opensearch.search.profile;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provide contextual profile breakdowns which are associated with freestyle context. Used when concurrent
@@ -21,6 +24,15 @@ import java.util.Map;
  * @opensearch.internal
  */
 public abstract class ContextualProfileBreakdown<T extends Enum<T>> extends AbstractProfileBreakdown<T> {
+    static final String SKIPPED_SEGMENTS = "skipped_segments";
+    static final String MAX_SLICE_ESTIMATED_COST = "max_slice_estimated_cost";
+    static final String MIN_SLICE_ESTIMATED_COST = "min_slice_estimated_cost";
+
+    // segments may be skipped and slices recorded concurrently by the slices of a concurrent search
+    private final LongAdder skippedSegments = new LongAdder();
+    private final LongAccumulator maxSliceCost = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final LongAccumulator minSliceCost = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
     public ContextualProfileBreakdown(Class<T> clazz) {
         super(clazz);
     }
@@ -35,4 +47,37 @@ public abstract class ContextualProfileBreakdown<T extends Enum<T>> extends Abst
     public void associateCollectorToLeaves(Collector collector, LeafReaderContext leaf) {}
 
     public void associateCollectorsToLeaves(Map<Collector, List<LeafReaderContext>> collectorToLeaves) {}
+
+    /**
+     * Records that a segment was skipped without building a scorer, because its values can't match the query.
+     */
+    public void skipSegment() {
+        skippedSegments.increment();
+    }
+
+    /**
+     * Records the cost that the slice computation estimated for a slice of a concurrent search.
+     */
+    public void recordSliceCost(long cost) {
+        maxSliceCost.accumulate(cost);
+        minSliceCost.accumulate(cost);
+    }
+
+    @Override
+    public Map<String, Object> toDebugMap() {
+        final long skipped = skippedSegments.sum();
+        final long maxCost = maxSliceCost.get();
+        if (skipped == 0 && maxCost == Long.MIN_VALUE) {
+            return super.toDebugMap();
+        }
+        final Map<String, Object> debug = new HashMap<>();
+        if (skipped > 0) {
+            debug.put(SKIPPED_SEGMENTS, skipped);
+        }
+        if (maxCost != Long.MIN_VALUE) {
+            debug.put(MAX_SLICE_ESTIMATED_COST, maxCost);
+            debug.put(MIN_SLICE_ESTIMATED_COST, minSliceCost.get());
+        }
+        return debug;
+    }
 }
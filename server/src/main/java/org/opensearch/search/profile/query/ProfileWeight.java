@@ -141,4 +141,12 @@ public final class ProfileWeight extends Weight {
     public void associateCollectorToLeaves(LeafReaderContext leaf, Collector collector) {
         profile.associateCollectorToLeaves(collector, leaf);
     }
+
+    public void skipSegment() {
+        profile.skipSegment();
+    }
+
+    public void recordSliceCost(long cost) {
+        profile.recordSliceCost(cost);
+    }
 }
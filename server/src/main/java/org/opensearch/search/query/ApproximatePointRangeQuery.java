@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.DocIdSetBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A one dimensional {@link PointRangeQuery} that only matches the documents with the smallest (or largest if
+ * {@code reverse} is set) values in the range, used when the hits are sorted on the same field.
+ * <p>
+ * The BKD tree of each segment is traversed in sort order and the traversal stops once {@code size} live documents
+ * were collected, plus the documents that have the same value as the last collected leaf so that ties are broken the
+ * same way as with the original query. Segments whose documents have several values fall back to the original query,
+ * since the sort value of a document may then be outside of the range.
+ *
+ * @opensearch.internal
+ */
+final class ApproximatePointRangeQuery extends Query {
+
+    private final PointRangeQuery query;
+    private final boolean reverse;
+    private final int size;
+
+    ApproximatePointRangeQuery(PointRangeQuery query, boolean reverse, int size) {
+        assert query.getNumDims() == 1 : "only one dimensional points can be visited in sort order";
+        this.query = query;
+        this.reverse = reverse;
+        this.size = size;
+    }
+
+    PointRangeQuery getQuery() {
+        return query;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        final Weight fallback = query.createWeight(searcher, scoreMode, boost);
+        return new ConstantScoreWeight(this, boost) {
+
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                final LeafReader reader = context.reader();
+                final PointValues values = reader.getPointValues(query.getField());
+                if (values == null) {
+                    return null;
+                }
+                if (values.getNumIndexDimensions() != 1
+                    || values.getBytesPerDimension() != query.getBytesPerDim()
+                    || values.size() != values.getDocCount()) {
+                    return fallback.scorerSupplier(context);
+                }
+                final Weight weight = this;
+                return new ScorerSupplier() {
+                    @Override
+                    public Scorer get(long leadCost) throws IOException {
+                        TopValuesVisitor visitor = new TopValuesVisitor(reader, values);
+                        visitor.intersect(values.getPointTree());
+                        DocIdSetIterator iterator = visitor.result.build().iterator();
+                        return new ConstantScoreScorer(weight, score(), scoreMode, iterator);
+                    }
+
+                    @Override
+                    public long cost() {
+                        return Math.min(values.size(), size);
+                    }
+                };
+            }
+
+            @Override
+            public Scorer scorer(LeafReaderContext context) throws IOException {
+                ScorerSupplier scorerSupplier = scorerSupplier(context);
+                return scorerSupplier == null ? null : scorerSupplier.get(Long.MAX_VALUE);
+            }
+
+            @Override
+            public int count(LeafReaderContext context) {
+                // the number of matches is only a lower bound
+                return -1;
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Collects the documents of the leaves of the BKD tree in sort order until enough live documents were found.
+     */
+    private final class TopValuesVisitor implements PointValues.IntersectVisitor {
+
+        private final ArrayUtil.ByteArrayComparator comparator;
+        private final Bits liveDocs;
+        private final DocIdSetBuilder result;
+        private DocIdSetBuilder.BulkAdder adder;
+        private long count;
+        // once enough documents were collected, only values up to (or down to if reverse) this one are accepted
+        private byte[] threshold;
+
+        TopValuesVisitor(LeafReader reader, PointValues values) throws IOException {
+            this.comparator = ArrayUtil.getUnsignedComparator(query.getBytesPerDim());
+            this.liveDocs = reader.getLiveDocs();
+            this.result = new DocIdSetBuilder(reader.maxDoc(), values, query.getField());
+        }
+
+        void intersect(PointValues.PointTree tree) throws IOException {
+            PointValues.Relation relation = compare(tree.getMinPackedValue(), tree.getMaxPackedValue());
+            if (relation == PointValues.Relation.CELL_OUTSIDE_QUERY) {
+                return;
+            }
+            if (tree.moveToChild()) {
+                if (reverse) {
+                    tree.moveToSibling();
+                    intersect(tree);
+                    tree.moveToParent();
+                    tree.moveToChild();
+                    intersect(tree);
+                } else {
+                    intersect(tree);
+                    tree.moveToSibling();
+                    intersect(tree);
+                }
+                tree.moveToParent();
+            } else {
+                if (relation == PointValues.Relation.CELL_INSIDE_QUERY) {
+                    tree.visitDocIDs(this);
+                } else {
+                    tree.visitDocValues(this);
+                }
+                if (threshold == null && count >= size) {
+                    // the remaining leaves only contribute ties of the last value that was collected
+                    threshold = (reverse ? tree.getMinPackedValue() : tree.getMaxPackedValue()).clone();
+                }
+            }
+        }
+
+        @Override
+        public void grow(int count) {
+            adder = result.grow(count);
+        }
+
+        @Override
+        public void visit(int docID) {
+            adder.add(docID);
+            if (liveDocs == null || liveDocs.get(docID)) {
+                count++;
+            }
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) {
+            if (matches(packedValue)) {
+                visit(docID);
+            }
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            byte[] lower = query.getLowerPoint();
+            byte[] upper = query.getUpperPoint();
+            if (threshold != null) {
+                if (reverse) {
+                    lower = max(lower, threshold);
+                } else {
+                    upper = min(upper, threshold);
+                }
+            }
+            if (comparator.compare(minPackedValue, 0, upper, 0) > 0 || comparator.compare(maxPackedValue, 0, lower, 0) < 0) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            if (comparator.compare(minPackedValue, 0, lower, 0) >= 0 && comparator.compare(maxPackedValue, 0, upper, 0) <= 0) {
+                return PointValues.Relation.CELL_INSIDE_QUERY;
+            }
+            return PointValues.Relation.CELL_CROSSES_QUERY;
+        }
+
+        private boolean matches(byte[] packedValue) {
+            return compare(packedValue, packedValue) == PointValues.Relation.CELL_INSIDE_QUERY;
+        }
+
+        private byte[] min(byte[] a, byte[] b) {
+            return comparator.compare(a, 0, b, 0) <= 0 ? a : b;
+        }
+
+        private byte[] max(byte[] a, byte[] b) {
+            return comparator.compare(a, 0, b, 0) >= 0 ? a : b;
+        }
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(query.getField())) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public String toString(String field) {
+        return "Approximate(" + query.toString(field) + ", reverse=" + reverse + ", size=" + size + ")";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (sameClassAs(o) == false) {
+            return false;
+        }
+        ApproximatePointRangeQuery that = (ApproximatePointRangeQuery) o;
+        return reverse == that.reverse && size == that.size && query.equals(that.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), query, reverse, size);
+    }
+}
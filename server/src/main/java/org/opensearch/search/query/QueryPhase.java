@@ -38,12 +38,18 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.search.SearchShardTask;
@@ -219,6 +225,8 @@ public class QueryPhase {
                         }
                     }
                 }
+            } else {
+                query = approximateSortedRangeQuery(searchContext, query);
             }
 
             final LinkedList<QueryCollectorContext> collectors = new LinkedList<>();
@@ -373,6 +381,68 @@ public class QueryPhase {
         return topDocsFactory.shouldRescore();
     }
 
+    /**
+     * Replaces a one dimensional range query on a long field whose hits are sorted on the same field with an
+     * {@link ApproximatePointRangeQuery} that stops visiting the points of a segment once enough top documents were
+     * found. The query then only matches a subset of the documents, so this is only done when nothing but the top hits
+     * depends on the matching documents and the total hits don't need to be accurate.
+     */
+    private static Query approximateSortedRangeQuery(SearchContext searchContext, Query query) {
+        if (searchContext.size() == 0
+            || searchContext.sort() == null
+            || searchContext.trackScores()
+            || searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_ACCURATE
+            || searchContext.searchAfter() != null
+            || searchContext.collapse() != null
+            || searchContext.aggregations() != null
+            || searchContext.queryCollectorManagers().isEmpty() == false
+            || searchContext.parsedPostFilter() != null
+            || searchContext.minimumScore() != null
+            || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return query;
+        }
+        final SortField[] sortFields = searchContext.sort().sort.getSort();
+        if (sortFields.length != 1) {
+            return query;
+        }
+        final SortField sortField = sortFields[0];
+        final SortField.Type sortType = sortField instanceof SortedNumericSortField
+            ? ((SortedNumericSortField) sortField).getNumericType()
+            : sortField.getType();
+        if (sortType != SortField.Type.LONG) {
+            return query;
+        }
+        Query inner = query;
+        while (true) {
+            // scores are not tracked so wrappers that only change scores can be removed
+            if (inner instanceof ConstantScoreQuery) {
+                inner = ((ConstantScoreQuery) inner).getQuery();
+            } else if (inner instanceof BoostQuery) {
+                inner = ((BoostQuery) inner).getQuery();
+            } else if (inner instanceof IndexOrDocValuesQuery) {
+                inner = ((IndexOrDocValuesQuery) inner).getIndexQuery();
+            } else {
+                break;
+            }
+        }
+        if (inner instanceof PointRangeQuery == false) {
+            return query;
+        }
+        final PointRangeQuery rangeQuery = (PointRangeQuery) inner;
+        if (rangeQuery.getNumDims() != 1
+            || rangeQuery.getBytesPerDim() != Long.BYTES
+            || rangeQuery.getField().equals(sortField.getField()) == false) {
+            return query;
+        }
+        // collect one more document than the total hits threshold so that the hit count is reported as a lower bound
+        // when the traversal terminates early
+        final long size = Math.max((long) searchContext.from() + searchContext.size(), searchContext.trackTotalHitsUpTo()) + 1;
+        if (size > Integer.MAX_VALUE) {
+            return query;
+        }
+        return new ApproximatePointRangeQuery(rangeQuery, sortField.getReverse(), (int) size);
+    }
+
     /**
      * Returns whether collection within the provided <code>reader</code> can be early-terminated if it sorts
      * with <code>sortAndFormats</code>.
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A named group of requests that share resource limits on each node. Requests join a query group through the
+ * {@link QueryGroupService#QUERY_GROUP_HEADER} header.
+ *
+ * @opensearch.internal
+ */
+public final class QueryGroup {
+    private final String name;
+    private final ResiliencyMode mode;
+    private final Map<ResourceType, Double> resourceLimits;
+
+    public QueryGroup(String name, ResiliencyMode mode, Map<ResourceType, Double> resourceLimits) {
+        this.name = Objects.requireNonNull(name);
+        this.mode = Objects.requireNonNull(mode);
+        this.resourceLimits = resourceLimits.isEmpty()
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new EnumMap<>(resourceLimits));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ResiliencyMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the maximum share of the node's capacity that the tasks of this group may use for each limited resource.
+     */
+    public Map<ResourceType, Double> getResourceLimits() {
+        return resourceLimits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QueryGroup that = (QueryGroup) o;
+        return name.equals(that.name) && mode == that.mode && resourceLimits.equals(that.resourceLimits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, mode, resourceLimits);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryGroup{name='" + name + "', mode=" + mode.getName() + ", resourceLimits=" + resourceLimits + '}';
+    }
+}
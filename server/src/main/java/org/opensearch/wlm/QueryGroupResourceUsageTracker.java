@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.backpressure.trackers.TaskResourceUsageTracker;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskCancellation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the usage of a resource by the tasks of a query group and makes these tasks eligible for cancellation
+ * while the group exceeds its limit. Tasks that use a larger share of the group's usage get a higher cancellation score.
+ *
+ * @opensearch.internal
+ */
+public class QueryGroupResourceUsageTracker extends TaskResourceUsageTracker {
+
+    private final String queryGroup;
+    private final ResourceType resourceType;
+    private final LongSupplier timeNanosSupplier;
+    private final AtomicLong breaches = new AtomicLong();
+    private volatile double limit = Double.POSITIVE_INFINITY;
+    private volatile double usage;
+
+    public QueryGroupResourceUsageTracker(String queryGroup, ResourceType resourceType, LongSupplier timeNanosSupplier) {
+        this.queryGroup = queryGroup;
+        this.resourceType = resourceType;
+        this.timeNanosSupplier = timeNanosSupplier;
+    }
+
+    @Override
+    public String name() {
+        return resourceType.getName() + "_usage_tracker";
+    }
+
+    public ResourceType getResourceType() {
+        return resourceType;
+    }
+
+    /**
+     * Recomputes the usage of the query group from its currently running tasks, whose resource stats must have been
+     * refreshed, and records a breach if the usage exceeds the given limit.
+     *
+     * @return whether the query group exceeds its limit
+     */
+    public boolean update(double limit, List<? extends Task> tasks) {
+        long nowNanos = timeNanosSupplier.getAsLong();
+        double usage = 0;
+        for (Task task : tasks) {
+            usage += resourceType.getUsage(task, nowNanos);
+        }
+        this.limit = limit;
+        this.usage = usage;
+        if (isBreached()) {
+            breaches.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isBreached() {
+        return usage > limit;
+    }
+
+    public double getUsage() {
+        return usage;
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the usage of the tracked resource by the given task.
+     */
+    public double getUsage(Task task) {
+        return resourceType.getUsage(task, timeNanosSupplier.getAsLong());
+    }
+
+    @Override
+    public Optional<TaskCancellation.Reason> checkAndMaybeGetCancellationReason(Task task) {
+        if (isBreached() == false) {
+            return Optional.empty();
+        }
+        double taskUsage = getUsage(task);
+        if (taskUsage <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            new TaskCancellation.Reason(
+                "query group ["
+                    + queryGroup
+                    + "] "
+                    + resourceType.getName()
+                    + " usage exceeded ["
+                    + formatPercent(usage)
+                    + " >= "
+                    + formatPercent(limit)
+                    + "]",
+                Math.max(1, (int) (100 * taskUsage / usage))
+            )
+        );
+    }
+
+    private static String formatPercent(double fraction) {
+        return String.format(Locale.ROOT, "%.1f%%", fraction * 100);
+    }
+
+    @Override
+    public TaskResourceUsageTracker.Stats stats(List<? extends Task> activeTasks) {
+        return new Stats(getCancellations(), breaches.get(), usage, limit);
+    }
+
+    /**
+     * Stats related to QueryGroupResourceUsageTracker.
+     */
+    public static class Stats implements TaskResourceUsageTracker.Stats {
+        private final long cancellationCount;
+        private final long breachCount;
+        private final double currentUsage;
+        private final double limit;
+
+        public Stats(long cancellationCount, long breachCount, double currentUsage, double limit) {
+            this.cancellationCount = cancellationCount;
+            this.breachCount = breachCount;
+            this.currentUsage = currentUsage;
+            this.limit = limit;
+        }
+
+        public Stats(StreamInput in) throws IOException {
+            this(in.readVLong(), in.readVLong(), in.readDouble(), in.readDouble());
+        }
+
+        public long getCancellationCount() {
+            return cancellationCount;
+        }
+
+        public long getBreachCount() {
+            return breachCount;
+        }
+
+        public double getCurrentUsage() {
+            return currentUsage;
+        }
+
+        public double getLimit() {
+            return limit;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("cancellation_count", cancellationCount);
+            builder.field("breach_count", breachCount);
+            builder.field("current_usage", currentUsage);
+            if (Double.isInfinite(limit) == false) {
+                builder.field("limit", limit);
+            }
+            return builder.endObject();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(cancellationCount);
+            out.writeVLong(breachCount);
+            out.writeDouble(currentUsage);
+            out.writeDouble(limit);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Stats stats = (Stats) o;
+            return cancellationCount == stats.cancellationCount
+                && breachCount == stats.breachCount
+                && Double.compare(currentUsage, stats.currentUsage) == 0
+                && Double.compare(limit, stats.limit) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cancellationCount, breachCount, currentUsage, limit);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.SearchBackpressureTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskCancellation;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.tasks.TaskResourceTrackingService.TaskCompletionListener;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * QueryGroupService is responsible for monitoring the resource usage of the search tasks of each query group and
+ * cancelling some of them when a query group exceeds its resource limits.
+ * <p>
+ * Search requests join a query group through the {@link #QUERY_GROUP_HEADER} header, which is propagated to the
+ * shard level tasks on the other nodes. Requests without the header, or with the name of a query group that doesn't
+ * exist, are not limited.
+ *
+ * @opensearch.internal
+ */
+public class QueryGroupService extends AbstractLifecycleComponent implements TaskCompletionListener {
+    private static final Logger logger = LogManager.getLogger(QueryGroupService.class);
+
+    /**
+     * The request header that holds the name of the query group of a request.
+     */
+    public static final String QUERY_GROUP_HEADER = "X-Query-Group";
+
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    private final QueryGroupSettings settings;
+    private final TaskResourceTrackingService taskResourceTrackingService;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final LongSupplier timeNanosSupplier;
+    private final ToDoubleFunction<ResourceType> nodeUsageSupplier;
+    private final Map<String, QueryGroupState> queryGroupStates = new ConcurrentHashMap<>();
+
+    public QueryGroupService(
+        QueryGroupSettings settings,
+        TaskResourceTrackingService taskResourceTrackingService,
+        ThreadPool threadPool,
+        TaskManager taskManager
+    ) {
+        this(settings, taskResourceTrackingService, threadPool, taskManager, System::nanoTime, QueryGroupService::nodeUsage);
+    }
+
+    public QueryGroupService(
+        QueryGroupSettings settings,
+        TaskResourceTrackingService taskResourceTrackingService,
+        ThreadPool threadPool,
+        TaskManager taskManager,
+        LongSupplier timeNanosSupplier,
+        ToDoubleFunction<ResourceType> nodeUsageSupplier
+    ) {
+        this.settings = settings;
+        this.taskResourceTrackingService = taskResourceTrackingService;
+        this.taskResourceTrackingService.addTaskCompletionListener(this);
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.timeNanosSupplier = timeNanosSupplier;
+        this.nodeUsageSupplier = nodeUsageSupplier;
+    }
+
+    private static double nodeUsage(ResourceType resourceType) {
+        switch (resourceType) {
+            case CPU:
+                return ProcessProbe.getInstance().getProcessCpuPercent() / 100.0;
+            case MEMORY:
+                return JvmStats.jvmStats().getMem().getHeapUsedPercent() / 100.0;
+        }
+        throw new IllegalArgumentException("Invalid ResourceType: " + resourceType);
+    }
+
+    void doRun() {
+        Map<String, QueryGroup> queryGroups = settings.getQueryGroups();
+        queryGroupStates.keySet().retainAll(queryGroups.keySet());
+        if (queryGroups.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<CancellableTask>> tasksByQueryGroup = getTasksByQueryGroup(queryGroups);
+        for (List<CancellableTask> tasks : tasksByQueryGroup.values()) {
+            // Force-refresh usage stats of these tasks before making a cancellation decision.
+            taskResourceTrackingService.refreshResourceStats(tasks.toArray(new Task[0]));
+        }
+
+        for (QueryGroup queryGroup : queryGroups.values()) {
+            QueryGroupState state = getQueryGroupState(queryGroup);
+            List<CancellableTask> tasks = tasksByQueryGroup.getOrDefault(queryGroup.getName(), Collections.emptyList());
+            for (QueryGroupResourceUsageTracker tracker : state.trackers.values()) {
+                ResourceType resourceType = tracker.getResourceType();
+                double limit = queryGroup.getResourceLimits().getOrDefault(resourceType, Double.POSITIVE_INFINITY);
+                if (tracker.update(limit, tasks) == false) {
+                    continue;
+                }
+                if (queryGroup.getMode() == ResiliencyMode.MONITOR) {
+                    continue;
+                }
+                if (queryGroup.getMode() == ResiliencyMode.SOFT
+                    && nodeUsageSupplier.applyAsDouble(resourceType) < settings.getNodeDuressThreshold(resourceType)) {
+                    continue;
+                }
+                cancelTasks(queryGroup, state, tracker, tasks);
+            }
+        }
+    }
+
+    /**
+     * Cancels the tasks of the query group with the highest usage of the tracked resource until the remaining tasks
+     * are expected to be within the limit.
+     */
+    private void cancelTasks(
+        QueryGroup queryGroup,
+        QueryGroupState state,
+        QueryGroupResourceUsageTracker tracker,
+        List<CancellableTask> tasks
+    ) {
+        double excess = tracker.getUsage() - tracker.getLimit();
+        for (TaskCancellation taskCancellation : getTaskCancellations(state, tracker, tasks)) {
+            if (excess <= 0) {
+                break;
+            }
+            logger.warn(
+                "[{} mode] cancelling task [{}] of query group [{}] due to high resource consumption [{}]",
+                queryGroup.getMode().getName(),
+                taskCancellation.getTask().getId(),
+                queryGroup.getName(),
+                taskCancellation.getReasonString()
+            );
+            excess -= tracker.getUsage(taskCancellation.getTask());
+            taskCancellation.cancelTaskAndDescendants(taskManager);
+        }
+    }
+
+    /**
+     * Returns a list of TaskCancellations sorted by descending order of their cancellation scores.
+     */
+    List<TaskCancellation> getTaskCancellations(
+        QueryGroupState state,
+        QueryGroupResourceUsageTracker tracker,
+        List<? extends CancellableTask> tasks
+    ) {
+        List<TaskCancellation> taskCancellations = new ArrayList<>();
+        for (CancellableTask task : tasks) {
+            List<TaskCancellation.Reason> reasons = new ArrayList<>();
+            tracker.checkAndMaybeGetCancellationReason(task).ifPresent(reasons::add);
+            List<Runnable> callbacks = List.of(tracker::incrementCancellations, state.cancellations::incrementAndGet);
+            TaskCancellation taskCancellation = new TaskCancellation(task, reasons, callbacks);
+            if (taskCancellation.isEligibleForCancellation()) {
+                taskCancellations.add(taskCancellation);
+            }
+        }
+        taskCancellations.sort(Comparator.reverseOrder());
+        return taskCancellations;
+    }
+
+    /**
+     * Returns the currently running search tasks of the given query groups, keyed by query group name.
+     */
+    Map<String, List<CancellableTask>> getTasksByQueryGroup(Map<String, QueryGroup> queryGroups) {
+        return taskResourceTrackingService.getResourceAwareTasks()
+            .values()
+            .stream()
+            .filter(task -> task instanceof SearchBackpressureTask && task instanceof CancellableTask)
+            .filter(task -> queryGroups.containsKey(getQueryGroup(task)))
+            .map(CancellableTask.class::cast)
+            .collect(Collectors.groupingBy(QueryGroupService::getQueryGroup));
+    }
+
+    private static String getQueryGroup(Task task) {
+        String queryGroup = task.getHeader(QUERY_GROUP_HEADER);
+        return queryGroup == null ? "" : queryGroup;
+    }
+
+    private QueryGroupState getQueryGroupState(QueryGroup queryGroup) {
+        return queryGroupStates.computeIfAbsent(queryGroup.getName(), name -> new QueryGroupState(name, timeNanosSupplier));
+    }
+
+    @Override
+    public void onTaskCompleted(Task task) {
+        if (task instanceof SearchBackpressureTask == false || ((CancellableTask) task).isCancelled()) {
+            return;
+        }
+        QueryGroupState state = queryGroupStates.get(getQueryGroup(task));
+        if (state != null) {
+            state.completions.incrementAndGet();
+        }
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.debug("failure in query group resource usage tracking", e);
+            }
+        }, settings.getInterval(), ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() throws IOException {}
+
+    public QueryGroupStats nodeStats() {
+        Map<String, QueryGroupStats.QueryGroupStatsEntry> stats = new HashMap<>();
+        for (QueryGroup queryGroup : settings.getQueryGroups().values()) {
+            QueryGroupState state = getQueryGroupState(queryGroup);
+            Map<ResourceType, QueryGroupResourceUsageTracker.Stats> resourceStats = new EnumMap<>(ResourceType.class);
+            for (Map.Entry<ResourceType, QueryGroupResourceUsageTracker> entry : state.trackers.entrySet()) {
+                resourceStats.put(entry.getKey(), (QueryGroupResourceUsageTracker.Stats) entry.getValue().stats(Collections.emptyList()));
+            }
+            stats.put(
+                queryGroup.getName(),
+                new QueryGroupStats.QueryGroupStatsEntry(
+                    queryGroup.getMode(),
+                    state.completions.get(),
+                    state.cancellations.get(),
+                    resourceStats
+                )
+            );
+        }
+        return new QueryGroupStats(stats);
+    }
+
+    /**
+     * The usage trackers and counters of a query group on this node.
+     */
+    static final class QueryGroupState {
+        private final Map<ResourceType, QueryGroupResourceUsageTracker> trackers = new EnumMap<>(ResourceType.class);
+        private final AtomicLong completions = new AtomicLong();
+        private final AtomicLong cancellations = new AtomicLong();
+
+        QueryGroupState(String queryGroup, LongSupplier timeNanosSupplier) {
+            for (ResourceType resourceType : ResourceType.values()) {
+                trackers.put(resourceType, new QueryGroupResourceUsageTracker(queryGroup, resourceType, timeNanosSupplier));
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Settings related to query groups. The query groups themselves are defined through dynamic cluster settings, so that
+ * they are stored in the cluster metadata and can be managed with the cluster settings API:
+ * <pre>
+ * query_group.groups.alerting.mode: enforced
+ * query_group.groups.alerting.resource_limits.cpu: 0.3
+ * query_group.groups.alerting.resource_limits.memory: 0.2
+ * </pre>
+ *
+ * @opensearch.internal
+ */
+public class QueryGroupSettings {
+    private static class Defaults {
+        private static final long INTERVAL_MILLIS = 1000;
+        private static final String MODE = "soft";
+        private static final double NODE_CPU_DURESS_THRESHOLD = 0.9;
+        private static final double NODE_MEMORY_DURESS_THRESHOLD = 0.85;
+    }
+
+    private static final String QUERY_GROUPS_PREFIX = "query_group.groups.";
+
+    /**
+     * Defines the interval (in millis) at which the QueryGroupService checks the resource usage of query groups.
+     */
+    private final TimeValue interval;
+    public static final Setting<Long> SETTING_INTERVAL_MILLIS = Setting.longSetting(
+        "query_group.interval_millis",
+        Defaults.INTERVAL_MILLIS,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Defines the CPU usage threshold above which the node is considered in duress, and query groups in soft mode
+     * have their tasks cancelled when they exceed their CPU limit.
+     */
+    private volatile double nodeCpuDuressThreshold;
+    public static final Setting<Double> SETTING_NODE_CPU_DURESS_THRESHOLD = Setting.doubleSetting(
+        "query_group.node.cpu_duress_threshold",
+        Defaults.NODE_CPU_DURESS_THRESHOLD,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Defines the heap usage threshold above which the node is considered in duress, and query groups in soft mode
+     * have their tasks cancelled when they exceed their memory limit.
+     */
+    private volatile double nodeMemoryDuressThreshold;
+    public static final Setting<Double> SETTING_NODE_MEMORY_DURESS_THRESHOLD = Setting.doubleSetting(
+        "query_group.node.memory_duress_threshold",
+        Defaults.NODE_MEMORY_DURESS_THRESHOLD,
+        0.0,
+        1.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Defines how the resource limits of a query group are enforced. It can be either "monitor", "soft" or "enforced".
+     */
+    public static final Setting.AffixSetting<ResiliencyMode> SETTING_MODE = Setting.affixKeySetting(
+        QUERY_GROUPS_PREFIX,
+        "mode",
+        key -> new Setting<>(key, Defaults.MODE, ResiliencyMode::fromName, Setting.Property.Dynamic, Setting.Property.NodeScope)
+    );
+
+    /**
+     * Defines the share of the node's processors that the tasks of a query group may use.
+     */
+    public static final Setting.AffixSetting<Double> SETTING_CPU_LIMIT = newResourceLimitSetting(ResourceType.CPU);
+
+    /**
+     * Defines the share of the node's heap that the tasks of a query group may use.
+     */
+    public static final Setting.AffixSetting<Double> SETTING_MEMORY_LIMIT = newResourceLimitSetting(ResourceType.MEMORY);
+
+    private volatile Map<String, QueryGroup> queryGroups;
+
+    public QueryGroupSettings(Settings settings, ClusterSettings clusterSettings) {
+        interval = new TimeValue(SETTING_INTERVAL_MILLIS.get(settings));
+
+        nodeCpuDuressThreshold = SETTING_NODE_CPU_DURESS_THRESHOLD.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_NODE_CPU_DURESS_THRESHOLD, this::setNodeCpuDuressThreshold);
+
+        nodeMemoryDuressThreshold = SETTING_NODE_MEMORY_DURESS_THRESHOLD.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SETTING_NODE_MEMORY_DURESS_THRESHOLD, this::setNodeMemoryDuressThreshold);
+
+        queryGroups = parseQueryGroups(settings);
+        clusterSettings.addSettingsUpdateConsumer(this::setQueryGroups, List.of(SETTING_MODE, SETTING_CPU_LIMIT, SETTING_MEMORY_LIMIT));
+    }
+
+    private static Setting.AffixSetting<Double> newResourceLimitSetting(ResourceType resourceType) {
+        return Setting.affixKeySetting(
+            QUERY_GROUPS_PREFIX,
+            "resource_limits." + resourceType.getName(),
+            key -> Setting.doubleSetting(key, 1.0, 0.0, 1.0, Setting.Property.Dynamic, Setting.Property.NodeScope)
+        );
+    }
+
+    private static Setting.AffixSetting<Double> getResourceLimitSetting(ResourceType resourceType) {
+        switch (resourceType) {
+            case CPU:
+                return SETTING_CPU_LIMIT;
+            case MEMORY:
+                return SETTING_MEMORY_LIMIT;
+        }
+        throw new IllegalArgumentException("Invalid ResourceType: " + resourceType);
+    }
+
+    /**
+     * Builds the query groups defined in the given settings, keyed by name.
+     */
+    static Map<String, QueryGroup> parseQueryGroups(Settings settings) {
+        Set<String> names = new HashSet<>(SETTING_MODE.getNamespaces(settings));
+        for (ResourceType resourceType : ResourceType.values()) {
+            names.addAll(getResourceLimitSetting(resourceType).getNamespaces(settings));
+        }
+        if (names.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, QueryGroup> queryGroups = new HashMap<>();
+        for (String name : names) {
+            Map<ResourceType, Double> resourceLimits = new EnumMap<>(ResourceType.class);
+            for (ResourceType resourceType : ResourceType.values()) {
+                Setting<Double> limit = getResourceLimitSetting(resourceType).getConcreteSettingForNamespace(name);
+                if (limit.exists(settings)) {
+                    resourceLimits.put(resourceType, limit.get(settings));
+                }
+            }
+            ResiliencyMode mode = SETTING_MODE.getConcreteSettingForNamespace(name).get(settings);
+            queryGroups.put(name, new QueryGroup(name, mode, resourceLimits));
+        }
+        return Collections.unmodifiableMap(queryGroups);
+    }
+
+    public TimeValue getInterval() {
+        return interval;
+    }
+
+    public double getNodeCpuDuressThreshold() {
+        return nodeCpuDuressThreshold;
+    }
+
+    private void setNodeCpuDuressThreshold(double nodeCpuDuressThreshold) {
+        this.nodeCpuDuressThreshold = nodeCpuDuressThreshold;
+    }
+
+    public double getNodeMemoryDuressThreshold() {
+        return nodeMemoryDuressThreshold;
+    }
+
+    private void setNodeMemoryDuressThreshold(double nodeMemoryDuressThreshold) {
+        this.nodeMemoryDuressThreshold = nodeMemoryDuressThreshold;
+    }
+
+    /**
+     * Returns the node duress threshold of the given resource, see {@link ResiliencyMode#SOFT}.
+     */
+    public double getNodeDuressThreshold(ResourceType resourceType) {
+        switch (resourceType) {
+            case CPU:
+                return nodeCpuDuressThreshold;
+            case MEMORY:
+                return nodeMemoryDuressThreshold;
+        }
+        throw new IllegalArgumentException("Invalid ResourceType: " + resourceType);
+    }
+
+    /**
+     * Returns the currently defined query groups, keyed by name.
+     */
+    public Map<String, QueryGroup> getQueryGroups() {
+        return queryGroups;
+    }
+
+    private void setQueryGroups(Settings settings) {
+        this.queryGroups = parseQueryGroups(settings);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Stats related to the query groups of a node.
+ *
+ * @opensearch.internal
+ */
+public class QueryGroupStats implements ToXContentFragment, Writeable {
+    private final Map<String, QueryGroupStatsEntry> queryGroups;
+
+    public QueryGroupStats(Map<String, QueryGroupStatsEntry> queryGroups) {
+        this.queryGroups = new TreeMap<>(queryGroups);
+    }
+
+    public QueryGroupStats(StreamInput in) throws IOException {
+        this(in.readMap(StreamInput::readString, QueryGroupStatsEntry::new));
+    }
+
+    public Map<String, QueryGroupStatsEntry> getQueryGroups() {
+        return queryGroups;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("query_groups");
+        for (Map.Entry<String, QueryGroupStatsEntry> entry : queryGroups.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        return builder.endObject();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeMap(queryGroups, StreamOutput::writeString, (o, entry) -> entry.writeTo(o));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QueryGroupStats that = (QueryGroupStats) o;
+        return queryGroups.equals(that.queryGroups);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queryGroups);
+    }
+
+    /**
+     * Stats of a single query group.
+     */
+    public static class QueryGroupStatsEntry implements ToXContentObject, Writeable {
+        private final ResiliencyMode mode;
+        private final long completionCount;
+        private final long cancellationCount;
+        private final Map<ResourceType, QueryGroupResourceUsageTracker.Stats> resourceStats;
+
+        public QueryGroupStatsEntry(
+            ResiliencyMode mode,
+            long completionCount,
+            long cancellationCount,
+            Map<ResourceType, QueryGroupResourceUsageTracker.Stats> resourceStats
+        ) {
+            this.mode = mode;
+            this.completionCount = completionCount;
+            this.cancellationCount = cancellationCount;
+            this.resourceStats = new TreeMap<>(resourceStats);
+        }
+
+        public QueryGroupStatsEntry(StreamInput in) throws IOException {
+            this(
+                ResiliencyMode.fromName(in.readString()),
+                in.readVLong(),
+                in.readVLong(),
+                in.readMap(i -> ResourceType.fromName(i.readString()), QueryGroupResourceUsageTracker.Stats::new)
+            );
+        }
+
+        public ResiliencyMode getMode() {
+            return mode;
+        }
+
+        public long getCompletionCount() {
+            return completionCount;
+        }
+
+        public long getCancellationCount() {
+            return cancellationCount;
+        }
+
+        public Map<ResourceType, QueryGroupResourceUsageTracker.Stats> getResourceStats() {
+            return resourceStats;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("mode", mode.getName());
+            builder.field("completion_count", completionCount);
+            builder.field("cancellation_count", cancellationCount);
+            for (Map.Entry<ResourceType, QueryGroupResourceUsageTracker.Stats> entry : resourceStats.entrySet()) {
+                builder.field(entry.getKey().getName(), entry.getValue());
+            }
+            return builder.endObject();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(mode.getName());
+            out.writeVLong(completionCount);
+            out.writeVLong(cancellationCount);
+            out.writeMap(resourceStats, (o, type) -> o.writeString(type.getName()), (o, stats) -> stats.writeTo(o));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            QueryGroupStatsEntry that = (QueryGroupStatsEntry) o;
+            return mode == that.mode
+                && completionCount == that.completionCount
+                && cancellationCount == that.cancellationCount
+                && resourceStats.equals(that.resourceStats);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mode, completionCount, cancellationCount, resourceStats);
+        }
+    }
+}
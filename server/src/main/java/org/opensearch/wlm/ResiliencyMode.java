@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import java.util.Locale;
+
+/**
+ * Defines how the resource limits of a query group are enforced.
+ *
+ * @opensearch.internal
+ */
+public enum ResiliencyMode {
+    /**
+     * Breaches of the resource limits are only recorded in the stats.
+     */
+    MONITOR("monitor"),
+
+    /**
+     * Tasks of a query group that exceeds its resource limits are cancelled only when the node is in duress.
+     */
+    SOFT("soft"),
+
+    /**
+     * Tasks of a query group that exceeds its resource limits are always cancelled.
+     */
+    ENFORCED("enforced");
+
+    private final String name;
+
+    ResiliencyMode(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static ResiliencyMode fromName(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "monitor":
+                return MONITOR;
+            case "soft":
+                return SOFT;
+            case "enforced":
+                return ENFORCED;
+        }
+
+        throw new IllegalArgumentException("Invalid ResiliencyMode: " + name);
+    }
+}
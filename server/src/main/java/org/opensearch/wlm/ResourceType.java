@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.tasks.Task;
+
+/**
+ * The node resources whose usage can be limited per query group. The usage of a task is expressed as a fraction of
+ * the node's capacity, so that the usage of all tasks of a query group can be compared with its limit.
+ *
+ * @opensearch.internal
+ */
+public enum ResourceType {
+    /**
+     * The average share of the node's processors a task used since it started.
+     */
+    CPU("cpu") {
+        @Override
+        public double getUsage(Task task, long nowNanos) {
+            long elapsedNanos = Math.max(1, nowNanos - task.getStartTimeNanos());
+            double cpuTimeNanos = task.getTotalResourceStats().getCpuTimeInNanos();
+            return cpuTimeNanos / elapsedNanos / Runtime.getRuntime().availableProcessors();
+        }
+    },
+
+    /**
+     * The share of the heap a task allocated.
+     */
+    MEMORY("memory") {
+        @Override
+        public double getUsage(Task task, long nowNanos) {
+            long heapSizeBytes = HeapSize.BYTES;
+            return heapSizeBytes <= 0 ? 0 : (double) task.getTotalResourceStats().getMemoryInBytes() / heapSizeBytes;
+        }
+    };
+
+    private final String name;
+
+    ResourceType(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the usage of this resource by the given task as a fraction of the node's capacity.
+     */
+    public abstract double getUsage(Task task, long nowNanos);
+
+    public static ResourceType fromName(String name) {
+        for (ResourceType type : values()) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Invalid ResourceType: " + name);
+    }
+
+    private static final class HeapSize {
+        private static final long BYTES = JvmStats.jvmStats().getMem().getHeapMax().getBytes();
+    }
+}
@@ -80,11 +80,16 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
 import org.opensearch.transport.TransportStats;
+import org.opensearch.wlm.QueryGroupResourceUsageTracker;
+import org.opensearch.wlm.QueryGroupStats;
+import org.opensearch.wlm.ResiliencyMode;
+import org.opensearch.wlm.ResourceType;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -577,6 +582,7 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         deserializedAdmissionControllerStats.getRejectionCount().get(AdmissionControlActionType.INDEXING.getType())
                     );
                 }
+                assertEquals(nodeStats.getQueryGroupStats(), deserializedNodeStats.getQueryGroupStats());
             }
         }
     }
@@ -919,6 +925,35 @@ public class NodeStatsTests extends OpenSearchTestCase {
             statsList.add(stats);
             admissionControlStats = new AdmissionControlStats(statsList);
         }
+        QueryGroupStats queryGroupStats = null;
+        if (frequently()) {
+            Map<String, QueryGroupStats.QueryGroupStatsEntry> entries = new HashMap<>();
+            int numQueryGroups = randomIntBetween(0, 3);
+            for (int i = 0; i < numQueryGroups; i++) {
+                Map<ResourceType, QueryGroupResourceUsageTracker.Stats> resourceStats = new EnumMap<>(ResourceType.class);
+                for (ResourceType resourceType : ResourceType.values()) {
+                    resourceStats.put(
+                        resourceType,
+                        new QueryGroupResourceUsageTracker.Stats(
+                            randomNonNegativeLong(),
+                            randomNonNegativeLong(),
+                            randomDouble(),
+                            randomBoolean() ? randomDouble() : Double.POSITIVE_INFINITY
+                        )
+                    );
+                }
+                entries.put(
+                    randomAlphaOfLength(5) + i,
+                    new QueryGroupStats.QueryGroupStatsEntry(
+                        randomFrom(ResiliencyMode.values()),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong(),
+                        resourceStats
+                    )
+                );
+            }
+            queryGroupStats = new QueryGroupStats(entries);
+        }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
 
         WeightedRoutingStats weightedRoutingStats = null;
@@ -957,7 +992,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
             null,
             segmentReplicationRejectionStats,
             null,
-            admissionControlStats
+            admissionControlStats,
+            queryGroupStats
         );
     }
 
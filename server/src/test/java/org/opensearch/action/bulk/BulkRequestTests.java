@@ -32,6 +32,7 @@
 
 package org.opensearch.action.bulk;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.delete.DeleteRequest;
@@ -371,6 +372,20 @@ public class BulkRequestTests extends OpenSearchTestCase {
         assertEquals("value", request.sourceAsMap().get("field"));
     }
 
+    public void testBatchSizeSerialization() throws IOException {
+        BulkRequest bulkRequest = new BulkRequest().batchSize(randomIntBetween(2, 100));
+        bulkRequest.add(new IndexRequest("index").id("id").source(Requests.INDEX_CONTENT_TYPE, "field", "value"));
+
+        BulkRequest copy = copyWriteable(bulkRequest, writableRegistry(), BulkRequest::new, Version.CURRENT);
+        assertEquals(bulkRequest.batchSize(), copy.batchSize());
+        assertEquals(1, copy.requests().size());
+
+        // nodes before 2.13 don't know about the batch size, documents are processed one by one
+        copy = copyWriteable(bulkRequest, writableRegistry(), BulkRequest::new, Version.V_2_12_0);
+        assertEquals(1, copy.batchSize());
+        assertEquals(1, copy.requests().size());
+    }
+
     public void testToValidateUpsertRequestAndCASInBulkRequest() throws IOException {
         XContentType xContentType = XContentType.SMILE;
         BytesReference data;
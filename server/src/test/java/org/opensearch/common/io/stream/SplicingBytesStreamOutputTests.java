@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.io.stream;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class SplicingBytesStreamOutputTests extends OpenSearchTestCase {
+
+    private static boolean references(BytesReference bytes, byte[] array) throws IOException {
+        final BytesRefIterator iterator = bytes.iterator();
+        BytesRef slice;
+        while ((slice = iterator.next()) != null) {
+            if (slice.bytes == array) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void testSplicesLargeBytes() throws IOException {
+        final byte[] large = randomByteArrayOfLength(randomIntBetween(SplicingBytesStreamOutput.MIN_SPLICED_BYTES, 100_000));
+        final byte[] before = randomByteArrayOfLength(randomIntBetween(0, 20_000));
+        final byte[] after = randomByteArrayOfLength(randomIntBetween(0, 20_000));
+        try (SplicingBytesStreamOutput out = new SplicingBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.writeBytes(before);
+            out.spliceBytes(new BytesArray(large));
+            out.writeBytes(after);
+            assertEquals(before.length + large.length + after.length, out.size());
+            assertEquals(out.size(), out.position());
+
+            final BytesReference bytes = out.bytes();
+            assertTrue(references(bytes, large));
+            final BytesStreamOutput expected = new BytesStreamOutput();
+            expected.writeBytes(before);
+            expected.writeBytes(large);
+            expected.writeBytes(after);
+            assertEquals(expected.bytes(), bytes);
+            assertEquals(expected.bytes(), out.copyBytes());
+        }
+    }
+
+    public void testCopiesSmallBytes() throws IOException {
+        final byte[] small = randomByteArrayOfLength(randomIntBetween(1, SplicingBytesStreamOutput.MIN_SPLICED_BYTES - 1));
+        try (SplicingBytesStreamOutput out = new SplicingBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.writeByte((byte) 1);
+            out.spliceBytes(new BytesArray(small));
+            assertFalse(references(out.bytes(), small));
+            assertEquals(small.length + 1, out.size());
+            // nothing was spliced, seeking is still possible
+            out.seek(1);
+            assertEquals(new BytesArray(new byte[] { 1 }), out.bytes());
+        }
+    }
+
+    public void testSeekFailsUntilReset() throws IOException {
+        try (SplicingBytesStreamOutput out = new SplicingBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.spliceBytes(new BytesArray(randomByteArrayOfLength(SplicingBytesStreamOutput.MIN_SPLICED_BYTES)));
+            expectThrows(IllegalStateException.class, () -> out.seek(0));
+            out.reset();
+            assertEquals(0, out.size());
+            assertEquals(0, out.bytes().length());
+            out.seek(10);
+            assertEquals(10, out.size());
+        }
+    }
+
+    public void testCopyBytesIncludesSplicedBytes() throws IOException {
+        try (SplicingBytesStreamOutput out = new SplicingBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            final BytesStreamOutput expected = new BytesStreamOutput();
+            final int numParts = randomIntBetween(1, 10);
+            final byte[][] splicedArrays = new byte[numParts][];
+            for (int i = 0; i < numParts; i++) {
+                final byte[] written = randomByteArrayOfLength(randomIntBetween(0, 5_000));
+                out.writeBytes(written);
+                expected.writeBytes(written);
+                splicedArrays[i] = randomByteArrayOfLength(randomIntBetween(SplicingBytesStreamOutput.MIN_SPLICED_BYTES, 10_000));
+                out.spliceBytes(new BytesArray(splicedArrays[i]));
+                expected.writeBytes(splicedArrays[i]);
+            }
+            final BytesReference copy = out.copyBytes();
+            assertEquals(expected.bytes(), copy);
+            assertEquals(out.size(), copy.length());
+            for (byte[] array : splicedArrays) {
+                assertFalse(references(copy, array));
+            }
+            // the copy doesn't change when the spliced bytes do
+            splicedArrays[0][0]++;
+            assertEquals(expected.bytes(), copy);
+        }
+    }
+
+    public void testSkipFailsOnceBytesAreSpliced() throws IOException {
+        try (SplicingBytesStreamOutput out = new SplicingBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.skip(10);
+            assertEquals(10, out.size());
+            out.spliceBytes(new BytesArray(randomByteArrayOfLength(SplicingBytesStreamOutput.MIN_SPLICED_BYTES)));
+            expectThrows(IllegalStateException.class, () -> out.skip(10));
+            assertEquals(10 + SplicingBytesStreamOutput.MIN_SPLICED_BYTES, out.size());
+        }
+    }
+
+    public void testRawFieldsAreSpliced() throws IOException {
+        final XContentBuilder source = MediaTypeRegistry.contentBuilder(XContentType.JSON).startObject();
+        for (int i = 0; i < 100; i++) {
+            source.field("field_" + i, randomAlphaOfLength(20));
+        }
+        final byte[] sourceBytes = BytesReference.toBytes(BytesReference.bytes(source.endObject()));
+
+        try (SplicingBytesStreamOutput out = new SplicingBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            final XContentBuilder builder = new XContentBuilder(XContentType.JSON.xContent(), Streams.flushOnCloseStream(out));
+            builder.startObject().field("_id", "1");
+            XContentHelper.writeRawField("_source", new BytesArray(sourceBytes), XContentType.JSON, builder, ToXContent.EMPTY_PARAMS);
+            builder.field("_score", 1.0f).endObject();
+            final BytesReference bytes = BytesReference.bytes(builder);
+            assertTrue(references(bytes, sourceBytes));
+
+            final Map<String, Object> map = XContentHelper.convertToMap(bytes, true, XContentType.JSON).v2();
+            assertEquals("1", map.get("_id"));
+            assertEquals(XContentHelper.convertToMap(new BytesArray(sourceBytes), true, XContentType.JSON).v2(), map.get("_source"));
+            assertEquals(1.0, map.get("_score"));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.lucene.uid;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.mapper.VersionFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class DocIdLookupCacheTests extends OpenSearchTestCase {
+
+    private static Document newDocument(String id, long version, long seqNo) {
+        Document doc = new Document();
+        doc.add(new Field(IdFieldMapper.NAME, id, IdFieldMapper.Defaults.FIELD_TYPE));
+        doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, version));
+        doc.add(new NumericDocValuesField(SeqNoFieldMapper.NAME, seqNo));
+        doc.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 1));
+        return doc;
+    }
+
+    private static void index(IndexWriter writer, String id, long version, long seqNo) throws IOException {
+        writer.updateDocument(new Term(IdFieldMapper.NAME, id), newDocument(id, version, seqNo));
+    }
+
+    public void testServesLiveCopiesFromTheCache() throws Exception {
+        IndexWriterConfig config = new IndexWriterConfig(Lucene.STANDARD_ANALYZER).setMergePolicy(NoMergePolicy.INSTANCE);
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config)) {
+            for (int i = 0; i < 10; i++) {
+                index(writer, Integer.toString(i), 1, i);
+                // one segment per document
+                writer.flush();
+            }
+            DocIdLookupCache cache = new DocIdLookupCache(1024 * 1024);
+            Term uid = new Term(IdFieldMapper.NAME, "3");
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                DocIdAndVersion first = cache.loadDocIdAndVersion(reader, uid, true);
+                assertThat(first.version, equalTo(1L));
+                assertThat(first.seqNo, equalTo(3L));
+                assertEquals(1, cache.misses());
+                assertEquals(0, cache.hits());
+
+                DocIdAndVersion second = cache.loadDocIdAndVersion(reader, uid, randomBoolean());
+                assertEquals(1, cache.hits());
+                assertSame(first.reader, second.reader);
+                assertEquals(first.docId, second.docId);
+                assertEquals(first.version, second.version);
+
+                DocIdAndSeqNo seqNo = cache.loadDocIdAndSeqNo(reader, uid);
+                assertEquals(2, cache.hits());
+                assertThat(seqNo.seqNo, equalTo(3L));
+                assertSame(first.reader, seqNo.context.reader());
+
+                assertThat(cache.loadDocIdAndVersion(reader, new Term(IdFieldMapper.NAME, "missing"), true), nullValue());
+                assertEquals(1, cache.count());
+            }
+        }
+    }
+
+    public void testOnlySearchesNewSegmentsForStaleEntries() throws Exception {
+        IndexWriterConfig config = new IndexWriterConfig(Lucene.STANDARD_ANALYZER).setMergePolicy(NoMergePolicy.INSTANCE);
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config)) {
+            index(writer, "1", 1, 0);
+            index(writer, "2", 1, 1);
+            DocIdLookupCache cache = new DocIdLookupCache(1024 * 1024);
+            Term uid = new Term(IdFieldMapper.NAME, "1");
+            DirectoryReader reader = DirectoryReader.open(writer);
+            assertThat(cache.loadDocIdAndVersion(reader, uid, true).version, equalTo(1L));
+
+            index(writer, "1", 2, 2);
+            reader = VersionsTests.reopen(reader);
+            DocIdAndVersion updated = cache.loadDocIdAndVersion(reader, uid, true);
+            assertThat(updated.version, equalTo(2L));
+            assertThat(updated.seqNo, equalTo(2L));
+            assertEquals(1, cache.partialLookups());
+            assertThat(cache.loadDocIdAndVersion(reader, uid, true).version, equalTo(2L));
+            assertEquals(1, cache.hits());
+
+            writer.forceMerge(1);
+            reader = VersionsTests.reopen(reader);
+            assertThat(cache.loadDocIdAndVersion(reader, uid, true).version, equalTo(2L));
+            assertEquals(2, cache.partialLookups());
+
+            writer.deleteDocuments(uid);
+            reader = VersionsTests.reopen(reader);
+            assertThat(cache.loadDocIdAndVersion(reader, uid, true), nullValue());
+            assertEquals(3, cache.partialLookups());
+            assertEquals(1, cache.misses());
+            assertEquals(0, cache.count());
+            reader.close();
+        }
+    }
+
+    public void testMatchesTheResolver() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER))) {
+            DocIdLookupCache cache = new DocIdLookupCache(randomFrom(512L, 1024L * 1024));
+            int numIds = randomIntBetween(1, 50);
+            long[] versions = new long[numIds];
+            long seqNo = 0;
+            DirectoryReader reader = DirectoryReader.open(writer);
+            int iterations = scaledRandomIntBetween(10, 100);
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                int numOps = randomIntBetween(1, 20);
+                for (int op = 0; op < numOps; op++) {
+                    int id = randomIntBetween(0, numIds - 1);
+                    if (rarely()) {
+                        writer.deleteDocuments(new Term(IdFieldMapper.NAME, Integer.toString(id)));
+                        versions[id] = 0;
+                    } else {
+                        index(writer, Integer.toString(id), ++versions[id], seqNo++);
+                    }
+                }
+                if (rarely()) {
+                    writer.forceMerge(randomIntBetween(1, 3));
+                }
+                DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+                if (newReader != null) {
+                    reader.close();
+                    reader = newReader;
+                }
+                for (int lookup = 0; lookup < numIds; lookup++) {
+                    Term uid = new Term(IdFieldMapper.NAME, Integer.toString(randomIntBetween(0, numIds - 1)));
+                    DocIdAndVersion expected = VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, uid, true);
+                    DocIdAndVersion actual = cache.loadDocIdAndVersion(reader, uid, true);
+                    if (expected == null) {
+                        assertThat(actual, nullValue());
+                    } else {
+                        assertSame(expected.reader, actual.reader);
+                        assertEquals(expected.docId, actual.docId);
+                        assertEquals(expected.docBase, actual.docBase);
+                        assertEquals(expected.version, actual.version);
+                        assertEquals(expected.seqNo, actual.seqNo);
+                        assertEquals(expected.primaryTerm, actual.primaryTerm);
+                    }
+                }
+            }
+            reader.close();
+        }
+    }
+
+    public void testNeverDuplicatesLiveDocuments() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER))) {
+            DocIdLookupCache cache = new DocIdLookupCache(1024 * 1024);
+            int numIds = randomIntBetween(1, 20);
+            long[] versions = new long[numIds];
+            long seqNo = 0;
+            DirectoryReader reader = DirectoryReader.open(writer);
+            int iterations = scaledRandomIntBetween(20, 100);
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                // the readers that hold all the writes: the last refreshed one, and the one refreshed after a merge, which is
+                // seen first by the cache half of the time, like a lookup on an older reader that races with a refresh
+                List<DirectoryReader> readers = new ArrayList<>();
+                readers.add(reader);
+                if (randomBoolean()) {
+                    writer.forceMerge(randomIntBetween(1, 3));
+                    DirectoryReader merged = DirectoryReader.openIfChanged(reader);
+                    if (merged != null) {
+                        readers.add(randomIntBetween(0, 1), merged);
+                    }
+                }
+                for (int id = 0; id < numIds; id++) {
+                    if (randomBoolean()) {
+                        continue;
+                    }
+                    // like the engine, append the document if it was not found and update it otherwise
+                    Term uid = new Term(IdFieldMapper.NAME, Integer.toString(id));
+                    DocIdAndVersion found = cache.loadDocIdAndVersion(randomFrom(readers), uid, true);
+                    assertEquals(versions[id], found == null ? 0 : found.version);
+                    Document doc = newDocument(Integer.toString(id), ++versions[id], seqNo++);
+                    if (found == null) {
+                        writer.addDocument(doc);
+                    } else {
+                        writer.updateDocument(uid, doc);
+                    }
+                }
+                DirectoryReader newReader = DirectoryReader.openIfChanged(readers.get(readers.size() - 1));
+                if (newReader != null) {
+                    for (DirectoryReader previous : readers) {
+                        previous.close();
+                    }
+                    reader = newReader;
+                } else {
+                    for (DirectoryReader previous : readers.subList(0, readers.size() - 1)) {
+                        previous.close();
+                    }
+                    reader = readers.get(readers.size() - 1);
+                }
+                IndexSearcher searcher = new IndexSearcher(reader);
+                for (int id = 0; id < numIds; id++) {
+                    int liveDocs = searcher.count(new TermQuery(new Term(IdFieldMapper.NAME, Integer.toString(id))));
+                    assertThat("live docs of [" + id + "]", liveDocs, equalTo(versions[id] == 0 ? 0 : 1));
+                }
+            }
+            reader.close();
+        }
+    }
+}
@@ -55,11 +55,17 @@ import java.util.function.Function;
 import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
 
 public class BigArraysTests extends OpenSearchTestCase {
 
     private BigArrays randombigArrays() {
+        if (randomBoolean()) {
+            // only arrays that are checked against the breaker are allocated off-heap
+            Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true).build();
+            return new MockBigArrays(new MockPageCacheRecycler(settings), new NoneCircuitBreakerService()).withCircuitBreaking();
+        }
         return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
     }
 
@@ -398,6 +404,86 @@ public class BigArraysTests extends OpenSearchTestCase {
         }
     }
 
+    public void testOffHeapArrays() {
+        Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true).build();
+        BigArrays bigArrays = new BigArrays(new MockPageCacheRecycler(settings), new NoneCircuitBreakerService(), CircuitBreaker.REQUEST);
+        try (
+            LongArray longArray = bigArrays.newLongArray(PageCacheRecycler.LONG_PAGE_SIZE + 1);
+            ByteArray byteArray = bigArrays.newByteArray(PageCacheRecycler.BYTE_PAGE_SIZE + 1)
+        ) {
+            assertThat(longArray, instanceOf(BigLongArray.class));
+            assertThat(byteArray, instanceOf(BigByteArray.class));
+        }
+
+        BigArrays circuitBreaking = bigArrays.withCircuitBreaking();
+        final int longSize = randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 3 * PageCacheRecycler.LONG_PAGE_SIZE);
+        LongArray longArray = circuitBreaking.newLongArray(longSize);
+        assertThat(longArray, instanceOf(OffHeapLongArray.class));
+        final long[] longs = new long[longSize];
+        for (int i = 0; i < longSize; i++) {
+            longs[i] = randomLong();
+            longArray.set(i, longs[i]);
+        }
+        longArray.increment(longSize - 1, 42);
+        longs[longSize - 1] += 42;
+        longArray = circuitBreaking.grow(longArray, 2L * longSize);
+        assertThat(longArray, instanceOf(OffHeapLongArray.class));
+        for (int i = 0; i < longSize; i++) {
+            assertEquals(longs[i], longArray.get(i));
+        }
+        final long fromIndex = randomIntBetween(0, longSize);
+        final long toIndex = randomLongBetween(fromIndex, longArray.size());
+        longArray.fill(fromIndex, toIndex, 7);
+        for (long i = fromIndex; i < toIndex; i++) {
+            assertEquals(7, longArray.get(i));
+        }
+        longArray.close();
+
+        final int byteSize = randomIntBetween(PageCacheRecycler.BYTE_PAGE_SIZE + 1, 3 * PageCacheRecycler.BYTE_PAGE_SIZE);
+        try (ByteArray byteArray = circuitBreaking.newByteArray(byteSize)) {
+            assertThat(byteArray, instanceOf(OffHeapByteArray.class));
+            assertFalse(byteArray.hasArray());
+            final byte[] bytes = randomByteArrayOfLength(byteSize);
+            final int offset = randomIntBetween(0, byteSize - 1);
+            byteArray.set(0, bytes, 0, offset);
+            byteArray.set(offset, bytes, offset, byteSize - offset);
+            for (int i = 0; i < byteSize; i++) {
+                assertEquals(bytes[i], byteArray.get(i));
+            }
+            final int length = randomIntBetween(0, byteSize - offset);
+            final BytesRef ref = new BytesRef();
+            assertTrue(byteArray.get(offset, length, ref));
+            assertEquals(new BytesRef(bytes, offset, length), ref);
+
+            // compares in place, across pages
+            final OffHeapByteArray offHeapArray = (OffHeapByteArray) byteArray;
+            final byte[] copy = new byte[length + 2];
+            System.arraycopy(bytes, offset, copy, 1, length);
+            assertTrue(offHeapArray.bytesEquals(offset, new BytesRef(copy, 1, length)));
+            if (length > 0) {
+                copy[1 + randomIntBetween(0, length - 1)]++;
+                assertFalse(offHeapArray.bytesEquals(offset, new BytesRef(copy, 1, length)));
+            }
+        }
+    }
+
+    public void testOffHeapArraysAreAccountedAgainstBreaker() {
+        HierarchyCircuitBreakerService hcbs = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true).build();
+        BigArrays bigArrays = new BigArrays(new MockPageCacheRecycler(settings), hcbs, CircuitBreaker.REQUEST).withCircuitBreaking();
+        final long size = randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 10 * PageCacheRecycler.LONG_PAGE_SIZE);
+        LongArray array = bigArrays.newLongArray(size);
+        assertEquals(OffHeapLongArray.estimateRamBytes(size), hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed());
+        array = bigArrays.resize(array, 2 * size);
+        assertEquals(OffHeapLongArray.estimateRamBytes(2 * size), hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed());
+        array.close();
+        assertEquals(0, hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed());
+    }
+
     public void testEstimatedBytesSameAsActualBytes() throws Exception {
         final int maxSize = 1 << scaledRandomIntBetween(15, 22);
         final long size = randomIntBetween((1 << 14) + 1, maxSize);
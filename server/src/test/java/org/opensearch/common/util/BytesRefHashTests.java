@@ -37,6 +37,7 @@ import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
 import org.opensearch.common.hash.T1ha1;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -56,6 +57,10 @@ public class BytesRefHashTests extends OpenSearchTestCase {
     }
 
     private void newHash() {
+        newHash(randomBigArrays());
+    }
+
+    private void newHash(BigArrays bigArrays) {
         if (hash != null) {
             hash.close();
         }
@@ -64,7 +69,7 @@ public class BytesRefHashTests extends OpenSearchTestCase {
             randomIntBetween(1, 100),      // random capacity
             0.6f + randomFloat() * 0.39f,  // random load factor to verify collision resolution
             key -> T1ha1.hash(key.bytes, key.offset, key.length, seed),
-            randomBigArrays()
+            bigArrays
         );
     }
 
@@ -75,6 +80,18 @@ public class BytesRefHashTests extends OpenSearchTestCase {
     }
 
     public void testFuzzy() {
+        assertFuzzy();
+    }
+
+    public void testFuzzyOffHeap() {
+        // keys are compared in place in off-heap pages, the mock big arrays would wrap them
+        Settings settings = Settings.builder().put(PageCacheRecycler.OFF_HEAP_SETTING.getKey(), true).build();
+        BigArrays bigArrays = new BigArrays(new MockPageCacheRecycler(settings), new NoneCircuitBreakerService(), CircuitBreaker.REQUEST);
+        newHash(bigArrays.withCircuitBreaking());
+        assertFuzzy();
+    }
+
+    private void assertFuzzy() {
         Map<BytesRef, Long> reference = new HashMap<>();
         BytesRef[] keys = Stream.generate(() -> new BytesRef(randomAlphaOfLength(20)))
             .limit(randomIntBetween(1000, 2000))
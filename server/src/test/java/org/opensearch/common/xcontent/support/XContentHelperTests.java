@@ -32,9 +32,11 @@
 
 package org.opensearch.common.xcontent.support;
 
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -44,11 +46,14 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.RandomObjects;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -87,6 +92,88 @@ public class XContentHelperTests extends OpenSearchTestCase {
         assertThat(content, Matchers.equalTo(expected));
     }
 
+    public void testStreamingUpdateMatchesMapUpdate() throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final BytesReference source = RandomObjects.randomSource(random(), xContentType);
+        final Map<String, Object> changes = randomChanges(XContentHelper.convertToMap(source, true, xContentType).v2());
+        final boolean checkUpdatesAreUnequal = randomBoolean();
+
+        final BytesReference updated;
+        final boolean modified;
+        try (
+            XContentParser parser = createParser(xContentType.xContent(), source);
+            XContentBuilder builder = MediaTypeRegistry.contentBuilder(xContentType)
+        ) {
+            modified = XContentHelper.update(parser, builder, changes, checkUpdatesAreUnequal);
+            updated = BytesReference.bytes(builder);
+        }
+
+        final Map<String, Object> expected = XContentHelper.convertToMap(source, true, xContentType).v2();
+        assertEquals(XContentHelper.update(expected, changes, checkUpdatesAreUnequal), modified);
+        // ordered maps print their entries in order
+        assertEquals(expected.toString(), XContentHelper.convertToMap(updated, true, xContentType).v2().toString());
+    }
+
+    public void testStreamingUpdateDetectsNoop() throws IOException {
+        final BytesReference source = BytesReference.bytes(
+            JsonXContent.contentBuilder()
+                .startObject()
+                .field("status", "open")
+                .startObject("host")
+                .field("name", "web-1")
+                .array("ports", 80, 443)
+                .endObject()
+                .field("score", 7.5)
+                .endObject()
+        );
+        final Map<String, Object> host = getMap("ports", getList(80, 443));
+        assertFalse(streamingUpdate(source, getMap("status", "open", "host", host), true).v1());
+        assertTrue(streamingUpdate(source, getMap("status", "open", "host", host), false).v1());
+        assertTrue(streamingUpdate(source, getMap("host", getMap("ports", getList(80))), true).v1());
+        assertTrue(streamingUpdate(source, getMap("host", getMap("os", "linux")), true).v1());
+
+        final Tuple<Boolean, String> updated = streamingUpdate(source, getMap("status", "closed", "host", getMap("os", "linux")), true);
+        assertTrue(updated.v1());
+        assertEquals(
+            "{\"status\":\"closed\",\"host\":{\"name\":\"web-1\",\"ports\":[80,443],\"os\":\"linux\"},\"score\":7.5}",
+            updated.v2()
+        );
+    }
+
+    private Tuple<Boolean, String> streamingUpdate(BytesReference source, Map<String, Object> changes, boolean checkUpdatesAreUnequal)
+        throws IOException {
+        try (
+            XContentParser parser = createParser(JsonXContent.jsonXContent, source);
+            XContentBuilder builder = JsonXContent.contentBuilder()
+        ) {
+            final boolean modified = XContentHelper.update(parser, builder, changes, checkUpdatesAreUnequal);
+            return Tuple.tuple(modified, BytesReference.bytes(builder).utf8ToString());
+        }
+    }
+
+    private static Map<String, Object> randomChanges(Map<String, Object> source) {
+        final Map<String, Object> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            if (randomBoolean()) {
+                continue;
+            }
+            if (entry.getValue() instanceof Map && randomBoolean()) {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> inner = (Map<String, Object>) entry.getValue();
+                changes.put(entry.getKey(), randomChanges(inner));
+            } else if (randomBoolean()) {
+                changes.put(entry.getKey(), entry.getValue());
+            } else {
+                changes.put(entry.getKey(), randomAlphaOfLength(5));
+            }
+        }
+        final int numNewFields = randomIntBetween(0, 2);
+        for (int i = 0; i < numNewFields; i++) {
+            changes.put("new_" + i, randomBoolean() ? randomLong() : Collections.singletonMap("inner", randomAlphaOfLength(5)));
+        }
+        return changes;
+    }
+
     public void testToXContent() throws IOException {
         final XContentType xContentType = randomFrom(XContentType.values());
         final ToXContent toXContent;
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.opensearch.common.xcontent.XContentHelper.convertToMap;
+import static org.opensearch.core.xcontent.XContentHelper.toXContent;
+
+/**
+ * Runs the filtering test cases against {@link XContentMapValues#streamingFilter(String[], String[])}, and checks that it keeps the
+ * same properties as the filtering of maps.
+ */
+public class XContentMapValuesStreamingFilterTests extends AbstractFilteringTestCase {
+
+    private static final String[] KEYS = { "a", "b", "ab", "a.b", "c" };
+    private static final String[] PATTERNS = { "a", "b", "a.b", "a*", "*b", "*.b", "b.c", "a.*.c", "c", "*" };
+
+    @Override
+    protected void testFilter(Builder expected, Builder actual, Set<String> includes, Set<String> excludes) throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final String[] sourceIncludes = includes == null ? null : includes.toArray(new String[0]);
+        final String[] sourceExcludes = excludes == null ? null : excludes.toArray(new String[0]);
+        final ToXContentObject toXContent = (builder, params) -> actual.apply(builder);
+        final BytesReference source = toXContent(toXContent, xContentType, randomBoolean());
+        assertEquals(
+            "Filtered source must be equal to the expected source",
+            toMap(expected, xContentType),
+            convertToMap(streamingFilter(source, xContentType, sourceIncludes, sourceExcludes), true, xContentType).v2()
+        );
+    }
+
+    @Override
+    public void testSimpleArrayOfObjectsExclusive() throws Exception {
+        // like the filtering of maps, empty arrays are preserved unless they are explicitly excluded
+        testFilter(SIMPLE_ARRAY_OF_OBJECTS_EXCLUSIVE, SAMPLE, emptySet(), singleton("authors"));
+    }
+
+    public void testKeepsTheOrderOfProperties() throws IOException {
+        final BytesReference source = BytesReference.bytes(
+            MediaTypeRegistry.contentBuilder(XContentType.JSON)
+                .startObject()
+                .field("z", 1)
+                .field("b", 2)
+                .startObject("m")
+                .field("y", 3)
+                .field("x", 4)
+                .endObject()
+                .field("a", 5)
+                .endObject()
+        );
+        final BytesReference filtered = streamingFilter(source, XContentType.JSON, new String[] { "z", "m.*", "a" }, null);
+        assertEquals("{\"z\":1,\"m\":{\"y\":3,\"x\":4},\"a\":5}", filtered.utf8ToString());
+    }
+
+    public void testMatchesFilteringOfMaps() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            final Map<String, Object> map = randomObject(3);
+            final String[] includes = randomPatterns();
+            final String[] excludes = randomPatterns();
+            final XContentType xContentType = randomFrom(XContentType.values());
+            final BytesReference source = BytesReference.bytes(MediaTypeRegistry.contentBuilder(xContentType).map(map));
+            assertEquals(
+                "filtering " + map + " with includes " + String.join(",", includes) + " and excludes " + String.join(",", excludes),
+                XContentMapValues.filter(map, includes, excludes),
+                convertToMap(streamingFilter(source, xContentType, includes, excludes), true, xContentType).v2()
+            );
+        }
+    }
+
+    private static BytesReference streamingFilter(BytesReference source, XContentType xContentType, String[] includes, String[] excludes)
+        throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source,
+                xContentType
+            );
+            XContentBuilder builder = MediaTypeRegistry.contentBuilder(xContentType)
+        ) {
+            XContentMapValues.streamingFilter(includes, excludes).accept(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    private static String[] randomPatterns() {
+        final String[] patterns = new String[randomIntBetween(0, 2)];
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = randomFrom(PATTERNS);
+        }
+        return patterns;
+    }
+
+    private static Map<String, Object> randomObject(int depth) {
+        final Map<String, Object> map = new HashMap<>();
+        final int size = randomIntBetween(0, KEYS.length);
+        for (int i = 0; i < size; i++) {
+            map.put(randomFrom(KEYS), randomValue(depth - 1));
+        }
+        return map;
+    }
+
+    private static Object randomValue(int depth) {
+        switch (depth <= 0 ? 0 : randomIntBetween(0, 2)) {
+            case 1:
+                return randomObject(depth);
+            case 2:
+                final List<Object> list = new ArrayList<>();
+                final int size = randomIntBetween(0, 3);
+                for (int i = 0; i < size; i++) {
+                    list.add(randomValue(depth - 1));
+                }
+                return list;
+            default:
+                return randomBoolean() ? randomAlphaOfLength(3) : randomInt(10);
+        }
+    }
+
+    private static Map<String, Object> toMap(Builder test, XContentType xContentType) throws IOException {
+        final ToXContentObject toXContent = (builder, params) -> test.apply(builder);
+        return convertToMap(toXContent(toXContent, xContentType, false), true, xContentType).v2();
+    }
+}
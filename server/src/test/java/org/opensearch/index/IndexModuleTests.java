@@ -261,7 +261,8 @@ public class IndexModuleTests extends OpenSearchTestCase {
             translogFactorySupplier,
             () -> IndexSettings.DEFAULT_REFRESH_INTERVAL,
             () -> IndexSettings.DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL,
-            DefaultRecoverySettings.INSTANCE
+            DefaultRecoverySettings.INSTANCE,
+            null
         );
     }
 
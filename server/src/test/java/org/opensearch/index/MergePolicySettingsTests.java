@@ -533,6 +533,70 @@ public class MergePolicySettingsTests extends OpenSearchTestCase {
         assertEquals(indexSettings.getMergePolicy(true).getNoCFSRatio(), 0.1, 0.0);
     }
 
+    public void testTimeOrderedMergePolicy() throws IOException {
+        IndexSettings indexSettings = indexSettings(
+            Settings.builder()
+                .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIME_ORDERED.getValue())
+                .build()
+        );
+        assertTrue(indexSettings.getMergePolicy(false) instanceof TimeOrderedMergePolicy);
+        assertTrue(indexSettings.getMergePolicy(true) instanceof TimeOrderedMergePolicy);
+        assertEquals(
+            TimeOrderedMergePolicyProvider.DEFAULT_TIMESTAMP_FIELD,
+            ((TimeOrderedMergePolicy) indexSettings.getMergePolicy(true)).getTimestampField()
+        );
+
+        // the time series indices of the node use the time ordered policy
+        indexSettings = new IndexSettings(
+            newIndexMeta("test", Settings.EMPTY),
+            Settings.builder()
+                .put(IndexSettings.TIME_SERIES_INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIME_ORDERED.getValue())
+                .build()
+        );
+        assertTrue(indexSettings.getMergePolicy(false) instanceof OpenSearchTieredMergePolicy);
+        assertTrue(indexSettings.getMergePolicy(true) instanceof TimeOrderedMergePolicy);
+
+        indexSettings = indexSettings(
+            Settings.builder()
+                .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), "time_ordered")
+                .put(TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_TIMESTAMP_FIELD_SETTING.getKey(), "event.created")
+                .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+                .build()
+        );
+        assertTrue(indexSettings.getMergePolicy(true) instanceof NoMergePolicy);
+    }
+
+    public void testTimeOrderedMergePolicySettingsUpdate() throws IOException {
+        IndexSettings indexSettings = indexSettings(
+            Settings.builder()
+                .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIME_ORDERED.getValue())
+                .build()
+        );
+        TimeOrderedMergePolicy mergePolicy = (TimeOrderedMergePolicy) indexSettings.getMergePolicy(true);
+        assertEquals(LogByteSizeMergePolicyProvider.DEFAULT_MERGE_FACTOR, mergePolicy.getMergeFactor());
+        assertEquals(LogByteSizeMergePolicyProvider.DEFAULT_MIN_MERGE.getBytes(), mergePolicy.getMinMergeBytes());
+        assertEquals(LogByteSizeMergePolicyProvider.DEFAULT_MAX_MERGED_SEGMENT.getBytes(), mergePolicy.getMaxMergedSegmentBytes());
+        assertEquals(0.1, mergePolicy.getNoCFSRatio(), 0.0);
+
+        indexSettings.updateIndexMetadata(
+            newIndexMeta(
+                "index",
+                Settings.builder()
+                    .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), "time_ordered")
+                    .put(TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_MERGE_FACTOR_SETTING.getKey(), 4)
+                    .put(TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MERGE_POLICY_MIN_MERGE_SETTING.getKey(), "1mb")
+                    .put(TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_MAX_MERGE_SEGMENT_SETTING.getKey(), "1gb")
+                    .put(TimeOrderedMergePolicyProvider.INDEX_TIME_ORDERED_NO_CFS_RATIO_SETTING.getKey(), "true")
+                    .build()
+            )
+        );
+        mergePolicy = (TimeOrderedMergePolicy) indexSettings.getMergePolicy(true);
+        assertEquals(4, mergePolicy.getMergeFactor());
+        assertEquals(new ByteSizeValue(1, ByteSizeUnit.MB).getBytes(), mergePolicy.getMinMergeBytes());
+        assertEquals(new ByteSizeValue(1, ByteSizeUnit.GB).getBytes(), mergePolicy.getMaxMergedSegmentBytes());
+        assertEquals(1.0, mergePolicy.getNoCFSRatio(), 0.0);
+    }
+
     public Settings build(String value) {
         return Settings.builder().put(TieredMergePolicyProvider.INDEX_COMPOUND_FORMAT_SETTING.getKey(), value).build();
     }
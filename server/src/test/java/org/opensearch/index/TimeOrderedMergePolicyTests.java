@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.SerialMergeScheduler;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class TimeOrderedMergePolicyTests extends OpenSearchTestCase {
+
+    private static final String TIMESTAMP_FIELD = "@timestamp";
+
+    /**
+     * Writes one segment per range of timestamps, in the given order.
+     */
+    private static void writeSegments(Directory directory, long[] rangeStarts, boolean withoutTimestamps) throws IOException {
+        final IndexWriterConfig config = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE)
+            .setUseCompoundFile(randomBoolean());
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (long start : rangeStarts) {
+                for (long timestamp = start; timestamp < start + 10; timestamp++) {
+                    final Document document = new Document();
+                    document.add(new StringField("_id", Long.toString(timestamp), StringField.Store.NO));
+                    document.add(new LongPoint(TIMESTAMP_FIELD, timestamp));
+                    writer.addDocument(document);
+                }
+                writer.flush();
+            }
+            if (withoutTimestamps) {
+                final Document document = new Document();
+                document.add(new StringField("_id", "no-timestamp", StringField.Store.NO));
+                writer.addDocument(document);
+                writer.flush();
+            }
+        }
+    }
+
+    private static IndexWriter newWriter(Directory directory, int mergeFactor) throws IOException {
+        final TimeOrderedMergePolicy mergePolicy = new TimeOrderedMergePolicy(TIMESTAMP_FIELD);
+        mergePolicy.setMergeFactor(mergeFactor);
+        final IndexWriterConfig config = new IndexWriterConfig().setMergePolicy(mergePolicy)
+            .setMergeScheduler(new SerialMergeScheduler());
+        return new IndexWriter(directory, config);
+    }
+
+    /**
+     * Returns the ranges of timestamps of the segments of the index, ordered by their smallest timestamp.
+     */
+    private static List<long[]> segmentRanges(Directory directory) throws IOException {
+        final List<long[]> ranges = new ArrayList<>();
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                final PointValues values = leaf.reader().getPointValues(TIMESTAMP_FIELD);
+                if (values != null) {
+                    ranges.add(
+                        new long[] {
+                            LongPoint.decodeDimension(values.getMinPackedValue(), 0),
+                            LongPoint.decodeDimension(values.getMaxPackedValue(), 0) }
+                    );
+                }
+            }
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        return ranges;
+    }
+
+    private static void assertRanges(List<long[]> ranges, long[]... expected) {
+        assertEquals(expected.length, ranges.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], ranges.get(i));
+        }
+    }
+
+    public void testMergesSegmentsWithAdjacentRanges() throws IOException {
+        try (Directory directory = newDirectory()) {
+            // the segments of two sources of documents are interleaved in the index
+            writeSegments(directory, new long[] { 0, 100, 10, 110, 20, 120 }, false);
+            try (IndexWriter writer = newWriter(directory, 3)) {
+                writer.maybeMerge();
+                writer.commit();
+            }
+            assertRanges(segmentRanges(directory), new long[] { 0, 29 }, new long[] { 100, 129 });
+        }
+    }
+
+    public void testForceMergeKeepsRangesApart() throws IOException {
+        try (Directory directory = newDirectory()) {
+            writeSegments(directory, new long[] { 200, 0, 100, 210, 10, 110, 220, 20, 120 }, true);
+            try (IndexWriter writer = newWriter(directory, 10)) {
+                writer.forceMerge(3);
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(3, reader.leaves().size());
+                assertEquals(91, reader.numDocs());
+            }
+            // the segment without timestamps is merged with the most recent ones
+            assertRanges(segmentRanges(directory), new long[] { 0, 29 }, new long[] { 100, 129 }, new long[] { 200, 229 });
+        }
+    }
+
+    public void testForceMergeDeletesRewritesSegmentsOnTheirOwn() throws IOException {
+        try (Directory directory = newDirectory()) {
+            writeSegments(directory, new long[] { 0, 100, 10 }, false);
+            try (IndexWriter writer = newWriter(directory, 10)) {
+                writer.deleteDocuments(new Term("_id", "100"), new Term("_id", "101"), new Term("_id", "5"));
+                writer.forceMergeDeletes();
+                writer.commit();
+            }
+            assertRanges(segmentRanges(directory), new long[] { 0, 9 }, new long[] { 10, 19 }, new long[] { 102, 109 });
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StarTreeDocValuesFormatTests extends OpenSearchTestCase {
+
+    private static final long HOUR = 3_600_000L;
+
+    private static final StarTreeField STAR_TREE = new StarTreeField(
+        Arrays.asList(
+            new StarTreeField.Dimension("timestamp", StarTreeField.DimensionType.DATE),
+            new StarTreeField.Dimension("host", StarTreeField.DimensionType.KEYWORD),
+            new StarTreeField.Dimension("status", StarTreeField.DimensionType.NUMERIC)
+        ),
+        Arrays.asList(
+            new StarTreeField.Metric("bytes", StarTreeField.MetricType.LONG),
+            new StarTreeField.Metric("latency", StarTreeField.MetricType.DOUBLE)
+        ),
+        HOUR
+    );
+
+    private static IndexWriterConfig config() {
+        return new IndexWriterConfig().setCodec(new StarTreeCodec(new Lucene99Codec(), () -> STAR_TREE));
+    }
+
+    public void testFlushAndMerge() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config())) {
+            int numSegments = randomIntBetween(2, 4);
+            for (int segment = 0; segment < numSegments; segment++) {
+                int numDocs = randomIntBetween(300, 600);
+                for (int i = 0; i < numDocs; i++) {
+                    writer.addDocument(randomDocument());
+                }
+                writer.commit();
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    assertStarTree(leaf.reader());
+                }
+            }
+            writer.forceMerge(1);
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertEquals(1, reader.leaves().size());
+                assertStarTree(reader.leaves().get(0).reader());
+            }
+        }
+    }
+
+    public void testNotBuiltWhenNotWorthIt() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config())) {
+            for (int i = 0; i < 20; i++) {
+                Document doc = new Document();
+                doc.add(new SortedSetDocValuesField("host", new BytesRef("host-" + i)));
+                doc.add(new SortedNumericDocValuesField("bytes", i));
+                writer.addDocument(doc);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertNull(StarTreeValues.forLeaf(reader.leaves().get(0).reader()));
+            }
+        }
+    }
+
+    public void testNotBuiltWithMultiValuedDimension() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config())) {
+            for (int i = 0; i < 20; i++) {
+                Document doc = new Document();
+                doc.add(new SortedSetDocValuesField("host", new BytesRef("a")));
+                if (i == 10) {
+                    doc.add(new SortedSetDocValuesField("host", new BytesRef("b")));
+                }
+                writer.addDocument(doc);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertNull(StarTreeValues.forLeaf(reader.leaves().get(0).reader()));
+            }
+        }
+    }
+
+    public void testNoStarTreeConfigured() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig().setCodec(new StarTreeCodec(new Lucene99Codec(), () -> null));
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, config)) {
+            for (int i = 0; i < 20; i++) {
+                writer.addDocument(randomDocument());
+            }
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                assertNull(StarTreeValues.forLeaf(reader.leaves().get(0).reader()));
+            }
+        }
+    }
+
+    private static Document randomDocument() {
+        Document doc = new Document();
+        doc.add(new SortedNumericDocValuesField("timestamp", randomLongBetween(0, 5 * HOUR)));
+        doc.add(new SortedSetDocValuesField("host", new BytesRef(randomFrom("a", "b", "c"))));
+        if (randomBoolean()) {
+            doc.add(new SortedNumericDocValuesField("status", randomFrom(200, 404, 500)));
+        }
+        for (int i = randomIntBetween(0, 2); i > 0; i--) {
+            doc.add(new SortedNumericDocValuesField("bytes", randomLongBetween(-1000, 1000)));
+        }
+        if (randomBoolean()) {
+            doc.add(new SortedNumericDocValuesField("latency", NumericUtils.doubleToSortableLong(randomIntBetween(0, 1000) / 4.0)));
+        }
+        if (rarely()) {
+            doc.add(new NumericDocValuesField(DocCountFieldMapper.NAME, randomIntBetween(2, 10)));
+        }
+        return doc;
+    }
+
+    /**
+     * Checks every level of the star-tree of the segment against the aggregations computed from its doc values.
+     */
+    private static void assertStarTree(LeafReader reader) throws IOException {
+        StarTreeValues starTree = StarTreeValues.forLeaf(reader);
+        assertNotNull(starTree);
+        assertEquals(3, starTree.numDimensions());
+        assertEquals(HOUR, starTree.dateInterval());
+        assertEquals(0, starTree.dimensionIndex("timestamp"));
+        assertEquals(1, starTree.metricIndex("latency"));
+        assertEquals(-1, starTree.metricIndex("status"));
+        for (int level = 0; level <= starTree.numDimensions(); level++) {
+            Map<List<Long>, double[]> expected = expectedRecords(reader, level);
+            assertEquals(expected.size(), starTree.numRecords(level));
+            StarTreeRecordIterator records = starTree.records(level);
+            List<Long> previous = null;
+            while (records.next()) {
+                List<Long> key = new ArrayList<>(level);
+                for (int dim = 0; dim < level; dim++) {
+                    key.add(records.hasDimensionValue(dim) ? records.dimensionValue(dim) : null);
+                }
+                if (previous != null) {
+                    assertTrue("records must be sorted: " + previous + " " + key, compare(previous, key) < 0);
+                }
+                previous = key;
+                double[] stats = expected.get(key);
+                assertNotNull("unexpected record " + key + " at level " + level, stats);
+                assertEquals((long) stats[0], records.docCount());
+                for (int metric = 0; metric < 2; metric++) {
+                    assertEquals((long) stats[1 + metric * 4], records.valueCount(metric));
+                    assertEquals(stats[2 + metric * 4], records.sum(metric), 0d);
+                    assertEquals(stats[3 + metric * 4], records.min(metric), 0d);
+                    assertEquals(stats[4 + metric * 4], records.max(metric), 0d);
+                }
+            }
+        }
+    }
+
+    private static Map<List<Long>, double[]> expectedRecords(LeafReader reader, int level) throws IOException {
+        SortedNumericDocValues timestamps = DocValues.getSortedNumeric(reader, "timestamp");
+        SortedSetDocValues hosts = DocValues.getSortedSet(reader, "host");
+        SortedNumericDocValues statuses = DocValues.getSortedNumeric(reader, "status");
+        SortedNumericDocValues bytes = DocValues.getSortedNumeric(reader, "bytes");
+        SortedNumericDocValues latencies = DocValues.getSortedNumeric(reader, "latency");
+        NumericDocValues docCounts = DocValues.getNumeric(reader, DocCountFieldMapper.NAME);
+        Map<List<Long>, double[]> records = new HashMap<>();
+        for (int doc = 0; doc < reader.maxDoc(); doc++) {
+            Long[] values = new Long[] {
+                timestamps.advanceExact(doc) ? Math.floorDiv(timestamps.nextValue(), HOUR) * HOUR : null,
+                hosts.advanceExact(doc) ? hosts.nextOrd() : null,
+                statuses.advanceExact(doc) ? statuses.nextValue() : null };
+            List<Long> key = new ArrayList<>(Arrays.asList(values).subList(0, level));
+            double[] stats = records.computeIfAbsent(
+                key,
+                k -> new double[] { 0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, 0, Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY }
+            );
+            stats[0] += docCounts.advanceExact(doc) ? docCounts.longValue() : 1;
+            if (bytes.advanceExact(doc)) {
+                for (int i = 0; i < bytes.docValueCount(); i++) {
+                    collect(stats, 1, bytes.nextValue());
+                }
+            }
+            if (latencies.advanceExact(doc)) {
+                collect(stats, 5, NumericUtils.sortableLongToDouble(latencies.nextValue()));
+            }
+        }
+        return records;
+    }
+
+    private static void collect(double[] stats, int offset, double value) {
+        stats[offset]++;
+        stats[offset + 1] += value;
+        stats[offset + 2] = Math.min(stats[offset + 2], value);
+        stats[offset + 3] = Math.max(stats[offset + 3], value);
+    }
+
+    private static int compare(List<Long> left, List<Long> right) {
+        for (int i = 0; i < left.size(); i++) {
+            Long l = left.get(i);
+            Long r = right.get(i);
+            if (l == null || r == null) {
+                if (l != r) {
+                    return l == null ? -1 : 1;
+                }
+            } else if (l.equals(r) == false) {
+                return Long.compare(l, r);
+            }
+        }
+        return 0;
+    }
+}
@@ -106,6 +106,7 @@ import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
+import org.opensearch.common.lucene.uid.DocIdLookupCache;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
@@ -508,6 +509,70 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testDocIdLookupCache() throws Exception {
+        final Settings.Builder settings = Settings.builder()
+            .put(defaultSettings.getSettings())
+            .put(IndexSettings.INDEX_DOC_ID_LOOKUP_CACHE_ENABLED_SETTING.getKey(), true);
+        final IndexMetadata indexMetadata = IndexMetadata.builder(defaultSettings.getIndexMetadata()).settings(settings).build();
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(indexMetadata);
+
+        try (
+            Store store = createStore();
+            InternalEngine engine = createEngine(config(indexSettings, store, createTempDir(), newMergePolicy(), null))
+        ) {
+            final int numDocs = randomIntBetween(1, 20);
+            final int rounds = randomIntBetween(2, 5);
+            for (int round = 1; round <= rounds; round++) {
+                for (int i = 0; i < numDocs; i++) {
+                    ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), B_1, null);
+                    Engine.IndexResult result = engine.index(indexForDoc(doc));
+                    assertThat(result.getVersion(), equalTo((long) round));
+                }
+                engine.refresh("test");
+            }
+            final DocIdLookupCache cache = engine.getDocIdLookupCache();
+            // the updated documents are only searched in the segments that were refreshed since their last lookup
+            assertThat(cache.partialLookups(), equalTo((long) numDocs * (rounds - 2)));
+            assertThat(cache.misses(), equalTo((long) numDocs * 2));
+
+            // stale external versions are rejected without writing: the first lookup finds the live copy in the segments that
+            // were refreshed since, the next ones are served by the cache
+            ParsedDocument doc = testParsedDocument("0", null, testDocument(), B_1, null);
+            for (int i = 0; i < 2; i++) {
+                Engine.IndexResult result = engine.index(
+                    new Engine.Index(
+                        newUid(doc),
+                        doc,
+                        UNASSIGNED_SEQ_NO,
+                        primaryTerm.get(),
+                        1,
+                        VersionType.EXTERNAL,
+                        Engine.Operation.Origin.PRIMARY,
+                        System.nanoTime(),
+                        IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+                        false,
+                        UNASSIGNED_SEQ_NO,
+                        0
+                    )
+                );
+                assertThat(result.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+                assertThat(result.getFailure(), instanceOf(VersionConflictEngineException.class));
+            }
+            assertThat(cache.partialLookups(), equalTo((long) numDocs * (rounds - 2) + 1));
+            assertThat(cache.hits(), equalTo(1L));
+
+            // the cache is freed along with the indexing buffer
+            assertThat(engine.getIndexingCachesRAMBytesUsed(), greaterThan(0L));
+            if (randomBoolean()) {
+                engine.writeIndexingBuffer();
+            } else {
+                engine.clearIndexingCaches();
+            }
+            assertThat(engine.getIndexingCachesRAMBytesUsed(), equalTo(0L));
+            assertThat(cache.count(), equalTo(0));
+        }
+    }
+
     public void testMergeSegmentsOnCommitIsDisabled() throws Exception {
         final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
 
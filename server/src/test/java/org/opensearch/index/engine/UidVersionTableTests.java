@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.RamUsageTester;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class UidVersionTableTests extends OpenSearchTestCase {
+
+    private static VersionValue randomVersionValue() {
+        if (randomBoolean()) {
+            return new DeleteVersionValue(randomNonNegativeLong(), randomLong(), randomLong(), randomLong());
+        }
+        return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomLong(), randomLong());
+    }
+
+    private static Translog.Location randomTranslogLocation() {
+        return randomBoolean() ? null : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+    }
+
+    private static BytesRef randomUid(int numUids) {
+        final String id = Integer.toString(randomIntBetween(0, numUids - 1));
+        if (randomBoolean()) {
+            return new BytesRef(id);
+        }
+        // a uid that is not at the start of its bytes
+        final byte[] bytes = new byte[id.length() + 3];
+        System.arraycopy(id.getBytes(StandardCharsets.UTF_8), 0, bytes, 2, id.length());
+        return new BytesRef(bytes, 2, id.length());
+    }
+
+    public void testMatchesHashMap() {
+        final UidVersionTable table = new UidVersionTable();
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final int numUids = randomIntBetween(1, 10_000);
+        final int numOps = scaledRandomIntBetween(1_000, 50_000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomUid(numUids);
+            switch (randomInt(4)) {
+                case 0:
+                    assertSame(expected.remove(BytesRef.deepCopyOf(uid)), table.remove(uid));
+                    break;
+                case 1:
+                    assertSame(expected.get(BytesRef.deepCopyOf(uid)), table.get(uid));
+                    break;
+                default:
+                    final VersionValue value = randomVersionValue();
+                    assertSame(expected.put(BytesRef.deepCopyOf(uid), value), table.put(uid, value));
+                    break;
+            }
+            assertEquals(expected.isEmpty(), table.isEmpty());
+        }
+        final Map<BytesRef, VersionValue> actual = new HashMap<>();
+        for (int segment = 0; segment < UidVersionTable.NUM_SEGMENTS; segment++) {
+            final int s = segment;
+            table.forEach(segment, (uid, value) -> {
+                assertEquals(s, UidVersionTable.segment(uid));
+                assertNull(actual.put(uid, value));
+            });
+        }
+        assertEquals(expected, actual);
+    }
+
+    public void testRamBytesUsed() {
+        final UidVersionTable table = new UidVersionTable();
+        final long emptyTable = RamUsageTester.ramUsed(table);
+        assertEquals(0, table.ramBytesUsed());
+        final int numUids = randomIntBetween(1, 5_000);
+        final int numOps = scaledRandomIntBetween(100, 20_000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomUid(numUids);
+            if (rarely()) {
+                table.remove(uid);
+            } else {
+                table.put(uid, randomVersionValue());
+            }
+        }
+        // the accounting is exact, except for the shallow size of the table that is the same for all tables
+        assertEquals(RamUsageTester.ramUsed(table) - emptyTable, table.ramBytesUsed());
+    }
+
+    public void testLongUids() {
+        final UidVersionTable table = new UidVersionTable();
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            final BytesRef uid = new BytesRef(randomAlphaOfLength(randomIntBetween(1, 64 * 1024)));
+            final VersionValue value = randomVersionValue();
+            expected.put(uid, value);
+            table.put(uid, value);
+        }
+        expected.forEach((uid, value) -> assertSame(value, table.get(uid)));
+        expectThrows(IllegalArgumentException.class, () -> table.put(new BytesRef(new byte[UidVersionTable.MAX_KEY_LENGTH + 1]), null));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.LeafFieldData;
+import org.opensearch.index.fielddata.SortedBinaryDocValues;
+import org.opensearch.index.fielddata.plain.DerivedLeafFieldData;
+import org.opensearch.index.query.DerivedFieldQuery;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.script.MockScriptPlugin;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.lookup.SourceLookup;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.when;
+
+public class DerivedFieldMapperTests extends MapperServiceTestCase {
+
+    private static final String FULL_NAME_SCRIPT = "full_name";
+    private static final String AGE_SCRIPT = "age";
+
+    public static class DerivedFieldScriptPlugin extends MockScriptPlugin {
+        @Override
+        protected Map<String, Function<Map<String, Object>, Object>> pluginScripts() {
+            return Map.of(FULL_NAME_SCRIPT, vars -> {
+                Map<?, ?> source = ((SourceLookup) vars.get("_source")).loadSourceIfNeeded();
+                return source.get("first_name") + " " + source.get("last_name");
+            }, AGE_SCRIPT, vars -> ((SourceLookup) vars.get("_source")).loadSourceIfNeeded().get("age"));
+        }
+    }
+
+    @Override
+    protected Collection<? extends Plugin> getPlugins() {
+        return List.of(new DerivedFieldScriptPlugin());
+    }
+
+    private XContentBuilder derivedMapping(String derivedType, String script) throws IOException {
+        return mapping(b -> {
+            b.startObject("first_name").field("type", "keyword").endObject();
+            b.startObject("last_name").field("type", "keyword").endObject();
+            b.startObject("age").field("type", "long").endObject();
+            b.startObject("field");
+            {
+                b.field("type", "derived");
+                b.field("derived_type", derivedType);
+                b.startObject("script").field("source", script).field("lang", MockScriptPlugin.NAME).endObject();
+            }
+            b.endObject();
+        });
+    }
+
+    public void testParseAndSerialize() throws IOException {
+        MapperService mapperService = createMapperService(derivedMapping("keyword", FULL_NAME_SCRIPT));
+        MappedFieldType fieldType = mapperService.fieldType("field");
+        assertThat(fieldType, instanceOf(DerivedFieldType.class));
+        assertEquals(DerivedFieldSupportedTypes.KEYWORD, ((DerivedFieldType) fieldType).getDerivedType());
+        assertEquals(FULL_NAME_SCRIPT, ((DerivedFieldType) fieldType).getScript().getIdOrCode());
+
+        String mapping = Strings.toString(MediaTypeRegistry.JSON, mapperService.documentMapper().mappers().getMapper("field"));
+        assertThat(mapping, containsString("\"type\":\"derived\""));
+        assertThat(mapping, containsString("\"derived_type\":\"keyword\""));
+        assertThat(mapping, containsString("\"source\":\"" + FULL_NAME_SCRIPT + "\""));
+    }
+
+    public void testRequiredParameters() {
+        Exception e = expectThrows(MapperParsingException.class, () -> createMapperService(fieldMapping(b -> {
+            b.field("type", "derived");
+            b.field("derived_type", "keyword");
+        })));
+        assertThat(e.getMessage(), containsString("[script] must be set"));
+
+        e = expectThrows(MapperParsingException.class, () -> createMapperService(derivedMapping("geo_point", FULL_NAME_SCRIPT)));
+        assertThat(e.getMessage(), containsString("Unsupported derived field type [geo_point]"));
+    }
+
+    public void testScriptIsNotUpdateable() throws IOException {
+        MapperService mapperService = createMapperService(derivedMapping("keyword", FULL_NAME_SCRIPT));
+        Exception e = expectThrows(IllegalArgumentException.class, () -> merge(mapperService, derivedMapping("keyword", AGE_SCRIPT)));
+        assertThat(e.getMessage(), containsString("Cannot update parameter [script]"));
+    }
+
+    public void testRejectsIndexedValues() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(derivedMapping("keyword", FULL_NAME_SCRIPT));
+        Exception e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.field("field", "value"))));
+        assertThat(e.getCause().getMessage(), containsString("Cannot index data directly into a derived field [field]"));
+    }
+
+    public void testKeywordFieldDataAndQueries() throws IOException {
+        MapperService mapperService = createMapperService(derivedMapping("keyword", FULL_NAME_SCRIPT));
+        DocumentMapper mapper = mapperService.documentMapper();
+        withLuceneIndex(mapperService, iw -> {
+            iw.addDocument(mapper.parse(source(b -> b.field("first_name", "John").field("last_name", "Doe"))).rootDoc());
+            iw.addDocument(mapper.parse(source(b -> b.field("first_name", "Jane").field("last_name", "Roe"))).rootDoc());
+        }, reader -> {
+            IndexFieldData<?> fieldData = fieldData(mapperService, "field");
+            LeafReaderContext context = reader.leaves().get(0);
+            LeafFieldData leafFieldData = fieldData.load(context);
+            assertThat(leafFieldData, instanceOf(DerivedLeafFieldData.class));
+            SortedBinaryDocValues values = leafFieldData.getBytesValues();
+            assertTrue(values.advanceExact(0));
+            assertEquals(1, values.docValueCount());
+            assertEquals(new BytesRef("John Doe"), values.nextValue());
+
+            QueryShardContext queryShardContext = queryShardContext(mapperService, fieldData);
+            MappedFieldType fieldType = mapperService.fieldType("field");
+            assertEquals(1, count(reader, fieldType.termQuery("Jane Roe", queryShardContext)));
+            assertEquals(2, count(reader, fieldType.prefixQuery("J", null, queryShardContext)));
+            assertEquals(0, count(reader, fieldType.termQuery("Jane", queryShardContext)));
+            assertEquals(2, count(reader, fieldType.existsQuery(queryShardContext)));
+        });
+    }
+
+    public void testNumericQueries() throws IOException {
+        MapperService mapperService = createMapperService(derivedMapping("long", AGE_SCRIPT));
+        DocumentMapper mapper = mapperService.documentMapper();
+        withLuceneIndex(mapperService, iw -> {
+            iw.addDocument(mapper.parse(source(b -> b.field("age", 25))).rootDoc());
+            iw.addDocument(mapper.parse(source(b -> b.field("age", 40))).rootDoc());
+            iw.addDocument(mapper.parse(source(b -> b.field("first_name", "John"))).rootDoc());
+        }, reader -> {
+            IndexFieldData<?> fieldData = fieldData(mapperService, "field");
+            QueryShardContext queryShardContext = queryShardContext(mapperService, fieldData);
+            MappedFieldType fieldType = mapperService.fieldType("field");
+            Query query = fieldType.rangeQuery(30, null, true, true, null, null, null, queryShardContext);
+            assertThat(query, instanceOf(DerivedFieldQuery.class));
+            assertEquals(1, count(reader, query));
+            assertEquals(1, count(reader, fieldType.termQuery(25, queryShardContext)));
+            assertEquals(2, count(reader, fieldType.existsQuery(queryShardContext)));
+        });
+    }
+
+    public void testExpensiveQueriesDisallowed() throws IOException {
+        MapperService mapperService = createMapperService(derivedMapping("keyword", FULL_NAME_SCRIPT));
+        QueryShardContext queryShardContext = createQueryShardContext(mapperService);
+        when(queryShardContext.allowExpensiveQueries()).thenReturn(false);
+        Exception e = expectThrows(Exception.class, () -> mapperService.fieldType("field").termQuery("value", queryShardContext));
+        assertThat(e.getMessage(), containsString("search.allow_expensive_queries"));
+    }
+
+    private IndexFieldData<?> fieldData(MapperService mapperService, String field) {
+        SearchLookup lookup = new SearchLookup(mapperService, (ft, s) -> {
+            throw new UnsupportedOperationException("search lookup not available");
+        }, SearchLookup.UNKNOWN_SHARD_ID);
+        return mapperService.fieldType(field)
+            .fielddataBuilder("index", () -> lookup)
+            .build(new IndexFieldDataCache.None(), new NoneCircuitBreakerService());
+    }
+
+    private QueryShardContext queryShardContext(MapperService mapperService, IndexFieldData<?> fieldData) {
+        QueryShardContext queryShardContext = createQueryShardContext(mapperService);
+        when(queryShardContext.getForField(mapperService.fieldType("field"))).thenAnswer(inv -> fieldData);
+        return queryShardContext;
+    }
+
+    private static int count(IndexReader reader, Query query) throws IOException {
+        return new IndexSearcher(reader).count(query);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.startree.StarTreeField;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+
+public class StarTreeFieldMapperTests extends MapperServiceTestCase {
+
+    private static final CheckedConsumer<XContentBuilder, IOException> FIELDS = b -> {
+        b.startObject("properties");
+        b.startObject("host").field("type", "keyword").endObject();
+        b.startObject("timestamp").field("type", "date").endObject();
+        b.startObject("status").field("type", "integer").endObject();
+        b.startObject("bytes").field("type", "long").endObject();
+        b.startObject("latency").field("type", "double").endObject();
+        b.startObject("message").field("type", "text").endObject();
+        b.startObject("price").field("type", "unsigned_long").endObject();
+        b.startObject("nanos").field("type", "date_nanos").endObject();
+        b.startObject("host_alias").field("type", "alias").field("path", "host").endObject();
+        b.endObject();
+    };
+
+    public void testDisabledByDefault() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(topMapping(FIELDS));
+        assertFalse(mapper.metadataMapper(StarTreeFieldMapper.class).enabled());
+        assertNull(StarTreeFieldMapper.starTreeField(mapper));
+    }
+
+    public void testResolve() throws IOException {
+        DocumentMapper mapper = createDocumentMapper(topMapping(b -> {
+            b.startObject("_star_tree");
+            b.array("dimensions", "timestamp", "host", "status");
+            b.array("metrics", "bytes", "latency");
+            b.field("date_interval", "minute");
+            b.endObject();
+            FIELDS.accept(b);
+        }));
+        StarTreeField starTree = StarTreeFieldMapper.starTreeField(mapper);
+        assertNotNull(starTree);
+        assertEquals(60_000L, starTree.dateInterval());
+        assertEquals(3, starTree.dimensions().size());
+        assertEquals("timestamp", starTree.dimensions().get(0).field());
+        assertEquals(StarTreeField.DimensionType.DATE, starTree.dimensions().get(0).type());
+        assertEquals(StarTreeField.DimensionType.KEYWORD, starTree.dimensions().get(1).type());
+        assertEquals(StarTreeField.DimensionType.NUMERIC, starTree.dimensions().get(2).type());
+        assertEquals(2, starTree.metrics().size());
+        assertEquals(StarTreeField.MetricType.LONG, starTree.metrics().get(0).type());
+        assertEquals(StarTreeField.MetricType.DOUBLE, starTree.metrics().get(1).type());
+    }
+
+    public void testUnsupportedFields() {
+        assertInvalid("message", "bytes", "dimension [message] of type [text] is not supported");
+        assertInvalid("latency", "bytes", "dimension [latency] of type [double] is not supported");
+        assertInvalid("nanos", "bytes", "dimension [nanos] of type [date_nanos] is not supported");
+        assertInvalid("host_alias", "bytes", "dimension [host_alias] must be a concrete field, not an alias");
+        assertInvalid("missing", "bytes", "dimension [missing] is not mapped");
+        assertInvalid("host", "price", "metric [price] of type [unsigned_long] is not supported");
+        assertInvalid("host", "host", "metric [host] of type [keyword] is not supported");
+    }
+
+    public void testRequiresDimensionsAndMetrics() {
+        Exception e = expectThrows(MapperParsingException.class, () -> createDocumentMapper(topMapping(b -> {
+            b.startObject("_star_tree").array("dimensions", "host").endObject();
+            FIELDS.accept(b);
+        })));
+        assertThat(e.getMessage(), containsString("requires both [dimensions] and [metrics]"));
+    }
+
+    public void testDuplicateDimension() {
+        Exception e = expectThrows(MapperParsingException.class, () -> createDocumentMapper(topMapping(b -> {
+            b.startObject("_star_tree").array("dimensions", "host", "host").array("metrics", "bytes").endObject();
+            FIELDS.accept(b);
+        })));
+        assertThat(e.getMessage(), containsString("duplicate field [host] in [dimensions]"));
+    }
+
+    public void testCannotBeUpdated() throws IOException {
+        MapperService mapperService = createMapperService(topMapping(b -> {
+            b.startObject("_star_tree").array("dimensions", "host").array("metrics", "bytes").endObject();
+            FIELDS.accept(b);
+        }));
+        XContentBuilder update = topMapping(
+            b -> b.startObject("_star_tree").array("dimensions", "status").array("metrics", "bytes").endObject()
+        );
+        Exception e = expectThrows(IllegalArgumentException.class, () -> merge(mapperService, update));
+        assertThat(e.getMessage(), containsString("Cannot update parameter [dimensions]"));
+    }
+
+    private void assertInvalid(String dimension, String metric, String message) {
+        Exception e = expectThrows(IllegalArgumentException.class, () -> createDocumentMapper(topMapping(b -> {
+            b.startObject("_star_tree").array("dimensions", dimension).array("metrics", metric).endObject();
+            FIELDS.accept(b);
+        })));
+        assertThat(e.getMessage(), containsString(message));
+    }
+}
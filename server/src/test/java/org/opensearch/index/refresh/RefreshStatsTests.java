@@ -46,7 +46,9 @@ public class RefreshStatsTests extends OpenSearchTestCase {
             randomNonNegativeLong(),
             randomNonNegativeLong(),
             randomNonNegativeLong(),
-            between(0, Integer.MAX_VALUE)
+            between(0, Integer.MAX_VALUE),
+            randomNonNegativeLong(),
+            randomFrom(-1L, randomNonNegativeLong())
         );
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
@@ -58,5 +60,7 @@ public class RefreshStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getListeners(), read.getListeners());
         assertEquals(stats.getTotalTimeInMillis(), read.getTotalTimeInMillis());
         assertEquals(stats.getExternalTotalTimeInMillis(), read.getExternalTotalTimeInMillis());
+        assertEquals(stats.getDeferred(), read.getDeferred());
+        assertEquals(stats.getAdaptiveIntervalInMillis(), read.getAdaptiveIntervalInMillis());
     }
 }
@@ -42,6 +42,7 @@ import org.junit.After;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -478,6 +479,15 @@ public class RemoteStoreRefreshListenerTests extends IndexShardTestCase {
         assertBusy(() -> assertEquals(0, reachedCheckpointPublishLatch.getCount()));
     }
 
+    public void testSortForUploadOrdersSmallestFirst() throws IOException {
+        setup(true, 1);
+        Map<String, Long> sizes = Map.of("_0.cfs", 100L, "_1.si", 10L, "_2.cfe", 50L);
+        assertEquals(
+            List.of("_1.si", "_2.cfe", "_0.cfs", "segments_3"),
+            RemoteStoreRefreshListener.sortForUpload(List.of("_0.cfs", "segments_3", "_1.si", "_2.cfe"), sizes)
+        );
+    }
+
     private void assertNoLag(RemoteSegmentTransferTracker tracker) {
         assertEquals(0, tracker.getRefreshSeqNoLag());
         assertEquals(0, tracker.getBytesLag());
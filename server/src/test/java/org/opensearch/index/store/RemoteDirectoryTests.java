@@ -19,6 +19,7 @@ import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.stream.write.WriteContext;
+import org.opensearch.common.blobstore.stream.write.WritePriority;
 import org.opensearch.common.blobstore.support.PlainBlobMetadata;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.test.OpenSearchTestCase;
@@ -111,6 +112,42 @@ public class RemoteDirectoryTests extends OpenSearchTestCase {
         storeDirectory.close();
     }
 
+    public void testCopyFromWithPriority() throws IOException, InterruptedException {
+        String filename = "_100.si";
+        WritePriority writePriority = randomFrom(WritePriority.values());
+        AsyncMultiStreamBlobContainer blobContainer = mock(AsyncMultiStreamBlobContainer.class);
+        Mockito.doAnswer(invocation -> {
+            WriteContext writeContext = invocation.getArgument(0);
+            assertEquals(writePriority, writeContext.getWritePriority());
+            ActionListener<Void> completionListener = invocation.getArgument(1);
+            completionListener.onResponse(null);
+            return null;
+        }).when(blobContainer).asyncBlobUpload(any(WriteContext.class), any());
+
+        Directory storeDirectory = LuceneTestCase.newDirectory();
+        IndexOutput indexOutput = storeDirectory.createOutput(filename, IOContext.DEFAULT);
+        indexOutput.writeString("Hello World!");
+        CodecUtil.writeFooter(indexOutput);
+        indexOutput.close();
+        storeDirectory.sync(List.of(filename));
+
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        RemoteDirectory remoteDirectory = new RemoteDirectory(blobContainer);
+        boolean uploaded = remoteDirectory.copyFrom(
+            storeDirectory,
+            filename,
+            filename,
+            IOContext.READ,
+            () -> {},
+            ActionListener.wrap(r -> countDownLatch.countDown(), e -> fail("Listener responded with exception" + e)),
+            writePriority
+        );
+        assertTrue(uploaded);
+        assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+        verify(blobContainer).asyncBlobUpload(any(WriteContext.class), any());
+        storeDirectory.close();
+    }
+
     public void testCopyFromWithException() throws IOException, InterruptedException {
         AtomicReference<Boolean> postUploadInvoked = new AtomicReference<>(false);
         String filename = "_100.si";
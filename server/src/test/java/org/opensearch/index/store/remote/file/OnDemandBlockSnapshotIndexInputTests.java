@@ -32,6 +32,10 @@ import org.junit.Before;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
@@ -130,6 +134,51 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         verify(transferManager).fetchBlob(argThat(request -> request.getBlobLength() == blockSize));
     }
 
+    public void testReadAhead() throws Exception {
+        final int blockSizeShift = 20;
+        final int blockSize = 1 << blockSizeShift;
+        final int lastBlockId = (FILE_SIZE - 1) / blockSize;
+        final List<String> prefetched = new ArrayList<>();
+        doAnswer(invocation -> {
+            BlobFetchRequest blobFetchRequest = invocation.getArgument(0);
+            prefetched.add(blobFetchRequest.getFileName());
+            return null;
+        }).when(transferManager).prefetchBlob(any());
+        final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift);
+
+        // nothing is read ahead until blocks are read sequentially
+        blockedSnapshotFile.seek(0);
+        assertEquals(List.of(), prefetched);
+        blockedSnapshotFile.seek(blockSize);
+        assertEquals(blockFileNames(2, 2), prefetched);
+
+        // the window doubles for every block that is read sequentially
+        blockedSnapshotFile.seek(2L * blockSize);
+        assertEquals(blockFileNames(2, 4), prefetched);
+        blockedSnapshotFile.seek(3L * blockSize);
+        assertEquals(blockFileNames(2, 7), prefetched);
+        blockedSnapshotFile.seek(4L * blockSize);
+        assertEquals(blockFileNames(2, 8), prefetched);
+
+        // every block is read ahead once, and never past the last block
+        final byte[] bytes = new byte[blockSize];
+        while (blockedSnapshotFile.getFilePointer() + blockSize <= FILE_SIZE) {
+            blockedSnapshotFile.readBytes(bytes, 0, blockSize);
+        }
+        assertEquals(blockFileNames(2, lastBlockId), prefetched);
+
+        // jumping to another block resets the window
+        prefetched.clear();
+        blockedSnapshotFile.seek(5L * blockSize);
+        assertEquals(List.of(), prefetched);
+        blockedSnapshotFile.seek(6L * blockSize);
+        assertEquals(blockFileNames(7, 7), prefetched);
+    }
+
+    private static List<String> blockFileNames(int fromBlockId, int toBlockId) {
+        return IntStream.rangeClosed(fromBlockId, toBlockId).mapToObj(id -> BLOCK_FILE_PREFIX + "." + id).collect(Collectors.toList());
+    }
+
     private void runAllTestsFor(int blockSizeShift) throws Exception {
         final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift);
         final int blockSize = 1 << blockSizeShift;
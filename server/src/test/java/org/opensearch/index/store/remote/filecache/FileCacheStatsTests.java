@@ -46,7 +46,10 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000)
         );
     }
 
@@ -64,6 +67,9 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(original.getEvicted(), deserialized.getEvicted());
         assertEquals(original.getCacheHits(), deserialized.getCacheHits());
         assertEquals(original.getCacheMisses(), deserialized.getCacheMisses());
+        assertEquals(original.getPrefetched(), deserialized.getPrefetched());
+        assertEquals(original.getPrefetchHits(), deserialized.getPrefetchHits());
+        assertEquals(original.getPrefetchWasted(), deserialized.getPrefetchWasted());
     }
 
     public void testFileCacheStatsSerialization() throws IOException {
@@ -206,6 +206,45 @@ public class TransferManagerTests extends OpenSearchTestCase {
         assertFalse(blockingThread.isAlive());
     }
 
+    public void testPrefetch() throws Exception {
+        // prefetch on the calling thread
+        transferManager = new TransferManager(blobContainer, fileCache, Runnable::run);
+        transferManager.prefetchBlob(blobFetchRequest("prefetched"));
+        MatcherAssert.assertThat(fileCache.usage().activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage().usage(), equalTo((long) EIGHT_MB));
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetched(), equalTo(1L));
+
+        // reading the prefetched blob is a prefetch hit, prefetching it again does nothing
+        try (IndexInput i = fetchBlobWithName("prefetched")) {
+            assertIndexInputIsFunctional(i);
+        }
+        transferManager.prefetchBlob(blobFetchRequest("prefetched"));
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetched(), equalTo(1L));
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetchHits(), equalTo(1L));
+
+        // evicting a prefetched blob that was never read is a prefetch waste
+        transferManager.prefetchBlob(blobFetchRequest("wasted"));
+        try (IndexInput i1 = fetchBlobWithName("1"); IndexInput i2 = fetchBlobWithName("2")) {
+            assertIndexInputIsFunctional(i1);
+            assertIndexInputIsFunctional(i2);
+        }
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetched(), equalTo(2L));
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetchHits(), equalTo(1L));
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetchWasted(), equalTo(1L));
+    }
+
+    public void testPrefetchDisabled() throws Exception {
+        transferManager.prefetchBlob(blobFetchRequest("file"));
+        MatcherAssert.assertThat(fileCache.usage().usage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.fileCacheStats().getPrefetched(), equalTo(0L));
+    }
+
+    private BlobFetchRequest blobFetchRequest(String blobname) {
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
+        return BlobFetchRequest.builder().fileName(blobname).directory(directory).blobParts(blobParts).build();
+    }
+
     private IndexInput fetchBlobWithName(String blobname) throws IOException {
         List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
         blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
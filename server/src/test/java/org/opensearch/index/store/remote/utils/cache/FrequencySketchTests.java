@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testFrequency() {
+        final FrequencySketch<String> sketch = new FrequencySketch<>();
+        sketch.ensureCapacity(512);
+        assertEquals(0, sketch.frequency("key"));
+        final int count = randomIntBetween(1, FrequencySketch.MAX_FREQUENCY);
+        for (int i = 0; i < count; i++) {
+            sketch.increment("key");
+        }
+        // the sketch may overestimate because of collisions, but it never underestimates
+        assertTrue(sketch.frequency("key") >= count);
+        for (int i = 0; i < 2 * FrequencySketch.MAX_FREQUENCY; i++) {
+            sketch.increment("key");
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency("key"));
+    }
+
+    public void testFrequentKeysStandOut() {
+        final FrequencySketch<Integer> sketch = new FrequencySketch<>();
+        sketch.ensureCapacity(512);
+        for (int i = 0; i < 256; i++) {
+            sketch.increment(i);
+            if (i < 8) {
+                for (int j = 0; j < 10; j++) {
+                    sketch.increment(i);
+                }
+            }
+        }
+        for (int i = 0; i < 8; i++) {
+            assertTrue(sketch.frequency(i) >= 11);
+        }
+        int overestimated = 0;
+        for (int i = 8; i < 256; i++) {
+            if (sketch.frequency(i) > 1) {
+                overestimated++;
+            }
+        }
+        assertTrue("too many collisions: " + overestimated, overestimated < 25);
+    }
+
+    public void testAging() {
+        final FrequencySketch<Integer> sketch = new FrequencySketch<>();
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY; i++) {
+            sketch.increment(-1);
+        }
+        final int before = sketch.frequency(-1);
+        // the sketch is 16 counters wide, it ages after 160 increments
+        for (int i = 0; i < 200; i++) {
+            sketch.increment(i);
+        }
+        assertTrue(sketch.frequency(-1) < before);
+    }
+
+    public void testEnsureCapacityResetsFrequencies() {
+        final FrequencySketch<String> sketch = new FrequencySketch<>();
+        sketch.increment("key");
+        sketch.ensureCapacity(8);
+        assertEquals(1, sketch.frequency("key"));
+        sketch.ensureCapacity(1024);
+        assertEquals(0, sketch.frequency("key"));
+    }
+}
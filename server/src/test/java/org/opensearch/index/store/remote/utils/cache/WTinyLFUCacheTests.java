@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+public class WTinyLFUCacheTests extends RefCountedCacheTestCase {
+    public WTinyLFUCacheTests() {
+        super(new WTinyLFUCache<>(CAPACITY, n -> {}, value -> value));
+    }
+
+    public void testScanDoesNotEvictFrequentlyUsedEntries() {
+        final RefCountedCache<String, Long> cache = new WTinyLFUCache<>(CAPACITY, n -> {}, value -> value);
+        // fill the cache with entries used once
+        for (int i = 0; i < CAPACITY; i++) {
+            access(cache, "cold-" + i);
+        }
+        final int hotEntries = CAPACITY / 5;
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < hotEntries; i++) {
+                access(cache, "hot-" + i);
+            }
+        }
+        // a scan many times larger than the cache, the hot entries are still used but further apart than the capacity of the cache
+        for (int i = 0; i < 10 * CAPACITY; i++) {
+            access(cache, "scan-" + i);
+            if (i % 10 == 0) {
+                access(cache, "hot-" + (i / 10) % hotEntries);
+            }
+        }
+        for (int i = 0; i < hotEntries; i++) {
+            assertNotNull("hot-" + i + " was evicted by the scan", cache.get("hot-" + i));
+        }
+        assertTrue(cache.usage().usage() < CAPACITY);
+    }
+
+    public void testNewEntriesAreAdmittedOnceUsedFrequently() {
+        final RefCountedCache<String, Long> cache = new WTinyLFUCache<>(CAPACITY, n -> {}, value -> value);
+        for (int i = 0; i < CAPACITY; i++) {
+            access(cache, "old-" + i);
+        }
+        // entries that are used over and over end up replacing the entries that were used once
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < CAPACITY / 2; i++) {
+                access(cache, "new-" + i);
+            }
+        }
+        for (int i = 0; i < CAPACITY / 2; i++) {
+            assertNotNull("new-" + i + " was not admitted", cache.get("new-" + i));
+            cache.decRef("new-" + i);
+        }
+    }
+
+    public void testPolicyOfSegmentedCache() {
+        final SegmentedCache<String, Long> cache = SegmentedCache.<String, Long>builder()
+            .capacity(CAPACITY)
+            .weigher(value -> value)
+            .evictionPolicy(EvictionPolicy.W_TINY_LFU)
+            .concurrencyLevel(1)
+            .build();
+        assertTrue(cache.segmentFor("1") instanceof WTinyLFUCache);
+        assertEquals(EvictionPolicy.W_TINY_LFU, EvictionPolicy.fromString("w_tiny_lfu"));
+        expectThrows(IllegalArgumentException.class, () -> EvictionPolicy.fromString("fifo"));
+    }
+
+    private static void access(RefCountedCache<String, Long> cache, String key) {
+        if (cache.get(key) == null) {
+            cache.put(key, 1L);
+        }
+        cache.decRef(key);
+    }
+}
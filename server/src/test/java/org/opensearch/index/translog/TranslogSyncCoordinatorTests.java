@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TranslogSyncCoordinatorTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private ThreadContext threadContext;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("translog-sync-coordinator");
+        threadContext = threadPool.getThreadContext();
+    }
+
+    @After
+    public void cleanup() {
+        terminate(threadPool);
+    }
+
+    private TranslogSyncCoordinator newCoordinator(String window) {
+        Settings settings = Settings.builder().put(TranslogSyncCoordinator.GROUP_COMMIT_WINDOW_SETTING.getKey(), window).build();
+        return new TranslogSyncCoordinator(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    public void testCoalescesSyncsOfAllShards() throws Exception {
+        TranslogSyncCoordinator coordinator = newCoordinator("50ms");
+        int numShards = randomIntBetween(1, 5);
+        int syncsPerShard = randomIntBetween(10, 100);
+        List<List<List<Translog.Location>>> writesPerShard = new ArrayList<>();
+        List<AsyncIOProcessor<Translog.Location>> processors = new ArrayList<>();
+        for (int shard = 0; shard < numShards; shard++) {
+            List<List<Translog.Location>> writes = new CopyOnWriteArrayList<>();
+            writesPerShard.add(writes);
+            processors.add(coordinator.newSyncProcessor(logger, 1024, threadContext, candidates -> {
+                List<Translog.Location> locations = new ArrayList<>();
+                for (Tuple<Translog.Location, ?> candidate : candidates) {
+                    locations.add(candidate.v1());
+                }
+                writes.add(locations);
+            }));
+        }
+
+        CountDownLatch latch = new CountDownLatch(numShards * syncsPerShard);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < syncsPerShard; i++) {
+            for (int shard = 0; shard < numShards; shard++) {
+                processors.get(shard).put(new Translog.Location(shard, i, 1), e -> {
+                    if (e != null) {
+                        failure.set(e);
+                    }
+                    latch.countDown();
+                });
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        for (int shard = 0; shard < numShards; shard++) {
+            List<List<Translog.Location>> writes = writesPerShard.get(shard);
+            // all the syncs that are requested within the window are processed together
+            assertTrue(writes.size() < syncsPerShard);
+            int synced = 0;
+            for (List<Translog.Location> locations : writes) {
+                for (Translog.Location location : locations) {
+                    assertEquals(shard, location.generation);
+                    synced++;
+                }
+            }
+            assertEquals(syncsPerShard, synced);
+        }
+    }
+
+    public void testSyncsOnCallerThreadWhenDisabled() {
+        TranslogSyncCoordinator coordinator = newCoordinator("0ms");
+        AtomicInteger writes = new AtomicInteger();
+        AsyncIOProcessor<Translog.Location> processor = coordinator.newSyncProcessor(
+            logger,
+            1024,
+            threadContext,
+            candidates -> writes.incrementAndGet()
+        );
+        AtomicInteger notified = new AtomicInteger();
+        processor.put(new Translog.Location(0, 0, 1), e -> {
+            assertNull(e);
+            notified.incrementAndGet();
+        });
+        assertEquals(1, writes.get());
+        assertEquals(1, notified.get());
+    }
+
+    public void testFailuresOnlyAffectTheirShard() throws Exception {
+        TranslogSyncCoordinator coordinator = newCoordinator("20ms");
+        AsyncIOProcessor<Translog.Location> failing = coordinator.newSyncProcessor(logger, 1024, threadContext, candidates -> {
+            throw new IOException("boom");
+        });
+        AsyncIOProcessor<Translog.Location> succeeding = coordinator.newSyncProcessor(logger, 1024, threadContext, candidates -> {});
+
+        CountDownLatch latch = new CountDownLatch(2);
+        AtomicReference<Exception> failingResult = new AtomicReference<>();
+        AtomicReference<Exception> succeedingResult = new AtomicReference<>();
+        failing.put(new Translog.Location(0, 0, 1), e -> {
+            failingResult.set(e);
+            latch.countDown();
+        });
+        succeeding.put(new Translog.Location(0, 0, 1), e -> {
+            succeedingResult.set(e);
+            latch.countDown();
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNotNull(failingResult.get());
+        assertEquals("boom", failingResult.get().getMessage());
+        assertNull(succeedingResult.get());
+    }
+
+    public void testPreservesThreadContext() throws Exception {
+        TranslogSyncCoordinator coordinator = newCoordinator("10ms");
+        AsyncIOProcessor<Translog.Location> processor = coordinator.newSyncProcessor(logger, 1024, threadContext, candidates -> {});
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> header = new AtomicReference<>();
+        try (ThreadContext.StoredContext ignore = threadContext.stashContext()) {
+            threadContext.putHeader("test-header", "test-value");
+            processor.put(new Translog.Location(0, 0, 1), e -> {
+                header.set(threadContext.getHeader("test-header"));
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("test-value", header.get());
+    }
+}
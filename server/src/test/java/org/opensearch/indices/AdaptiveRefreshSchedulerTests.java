@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.threadpool.Scheduler.Cancellable;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.List;
+
+public class AdaptiveRefreshSchedulerTests extends IndexShardTestCase {
+
+    private static final Settings INDEX_SETTINGS = Settings.builder()
+        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), "1s")
+        .put(IndexSettings.INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING.getKey(), "1h")
+        .build();
+
+    private AdaptiveRefreshScheduler newScheduler(Settings settings, IndexShard shard, long indexingBufferBytes) {
+        return new AdaptiveRefreshScheduler(
+            settings,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool,
+            List.of(shard),
+            indexingBufferBytes,
+            () -> IndexSettings.DEFAULT_REFRESH_INTERVAL
+        ) {
+            @Override
+            protected Cancellable scheduleTask(ThreadPool threadPool) {
+                // the tests update the intervals
+                return new Cancellable() {
+                    @Override
+                    public boolean cancel() {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isCancelled() {
+                        return true;
+                    }
+                };
+            }
+        };
+    }
+
+    private static Settings enabled() {
+        return Settings.builder().put(AdaptiveRefreshScheduler.ADAPTIVE_REFRESH_ENABLED_SETTING.getKey(), true).build();
+    }
+
+    public void testTargetInterval() {
+        assertEquals(1000, AdaptiveRefreshScheduler.targetInterval(0, true, 1000, 60_000));
+        assertEquals(1000, AdaptiveRefreshScheduler.targetInterval(10, false, 1000, 60_000));
+        assertEquals(60_000, AdaptiveRefreshScheduler.targetInterval(0, false, 1000, 60_000));
+        assertEquals(60_000, AdaptiveRefreshScheduler.targetInterval(0.001, false, 1000, 60_000));
+        assertEquals(4000, AdaptiveRefreshScheduler.targetInterval(0.25, false, 1000, 60_000));
+    }
+
+    public void testDefersRefreshesOfShardsThatAreNotSearched() throws Exception {
+        final IndexShard shard = newStartedShard(true, INDEX_SETTINGS);
+        final AdaptiveRefreshScheduler scheduler = newScheduler(enabled(), shard, Long.MAX_VALUE);
+        scheduler.updateRefreshIntervals();
+        // the search rate of the shard is not known yet
+        assertEquals(-1, shard.refreshStats().getAdaptiveIntervalInMillis());
+        assertBusy(() -> {
+            scheduler.updateRefreshIntervals();
+            assertEquals(TimeValue.timeValueHours(1).millis(), shard.refreshStats().getAdaptiveIntervalInMillis());
+        });
+
+        indexDoc(shard, "_doc", "0");
+        assertTrue(shard.scheduledRefresh());
+        indexDoc(shard, "_doc", "1");
+        assertFalse(shard.scheduledRefresh());
+        assertEquals(1, shard.refreshStats().getDeferred());
+        assertTrue(shard.getEngine().refreshNeeded());
+
+        // refresh listeners are not deferred
+        shard.addRefreshListener(indexDoc(shard, "_doc", "2").getTranslogLocation(), forced -> {});
+        assertTrue(shard.scheduledRefresh());
+        assertEquals(1, shard.refreshStats().getDeferred());
+
+        scheduler.close();
+        closeShards(shard);
+    }
+
+    public void testRefreshesShardsUnderIndexingPressure() throws Exception {
+        final IndexShard shard = newStartedShard(true, INDEX_SETTINGS);
+        final AdaptiveRefreshScheduler scheduler = newScheduler(enabled(), shard, 0);
+        indexDoc(shard, "_doc", "0");
+        assertBusy(() -> {
+            scheduler.updateRefreshIntervals();
+            assertEquals(TimeValue.timeValueSeconds(1).millis(), shard.refreshStats().getAdaptiveIntervalInMillis());
+        });
+        scheduler.close();
+        closeShards(shard);
+    }
+
+    public void testLeavesShardsAloneWhenDisabled() throws Exception {
+        final IndexShard shard = newStartedShard(true, INDEX_SETTINGS);
+        final AdaptiveRefreshScheduler scheduler = newScheduler(Settings.EMPTY, shard, Long.MAX_VALUE);
+        for (int i = 0; i < 3; i++) {
+            scheduler.updateRefreshIntervals();
+        }
+        assertEquals(-1, shard.refreshStats().getAdaptiveIntervalInMillis());
+        indexDoc(shard, "_doc", "0");
+        assertTrue(shard.scheduledRefresh());
+        indexDoc(shard, "_doc", "1");
+        assertTrue(shard.scheduledRefresh());
+        assertEquals(0, shard.refreshStats().getDeferred());
+        scheduler.close();
+        closeShards(shard);
+    }
+}
@@ -46,6 +46,7 @@ import org.opensearch.index.mapper.NestedPathFieldMapper;
 import org.opensearch.index.mapper.RoutingFieldMapper;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.StarTreeFieldMapper;
 import org.opensearch.index.mapper.TextFieldMapper;
 import org.opensearch.index.mapper.VersionFieldMapper;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -100,6 +101,7 @@ public class IndicesModuleTests extends OpenSearchTestCase {
         VersionFieldMapper.NAME,
         SeqNoFieldMapper.NAME,
         DocCountFieldMapper.NAME,
+        StarTreeFieldMapper.NAME,
         FieldNamesFieldMapper.NAME };
 
     public void testBuiltinMappers() {
@@ -225,6 +225,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
             between(1, 5),
+            between(1, 4),
             between(1, 5)
         );
         PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
@@ -306,6 +307,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             fileChunkSizeInBytes,
             between(1, 10),
+            1,
             between(1, 10)
         );
         PlainActionFuture<RecoverySourceHandler.SendSnapshotResult> future = new PlainActionFuture<>();
@@ -369,6 +371,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             fileChunkSizeInBytes,
             between(1, 10),
+            1,
             between(1, 10)
         );
         PlainActionFuture<RecoverySourceHandler.SendSnapshotResult> future = new PlainActionFuture<>();
@@ -443,6 +446,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             getStartRecoveryRequest(),
             between(1, 10 * 1024),
             between(1, 5),
+            1,
             between(1, 5)
         );
         handler.phase2(
@@ -562,6 +566,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
             between(1, 8),
+            1,
             between(1, 8)
         );
         SetOnce<Exception> sendFilesError = new SetOnce<>();
@@ -637,6 +642,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
             between(1, 10),
+            1,
             between(1, 4)
         );
         PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
@@ -690,6 +696,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
             between(1, 8),
+            1,
             between(1, 8)
         ) {
 
@@ -802,6 +809,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             getStartRecoveryRequest(),
             chunkSize,
             maxConcurrentChunks,
+            1,
             between(1, 10)
         );
         Store store = newStore(createTempDir(), false);
@@ -875,6 +883,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             getStartRecoveryRequest(),
             chunkSize,
             maxConcurrentChunks,
+            1,
             between(1, 5)
         );
         Store store = newStore(createTempDir(), false);
@@ -983,6 +992,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             startRecoveryRequest,
             between(1, 16),
             between(1, 4),
+            1,
             between(1, 4)
         ) {
             @Override
@@ -1022,6 +1032,7 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             getStartRecoveryRequest(),
             between(1, 16),
             between(1, 4),
+            1,
             between(1, 4)
         );
 
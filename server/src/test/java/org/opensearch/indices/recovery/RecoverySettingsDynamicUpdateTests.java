@@ -50,6 +50,15 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         assertEquals(null, recoverySettings.rateLimiter());
     }
 
+    public void testMaxConcurrentFileStreams() {
+        assertEquals(1, recoverySettings.getMaxConcurrentFileStreams());
+        final int streams = between(1, 8);
+        clusterSettings.applySettings(
+            Settings.builder().put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_STREAMS_SETTING.getKey(), streams).build()
+        );
+        assertEquals(streams, recoverySettings.getMaxConcurrentFileStreams());
+    }
+
     public void testRetryDelayStateSync() {
         long duration = between(1, 1000);
         TimeUnit timeUnit = randomFrom(TimeUnit.MILLISECONDS, TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.HOURS);
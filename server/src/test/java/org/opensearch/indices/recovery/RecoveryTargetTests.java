@@ -63,6 +63,7 @@ import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.startsWith;
@@ -567,6 +568,32 @@ public class RecoveryTargetTests extends OpenSearchTestCase {
         assertThat(readWriteIndex.error.get(), equalTo(null));
     }
 
+    public void testFileRecoveryTime() throws Exception {
+        final FileMetadata file = new FileMetadata("foo", 100, false);
+        assertEquals(0, file.time());
+        file.addRecoveredBytes(40);
+        assertBusy(() -> assertThat(file.time(), greaterThan(0L)));
+        file.addRecoveredBytes(60);
+        assertTrue(file.fullyRecovered());
+        final long time = file.time();
+        // the time stops once the file is fully recovered
+        Thread.sleep(10);
+        assertEquals(time, file.time());
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        file.writeTo(out);
+        final FileMetadata copy = new FileMetadata(out.bytes().streamInput());
+        assertEquals(file, copy);
+        assertEquals(time, copy.time());
+
+        out.reset();
+        out.setVersion(Version.V_2_12_0);
+        file.writeTo(out);
+        final StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_2_12_0);
+        assertEquals(0, new FileMetadata(in).time());
+    }
+
     public void testFileHashCodeAndEquals() {
         FileMetadata f = new FileMetadata("foo", randomIntBetween(0, 100), randomBoolean());
         FileMetadata anotherFile = new FileMetadata(f.name(), f.length(), f.reused());
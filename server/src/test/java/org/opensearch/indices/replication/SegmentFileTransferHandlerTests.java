@@ -11,6 +11,7 @@ package org.opensearch.indices.replication;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexFileNames;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.common.util.io.IOUtils;
@@ -25,12 +26,18 @@ import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.junit.Assert;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -225,6 +232,73 @@ public class SegmentFileTransferHandlerTests extends IndexShardTestCase {
         IOUtils.close(transfer);
     }
 
+    public void testCreateTransfers_spreadsFilesOverStreams() throws Exception {
+        // index a doc a flush so we have more than 1 file to send.
+        indexDoc(shard, "_doc", "test");
+        flushShard(shard, true);
+        filesToSend = getFilestoSend(shard);
+        assertEquals(4, filesToSend.length);
+
+        final AtomicInteger currentStream = new AtomicInteger();
+        final Map<String, Integer> streamsByFile = new ConcurrentHashMap<>();
+        final Map<String, Long> sentBytes = new ConcurrentHashMap<>();
+        final FileChunkWriter chunkWriter = new FileChunkWriter() {
+            @Override
+            public void writeFileChunk(
+                StoreFileMetadata fileMetadata,
+                long position,
+                BytesReference content,
+                boolean lastChunk,
+                int totalTranslogOps,
+                ActionListener<Void> listener
+            ) {
+                final Integer previous = streamsByFile.putIfAbsent(fileMetadata.name(), currentStream.get());
+                assertTrue(previous == null || previous == currentStream.get());
+                sentBytes.merge(fileMetadata.name(), (long) content.length(), Long::sum);
+                listener.onResponse(null);
+            }
+        };
+        SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks
+        );
+
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = handler.createTransfers(
+            shard.store(),
+            filesToSend,
+            translogOps,
+            2,
+            future
+        );
+        assertEquals(2, transfers.size());
+        for (int i = 0; i < transfers.size(); i++) {
+            assertFalse(future.isDone());
+            currentStream.set(i);
+            transfers.get(i).start();
+        }
+        future.actionGet(30, TimeUnit.SECONDS);
+
+        // each file is sent whole by a single stream, and the streams send similar amounts of bytes
+        final long[] streamBytes = new long[2];
+        long largest = 0;
+        for (StoreFileMetadata file : filesToSend) {
+            assertEquals(Long.valueOf(file.length()), sentBytes.get(file.name()));
+            streamBytes[streamsByFile.get(file.name())] += file.length();
+            largest = Math.max(largest, file.length());
+        }
+        assertThat(streamBytes[0], greaterThan(0L));
+        assertThat(streamBytes[1], greaterThan(0L));
+        assertThat(Math.abs(streamBytes[0] - streamBytes[1]), lessThanOrEqualTo(largest));
+        IOUtils.close(transfers);
+    }
+
     public void testSendFiles_CorruptIndexException() throws Exception {
         final CancellableThreads cancellableThreads = new CancellableThreads();
         SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
@@ -76,7 +76,8 @@ public class SegmentReplicationSourceHandlerTests extends IndexShardTestCase {
             copyState,
             replica.routingEntry().allocationId().getId(),
             5000,
-            1
+            1,
+            between(1, 4)
         );
 
         final List<StoreFileMetadata> expectedFiles = List.copyOf(copyState.getMetadataMap().values());
@@ -114,6 +115,7 @@ public class SegmentReplicationSourceHandlerTests extends IndexShardTestCase {
             copyState,
             replica.routingEntry().allocationId().getId(),
             5000,
+            1,
             1
         );
 
@@ -156,6 +158,7 @@ public class SegmentReplicationSourceHandlerTests extends IndexShardTestCase {
             copyState,
             primary.routingEntry().allocationId().getId(),
             5000,
+            1,
             1
         );
 
@@ -195,6 +198,7 @@ public class SegmentReplicationSourceHandlerTests extends IndexShardTestCase {
             copyState,
             replica.routingEntry().allocationId().getId(),
             5000,
+            1,
             1
         );
 
@@ -225,6 +229,7 @@ public class SegmentReplicationSourceHandlerTests extends IndexShardTestCase {
             copyState,
             primary.routingEntry().allocationId().getId(),
             5000,
+            1,
             1
         );
 
@@ -32,7 +32,9 @@ import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.opensearch.test.ClusterServiceUtils.createClusterService;
@@ -160,6 +162,56 @@ public class PublishCheckpointActionTests extends OpenSearchTestCase {
 
     }
 
+    public void testPublishCoalescesCheckpoints() {
+        final List<ReplicationCheckpoint> published = new ArrayList<>();
+        final PublishCheckpointAction action = new PublishCheckpointAction(
+            Settings.EMPTY,
+            transportService,
+            clusterService,
+            mock(IndicesService.class),
+            threadPool,
+            shardStateAction,
+            new ActionFilters(Collections.emptySet()),
+            mock(SegmentReplicationTargetService.class)
+        ) {
+            @Override
+            void doPublish(IndexShard indexShard, ReplicationCheckpoint checkpoint) {
+                published.add(checkpoint);
+            }
+        };
+        final ShardId shardId = new ShardId(new Index("index", "uuid"), 0);
+        final IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(shardId);
+        final IndexShard otherShard = mock(IndexShard.class);
+        when(otherShard.shardId()).thenReturn(new ShardId(new Index("other", "uuid"), 0));
+
+        final ReplicationCheckpoint first = new ReplicationCheckpoint(shardId, 1, 1, 1, Codec.getDefault().getName());
+        final ReplicationCheckpoint second = new ReplicationCheckpoint(shardId, 1, 2, 2, Codec.getDefault().getName());
+        final ReplicationCheckpoint third = new ReplicationCheckpoint(shardId, 1, 3, 3, Codec.getDefault().getName());
+        action.publish(indexShard, first);
+        assertEquals(List.of(first), published);
+
+        // the checkpoints published while the first one is in flight are coalesced into the latest one
+        action.publish(indexShard, second);
+        action.publish(indexShard, third);
+        action.publish(indexShard, second);
+        assertEquals(List.of(first), published);
+
+        // other shards are not held back
+        final ReplicationCheckpoint other = new ReplicationCheckpoint(otherShard.shardId(), 1, 1, 1, Codec.getDefault().getName());
+        action.publish(otherShard, other);
+        assertEquals(List.of(first, other), published);
+
+        action.onPublishCompleted(indexShard);
+        assertEquals(List.of(first, other, third), published);
+
+        // nothing is pending anymore once the latest checkpoint was published
+        action.onPublishCompleted(indexShard);
+        assertEquals(List.of(first, other, third), published);
+        action.publish(indexShard, second);
+        assertEquals(List.of(first, other, third, second), published);
+    }
+
     public void testGetReplicationModeWithRemoteTranslog() {
         final PublishCheckpointAction action = createAction();
         final IndexShard indexShard = mock(IndexShard.class);
@@ -37,13 +37,17 @@ import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 import static java.util.Collections.singletonList;
@@ -429,6 +433,114 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testBatchExecute() {
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        TestProcessor processor1 = new TestProcessor(doc -> doc.setFieldValue("field1", "value1"));
+        TestProcessor processor2 = new TestProcessor(doc -> doc.setFieldValue("field2", "value2"));
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor1, processor2);
+        int size = randomIntBetween(1, 10);
+        List<IngestDocumentWrapper> wrappers = createIngestDocumentWrappers(size);
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(wrappers, results::addAll);
+        assertThat(results, hasSize(size));
+        for (IngestDocumentWrapper result : results) {
+            assertThat(result.getException(), nullValue());
+            assertThat(result.getIngestDocument().getFieldValue("field1", String.class), equalTo("value1"));
+            assertThat(result.getIngestDocument().getFieldValue("field2", String.class), equalTo("value2"));
+        }
+        assertThat(processor1.getInvokedCounter(), equalTo(size));
+        assertThat(processor2.getInvokedCounter(), equalTo(size));
+        assertStats(0, compoundProcessor, 0, size, 0, 0);
+        assertStats(1, compoundProcessor, 0, size, 0, 0);
+    }
+
+    public void testBatchExecuteWithFailureAndDrop() {
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        TestProcessor processor1 = new TestProcessor("tag", "type", null, (Function<IngestDocument, IngestDocument>) doc -> {
+            int slot = doc.getFieldValue("slot", Integer.class);
+            if (slot == 0) {
+                throw new RuntimeException("error");
+            }
+            return slot == 1 ? null : doc;
+        });
+        TestProcessor processor2 = new TestProcessor(doc -> doc.setFieldValue("field", "value"));
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor1, processor2);
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(createIngestDocumentWrappers(3), results::addAll);
+        assertThat(results, hasSize(3));
+        results.sort(Comparator.comparingInt(IngestDocumentWrapper::getSlot));
+        assertThat(((OpenSearchException) results.get(0).getException()).getRootCause().getMessage(), equalTo("error"));
+        assertThat(results.get(1).getException(), nullValue());
+        assertThat(results.get(1).getIngestDocument(), nullValue());
+        assertThat(results.get(2).getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        assertThat(processor2.getInvokedCounter(), equalTo(1));
+        assertStats(0, compoundProcessor, 0, 3, 1, 0);
+        assertStats(1, compoundProcessor, 0, 1, 0, 0);
+    }
+
+    public void testBatchExecuteWithOnFailure() {
+        TestProcessor processor1 = new TestProcessor("id", "first", null, new RuntimeException("error"));
+        TestProcessor onFailureProcessor = new TestProcessor("id2", "second", null, doc -> {
+            Map<String, Object> ingestMetadata = doc.getIngestMetadata();
+            assertThat(ingestMetadata.get(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), equalTo("error"));
+            doc.setFieldValue("handled", true);
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(
+            false,
+            singletonList(processor1),
+            singletonList(onFailureProcessor),
+            relativeTimeProvider
+        );
+        int size = randomIntBetween(1, 10);
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(createIngestDocumentWrappers(size), results::addAll);
+        assertThat(results, hasSize(size));
+        for (IngestDocumentWrapper result : results) {
+            assertThat(result.getException(), nullValue());
+            assertThat(result.getIngestDocument().getFieldValue("handled", Boolean.class), is(true));
+            assertThat(result.getIngestDocument().getIngestMetadata().get(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), nullValue());
+        }
+        assertThat(onFailureProcessor.getInvokedCounter(), equalTo(size));
+        assertStats(compoundProcessor, size, size, 0);
+    }
+
+    public void testBatchExecuteIgnoreFailure() {
+        TestProcessor processor1 = new TestProcessor(new RuntimeException("error"));
+        TestProcessor processor2 = new TestProcessor(doc -> doc.setFieldValue("field", "value"));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(
+            true,
+            Arrays.asList(processor1, processor2),
+            Collections.emptyList(),
+            relativeTimeProvider
+        );
+        int size = randomIntBetween(1, 10);
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(createIngestDocumentWrappers(size), results::addAll);
+        assertThat(results, hasSize(size));
+        for (IngestDocumentWrapper result : results) {
+            assertThat(result.getException(), nullValue());
+            assertThat(result.getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        }
+        assertStats(0, compoundProcessor, 0, size, size, 0);
+        assertStats(1, compoundProcessor, 0, size, 0, 0);
+    }
+
+    private static List<IngestDocumentWrapper> createIngestDocumentWrappers(int size) {
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> source = new HashMap<>();
+            source.put("slot", i);
+            wrappers.add(new IngestDocumentWrapper(i, new IngestDocument(source, new HashMap<>()), null));
+        }
+        return wrappers;
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count, long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
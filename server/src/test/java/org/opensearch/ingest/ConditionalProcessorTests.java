@@ -250,6 +250,61 @@ public class ConditionalProcessorTests extends OpenSearchTestCase {
         assertStats(processor, 0, 0, 0);
     }
 
+    public void testBatchExecute() {
+        String conditionalField = "field1";
+        String trueValue = "truthy";
+        ScriptService scriptService = new ScriptService(
+            Settings.builder().build(),
+            Collections.singletonMap(
+                Script.DEFAULT_SCRIPT_LANG,
+                new MockScriptEngine(
+                    Script.DEFAULT_SCRIPT_LANG,
+                    Collections.singletonMap(scriptName, ctx -> trueValue.equals(ctx.get(conditionalField))),
+                    Collections.emptyMap()
+                )
+            ),
+            new HashMap<>(ScriptModule.CORE_CONTEXTS)
+        );
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(1));
+        TestProcessor innerProcessor = new TestProcessor(ingestDocument -> {
+            if (ingestDocument.hasField("error")) {
+                throw new RuntimeException("error");
+            }
+            ingestDocument.setFieldValue("foo", "bar");
+        });
+        ConditionalProcessor processor = new ConditionalProcessor(
+            randomAlphaOfLength(10),
+            "description",
+            new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, scriptName, Collections.emptyMap()),
+            scriptService,
+            innerProcessor,
+            relativeTimeProvider
+        );
+
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        // the condition doesn't match, the document is passed through untouched
+        IngestDocument skipped = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        skipped.setFieldValue(conditionalField, "falsy");
+        wrappers.add(new IngestDocumentWrapper(0, skipped, null));
+        IngestDocument matched = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        matched.setFieldValue(conditionalField, trueValue);
+        wrappers.add(new IngestDocumentWrapper(1, matched, null));
+        IngestDocument failed = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        failed.setFieldValue(conditionalField, trueValue);
+        failed.setFieldValue("error", true);
+        wrappers.add(new IngestDocumentWrapper(2, failed, null));
+
+        Map<Integer, IngestDocumentWrapper> results = new HashMap<>();
+        processor.batchExecute(wrappers, batch -> batch.forEach(result -> results.put(result.getSlot(), result)));
+        assertThat(results.size(), equalTo(3));
+        assertThat(results.get(0).getIngestDocument().getSourceAndMetadata(), not(hasKey("foo")));
+        assertThat(results.get(1).getIngestDocument().getSourceAndMetadata().get("foo"), is("bar"));
+        assertThat(results.get(2).getException().getMessage(), equalTo("error"));
+        assertThat(innerProcessor.getInvokedCounter(), equalTo(2));
+        assertStats(processor, 2, 1, 1);
+    }
+
     private static void assertStats(ConditionalProcessor conditionalProcessor, long count, long failed, long time) {
         OperationStats stats = conditionalProcessor.getMetric().createStats();
         assertThat(stats.getCount(), equalTo(count));
@@ -1463,6 +1463,106 @@ public class IngestServiceTests extends OpenSearchTestCase {
         verify(dropHandler, times(1)).accept(1);
     }
 
+    public void testExecuteBulkRequestInBatch() {
+        IngestService ingestService = createWithProcessors();
+        PutPipelineRequest putRequest = new PutPipelineRequest(
+            "_id",
+            new BytesArray("{\"processors\": [{\"set\" : {\"field\": \"_field\", \"value\": \"_value\"}}]}"),
+            MediaTypeRegistry.JSON
+        );
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build(); // Start empty
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        BulkRequest bulkRequest = new BulkRequest();
+        int numRequest = scaledRandomIntBetween(8, 64);
+        int numIndexRequests = 0;
+        for (int i = 0; i < numRequest; i++) {
+            if (randomBoolean()) {
+                bulkRequest.add(new DeleteRequest("_index", "_id" + i));
+            } else {
+                IndexRequest indexRequest = new IndexRequest("_index").id("_id" + i).setPipeline("_id").setFinalPipeline("_none");
+                indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", "value1");
+                bulkRequest.add(indexRequest);
+                numIndexRequests++;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Integer, Exception> failureHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(
+            numRequest,
+            bulkRequest.requests(),
+            failureHandler,
+            completionHandler,
+            indexReq -> {},
+            Names.WRITE,
+            randomIntBetween(2, 10)
+        );
+        verify(failureHandler, never()).accept(any(), any());
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        for (DocWriteRequest<?> docWriteRequest : bulkRequest.requests()) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(docWriteRequest);
+            if (indexRequest != null) {
+                assertThat(indexRequest.sourceAsMap().get("_field"), equalTo("_value"));
+                assertThat(indexRequest.sourceAsMap().get("field1"), equalTo("value1"));
+            }
+        }
+        IngestStats ingestStats = ingestService.stats();
+        assertStats(ingestStats.getTotalStats(), numIndexRequests, 0, 0);
+        assertPipelineStats(ingestStats.getPipelineStats(), "_id", numIndexRequests, 0, 0);
+        assertProcessorStats(0, ingestStats, "_id", numIndexRequests, 0, 0);
+    }
+
+    public void testExecuteBulkRequestInBatchWithFailuresAndDrop() {
+        Map<String, Processor.Factory> factories = new HashMap<>();
+        factories.put("drop", new DropProcessor.Factory());
+        factories.put("fail", (processorFactories, tag, description, config) -> new TestProcessor(new RuntimeException("error")));
+        IngestService ingestService = createWithProcessors(factories);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build(); // Start empty
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(
+            new PutPipelineRequest("_drop", new BytesArray("{\"processors\": [{\"drop\" : {}}]}"), MediaTypeRegistry.JSON),
+            clusterState
+        );
+        clusterState = IngestService.innerPut(
+            new PutPipelineRequest("_fail", new BytesArray("{\"processors\": [{\"fail\" : {}}]}"), MediaTypeRegistry.JSON),
+            clusterState
+        );
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.add(new IndexRequest("_index").id("_id0").source(emptyMap()).setPipeline("_drop").setFinalPipeline("_none"));
+        bulkRequest.add(new IndexRequest("_index").id("_id1").source(emptyMap()).setPipeline("_fail").setFinalPipeline("_none"));
+        bulkRequest.add(new IndexRequest("_index").id("_id2").source(emptyMap()).setPipeline("_missing").setFinalPipeline("_none"));
+        bulkRequest.add(new IndexRequest("_index").id("_id3").source(emptyMap()).setPipeline("_drop").setFinalPipeline("_none"));
+        bulkRequest.add(new IndexRequest("_index").id("_id4").source(emptyMap()).setPipeline("_none").setFinalPipeline("_none"));
+
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Integer, Exception> failureHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final IntConsumer dropHandler = mock(IntConsumer.class);
+        ingestService.executeBulkRequest(
+            bulkRequest.numberOfActions(),
+            bulkRequest.requests(),
+            failureHandler,
+            completionHandler,
+            dropHandler,
+            Names.WRITE,
+            2
+        );
+        verify(failureHandler, times(1)).accept(eq(1), argThat(e -> e.getCause().getMessage().equals("error")));
+        verify(failureHandler, times(1)).accept(eq(2), argThat(e -> e instanceof IllegalArgumentException));
+        verify(dropHandler, times(1)).accept(0);
+        verify(dropHandler, times(1)).accept(3);
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+    }
+
     public void testIngestClusterStateListeners_orderOfExecution() {
         final AtomicInteger counter = new AtomicInteger(0);
 
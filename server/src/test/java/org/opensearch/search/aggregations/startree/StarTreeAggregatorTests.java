@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.startree;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.codec.startree.StarTreeCodec;
+import org.opensearch.index.codec.startree.StarTreeField;
+import org.opensearch.index.codec.startree.StarTreeValues;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks that aggregations return the same results whether segments have a star-tree or not.
+ */
+public class StarTreeAggregatorTests extends AggregatorTestCase {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long START = 1_700_000_000_000L - 1_700_000_000_000L % HOUR;
+
+    private static final StarTreeField STAR_TREE = new StarTreeField(
+        Arrays.asList(
+            new StarTreeField.Dimension("timestamp", StarTreeField.DimensionType.DATE),
+            new StarTreeField.Dimension("host", StarTreeField.DimensionType.KEYWORD)
+        ),
+        Arrays.asList(
+            new StarTreeField.Metric("bytes", StarTreeField.MetricType.LONG),
+            new StarTreeField.Metric("latency", StarTreeField.MetricType.DOUBLE)
+        ),
+        HOUR
+    );
+
+    private static final MappedFieldType[] FIELD_TYPES = new MappedFieldType[] {
+        new DateFieldMapper.DateFieldType("timestamp"),
+        new KeywordFieldMapper.KeywordFieldType("host"),
+        new NumberFieldMapper.NumberFieldType("bytes", NumberFieldMapper.NumberType.LONG),
+        new NumberFieldMapper.NumberFieldType("latency", NumberFieldMapper.NumberType.DOUBLE) };
+
+    private List<Document> documents;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        documents = new ArrayList<>();
+        int numDocs = randomIntBetween(2000, 4000);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            long timestamp = START + randomLongBetween(0, 48 * HOUR);
+            doc.add(new LongPoint("timestamp", timestamp));
+            doc.add(new SortedNumericDocValuesField("timestamp", timestamp));
+            doc.add(new SortedSetDocValuesField("host", new BytesRef(randomFrom("a", "b", "c", "d"))));
+            doc.add(new SortedNumericDocValuesField("bytes", randomLongBetween(0, 10_000)));
+            if (randomBoolean()) {
+                doc.add(new SortedNumericDocValuesField("latency", NumericUtils.doubleToSortableLong(randomIntBetween(0, 4000) / 4.0)));
+            }
+            documents.add(doc);
+        }
+    }
+
+    public void testDateHistogram() throws IOException {
+        assertSameResults(
+            new DateHistogramAggregationBuilder("histo").field("timestamp")
+                .calendarInterval(randomFrom(DateHistogramInterval.HOUR, DateHistogramInterval.DAY))
+                .subAggregation(new SumAggregationBuilder("sum").field("bytes"))
+                .subAggregation(new MaxAggregationBuilder("max").field("latency"))
+        );
+    }
+
+    public void testDateHistogramNotAligned() throws IOException {
+        assertSameResults(
+            new DateHistogramAggregationBuilder("histo").field("timestamp")
+                .fixedInterval(new DateHistogramInterval("90m"))
+                .subAggregation(new SumAggregationBuilder("sum").field("bytes"))
+        );
+    }
+
+    public void testTerms() throws IOException {
+        assertSameResults(
+            new TermsAggregationBuilder("terms").field("host")
+                .subAggregation(new AvgAggregationBuilder("avg").field("bytes"))
+                .subAggregation(new ValueCountAggregationBuilder("count").field("latency"))
+        );
+    }
+
+    public void testDateHistogramWithTerms() throws IOException {
+        assertSameResults(
+            new DateHistogramAggregationBuilder("histo").field("timestamp")
+                .calendarInterval(DateHistogramInterval.DAY)
+                .subAggregation(
+                    new TermsAggregationBuilder("terms").field("host").subAggregation(new MinAggregationBuilder("min").field("latency"))
+                )
+        );
+    }
+
+    public void testMetrics() throws IOException {
+        assertSameResults(new SumAggregationBuilder("sum").field("bytes"));
+        assertSameResults(new MinAggregationBuilder("min").field("latency"));
+        assertSameResults(new AvgAggregationBuilder("avg").field("latency"));
+    }
+
+    private void assertSameResults(AggregationBuilder builder) throws IOException {
+        try (Directory plain = newDirectory(); Directory starTree = newDirectory()) {
+            index(plain, new Lucene99Codec());
+            index(starTree, new StarTreeCodec(new Lucene99Codec(), () -> STAR_TREE));
+            try (
+                DirectoryReader plainReader = DirectoryReader.open(plain);
+                DirectoryReader starTreeReader = DirectoryReader.open(starTree)
+            ) {
+                for (LeafReaderContext leaf : starTreeReader.leaves()) {
+                    assertNotNull(StarTreeValues.forLeaf(leaf.reader()));
+                }
+                InternalAggregation expected = searchAndReduce(
+                    newIndexSearcher(plainReader),
+                    new MatchAllDocsQuery(),
+                    builder,
+                    FIELD_TYPES
+                );
+                InternalAggregation actual = searchAndReduce(
+                    newIndexSearcher(starTreeReader),
+                    new MatchAllDocsQuery(),
+                    builder,
+                    FIELD_TYPES
+                );
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    private void index(Directory directory, Codec codec) throws IOException {
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setCodec(codec))) {
+            int segmentSize = documents.size() / 2 + 1;
+            for (int i = 0; i < documents.size(); i++) {
+                writer.addDocument(documents.get(i));
+                if (i % segmentSize == segmentSize - 1) {
+                    writer.commit();
+                }
+            }
+        }
+    }
+}
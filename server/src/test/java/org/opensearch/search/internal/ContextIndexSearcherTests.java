@@ -37,6 +37,7 @@ import org.apache.lucene.codecs.StoredFieldsReader;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
@@ -45,9 +46,12 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.ConstantScoreQuery;
@@ -83,6 +87,9 @@ import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.profile.ProfileResult;
+import org.opensearch.search.profile.query.InternalQueryProfileTree;
+import org.opensearch.search.profile.query.QueryProfiler;
 import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -338,7 +345,8 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
                 // Case 1: Verify the slice count when lucene default slice computation is used
                 IndexSearcher.LeafSlice[] slices = searcher.slicesInternal(
                     leaves,
-                    SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_DEFAULT_VALUE
+                    SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_DEFAULT_VALUE,
+                    SliceStrategy.ROUND_ROBIN
                 );
                 int expectedSliceCount = 2;
                 // 2 slices will be created since max segment per slice of 5 will be reached
@@ -349,7 +357,7 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
 
                 // Case 2: Verify the slice count when custom max slice computation is used
                 expectedSliceCount = 4;
-                slices = searcher.slicesInternal(leaves, expectedSliceCount);
+                slices = searcher.slicesInternal(leaves, expectedSliceCount, SliceStrategy.ROUND_ROBIN);
 
                 // 4 slices will be created with 3 leaves in first 2 slices and 2 leaves in other slices
                 assertEquals(expectedSliceCount, slices.length);
@@ -360,6 +368,17 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
                         assertEquals(2, slices[i].leaves.length);
                     }
                 }
+
+                // Case 3: Verify the cost balanced slices use the slice count of the lucene default slice computation
+                slices = searcher.slicesInternal(
+                    leaves,
+                    SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_DEFAULT_VALUE,
+                    SliceStrategy.COST_BALANCED
+                );
+                assertEquals(2, slices.length);
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    assertEquals(5, slice.leaves.length);
+                }
             }
         }
     }
@@ -424,6 +443,100 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCostBalancedSlicesOfEmptyIndex() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))
+        ) {
+            iw.commit();
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                assertEquals(0, directoryReader.leaves().size());
+                SearchContext searchContext = mock(SearchContext.class);
+                IndexShard indexShard = mock(IndexShard.class);
+                when(searchContext.indexShard()).thenReturn(indexShard);
+                when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+                when(searchContext.shouldUseConcurrentSearch()).thenReturn(true);
+                when(searchContext.getSliceStrategy()).thenReturn(SliceStrategy.COST_BALANCED);
+                when(searchContext.getTargetMaxSliceCount()).thenReturn(
+                    randomFrom(SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_DEFAULT_VALUE, randomIntBetween(1, 4))
+                );
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    true,
+                    mock(ExecutorService.class),
+                    searchContext
+                );
+                assertEquals(0, searcher.getSlices().length);
+                assertEquals(0, searcher.slicesInternal(directoryReader.leaves(), 0, SliceStrategy.COST_BALANCED).length);
+            }
+        }
+    }
+
+    public void testSkipsSegmentsOutsideOfPointRanges() throws Exception {
+        try (
+            Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            // three segments with the timestamps [0, 9], [10, 19] and [20, 29], and one without timestamps
+            for (int segment = 0; segment < 3; segment++) {
+                for (int i = 0; i < 10; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("foo", "bar", Field.Store.NO));
+                    document.add(new LongPoint("timestamp", segment * 10 + i));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+            Document document = new Document();
+            document.add(new StringField("foo", "bar", Field.Store.NO));
+            iw.addDocument(document);
+            iw.commit();
+
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                assertEquals(4, directoryReader.leaves().size());
+                final Query inRange = LongPoint.newRangeQuery("timestamp", 12, 15);
+                final Query outOfRange = LongPoint.newRangeQuery("timestamp", 30, 40);
+                for (LeafReaderContext leaf : directoryReader.leaves()) {
+                    final PointValues values = leaf.reader().getPointValues("timestamp");
+                    final boolean matches = values != null && LongPoint.decodeDimension(values.getMinPackedValue(), 0) == 10;
+                    assertEquals(matches, ContextIndexSearcher.canMatchPointRanges(inRange, leaf.reader()));
+                    assertFalse(ContextIndexSearcher.canMatchPointRanges(outOfRange, leaf.reader()));
+                    // only required clauses restrict the segments
+                    final BooleanQuery.Builder optional = new BooleanQuery.Builder().add(inRange, BooleanClause.Occur.SHOULD)
+                        .add(new TermQuery(new Term("foo", "bar")), BooleanClause.Occur.SHOULD);
+                    assertTrue(ContextIndexSearcher.canMatchPointRanges(optional.build(), leaf.reader()));
+                    assertTrue(ContextIndexSearcher.canMatchPointRanges(new TermQuery(new Term("foo", "bar")), leaf.reader()));
+                }
+
+                SearchContext searchContext = mock(SearchContext.class);
+                IndexShard indexShard = mock(IndexShard.class);
+                when(searchContext.indexShard()).thenReturn(indexShard);
+                when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    true,
+                    null,
+                    searchContext
+                );
+                QueryProfiler profiler = new QueryProfiler(new InternalQueryProfileTree());
+                searcher.setProfiler(profiler);
+                Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("foo", "bar")), BooleanClause.Occur.MUST)
+                    .add(new ConstantScoreQuery(inRange), BooleanClause.Occur.FILTER)
+                    .build();
+                assertEquals(4, searcher.search(query, 10).totalHits.value);
+                List<ProfileResult> results = profiler.getTree();
+                assertEquals(1, results.size());
+                assertEquals(3L, results.get(0).getDebugInfo().get("skipped_segments"));
+            }
+        }
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
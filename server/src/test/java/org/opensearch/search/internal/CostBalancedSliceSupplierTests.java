@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+
+public class CostBalancedSliceSupplierTests extends OpenSearchTestCase {
+
+    private static long sliceCost(IndexSearcher.LeafSlice slice, ToLongFunction<LeafReaderContext> cost) {
+        long sliceCost = 0;
+        for (LeafReaderContext leaf : slice.leaves) {
+            sliceCost += cost.applyAsLong(leaf);
+        }
+        return sliceCost;
+    }
+
+    public void testSliceCountGreaterThanLeafCount() throws Exception {
+        int expectedSliceCount = 2;
+        IndexSearcher.LeafSlice[] slices = CostBalancedSliceSupplier.getSlices(getLeaves(expectedSliceCount), 5, leaf -> 1);
+        // verify slice count is same as leaf count
+        assertEquals(expectedSliceCount, slices.length);
+        for (int i = 0; i < expectedSliceCount; ++i) {
+            assertEquals(1, slices[i].leaves.length);
+        }
+    }
+
+    public void testNegativeSliceCount() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostBalancedSliceSupplier.getSlices(new ArrayList<>(), randomIntBetween(-3, 0), leaf -> 1)
+        );
+    }
+
+    public void testNoLeaves() {
+        assertEquals(0, CostBalancedSliceSupplier.getSlices(new ArrayList<>(), randomIntBetween(1, 5), leaf -> 1).length);
+    }
+
+    public void testSingleSliceWithMultipleLeaves() throws Exception {
+        int leafCount = randomIntBetween(1, 10);
+        IndexSearcher.LeafSlice[] slices = CostBalancedSliceSupplier.getSlices(getLeaves(leafCount), 1, leaf -> 1);
+        assertEquals(1, slices.length);
+        assertEquals(leafCount, slices[0].leaves.length);
+    }
+
+    public void testLargeLeafGetsItsOwnSlice() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(9);
+        // one leaf costs as much as all the other ones together
+        ToLongFunction<LeafReaderContext> cost = leaf -> leaf.ord == 4 ? 8 : 1;
+        IndexSearcher.LeafSlice[] slices = CostBalancedSliceSupplier.getSlices(leaves, 2, cost);
+        assertEquals(2, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(8, sliceCost(slice, cost));
+            if (slice.leaves.length == 1) {
+                assertEquals(4, slice.leaves[0].ord);
+            } else {
+                assertEquals(8, slice.leaves.length);
+                // the leaves of a slice are in the order of the index
+                for (int i = 1; i < slice.leaves.length; i++) {
+                    assertTrue(slice.leaves[i - 1].ord < slice.leaves[i].ord);
+                }
+            }
+        }
+        // round robin puts four small leaves in the slice of the large one
+        IndexSearcher.LeafSlice[] roundRobin = MaxTargetSliceSupplier.getSlices(leaves, 2);
+        assertEquals(2, roundRobin.length);
+        assertEquals(12, Math.max(sliceCost(roundRobin[0], cost), sliceCost(roundRobin[1], cost)));
+    }
+
+    public void testBalancesRandomCosts() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(randomIntBetween(1, 30));
+        long[] costs = new long[leaves.size()];
+        long maxLeafCost = 0;
+        long totalCost = 0;
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = randomLongBetween(1, 1000);
+            maxLeafCost = Math.max(maxLeafCost, costs[i]);
+            totalCost += costs[i];
+        }
+        ToLongFunction<LeafReaderContext> cost = leaf -> costs[leaf.ord];
+        int sliceCount = randomIntBetween(1, 8);
+        IndexSearcher.LeafSlice[] slices = CostBalancedSliceSupplier.getSlices(leaves, sliceCount, cost);
+        assertEquals(Math.min(sliceCount, leaves.size()), slices.length);
+        int leafCount = 0;
+        for (IndexSearcher.LeafSlice slice : slices) {
+            leafCount += slice.leaves.length;
+            // a slice only exceeds the average cost by at most the cost of one leaf
+            assertTrue(sliceCost(slice, cost) <= totalCost / slices.length + maxLeafCost);
+        }
+        assertEquals(leaves.size(), leafCount);
+    }
+}
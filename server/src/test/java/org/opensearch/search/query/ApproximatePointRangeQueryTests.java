@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
+
+    public void testSameTopHitsAsRangeQuery() throws IOException {
+        assertSameTopHits(false);
+    }
+
+    public void testSameTopHitsAsRangeQueryWithMultiValuedField() throws IOException {
+        assertSameTopHits(true);
+    }
+
+    public void testTerminatesEarly() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (RandomIndexWriter w = new RandomIndexWriter(random(), dir)) {
+                for (int i = 0; i < 10_000; i++) {
+                    Document doc = new Document();
+                    doc.add(new LongPoint("timestamp", i));
+                    w.addDocument(doc);
+                }
+                w.forceMerge(1);
+            }
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                PointRangeQuery range = (PointRangeQuery) LongPoint.newRangeQuery("timestamp", 100, 9_000);
+                int count = searcher.count(new ApproximatePointRangeQuery(range, randomBoolean(), 10));
+                assertTrue("expected fewer matches than the range query but got " + count, count >= 10 && count < 4_000);
+            }
+        }
+    }
+
+    private void assertSameTopHits(boolean multiValued) throws IOException {
+        long maxValue = randomBoolean() ? 100 : 1_000_000;
+        try (Directory dir = newDirectory()) {
+            try (RandomIndexWriter w = new RandomIndexWriter(random(), dir)) {
+                int numDocs = randomIntBetween(1_000, 5_000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    int numValues = multiValued ? randomIntBetween(1, 3) : 1;
+                    for (int v = 0; v < numValues; v++) {
+                        long value = randomLongBetween(0, maxValue);
+                        doc.add(new LongPoint("timestamp", value));
+                        doc.add(new SortedNumericDocValuesField("timestamp", value));
+                    }
+                    w.addDocument(doc);
+                }
+                for (int i = 0; i < numDocs / 10; i++) {
+                    w.deleteDocuments(new Term("id", Integer.toString(randomInt(numDocs - 1))));
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                IndexSearcher searcher = newSearcher(reader);
+                for (int iter = 0; iter < 10; iter++) {
+                    long lower = randomLongBetween(0, maxValue);
+                    long upper = randomLongBetween(lower, maxValue);
+                    PointRangeQuery range = (PointRangeQuery) LongPoint.newRangeQuery("timestamp", lower, upper);
+                    boolean reverse = randomBoolean();
+                    int size = randomIntBetween(1, 200);
+                    Sort sort = new Sort(new SortedNumericSortField("timestamp", SortField.Type.LONG, reverse));
+
+                    TopFieldDocs expected = searcher.search(range, size, sort);
+                    TopFieldDocs actual = searcher.search(new ApproximatePointRangeQuery(range, reverse, size), size, sort);
+                    assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                    for (int i = 0; i < expected.scoreDocs.length; i++) {
+                        assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    }
+                }
+            }
+        }
+    }
+}
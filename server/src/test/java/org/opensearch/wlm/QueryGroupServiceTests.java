@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.wlm;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceTrackingService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.search.backpressure.SearchBackpressureTestHelpers.createMockTaskWithResourceStats;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QueryGroupServiceTests extends OpenSearchTestCase {
+    private static final long NOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    public void testParseQueryGroups() {
+        Settings settings = Settings.builder()
+            .put("query_group.groups.analytics.mode", "enforced")
+            .put("query_group.groups.analytics.resource_limits.cpu", 0.4)
+            .put("query_group.groups.analytics.resource_limits.memory", 0.2)
+            .put("query_group.groups.dashboards.resource_limits.memory", 0.1)
+            .build();
+
+        Map<String, QueryGroup> queryGroups = QueryGroupSettings.parseQueryGroups(settings);
+        assertEquals(2, queryGroups.size());
+
+        QueryGroup analytics = queryGroups.get("analytics");
+        assertEquals(ResiliencyMode.ENFORCED, analytics.getMode());
+        assertEquals(0.4, analytics.getResourceLimits().get(ResourceType.CPU), 0);
+        assertEquals(0.2, analytics.getResourceLimits().get(ResourceType.MEMORY), 0);
+
+        QueryGroup dashboards = queryGroups.get("dashboards");
+        assertEquals(ResiliencyMode.SOFT, dashboards.getMode());
+        assertFalse(dashboards.getResourceLimits().containsKey(ResourceType.CPU));
+        assertEquals(0.1, dashboards.getResourceLimits().get(ResourceType.MEMORY), 0);
+
+        assertTrue(QueryGroupSettings.parseQueryGroups(Settings.EMPTY).isEmpty());
+    }
+
+    public void testQueryGroupsAreUpdatedDynamically() {
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        QueryGroupSettings queryGroupSettings = new QueryGroupSettings(Settings.EMPTY, clusterSettings);
+        assertTrue(queryGroupSettings.getQueryGroups().isEmpty());
+
+        clusterSettings.applySettings(Settings.builder().put("query_group.groups.analytics.resource_limits.cpu", 0.3).build());
+        assertEquals(0.3, queryGroupSettings.getQueryGroups().get("analytics").getResourceLimits().get(ResourceType.CPU), 0);
+
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertTrue(queryGroupSettings.getQueryGroups().isEmpty());
+    }
+
+    public void testEnforcedModeCancelsTasksUntilWithinLimit() {
+        TaskManager mockTaskManager = mock(TaskManager.class);
+        Map<Long, Task> tasks = new HashMap<>();
+        tasks.put(1L, createMockTask("analytics", 0.4));
+        tasks.put(2L, createMockTask("analytics", 0.3));
+        tasks.put(3L, createMockTask("analytics", 0.1));
+        tasks.put(4L, createMockTask("dashboards", 0.9));
+        tasks.put(5L, createMockTask(null, 0.9));
+
+        QueryGroupService service = createService(
+            Settings.builder()
+                .put("query_group.groups.analytics.mode", "enforced")
+                .put("query_group.groups.analytics.resource_limits.cpu", 0.5)
+                .build(),
+            tasks,
+            mockTaskManager,
+            new AtomicReference<>(0.0)
+        );
+
+        service.doRun();
+        // usage is 0.8 for a limit of 0.5, cancelling the task that uses 0.4 is enough
+        verify(mockTaskManager, times(1)).cancelTaskAndDescendants(eq(tasks.get(1L)), anyString(), anyBoolean(), any());
+        verify(mockTaskManager, times(1)).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+
+        QueryGroupStats.QueryGroupStatsEntry stats = service.nodeStats().getQueryGroups().get("analytics");
+        assertEquals(ResiliencyMode.ENFORCED, stats.getMode());
+        assertEquals(1, stats.getCancellationCount());
+        assertEquals(1, stats.getResourceStats().get(ResourceType.CPU).getCancellationCount());
+        assertEquals(1, stats.getResourceStats().get(ResourceType.CPU).getBreachCount());
+        assertEquals(0, stats.getResourceStats().get(ResourceType.MEMORY).getBreachCount());
+    }
+
+    public void testSoftModeOnlyCancelsTasksWhenNodeIsInDuress() {
+        TaskManager mockTaskManager = mock(TaskManager.class);
+        Map<Long, Task> tasks = new HashMap<>();
+        tasks.put(1L, createMockTask("analytics", 0.4));
+        tasks.put(2L, createMockTask("analytics", 0.3));
+
+        AtomicReference<Double> nodeUsage = new AtomicReference<>(0.5);
+        QueryGroupService service = createService(
+            Settings.builder().put("query_group.groups.analytics.resource_limits.cpu", 0.5).build(),
+            tasks,
+            mockTaskManager,
+            nodeUsage
+        );
+
+        service.doRun();
+        verify(mockTaskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+
+        nodeUsage.set(0.95);
+        service.doRun();
+        verify(mockTaskManager, times(1)).cancelTaskAndDescendants(eq(tasks.get(1L)), anyString(), anyBoolean(), any());
+        assertEquals(2, service.nodeStats().getQueryGroups().get("analytics").getResourceStats().get(ResourceType.CPU).getBreachCount());
+    }
+
+    public void testMonitorModeNeverCancelsTasks() {
+        TaskManager mockTaskManager = mock(TaskManager.class);
+        Map<Long, Task> tasks = new HashMap<>();
+        tasks.put(1L, createMockTask("analytics", 0.4));
+        tasks.put(2L, createMockTask("analytics", 0.3));
+
+        QueryGroupService service = createService(
+            Settings.builder()
+                .put("query_group.groups.analytics.mode", "monitor")
+                .put("query_group.groups.analytics.resource_limits.cpu", 0.5)
+                .build(),
+            tasks,
+            mockTaskManager,
+            new AtomicReference<>(1.0)
+        );
+
+        service.doRun();
+        verify(mockTaskManager, never()).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        assertEquals(1, service.nodeStats().getQueryGroups().get("analytics").getResourceStats().get(ResourceType.CPU).getBreachCount());
+    }
+
+    public void testCompletedTasksAreCounted() {
+        Map<Long, Task> tasks = new HashMap<>();
+        QueryGroupService service = createService(
+            Settings.builder().put("query_group.groups.analytics.resource_limits.cpu", 0.5).build(),
+            tasks,
+            mock(TaskManager.class),
+            new AtomicReference<>(0.0)
+        );
+
+        for (int i = 0; i < 10; i++) {
+            service.onTaskCompleted(createMockTask("analytics", 0.1));
+            service.onTaskCompleted(createMockTask("dashboards", 0.1));
+        }
+        service.doRun();
+        for (int i = 0; i < 5; i++) {
+            service.onTaskCompleted(createMockTask("analytics", 0.1));
+        }
+        assertEquals(5, service.nodeStats().getQueryGroups().get("analytics").getCompletionCount());
+        assertNull(service.nodeStats().getQueryGroups().get("dashboards"));
+    }
+
+    private QueryGroupService createService(
+        Settings settings,
+        Map<Long, Task> tasks,
+        TaskManager taskManager,
+        AtomicReference<Double> nodeUsage
+    ) {
+        TaskResourceTrackingService mockTaskResourceTrackingService = mock(TaskResourceTrackingService.class);
+        when(mockTaskResourceTrackingService.getResourceAwareTasks()).thenReturn(tasks);
+        QueryGroupSettings queryGroupSettings = new QueryGroupSettings(
+            settings,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        return new QueryGroupService(
+            queryGroupSettings,
+            mockTaskResourceTrackingService,
+            mock(ThreadPool.class),
+            taskManager,
+            () -> NOW_NANOS,
+            resourceType -> nodeUsage.get()
+        );
+    }
+
+    /**
+     * Creates a search shard task of the given query group that used the given share of the node's processors.
+     */
+    private static SearchShardTask createMockTask(String queryGroup, double cpuShare) {
+        long cpuNanos = (long) (cpuShare * NOW_NANOS * Runtime.getRuntime().availableProcessors());
+        SearchShardTask task = createMockTaskWithResourceStats(SearchShardTask.class, cpuNanos, 0, 0);
+        when(task.getHeader(QueryGroupService.QUERY_GROUP_HEADER)).thenReturn(queryGroup);
+        return task;
+    }
+}
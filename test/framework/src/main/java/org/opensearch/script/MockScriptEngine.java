@@ -132,6 +132,8 @@ public class MockScriptEngine implements ScriptEngine {
         MockCompiledScript mockCompiled = new MockCompiledScript(name, params, source, script);
         if (context.instanceClazz.equals(FieldScript.class)) {
             return context.factoryClazz.cast(new MockFieldScriptFactory(script));
+        } else if (context.instanceClazz.equals(DerivedFieldScript.class)) {
+            return context.factoryClazz.cast(new MockDerivedFieldScriptFactory(script));
         } else if (context.instanceClazz.equals(TermsSetQueryScript.class)) {
             TermsSetQueryScript.Factory factory = (parameters, lookup) -> (TermsSetQueryScript.LeafFactory) ctx -> new TermsSetQueryScript(
                 parameters,
@@ -293,6 +295,7 @@ public class MockScriptEngine implements ScriptEngine {
     public Set<ScriptContext<?>> getSupportedContexts() {
         return Stream.of(
             FieldScript.CONTEXT,
+            DerivedFieldScript.CONTEXT,
             TermsSetQueryScript.CONTEXT,
             NumberSortScript.CONTEXT,
             StringSortScript.CONTEXT,
@@ -748,6 +751,31 @@ public class MockScriptEngine implements ScriptEngine {
         }
     }
 
+    class MockDerivedFieldScriptFactory implements DerivedFieldScript.Factory {
+        private final MockDeterministicScript script;
+
+        MockDerivedFieldScriptFactory(MockDeterministicScript script) {
+            this.script = script;
+        }
+
+        @Override
+        public boolean isResultDeterministic() {
+            return script.isResultDeterministic();
+        }
+
+        @Override
+        public DerivedFieldScript.LeafFactory newFactory(Map<String, Object> parameters, SearchLookup lookup) {
+            return ctx -> new DerivedFieldScript(parameters, lookup, ctx) {
+                @Override
+                public Object execute() {
+                    Map<String, Object> vars = createVars(parameters);
+                    vars.putAll(getLeafLookup().asMap());
+                    return script.apply(vars);
+                }
+            };
+        }
+    }
+
     class MockStringSortScriptFactory implements StringSortScript.Factory {
         private final MockDeterministicScript script;
 
@@ -71,6 +71,7 @@ import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.internal.SliceStrategy;
 import org.opensearch.search.profile.Profilers;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ReduceableSearchResult;
@@ -719,6 +720,11 @@ public class TestSearchContext extends SearchContext {
         return maxSliceCount;
     }
 
+    @Override
+    public SliceStrategy getSliceStrategy() {
+        return SliceStrategy.ROUND_ROBIN;
+    }
+
     /**
      * Clean the query results by consuming all of it
      */